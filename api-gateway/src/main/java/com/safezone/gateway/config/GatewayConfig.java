@@ -1,5 +1,6 @@
 package com.safezone.gateway.config;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.cloud.gateway.route.RouteLocator;
 import org.springframework.cloud.gateway.route.builder.RouteLocatorBuilder;
 import org.springframework.context.annotation.Bean;
@@ -11,12 +12,18 @@ import org.springframework.context.annotation.Configuration;
  * Defines routing rules to forward requests to appropriate microservices.
  * Uses Spring Cloud Gateway's load balancing capabilities.
  * </p>
+ * <p>
+ * These {@code lb://} routes need a service registry and a load balancer, and
+ * they shadow the URL-based routes in {@code application.yml}, so they are only
+ * registered when {@code gateway.discovery-routes.enabled} is true.
+ * </p>
  *
  * @author SafeZone Team
  * @version 1.0.0
  * @since 2024-01-06
  */
 @Configuration
+@ConditionalOnProperty(prefix = "gateway.discovery-routes", name = "enabled", havingValue = "true")
 public class GatewayConfig {
 
     /**
@@ -0,0 +1,112 @@
+package com.safezone.gateway.filter;
+
+import java.nio.charset.StandardCharsets;
+import java.security.InvalidKeyException;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Signs the identity headers forwarded to downstream services.
+ * <p>
+ * The tag is the unpadded Base64url HMAC-SHA256 of
+ * {@code userId + "\n" + roles + "\n" + timestamp}, keyed with
+ * {@code security.gateway-identity.secret}. Services holding the same secret
+ * verify it with {@code com.safezone.common.security.GatewayIdentityVerifier}
+ * instead of parsing the JWT again. Signing is disabled when no secret is set.
+ * </p>
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2024-01-06
+ */
+@Component
+public class IdentityHeaderSigner {
+
+    /** Header carrying the signing time in epoch seconds. */
+    public static final String TIMESTAMP_HEADER = "X-Identity-Timestamp";
+
+    /** Header carrying the HMAC tag of the identity headers. */
+    public static final String SIGNATURE_HEADER = "X-Identity-Signature";
+
+    /** Logger for this class. */
+    private static final Logger logger = LoggerFactory.getLogger(IdentityHeaderSigner.class);
+
+    /** HMAC algorithm shared with the services. */
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    /** Minimum secret length in bytes. */
+    private static final int MIN_SECRET_BYTES = 32;
+
+    /** Prototype MAC cloned per call, since {@link Mac} is not thread-safe. */
+    private final Mac prototype;
+
+    /**
+     * Constructs the signer from the shared secret.
+     *
+     * @param secret the shared secret, Base64 or raw; blank disables signing
+     */
+    public IdentityHeaderSigner(@Value("${security.gateway-identity.secret:}") String secret) {
+        if (secret == null || secret.isBlank()) {
+            logger.info("'security.gateway-identity.secret' not set; identity headers are forwarded unsigned");
+            this.prototype = null;
+            return;
+        }
+        byte[] keyBytes;
+        try {
+            keyBytes = Base64.getDecoder().decode(secret);
+        } catch (IllegalArgumentException ex) {
+            keyBytes = secret.getBytes(StandardCharsets.UTF_8);
+        }
+        if (keyBytes.length < MIN_SECRET_BYTES) {
+            throw new IllegalStateException(
+                    "Provided 'security.gateway-identity.secret' is not secure enough. Use a 256-bit (or larger) secret.");
+        }
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(new SecretKeySpec(keyBytes, HMAC_ALGORITHM));
+            this.prototype = mac;
+        } catch (NoSuchAlgorithmException | InvalidKeyException ex) {
+            throw new IllegalStateException("Unable to initialise " + HMAC_ALGORITHM, ex);
+        }
+    }
+
+    /**
+     * Indicates whether identity headers are signed.
+     *
+     * @return true if a shared secret is configured
+     */
+    public boolean isEnabled() {
+        return prototype != null;
+    }
+
+    /**
+     * Computes the identity tag for the given headers.
+     *
+     * @param userId      the user ID
+     * @param roles       the comma-separated role names
+     * @param epochSecond the signing time in epoch seconds
+     * @return the unpadded Base64url HMAC-SHA256 tag
+     */
+    public String sign(String userId, String roles, long epochSecond) {
+        if (!isEnabled()) {
+            throw new IllegalStateException("Identity header signing is disabled");
+        }
+        Mac mac;
+        try {
+            mac = (Mac) prototype.clone();
+        } catch (CloneNotSupportedException ex) {
+            throw new IllegalStateException(HMAC_ALGORITHM + " does not support cloning", ex);
+        }
+        String payload = userId + "\n" + roles + "\n" + epochSecond;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(mac.doFinal(payload.getBytes(StandardCharsets.UTF_8)));
+    }
+}
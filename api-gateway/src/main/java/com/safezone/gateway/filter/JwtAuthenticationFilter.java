@@ -1,7 +1,13 @@
 package com.safezone.gateway.filter;
 
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Base64;
+import java.util.Date;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Optional;
 
@@ -9,6 +15,7 @@ import javax.crypto.SecretKey;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cloud.gateway.filter.GatewayFilter;
 import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
@@ -18,13 +25,21 @@ import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.stereotype.Component;
 import org.springframework.web.server.ServerWebExchange;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import reactor.core.publisher.Mono;
 
 /**
@@ -34,6 +49,20 @@ import reactor.core.publisher.Mono;
  * Public endpoints are allowed without authentication. Authenticated requests
  * have user ID and roles added as headers for downstream services.
  * </p>
+ * <p>
+ * Tokens are verified with a single pre-built parser. Successfully verified
+ * tokens are kept in a bounded cache keyed by the SHA-256 hash of the token,
+ * together with the derived user headers, so repeated calls with the same token
+ * skip signature verification and claims parsing. An entry expires at the
+ * token's {@code exp} claim, or after the configured maximum TTL if that comes
+ * first. Rejected tokens are never cached. Cache statistics are published as
+ * {@code cache.*} meters tagged {@code cache=jwtClaims}.
+ * </p>
+ * <p>
+ * When an {@link IdentityHeaderSigner} is enabled, the forwarded identity is
+ * tagged with {@code X-Identity-Timestamp} and {@code X-Identity-Signature} so
+ * that services can trust it without parsing the JWT again.
+ * </p>
  *
  * @author SafeZone Team
  * @version 1.0.0
@@ -48,17 +77,53 @@ public class JwtAuthenticationFilter extends AbstractGatewayFilterFactory<JwtAut
     /** Bearer token prefix. */
     private static final String BEARER_PREFIX = "Bearer ";
 
-    /** Secret key for JWT signature verification. */
-    private final SecretKey secretKey;
+    /** Name of the verified token cache in metrics. */
+    static final String CACHE_NAME = "jwtClaims";
+
+    /** Default maximum number of cached verified tokens. */
+    static final long DEFAULT_CACHE_MAXIMUM_SIZE = 10_000;
+
+    /** Default upper bound on how long a verified token stays cached. */
+    static final Duration DEFAULT_CACHE_MAX_TTL = Duration.ofMinutes(15);
+
+    /** Parser shared by all requests; JJWT parsers are immutable and thread-safe. */
+    private final JwtParser jwtParser;
+
+    /** Verified tokens keyed by the SHA-256 hash of the compact token. */
+    private final Cache<String, VerifiedToken> verifiedTokens;
+
+    /** Signer for the identity headers forwarded downstream. */
+    private final IdentityHeaderSigner identitySigner;
 
     /**
-     * Constructs the filter with the JWT secret key.
+     * Constructs the filter with the JWT secret key and default cache settings.
      *
      * @param secret the secret key for JWT signature verification
      */
+    public JwtAuthenticationFilter(String secret) {
+        this(secret, DEFAULT_CACHE_MAXIMUM_SIZE, DEFAULT_CACHE_MAX_TTL, new SimpleMeterRegistry(),
+                new IdentityHeaderSigner(""));
+    }
+
+    /**
+     * Constructs the filter with the JWT secret key and verified token cache
+     * settings.
+     *
+     * @param secret           the secret key for JWT signature verification
+     * @param cacheMaximumSize the maximum number of cached verified tokens
+     * @param cacheMaxTtl      the maximum time a verified token stays cached
+     * @param meterRegistry    the registry receiving cache metrics
+     * @param identitySigner   the signer for the forwarded identity headers
+     */
+    @Autowired
     public JwtAuthenticationFilter(
-            @Value("${jwt.secret}") String secret) {
+            @Value("${jwt.secret}") String secret,
+            @Value("${gateway.jwt.cache.maximum-size:10000}") long cacheMaximumSize,
+            @Value("${gateway.jwt.cache.max-ttl:15m}") Duration cacheMaxTtl,
+            MeterRegistry meterRegistry,
+            IdentityHeaderSigner identitySigner) {
         super(Config.class);
+        this.identitySigner = identitySigner;
         SecretKey tmpSecretKey = null;
 
         if (secret == null || secret.isBlank()) {
@@ -102,7 +167,14 @@ public class JwtAuthenticationFilter extends AbstractGatewayFilterFactory<JwtAut
             }
         }
 
-        this.secretKey = tmpSecretKey;
+        this.jwtParser = Jwts.parser().verifyWith(tmpSecretKey).build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(cacheMaximumSize)
+                .expireAfter(Expiry.<String, VerifiedToken>creating(
+                        (tokenHash, verified) -> timeToLive(verified, cacheMaxTtl)))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, CACHE_NAME);
     }
 
     /**
@@ -130,17 +202,23 @@ public class JwtAuthenticationFilter extends AbstractGatewayFilterFactory<JwtAut
             }
 
             String token = authHeader.substring(BEARER_PREFIX.length());
-            Optional<Claims> claimsOpt = validateToken(token);
+            Optional<VerifiedToken> verifiedOpt = authenticate(token);
 
-            if (claimsOpt.isEmpty()) {
+            if (verifiedOpt.isEmpty()) {
                 return onError(exchange, "Invalid JWT token", HttpStatus.UNAUTHORIZED);
             }
 
-            Claims claims = claimsOpt.get();
-            ServerHttpRequest modifiedRequest = request.mutate()
-                    .header("X-User-Id", claims.getSubject())
-                    .header("X-User-Roles", String.join(",", getRoles(claims)))
-                    .build();
+            VerifiedToken verified = verifiedOpt.get();
+            ServerHttpRequest.Builder builder = request.mutate()
+                    .header("X-User-Id", verified.userId())
+                    .header("X-User-Roles", verified.roles());
+            if (identitySigner.isEnabled()) {
+                long now = Instant.now().getEpochSecond();
+                builder.header(IdentityHeaderSigner.TIMESTAMP_HEADER, Long.toString(now))
+                        .header(IdentityHeaderSigner.SIGNATURE_HEADER,
+                                identitySigner.sign(verified.userId(), verified.roles(), now));
+            }
+            ServerHttpRequest modifiedRequest = builder.build();
 
             return chain.filter(exchange.mutate().request(modifiedRequest).build());
         };
@@ -162,19 +240,40 @@ public class JwtAuthenticationFilter extends AbstractGatewayFilterFactory<JwtAut
     }
 
     /**
-     * Validates a JWT token and extracts its claims.
+     * Returns the verified claims and derived headers of a token, verifying the
+     * token only if it is not already cached.
+     *
+     * @param token the JWT token to authenticate
+     * @return an Optional containing the verified token if valid, empty otherwise
+     */
+    Optional<VerifiedToken> authenticate(String token) {
+        return Optional.ofNullable(verifiedTokens.get(hash(token), tokenHash -> validateToken(token)));
+    }
+
+    /**
+     * Returns the approximate number of cached verified tokens.
+     *
+     * @return the estimated entry count
+     */
+    long cachedTokenCount() {
+        return verifiedTokens.estimatedSize();
+    }
+
+    /**
+     * Validates a JWT token and derives the downstream user headers.
      *
      * @param token the JWT token to validate
-     * @return an Optional containing the claims if valid, empty otherwise
+     * @return the verified token, or null if the token is invalid
      */
-    private Optional<Claims> validateToken(String token) {
+    private VerifiedToken validateToken(String token) {
         try {
-            Claims claims = Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
-            return Optional.of(claims);
+            Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+            Date expiration = claims.getExpiration();
+            return new VerifiedToken(
+                    claims,
+                    claims.getSubject(),
+                    String.join(",", getRoles(claims)),
+                    expiration != null ? expiration.toInstant() : null);
         } catch (SignatureException ex) {
             logger.error("Invalid JWT signature");
         } catch (MalformedJwtException ex) {
@@ -186,7 +285,41 @@ public class JwtAuthenticationFilter extends AbstractGatewayFilterFactory<JwtAut
         } catch (IllegalArgumentException ex) {
             logger.error("JWT claims string is empty");
         }
-        return Optional.empty();
+        return null;
+    }
+
+    /**
+     * Computes how long a verified token may stay cached: until its expiration,
+     * capped by the configured maximum TTL.
+     *
+     * @param verified the verified token
+     * @param maxTtl   the maximum time to live
+     * @return the time to live of the cache entry
+     */
+    private static Duration timeToLive(VerifiedToken verified, Duration maxTtl) {
+        if (verified.expiresAt() == null) {
+            return maxTtl;
+        }
+        Duration untilExpiry = Duration.between(Instant.now(), verified.expiresAt());
+        if (untilExpiry.isNegative()) {
+            return Duration.ZERO;
+        }
+        return untilExpiry.compareTo(maxTtl) < 0 ? untilExpiry : maxTtl;
+    }
+
+    /**
+     * Hashes a token so that raw bearer tokens are not retained as cache keys.
+     *
+     * @param token the JWT token
+     * @return the hex-encoded SHA-256 hash of the token
+     */
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
     }
 
     /**
@@ -232,6 +365,17 @@ public class JwtAuthenticationFilter extends AbstractGatewayFilterFactory<JwtAut
         return exchange.getResponse().setComplete();
     }
 
+    /**
+     * Claims of a verified token together with the headers derived from them.
+     *
+     * @param claims    the verified claims
+     * @param userId    the value of the {@code X-User-Id} header
+     * @param roles     the value of the {@code X-User-Roles} header
+     * @param expiresAt the token expiration, or null if the token has none
+     */
+    record VerifiedToken(Claims claims, String userId, String roles, Instant expiresAt) {
+    }
+
     /**
      * Configuration class for the JWT authentication filter.
      * <p>
@@ -1,6 +1,7 @@
 package com.safezone.gateway.filter;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -9,7 +10,10 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Base64;
+import java.util.Date;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
@@ -23,6 +27,7 @@ import org.springframework.web.server.ServerWebExchange;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import reactor.core.publisher.Mono;
 
 class JwtAuthenticationFilterTest {
@@ -120,4 +125,118 @@ class JwtAuthenticationFilterTest {
 
         verify(chain, times(1)).filter(any());
     }
+
+    @Test
+    void verifiedTokenIsCachedAndReused() {
+        byte[] key = new byte[64];
+        String secret = generateBase64Secret(key);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(secret, 100, Duration.ofMinutes(5), registry,
+                new IdentityHeaderSigner(""));
+
+        String token = Jwts.builder()
+                .subject("42")
+                .claim("roles", List.of("ROLE_USER", "ROLE_ADMIN"))
+                .expiration(Date.from(Instant.now().plus(Duration.ofMinutes(10))))
+                .signWith(Keys.hmacShaKeyFor(key))
+                .compact();
+
+        JwtAuthenticationFilter.VerifiedToken first = filter.authenticate(token).orElseThrow();
+        JwtAuthenticationFilter.VerifiedToken second = filter.authenticate(token).orElseThrow();
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.userId()).isEqualTo("42");
+        assertThat(first.roles()).isEqualTo("ROLE_USER,ROLE_ADMIN");
+        assertThat(filter.cachedTokenCount()).isEqualTo(1);
+        assertThat(registry.get("cache.gets").tag("cache", JwtAuthenticationFilter.CACHE_NAME)
+                .tag("result", "hit").functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void invalidTokenIsNotCached() {
+        byte[] key = new byte[64];
+        String secret = generateBase64Secret(key);
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(secret);
+
+        assertThat(filter.authenticate("not-a-valid-token")).isEmpty();
+        assertThat(filter.cachedTokenCount()).isZero();
+    }
+
+    @Test
+    void expiredTokenIsRejected() {
+        byte[] key = new byte[64];
+        String secret = generateBase64Secret(key);
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(secret);
+
+        String token = Jwts.builder()
+                .subject("42")
+                .expiration(Date.from(Instant.now().minusSeconds(60)))
+                .signWith(Keys.hmacShaKeyFor(key))
+                .compact();
+
+        assertThat(filter.authenticate(token)).isEmpty();
+        assertThat(filter.cachedTokenCount()).isZero();
+    }
+
+    @Test
+    void tokenSignedWithAnotherKeyIsRejected() {
+        byte[] key = new byte[64];
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(generateBase64Secret(key));
+
+        byte[] otherKey = new byte[64];
+        generateBase64Secret(otherKey);
+        String token = Jwts.builder()
+                .subject("42")
+                .signWith(Keys.hmacShaKeyFor(otherKey))
+                .compact();
+
+        assertThat(filter.authenticate(token)).isEmpty();
+    }
+
+    @Test
+    void signedIdentityHeadersAreAddedWhenSignerIsEnabled() {
+        byte[] key = new byte[64];
+        String secret = generateBase64Secret(key);
+        IdentityHeaderSigner signer = new IdentityHeaderSigner(generateBase64Secret(new byte[32]));
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(secret, 100, Duration.ofMinutes(5),
+                new SimpleMeterRegistry(), signer);
+
+        String token = Jwts.builder()
+                .subject("42")
+                .claim("roles", List.of("USER"))
+                .signWith(Keys.hmacShaKeyFor(key))
+                .compact();
+
+        MockServerHttpRequest request = MockServerHttpRequest.get(ORDERS_PATH)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .build();
+        MockServerWebExchange exchange = MockServerWebExchange.from(request);
+
+        GatewayFilterChain chain = mock(GatewayFilterChain.class);
+        when(chain.filter(any())).then(invocation -> {
+            HttpHeaders headers = ((ServerWebExchange) invocation.getArgument(0)).getRequest().getHeaders();
+            long timestamp = Long.parseLong(headers.getFirst(IdentityHeaderSigner.TIMESTAMP_HEADER));
+            assertThat(headers.getFirst(IdentityHeaderSigner.SIGNATURE_HEADER))
+                    .isEqualTo(signer.sign("42", "USER", timestamp));
+            return Mono.empty();
+        });
+
+        filter.apply(new JwtAuthenticationFilter.Config()).filter(exchange, chain).block();
+
+        verify(chain, times(1)).filter(any());
+    }
+
+    @Test
+    void identityHeadersAreUnsignedWhenSignerIsDisabled() {
+        IdentityHeaderSigner signer = new IdentityHeaderSigner("");
+
+        assertThat(signer.isEnabled()).isFalse();
+        assertThatThrownBy(() -> signer.sign("42", "USER", 0L)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void shortIdentitySecretIsRejected() {
+        assertThatThrownBy(() -> new IdentityHeaderSigner("too-short"))
+                .isInstanceOf(IllegalStateException.class);
+    }
 }
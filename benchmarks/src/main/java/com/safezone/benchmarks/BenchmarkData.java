@@ -0,0 +1,91 @@
+package com.safezone.benchmarks;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.safezone.order.entity.Order;
+import com.safezone.order.entity.OrderItem;
+import com.safezone.order.entity.OrderStatus;
+import com.safezone.product.entity.Product;
+import com.safezone.product.entity.ProductCategory;
+
+/**
+ * Deterministic fixtures shared by the benchmarks.
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-06
+ */
+final class BenchmarkData {
+
+    /** Base64-encoded 384-bit secret used to sign benchmark tokens. */
+    static final String JWT_SECRET = "YmVuY2htYXJrLXNlY3JldC1rZXktZm9yLXNhZmV6b25lLWptaC1zdWl0ZXMtb25seQ==";
+
+    /** Base64-encoded 256-bit secret used to tag gateway identity headers. */
+    static final String IDENTITY_SECRET = "YmVuY2htYXJrLWdhdGV3YXktaWRlbnRpdHktc2VjcmV0IQ==";
+
+    private static final LocalDateTime TIMESTAMP = LocalDateTime.of(2026, 1, 6, 12, 0);
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Builds an order with the given number of items and computed subtotals.
+     *
+     * @param itemCount the number of order items
+     * @return the order
+     */
+    static Order order(int itemCount) {
+        Order order = Order.builder()
+                .id(1L)
+                .orderNumber("ORD-BENCHMARK")
+                .userId(42L)
+                .status(OrderStatus.PENDING)
+                .shippingAddress("1 Benchmark Street")
+                .billingAddress("1 Benchmark Street")
+                .createdAt(TIMESTAMP)
+                .updatedAt(TIMESTAMP)
+                .build();
+        for (int i = 0; i < itemCount; i++) {
+            OrderItem item = OrderItem.builder()
+                    .id((long) i)
+                    .productId((long) i)
+                    .productName("Product " + i)
+                    .productSku("SKU-" + i)
+                    .quantity(1 + i % 5)
+                    .unitPrice(new BigDecimal("19.99").add(BigDecimal.valueOf(i, 2)))
+                    .build();
+            item.calculateSubtotal();
+            order.addItem(item);
+        }
+        order.calculateTotalAmount();
+        return order;
+    }
+
+    /**
+     * Builds a page of active products.
+     *
+     * @param count the number of products
+     * @return the products
+     */
+    static List<Product> products(int count) {
+        List<Product> products = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            products.add(Product.builder()
+                    .id((long) i)
+                    .name("Product " + i)
+                    .description("Benchmark product " + i)
+                    .price(new BigDecimal("19.99").add(BigDecimal.valueOf(i, 2)))
+                    .stockQuantity(100 + i)
+                    .sku("SKU-" + i)
+                    .category(ProductCategory.values()[i % ProductCategory.values().length])
+                    .active(true)
+                    .createdAt(TIMESTAMP)
+                    .updatedAt(TIMESTAMP)
+                    .build());
+        }
+        return products;
+    }
+}
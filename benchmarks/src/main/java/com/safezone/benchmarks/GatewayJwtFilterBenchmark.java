@@ -0,0 +1,106 @@
+package com.safezone.benchmarks;
+
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.safezone.gateway.filter.IdentityHeaderSigner;
+import com.safezone.gateway.filter.JwtAuthenticationFilter;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+
+/**
+ * Benchmarks the gateway {@link JwtAuthenticationFilter#apply} path for an
+ * authenticated request.
+ * <p>
+ * {@code cacheMaximumSize=0} disables the verified token cache, so every
+ * request verifies the token; {@code identitySigning} adds the HMAC tag for
+ * downstream services. Each invocation includes building the mock exchange,
+ * which {@code buildExchange} measures on its own.
+ * </p>
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-06
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GatewayJwtFilterBenchmark {
+
+    private static final String ORDERS_PATH = "/api/v1/orders";
+
+    @Param({ "10000", "0" })
+    public long cacheMaximumSize;
+
+    @Param({ "false", "true" })
+    public boolean identitySigning;
+
+    private GatewayFilter gatewayFilter;
+    private GatewayFilterChain chain;
+    private String authorization;
+
+    @Setup
+    public void setUp() {
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(
+                BenchmarkData.JWT_SECRET,
+                cacheMaximumSize,
+                Duration.ofMinutes(15),
+                new SimpleMeterRegistry(),
+                new IdentityHeaderSigner(identitySigning ? BenchmarkData.IDENTITY_SECRET : ""));
+        gatewayFilter = filter.apply(new JwtAuthenticationFilter.Config());
+        chain = exchange -> Mono.empty();
+
+        String token = Jwts.builder()
+                .subject("42")
+                .claim("roles", List.of("USER", "ADMIN"))
+                .expiration(new Date(System.currentTimeMillis() + 3_600_000L))
+                .signWith(Keys.hmacShaKeyFor(Base64.getDecoder().decode(BenchmarkData.JWT_SECRET)))
+                .compact();
+        authorization = "Bearer " + token;
+    }
+
+    @Benchmark
+    public ServerWebExchange buildExchange() {
+        return exchange();
+    }
+
+    @Benchmark
+    public ServerWebExchange filterAuthenticatedRequest() {
+        ServerWebExchange exchange = exchange();
+        gatewayFilter.filter(exchange, chain).block();
+        return exchange;
+    }
+
+    private ServerWebExchange exchange() {
+        return MockServerWebExchange.from(MockServerHttpRequest.get(ORDERS_PATH)
+                .header(HttpHeaders.AUTHORIZATION, authorization)
+                .build());
+    }
+}
@@ -0,0 +1,72 @@
+package com.safezone.benchmarks;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.safezone.common.security.AuthenticatedUser;
+import com.safezone.common.security.JwtTokenProvider;
+
+/**
+ * Benchmarks token generation and validation in {@link JwtTokenProvider}.
+ * <p>
+ * {@code extractSeparately} reproduces the three-parse sequence the
+ * authentication filter used before {@link JwtTokenProvider#authenticate},
+ * as a reference point for the single-parse path.
+ * </p>
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-06
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtTokenProviderBenchmark {
+
+    private JwtTokenProvider tokenProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        tokenProvider = new JwtTokenProvider(BenchmarkData.JWT_SECRET, 3_600_000L);
+        token = tokenProvider.generateToken("benchmark-user", List.of("USER", "ADMIN"));
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return tokenProvider.generateToken("benchmark-user", List.of("USER", "ADMIN"));
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return tokenProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public Optional<AuthenticatedUser> authenticate() {
+        return tokenProvider.authenticate(token);
+    }
+
+    @Benchmark
+    public void extractSeparately(Blackhole blackhole) {
+        blackhole.consume(tokenProvider.validateToken(token));
+        blackhole.consume(tokenProvider.extractUsername(token));
+        blackhole.consume(tokenProvider.extractRoles(token));
+    }
+}
@@ -0,0 +1,66 @@
+package com.safezone.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.safezone.order.dto.OrderResponse;
+import com.safezone.order.entity.Order;
+import com.safezone.order.mapper.OrderMapper;
+import com.safezone.product.dto.ProductResponse;
+import com.safezone.product.entity.Product;
+import com.safezone.product.mapper.ProductMapper;
+
+/**
+ * Benchmarks the MapStruct mappers on large orders and product pages.
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-06
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+    @Param({ "20", "200", "1000" })
+    public int size;
+
+    private OrderMapper orderMapper;
+    private ProductMapper productMapper;
+    private Order order;
+    private List<Product> products;
+
+    @Setup
+    public void setUp() {
+        orderMapper = Mappers.getMapper(OrderMapper.class);
+        productMapper = Mappers.getMapper(ProductMapper.class);
+        order = BenchmarkData.order(size);
+        products = BenchmarkData.products(size);
+    }
+
+    @Benchmark
+    public OrderResponse orderToResponse() {
+        return orderMapper.toResponse(order);
+    }
+
+    @Benchmark
+    public List<ProductResponse> productsToResponseList() {
+        return productMapper.toResponseList(products);
+    }
+}
@@ -0,0 +1,50 @@
+package com.safezone.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.safezone.common.dto.PageResponse;
+import com.safezone.product.entity.Product;
+
+/**
+ * Benchmarks {@link PageResponse#of} for typical page sizes.
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-06
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PageResponseBenchmark {
+
+    @Param({ "20", "100" })
+    public int pageSize;
+
+    private List<Product> content;
+
+    @Setup
+    public void setUp() {
+        content = BenchmarkData.products(pageSize);
+    }
+
+    @Benchmark
+    public PageResponse<Product> of() {
+        return PageResponse.of(content, 3, pageSize, 1_000_000L);
+    }
+}
@@ -0,0 +1,94 @@
+package com.safezone.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.safezone.product.entity.Product;
+import com.safezone.product.entity.ProductCategory;
+import com.safezone.product.search.ProductSearchIndex;
+
+/**
+ * Measures {@link ProductSearchIndex} queries over a large synthetic catalog:
+ * a two-term query, the same query typed as prefixes, a category-filtered
+ * query and a SKU lookup.
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-06
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+@State(Scope.Benchmark)
+public class ProductSearchBenchmark {
+
+    private static final String[] ADJECTIVES = {
+        "wireless", "ergonomic", "compact", "portable", "premium", "classic", "smart", "heavy", "light",
+        "vintage", "modern", "rugged", "silent", "digital", "organic", "solar", "magnetic", "foldable",
+        "waterproof", "electric"
+    };
+
+    private static final String[] NOUNS = {
+        "mouse", "keyboard", "lamp", "table", "chair", "speaker", "charger", "bottle", "backpack", "camera",
+        "headset", "monitor", "blender", "kettle", "jacket", "tent", "drone", "watch", "router", "scooter",
+        "printer", "tripod", "cable", "pillow", "helmet"
+    };
+
+    private static final ProductCategory[] CATEGORIES = ProductCategory.values();
+
+    @Param({"1000000"})
+    private int products;
+
+    private ProductSearchIndex index;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        index = new ProductSearchIndex();
+        for (int i = 0; i < products; i++) {
+            String adjective = ADJECTIVES[i % ADJECTIVES.length];
+            String noun = NOUNS[(i / ADJECTIVES.length) % NOUNS.length];
+            index.index(Product.builder()
+                    .id((long) i)
+                    .name(adjective + " " + noun + " " + Integer.toString(i / 500, 36))
+                    .description("A " + ADJECTIVES[(i / 7) % ADJECTIVES.length] + " " + noun + " for every day")
+                    .sku("SKU-" + i)
+                    .category(CATEGORIES[i % CATEGORIES.length])
+                    .active(true)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public ProductSearchIndex.SearchHits twoTerms() {
+        return index.search("wireless mouse", null, 0, 20);
+    }
+
+    @Benchmark
+    public ProductSearchIndex.SearchHits twoPrefixes() {
+        return index.search("wirel mous", null, 0, 20);
+    }
+
+    @Benchmark
+    public ProductSearchIndex.SearchHits twoTermsInCategory() {
+        return index.search("wireless mouse", ProductCategory.ELECTRONICS, 0, 20);
+    }
+
+    @Benchmark
+    public ProductSearchIndex.SearchHits sku() {
+        return index.search("SKU-765432", null, 0, 20);
+    }
+}
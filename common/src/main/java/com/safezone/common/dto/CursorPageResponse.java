@@ -0,0 +1,41 @@
+package com.safezone.common.dto;
+
+import java.util.List;
+
+/**
+ * Cursor-based (keyset) paginated response wrapper for list endpoints.
+ * Unlike {@link PageResponse}, the cost of a page does not grow with its
+ * depth, and the total count is only computed on request.
+ *
+ * @param <T>           the type of elements in the page
+ * @param content       the list of elements in the current page
+ * @param size          requested number of elements per page
+ * @param nextCursor    opaque cursor of the next page, or null on the last page
+ * @param hasNext       true if another page follows
+ * @param totalElements total number of elements, or null when not requested
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-06
+ */
+public record CursorPageResponse<T>(
+        List<T> content,
+        int size,
+        String nextCursor,
+        boolean hasNext,
+        Long totalElements
+) {
+    /**
+     * Creates a CursorPageResponse from content and the cursor of the next page.
+     *
+     * @param content       the page content
+     * @param size          page size
+     * @param nextCursor    the cursor of the next page, or null on the last page
+     * @param totalElements total count of all elements, or null when not requested
+     * @param <T>           the type of elements
+     * @return a fully populated CursorPageResponse
+     */
+    public static <T> CursorPageResponse<T> of(List<T> content, int size, String nextCursor, Long totalElements) {
+        return new CursorPageResponse<>(content, size, nextCursor, nextCursor != null, totalElements);
+    }
+}
@@ -0,0 +1,103 @@
+package com.safezone.common.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.safezone.common.exception.BusinessException;
+
+/**
+ * Position in a list sorted by creation time then ID, exchanged with clients
+ * as an opaque URL-safe cursor.
+ * <p>
+ * The pair is unique and never changes for a given row, so a page that
+ * starts strictly after the cursor neither skips nor repeats rows when rows
+ * are inserted or deleted between two requests.
+ * </p>
+ *
+ * @param createdAt creation time of the last row of the previous page
+ * @param id        ID of the last row of the previous page
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-06
+ */
+public record PageCursor(LocalDateTime createdAt, Long id) {
+
+    /** Name of the creation time sort key. */
+    public static final String CREATED_AT = "createdAt";
+
+    /** Name of the ID sort key. */
+    public static final String ID = "id";
+
+    /** Error code raised for a cursor that cannot be decoded. */
+    public static final String INVALID_CURSOR = "INVALID_CURSOR";
+
+    /** Error code raised for a page size below one. */
+    public static final String INVALID_PAGE_SIZE = "INVALID_PAGE_SIZE";
+
+    private static final char SEPARATOR = '|';
+
+    /**
+     * Encodes this position as an opaque cursor.
+     *
+     * @return the URL-safe cursor
+     */
+    public String encode() {
+        String raw = createdAt + String.valueOf(SEPARATOR) + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns the sort keys of this position, by property name.
+     *
+     * @return the creation time and ID keys, in sort order
+     */
+    public Map<String, Object> keys() {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put(CREATED_AT, createdAt);
+        keys.put(ID, id);
+        return keys;
+    }
+
+    /**
+     * Decodes a cursor received from a client.
+     *
+     * @param cursor the cursor, or null or blank for the first page
+     * @return the position, or null for the first page
+     * @throws BusinessException if the cursor is malformed
+     */
+    public static PageCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Missing separator");
+            }
+            return new PageCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.valueOf(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new BusinessException(INVALID_CURSOR, "Invalid pagination cursor");
+        }
+    }
+
+    /**
+     * Checks a requested cursor page size.
+     *
+     * @param size the requested page size
+     * @return the size
+     * @throws BusinessException if the size is below one
+     */
+    public static int requireValidSize(int size) {
+        if (size < 1) {
+            throw new BusinessException(INVALID_PAGE_SIZE, "Page size must be at least 1");
+        }
+        return size;
+    }
+}
@@ -0,0 +1,144 @@
+package com.safezone.common.metrics;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+
+/**
+ * Publishes virtual thread pinning as metrics.
+ *
+ * <p>
+ * When {@code spring.threads.virtual.enabled} is true, requests, the
+ * transactions they open and the blocking HTTP client calls they make all run
+ * on virtual threads. A virtual thread that blocks inside a
+ * {@code synchronized} section or a native frame stays pinned to its carrier,
+ * which silently caps concurrency at the number of carriers. This monitor
+ * streams the JFR {@code jdk.VirtualThreadPinned} events in-process and
+ * records each one in the {@code jvm.threads.virtual.pinned} timer, tagged with
+ * the class of the innermost application frame so the offending code path
+ * (e.g. a JDBC driver) shows up on the metrics endpoint. Stack traces are
+ * logged at DEBUG.
+ * </p>
+ *
+ * <p>
+ * Only pins longer than {@code monitoring.virtual-threads.pinned-threshold}
+ * are reported. The monitor is disabled with
+ * {@code monitoring.virtual-threads.enabled=false}.
+ * </p>
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-06
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+@ConditionalOnProperty(prefix = "monitoring.virtual-threads", name = "enabled", matchIfMissing = true)
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    /** Name of the timer recording pinned durations. */
+    public static final String PINNED_METRIC = "jvm.threads.virtual.pinned";
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    static final String UNKNOWN_SOURCE = "unknown";
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+    /** Package prefixes skipped when looking for the frame that caused a pin. */
+    private static final List<String> RUNTIME_PACKAGES = List.of("java.", "javax.", "jdk.", "sun.", "com.sun.");
+
+    private final MeterRegistry meterRegistry;
+    private final Duration threshold;
+    private volatile RecordingStream stream;
+
+    /**
+     * Constructs the monitor.
+     *
+     * @param meterRegistry the registry receiving the pinning timer
+     * @param threshold     the minimum pinned duration to report
+     */
+    public VirtualThreadPinningMonitor(
+            MeterRegistry meterRegistry,
+            @Value("${monitoring.virtual-threads.pinned-threshold:20ms}") Duration threshold) {
+        this.meterRegistry = meterRegistry;
+        this.threshold = threshold;
+    }
+
+    @Override
+    public void start() {
+        RecordingStream recording = new RecordingStream();
+        recording.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recording.onEvent(PINNED_EVENT, this::onPinned);
+        recording.startAsync();
+        stream = recording;
+        logger.info("Monitoring virtual thread pinning longer than {}", threshold);
+    }
+
+    @Override
+    public void stop() {
+        RecordingStream recording = stream;
+        stream = null;
+        if (recording != null) {
+            recording.close();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    /**
+     * Records one pinning event.
+     *
+     * @param event the JFR event
+     */
+    void onPinned(RecordedEvent event) {
+        String source = sourceOf(event.getStackTrace());
+        Timer.builder(PINNED_METRIC)
+                .description("Time virtual threads spent pinned to their carrier thread")
+                .tag("source", source)
+                .register(meterRegistry)
+                .record(event.getDuration());
+        if (logger.isDebugEnabled()) {
+            logger.debug("Virtual thread pinned for {} in {}:{}{}", event.getDuration(), source,
+                    System.lineSeparator(), event.getStackTrace());
+        }
+    }
+
+    /**
+     * Returns the class of the innermost frame outside the JDK, or of the
+     * innermost frame if the whole stack is JDK code.
+     *
+     * @param stackTrace the recorded stack trace, possibly {@code null}
+     * @return the class name
+     */
+    static String sourceOf(RecordedStackTrace stackTrace) {
+        if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+            return UNKNOWN_SOURCE;
+        }
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        for (RecordedFrame frame : frames) {
+            String className = frame.getMethod().getType().getName();
+            if (RUNTIME_PACKAGES.stream().noneMatch(className::startsWith)) {
+                return className;
+            }
+        }
+        return frames.get(0).getMethod().getType().getName();
+    }
+}
@@ -0,0 +1,27 @@
+package com.safezone.common.security;
+
+import java.util.List;
+
+/**
+ * Identity of an authenticated caller, resolved either from a JWT token or
+ * from gateway identity headers.
+ *
+ * @param username the username (token subject)
+ * @param roles    the role names, without the {@code ROLE_} prefix
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-06
+ */
+public record AuthenticatedUser(String username, List<String> roles) {
+
+    /**
+     * Creates an authenticated user with an immutable copy of the roles.
+     *
+     * @param username the username (token subject)
+     * @param roles    the role names
+     */
+    public AuthenticatedUser {
+        roles = roles == null ? List.of() : List.copyOf(roles);
+    }
+}
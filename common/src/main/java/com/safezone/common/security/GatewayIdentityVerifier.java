@@ -0,0 +1,191 @@
+package com.safezone.common.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.InvalidKeyException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Verifies the identity headers injected by the API Gateway.
+ *
+ * <p>
+ * The gateway verifies the caller's JWT once and forwards the identity as
+ * {@code X-User-Id} and {@code X-User-Roles}, tagged with an
+ * {@code X-Identity-Timestamp} (epoch seconds) and an
+ * {@code X-Identity-Signature}: the unpadded Base64url HMAC-SHA256 of
+ * {@code userId + "\n" + roles + "\n" + timestamp} under a secret shared by the
+ * gateway and the services ({@code security.gateway-identity.secret}).
+ * Checking that tag costs a single HMAC over a few bytes instead of a JWT
+ * decode, JSON parse and signature check.
+ * </p>
+ *
+ * <p>
+ * The mode is disabled when no secret is configured. Tags older than
+ * {@code security.gateway-identity.max-age} are rejected to bound replay.
+ * </p>
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-06
+ */
+@Component
+public class GatewayIdentityVerifier {
+
+    /** Header carrying the authenticated user ID. */
+    public static final String USER_ID_HEADER = "X-User-Id";
+
+    /** Header carrying the comma-separated role names. */
+    public static final String ROLES_HEADER = "X-User-Roles";
+
+    /** Header carrying the signing time in epoch seconds. */
+    public static final String TIMESTAMP_HEADER = "X-Identity-Timestamp";
+
+    /** Header carrying the HMAC tag of the identity headers. */
+    public static final String SIGNATURE_HEADER = "X-Identity-Signature";
+
+    private static final Logger logger = LoggerFactory.getLogger(GatewayIdentityVerifier.class);
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private static final int MIN_SECRET_BYTES = 32;
+
+    /** Prototype MAC cloned per call, since {@link Mac} is not thread-safe. */
+    private final Mac prototype;
+    private final Duration maxAge;
+    private final Clock clock;
+
+    /**
+     * Constructs the verifier from configuration.
+     *
+     * @param secret the shared secret, Base64 or raw; blank disables the mode
+     * @param maxAge the maximum accepted age of an identity tag
+     */
+    @Autowired
+    public GatewayIdentityVerifier(
+            @Value("${security.gateway-identity.secret:}") String secret,
+            @Value("${security.gateway-identity.max-age:30s}") Duration maxAge) {
+        this(secret, maxAge, Clock.systemUTC());
+    }
+
+    /**
+     * Constructs the verifier with an explicit clock.
+     *
+     * @param secret the shared secret, Base64 or raw; blank disables the mode
+     * @param maxAge the maximum accepted age of an identity tag
+     * @param clock  the clock used to check the tag age
+     */
+    GatewayIdentityVerifier(String secret, Duration maxAge, Clock clock) {
+        this.maxAge = maxAge;
+        this.clock = clock;
+        if (secret == null || secret.isBlank()) {
+            logger.info("'security.gateway-identity.secret' not set; gateway identity headers are ignored");
+            this.prototype = null;
+            return;
+        }
+        byte[] keyBytes;
+        try {
+            keyBytes = Base64.getDecoder().decode(secret);
+        } catch (IllegalArgumentException ex) {
+            keyBytes = secret.getBytes(StandardCharsets.UTF_8);
+        }
+        if (keyBytes.length < MIN_SECRET_BYTES) {
+            throw new IllegalStateException(
+                    "Provided 'security.gateway-identity.secret' is not secure enough. Use a 256-bit (or larger) secret.");
+        }
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(new SecretKeySpec(keyBytes, HMAC_ALGORITHM));
+            this.prototype = mac;
+        } catch (NoSuchAlgorithmException | InvalidKeyException ex) {
+            throw new IllegalStateException("Unable to initialise " + HMAC_ALGORITHM, ex);
+        }
+    }
+
+    /**
+     * Indicates whether gateway identity headers are accepted.
+     *
+     * @return true if a shared secret is configured
+     */
+    public boolean isEnabled() {
+        return prototype != null;
+    }
+
+    /**
+     * Verifies gateway identity headers and returns the identity they carry.
+     *
+     * @param userId    the {@code X-User-Id} header value
+     * @param roles     the {@code X-User-Roles} header value
+     * @param timestamp the {@code X-Identity-Timestamp} header value
+     * @param signature the {@code X-Identity-Signature} header value
+     * @return the identity if the tag is valid and fresh, empty otherwise
+     */
+    public Optional<AuthenticatedUser> verify(String userId, String roles, String timestamp, String signature) {
+        if (!isEnabled() || userId == null || userId.isBlank() || timestamp == null || signature == null) {
+            return Optional.empty();
+        }
+        String roleList = roles == null ? "" : roles;
+        long issuedAt;
+        try {
+            issuedAt = Long.parseLong(timestamp);
+        } catch (NumberFormatException ex) {
+            logger.warn("Malformed gateway identity timestamp");
+            return Optional.empty();
+        }
+        long age = clock.instant().getEpochSecond() - issuedAt;
+        if (Math.abs(age) > maxAge.toSeconds()) {
+            logger.warn("Stale gateway identity headers for user {}", userId);
+            return Optional.empty();
+        }
+        byte[] expected = sign(userId, roleList, issuedAt).getBytes(StandardCharsets.US_ASCII);
+        if (!MessageDigest.isEqual(expected, signature.getBytes(StandardCharsets.US_ASCII))) {
+            logger.warn("Invalid gateway identity signature for user {}", userId);
+            return Optional.empty();
+        }
+        return Optional.of(new AuthenticatedUser(userId, parseRoles(roleList)));
+    }
+
+    /**
+     * Computes the identity tag for the given headers.
+     *
+     * @param userId      the user ID
+     * @param roles       the comma-separated role names
+     * @param epochSecond the signing time in epoch seconds
+     * @return the unpadded Base64url HMAC-SHA256 tag
+     */
+    public String sign(String userId, String roles, long epochSecond) {
+        if (!isEnabled()) {
+            throw new IllegalStateException("Gateway identity signing is disabled");
+        }
+        Mac mac;
+        try {
+            mac = (Mac) prototype.clone();
+        } catch (CloneNotSupportedException ex) {
+            throw new IllegalStateException(HMAC_ALGORITHM + " does not support cloning", ex);
+        }
+        String payload = userId + "\n" + roles + "\n" + epochSecond;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(mac.doFinal(payload.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static List<String> parseRoles(String roles) {
+        return Arrays.stream(roles.split(","))
+                .map(String::trim)
+                .filter(role -> !role.isEmpty())
+                .toList();
+    }
+}
@@ -2,6 +2,7 @@ package com.safezone.common.security;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.http.HttpHeaders;
 import org.springframework.lang.NonNull;
@@ -22,7 +23,14 @@ import jakarta.servlet.http.HttpServletResponse;
  * Authorization header.
  *
  * <p>
- * When a valid token is found, the user's authentication is set in the
+ * When a {@link GatewayIdentityVerifier} is enabled, identity headers signed by
+ * the API Gateway are trusted first, so requests that already went through
+ * the gateway are not parsed again. Otherwise the JWT token is verified and
+ * parsed once through {@link JwtTokenProvider#authenticate(String)}.
+ * </p>
+ *
+ * <p>
+ * When a valid identity is found, the user's authentication is set in the
  * {@link SecurityContextHolder} for downstream processing.
  * </p>
  *
@@ -30,6 +38,7 @@ import jakarta.servlet.http.HttpServletResponse;
  * @version 1.0.0
  * @since 2026-01-06
  * @see JwtTokenProvider
+ * @see GatewayIdentityVerifier
  */
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
@@ -39,18 +48,33 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     /** The JWT token provider for validation and claim extraction. */
     private final JwtTokenProvider tokenProvider;
 
+    /** The verifier for gateway identity headers, or null if not used. */
+    private final GatewayIdentityVerifier identityVerifier;
+
     /**
      * Constructs a new JwtAuthenticationFilter with the specified token provider.
      *
      * @param tokenProvider the JWT token provider for token operations
      */
     public JwtAuthenticationFilter(JwtTokenProvider tokenProvider) {
+        this(tokenProvider, null);
+    }
+
+    /**
+     * Constructs a new JwtAuthenticationFilter that also accepts gateway identity
+     * headers.
+     *
+     * @param tokenProvider    the JWT token provider for token operations
+     * @param identityVerifier the verifier for gateway identity headers
+     */
+    public JwtAuthenticationFilter(JwtTokenProvider tokenProvider, GatewayIdentityVerifier identityVerifier) {
         this.tokenProvider = tokenProvider;
+        this.identityVerifier = identityVerifier;
     }
 
     /**
-     * Filters incoming requests to extract and validate JWT tokens.
-     * Sets the authentication in SecurityContext if token is valid.
+     * Filters incoming requests to resolve the caller identity.
+     * Sets the authentication in SecurityContext if an identity is found.
      *
      * @param request     the HTTP request
      * @param response    the HTTP response
@@ -62,23 +86,45 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     protected void doFilterInternal(@NonNull HttpServletRequest request,
             @NonNull HttpServletResponse response,
             @NonNull FilterChain filterChain) throws ServletException, IOException {
-        String token = extractTokenFromRequest(request);
+        resolveUser(request).ifPresent(user -> {
+            List<SimpleGrantedAuthority> authorities = user.roles().stream()
+                    .map(role -> new SimpleGrantedAuthority("ROLE_" + role))
+                    .toList();
 
-        if (StringUtils.hasText(token) && tokenProvider.validateToken(token)) {
-            tokenProvider.extractUsername(token).ifPresent(username -> {
-                List<String> roles = tokenProvider.extractRoles(token);
-                List<SimpleGrantedAuthority> authorities = roles.stream()
-                        .map(role -> new SimpleGrantedAuthority("ROLE_" + role))
-                        .toList();
+            UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                    user.username(), null, authorities);
 
-                UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(username,
-                        null, authorities);
+            SecurityContextHolder.getContext().setAuthentication(authentication);
+        });
 
-                SecurityContextHolder.getContext().setAuthentication(authentication);
-            });
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * Resolves the caller from gateway identity headers, falling back to the JWT
+     * token.
+     *
+     * @param request the HTTP request
+     * @return the authenticated user, or empty if none could be resolved
+     */
+    private Optional<AuthenticatedUser> resolveUser(HttpServletRequest request) {
+        if (identityVerifier != null && identityVerifier.isEnabled()
+                && request.getHeader(GatewayIdentityVerifier.SIGNATURE_HEADER) != null) {
+            Optional<AuthenticatedUser> gatewayUser = identityVerifier.verify(
+                    request.getHeader(GatewayIdentityVerifier.USER_ID_HEADER),
+                    request.getHeader(GatewayIdentityVerifier.ROLES_HEADER),
+                    request.getHeader(GatewayIdentityVerifier.TIMESTAMP_HEADER),
+                    request.getHeader(GatewayIdentityVerifier.SIGNATURE_HEADER));
+            if (gatewayUser.isPresent()) {
+                return gatewayUser;
+            }
         }
 
-        filterChain.doFilter(request, response);
+        String token = extractTokenFromRequest(request);
+        if (StringUtils.hasText(token)) {
+            return tokenProvider.authenticate(token);
+        }
+        return Optional.empty();
     }
 
     /**
@@ -14,6 +14,7 @@ import org.springframework.stereotype.Component;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
@@ -26,7 +27,10 @@ import io.jsonwebtoken.security.SignatureException;
  *
  * <p>
  * This component uses HMAC-SHA algorithm for signing tokens
- * and supports configurable expiration times.
+ * and supports configurable expiration times. A single parser instance is
+ * built at construction and shared across requests; callers needing several
+ * claims should use {@link #authenticate(String)}, which verifies and parses
+ * the token once.
  * </p>
  *
  * @author SafeZone Team
@@ -39,6 +43,7 @@ public class JwtTokenProvider {
     private static final Logger logger = LoggerFactory.getLogger(JwtTokenProvider.class);
 
     private final SecretKey secretKey;
+    private final JwtParser jwtParser;
     private final long expirationMs;
 
     /**
@@ -86,6 +91,7 @@ public class JwtTokenProvider {
             }
         }
         this.secretKey = tmpSecretKey;
+        this.jwtParser = Jwts.parser().verifyWith(tmpSecretKey).build();
         this.expirationMs = expirationMs;
     }
 
@@ -127,19 +133,24 @@ public class JwtTokenProvider {
      */
     public List<String> extractRoles(String token) {
         return extractClaims(token)
-                .map(claims -> {
-                    Object rolesObj = claims.get("roles");
-                    if (rolesObj instanceof List<?> rawList) {
-                        return rawList.stream()
-                                .filter(String.class::isInstance)
-                                .map(String.class::cast)
-                                .toList();
-                    }
-                    return List.<String>of();
-                })
+                .map(JwtTokenProvider::rolesOf)
                 .orElse(List.of());
     }
 
+    /**
+     * Verifies a JWT token and extracts the username and roles from a single
+     * parse of its claims.
+     *
+     * @param token the JWT token to parse
+     * @return an Optional containing the user, or empty if token is invalid or
+     *         has no subject
+     */
+    public Optional<AuthenticatedUser> authenticate(String token) {
+        return extractClaims(token)
+                .filter(claims -> claims.getSubject() != null)
+                .map(claims -> new AuthenticatedUser(claims.getSubject(), rolesOf(claims)));
+    }
+
     /**
      * Validates a JWT token for authenticity and expiration.
      *
@@ -158,12 +169,7 @@ public class JwtTokenProvider {
      */
     private Optional<Claims> extractClaims(String token) {
         try {
-            Claims claims = Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
-            return Optional.of(claims);
+            return Optional.of(jwtParser.parseSignedClaims(token).getPayload());
         } catch (SignatureException ex) {
             logger.error("Invalid JWT signature");
         } catch (MalformedJwtException ex) {
@@ -178,6 +184,17 @@ public class JwtTokenProvider {
         return Optional.empty();
     }
 
+    private static List<String> rolesOf(Claims claims) {
+        Object rolesObj = claims.get("roles");
+        if (rolesObj instanceof List<?> rawList) {
+            return rawList.stream()
+                    .filter(String.class::isInstance)
+                    .map(String.class::cast)
+                    .toList();
+        }
+        return List.of();
+    }
+
     private static boolean isTestProfileActive() {
         String prop = System.getProperty("spring.profiles.active");
         String env = System.getenv("SPRING_PROFILES_ACTIVE");
@@ -0,0 +1,82 @@
+package com.safezone.common.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.safezone.common.exception.BusinessException;
+
+/**
+ * Unit tests for {@link PageCursor} and {@link CursorPageResponse}.
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-08
+ */
+class PageCursorTest {
+
+    private static String base64(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Should round-trip a position through an opaque URL-safe cursor")
+    void shouldRoundTrip() {
+        PageCursor cursor = new PageCursor(LocalDateTime.of(2026, 1, 6, 12, 30, 15, 123_456_000), 42L);
+
+        String encoded = cursor.encode();
+
+        assertThat(encoded).matches("[A-Za-z0-9_-]+");
+        assertThat(PageCursor.decode(encoded)).isEqualTo(cursor);
+        assertThat(cursor.keys()).containsExactly(
+                entry(PageCursor.CREATED_AT, cursor.createdAt()),
+                entry(PageCursor.ID, 42L));
+    }
+
+    @Test
+    @DisplayName("Should treat a missing cursor as the first page")
+    void shouldTreatMissingCursorAsFirstPage() {
+        assertThat(PageCursor.decode(null)).isNull();
+        assertThat(PageCursor.decode(" ")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should reject malformed cursors")
+    void shouldRejectMalformedCursors() {
+        for (String cursor : List.of("%%%", base64("no-separator"), base64("yesterday|1"),
+                base64("2026-01-06T12:00|abc"))) {
+            assertThatThrownBy(() -> PageCursor.decode(cursor))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", PageCursor.INVALID_CURSOR);
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject page sizes below one")
+    void shouldValidatePageSize() {
+        assertThat(PageCursor.requireValidSize(20)).isEqualTo(20);
+        assertThatThrownBy(() -> PageCursor.requireValidSize(0))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", PageCursor.INVALID_PAGE_SIZE);
+    }
+
+    @Test
+    @DisplayName("Should derive hasNext from the next cursor")
+    void shouldDeriveHasNext() {
+        CursorPageResponse<String> middle = CursorPageResponse.of(List.of("a", "b"), 2, "next", null);
+        CursorPageResponse<String> last = CursorPageResponse.of(List.of("c"), 2, null, 3L);
+
+        assertThat(middle.hasNext()).isTrue();
+        assertThat(middle.totalElements()).isNull();
+        assertThat(last.hasNext()).isFalse();
+        assertThat(last.totalElements()).isEqualTo(3L);
+    }
+}
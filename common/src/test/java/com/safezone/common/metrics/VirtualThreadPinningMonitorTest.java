@@ -0,0 +1,93 @@
+package com.safezone.common.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests for {@link VirtualThreadPinningMonitor}.
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-06
+ */
+@DisplayName("Virtual Thread Pinning Monitor Tests")
+class VirtualThreadPinningMonitorTest {
+
+    private final Object lock = new Object();
+
+    private SimpleMeterRegistry meterRegistry;
+    private VirtualThreadPinningMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        monitor = new VirtualThreadPinningMonitor(meterRegistry, Duration.ofMillis(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        monitor.stop();
+    }
+
+    @Test
+    @DisplayName("Should record a pin inside a synchronized block against the calling class")
+    void shouldRecordPinnedVirtualThread() throws InterruptedException {
+        monitor.start();
+        assertThat(monitor.isRunning()).isTrue();
+
+        Thread.ofVirtual().start(this::sleepWhileHoldingLock).join();
+
+        Timer timer = awaitTimer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.getId().getTag("source")).isEqualTo(VirtualThreadPinningMonitorTest.class.getName());
+        assertThat(timer.totalTime(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Should stop streaming events when stopped")
+    void shouldStop() {
+        monitor.start();
+
+        monitor.stop();
+
+        assertThat(monitor.isRunning()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should report an unknown source without a stack trace")
+    void shouldHandleMissingStackTrace() {
+        assertThat(VirtualThreadPinningMonitor.sourceOf(null)).isEqualTo(VirtualThreadPinningMonitor.UNKNOWN_SOURCE);
+    }
+
+    private void sleepWhileHoldingLock() {
+        synchronized (lock) {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private Timer awaitTimer() throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (System.nanoTime() < deadline) {
+            Timer timer = meterRegistry.find(VirtualThreadPinningMonitor.PINNED_METRIC).timer();
+            if (timer != null && timer.count() > 0) {
+                return timer;
+            }
+            Thread.sleep(100);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,100 @@
+package com.safezone.common.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link GatewayIdentityVerifier}.
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-06
+ */
+@DisplayName("Gateway Identity Verifier Tests")
+class GatewayIdentityVerifierTest {
+
+    private static final String SECRET = "Z2F0ZXdheS1pZGVudGl0eS1zZWNyZXQtZm9yLXRlc3RzLW9ubHk=";
+
+    private static final Instant NOW = Instant.parse("2026-01-06T10:00:00Z");
+
+    private GatewayIdentityVerifier verifier;
+
+    @BeforeEach
+    void setUp() {
+        verifier = new GatewayIdentityVerifier(SECRET, Duration.ofSeconds(30), Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("Should accept a fresh, correctly signed identity")
+    void shouldAcceptSignedIdentity() {
+        long timestamp = NOW.getEpochSecond() - 5;
+        String signature = verifier.sign("42", "USER, ADMIN", timestamp);
+
+        assertThat(verifier.verify("42", "USER, ADMIN", Long.toString(timestamp), signature))
+                .contains(new AuthenticatedUser("42", List.of("USER", "ADMIN")));
+    }
+
+    @Test
+    @DisplayName("Should reject an identity whose roles were changed")
+    void shouldRejectTamperedRoles() {
+        long timestamp = NOW.getEpochSecond();
+        String signature = verifier.sign("42", "USER", timestamp);
+
+        assertThat(verifier.verify("42", "ADMIN", Long.toString(timestamp), signature)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reject a stale identity")
+    void shouldRejectStaleIdentity() {
+        long timestamp = NOW.getEpochSecond() - 31;
+        String signature = verifier.sign("42", "USER", timestamp);
+
+        assertThat(verifier.verify("42", "USER", Long.toString(timestamp), signature)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reject malformed or incomplete headers")
+    void shouldRejectMalformedHeaders() {
+        assertThat(verifier.verify("42", "USER", "not-a-number", "sig")).isEmpty();
+        assertThat(verifier.verify(null, "USER", "0", "sig")).isEmpty();
+        assertThat(verifier.verify("42", "USER", null, "sig")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should accept an identity without roles")
+    void shouldAcceptIdentityWithoutRoles() {
+        long timestamp = NOW.getEpochSecond();
+        String signature = verifier.sign("42", "", timestamp);
+
+        assertThat(verifier.verify("42", null, Long.toString(timestamp), signature))
+                .contains(new AuthenticatedUser("42", List.of()));
+    }
+
+    @Test
+    @DisplayName("Should be disabled without a secret")
+    void shouldBeDisabledWithoutSecret() {
+        GatewayIdentityVerifier disabled = new GatewayIdentityVerifier("", Duration.ofSeconds(30));
+
+        assertThat(disabled.isEnabled()).isFalse();
+        assertThat(disabled.verify("42", "USER", "0", "sig")).isEmpty();
+        assertThatThrownBy(() -> disabled.sign("42", "USER", 0L)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("Should reject a short secret")
+    void shouldRejectShortSecret() {
+        Duration maxAge = Duration.ofSeconds(30);
+        assertThatThrownBy(() -> new GatewayIdentityVerifier("short", maxAge))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -4,8 +4,11 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
@@ -48,6 +51,8 @@ class JwtAuthenticationFilterTest {
 
     private JwtAuthenticationFilter filter;
 
+    private static final String IDENTITY_SECRET = "Z2F0ZXdheS1pZGVudGl0eS1zZWNyZXQtZm9yLXRlc3RzLW9ubHk=";
+
     @BeforeEach
     void setUp() {
         filter = new JwtAuthenticationFilter(tokenProvider);
@@ -61,9 +66,8 @@ class JwtAuthenticationFilterTest {
         String bearerToken = "Bearer " + token;
 
         given(request.getHeader(HttpHeaders.AUTHORIZATION)).willReturn(bearerToken);
-        given(tokenProvider.validateToken(token)).willReturn(true);
-        given(tokenProvider.extractUsername(token)).willReturn(Optional.of("testuser"));
-        given(tokenProvider.extractRoles(token)).willReturn(List.of("USER"));
+        given(tokenProvider.authenticate(token))
+                .willReturn(Optional.of(new AuthenticatedUser("testuser", List.of("USER"))));
 
         filter.doFilterInternal(request, response, filterChain);
 
@@ -91,7 +95,7 @@ class JwtAuthenticationFilterTest {
         String bearerToken = "Bearer invalid.token";
 
         given(request.getHeader(HttpHeaders.AUTHORIZATION)).willReturn(bearerToken);
-        given(tokenProvider.validateToken(anyString())).willReturn(false);
+        given(tokenProvider.authenticate(anyString())).willReturn(Optional.empty());
 
         filter.doFilterInternal(request, response, filterChain);
 
@@ -117,9 +121,8 @@ class JwtAuthenticationFilterTest {
         String bearerToken = "Bearer " + token;
 
         given(request.getHeader(HttpHeaders.AUTHORIZATION)).willReturn(bearerToken);
-        given(tokenProvider.validateToken(token)).willReturn(true);
-        given(tokenProvider.extractUsername(token)).willReturn(Optional.of("admin"));
-        given(tokenProvider.extractRoles(token)).willReturn(List.of("USER", "ADMIN"));
+        given(tokenProvider.authenticate(token))
+                .willReturn(Optional.of(new AuthenticatedUser("admin", List.of("USER", "ADMIN"))));
 
         filter.doFilterInternal(request, response, filterChain);
 
@@ -127,4 +130,49 @@ class JwtAuthenticationFilterTest {
         assertThat(auth).isNotNull();
         assertThat(auth.getAuthorities()).hasSize(2);
     }
+
+    @Test
+    @DisplayName("Should authenticate from signed gateway headers without parsing the token")
+    void shouldAuthenticateFromSignedGatewayHeaders() throws ServletException, IOException {
+        GatewayIdentityVerifier verifier = new GatewayIdentityVerifier(IDENTITY_SECRET, Duration.ofSeconds(30));
+        JwtAuthenticationFilter gatewayFilter = new JwtAuthenticationFilter(tokenProvider, verifier);
+        long now = Instant.now().getEpochSecond();
+
+        given(request.getHeader(GatewayIdentityVerifier.USER_ID_HEADER)).willReturn("admin");
+        given(request.getHeader(GatewayIdentityVerifier.ROLES_HEADER)).willReturn("USER,ADMIN");
+        given(request.getHeader(GatewayIdentityVerifier.TIMESTAMP_HEADER)).willReturn(Long.toString(now));
+        given(request.getHeader(GatewayIdentityVerifier.SIGNATURE_HEADER))
+                .willReturn(verifier.sign("admin", "USER,ADMIN", now));
+
+        gatewayFilter.doFilterInternal(request, response, filterChain);
+
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        assertThat(auth).isNotNull();
+        assertThat(auth.getName()).isEqualTo("admin");
+        assertThat(auth.getAuthorities()).extracting(Object::toString)
+                .containsExactly("ROLE_USER", "ROLE_ADMIN");
+        verifyNoInteractions(tokenProvider);
+        verify(filterChain).doFilter(request, response);
+    }
+
+    @Test
+    @DisplayName("Should fall back to the token when gateway headers are forged")
+    void shouldFallBackToTokenWhenGatewayHeadersForged() throws ServletException, IOException {
+        GatewayIdentityVerifier verifier = new GatewayIdentityVerifier(IDENTITY_SECRET, Duration.ofSeconds(30));
+        JwtAuthenticationFilter gatewayFilter = new JwtAuthenticationFilter(tokenProvider, verifier);
+        String token = "valid.jwt.token";
+
+        given(request.getHeader(GatewayIdentityVerifier.USER_ID_HEADER)).willReturn("admin");
+        given(request.getHeader(GatewayIdentityVerifier.ROLES_HEADER)).willReturn("ADMIN");
+        given(request.getHeader(GatewayIdentityVerifier.TIMESTAMP_HEADER))
+                .willReturn(Long.toString(Instant.now().getEpochSecond()));
+        given(request.getHeader(GatewayIdentityVerifier.SIGNATURE_HEADER)).willReturn("forged");
+        given(request.getHeader(HttpHeaders.AUTHORIZATION)).willReturn("Bearer " + token);
+        given(tokenProvider.authenticate(token))
+                .willReturn(Optional.of(new AuthenticatedUser("testuser", List.of("USER"))));
+
+        gatewayFilter.doFilterInternal(request, response, filterChain);
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication().getName()).isEqualTo("testuser");
+    }
 }
@@ -181,5 +181,20 @@ class JwtTokenProviderTest {
 
             assertThat(jwtTokenProvider.extractRoles(token)).isEmpty();
         }
+
+        @Test
+        @DisplayName("Should authenticate username and roles from a single parse")
+        void shouldAuthenticateUsernameAndRoles() {
+            String token = jwtTokenProvider.generateToken("testuser", List.of("USER", "ADMIN"));
+
+            assertThat(jwtTokenProvider.authenticate(token))
+                    .contains(new AuthenticatedUser("testuser", List.of("USER", "ADMIN")));
+        }
+
+        @Test
+        @DisplayName("Should not authenticate invalid token")
+        void shouldNotAuthenticateInvalidToken() {
+            assertThat(jwtTokenProvider.authenticate("invalid.token.here")).isEmpty();
+        }
     }
 }
@@ -0,0 +1,231 @@
+package com.safezone.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.MissingNode;
+
+/**
+ * Minimal HTTP client for the public API, as seen through the gateway.
+ * <p>
+ * Responses are returned as JSON trees so that the load generator does not
+ * depend on the service modules' DTOs.
+ * </p>
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-06
+ */
+public class ApiClient {
+
+    /**
+     * Outcome of one API call.
+     *
+     * @param status the HTTP status code
+     * @param data   the {@code data} field of the response body, or a missing node
+     */
+    public record ApiResult(int status, JsonNode data) {
+
+        /**
+         * Returns whether the call succeeded with a 2xx status.
+         *
+         * @return {@code true} on success
+         */
+        public boolean isSuccess() {
+            return status >= 200 && status < 300;
+        }
+    }
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final String baseUrl;
+
+    /**
+     * Creates a client for the given gateway.
+     *
+     * @param httpClient   the shared HTTP client
+     * @param objectMapper the JSON mapper
+     * @param baseUrl      the gateway base URL
+     */
+    public ApiClient(HttpClient httpClient, ObjectMapper objectMapper, String baseUrl) {
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+        this.baseUrl = baseUrl;
+    }
+
+    /**
+     * Registers a user; the response data holds the token and the user.
+     *
+     * @param username the username
+     * @param password the password
+     * @return the result
+     * @throws IOException          on a transport failure
+     * @throws InterruptedException if interrupted
+     */
+    public ApiResult register(String username, String password) throws IOException, InterruptedException {
+        return post("/api/v1/auth/register", null, Map.of(
+                "username", username,
+                "email", username + "@load-test.local",
+                "password", password,
+                "firstName", "Load",
+                "lastName", "Test"));
+    }
+
+    /**
+     * Logs in; the response data holds the token and the user.
+     *
+     * @param username the username
+     * @param password the password
+     * @return the result
+     * @throws IOException          on a transport failure
+     * @throws InterruptedException if interrupted
+     */
+    public ApiResult login(String username, String password) throws IOException, InterruptedException {
+        return post("/api/v1/auth/login", null, Map.of("username", username, "password", password));
+    }
+
+    /**
+     * Lists a page of products.
+     *
+     * @param token the bearer token
+     * @param page  the page number
+     * @param size  the page size
+     * @return the result
+     * @throws IOException          on a transport failure
+     * @throws InterruptedException if interrupted
+     */
+    public ApiResult listProducts(String token, int page, int size) throws IOException, InterruptedException {
+        return get("/api/v1/products?page=" + page + "&size=" + size, token);
+    }
+
+    /**
+     * Searches products by name.
+     *
+     * @param token the bearer token
+     * @param query the search text
+     * @return the result
+     * @throws IOException          on a transport failure
+     * @throws InterruptedException if interrupted
+     */
+    public ApiResult searchProducts(String token, String query) throws IOException, InterruptedException {
+        return get("/api/v1/products/search?q=" + URLEncoder.encode(query, StandardCharsets.UTF_8), token);
+    }
+
+    /**
+     * Fetches a product by ID.
+     *
+     * @param token     the bearer token
+     * @param productId the product ID
+     * @return the result
+     * @throws IOException          on a transport failure
+     * @throws InterruptedException if interrupted
+     */
+    public ApiResult getProduct(String token, long productId) throws IOException, InterruptedException {
+        return get("/api/v1/products/" + productId, token);
+    }
+
+    /**
+     * Creates a product; requires an administrator token.
+     *
+     * @param adminToken the administrator bearer token
+     * @param key        a suffix making the name and SKU unique
+     * @param stock      the initial stock quantity
+     * @return the result
+     * @throws IOException          on a transport failure
+     * @throws InterruptedException if interrupted
+     */
+    public ApiResult createProduct(String adminToken, String key, int stock)
+            throws IOException, InterruptedException {
+        return post("/api/v1/products", adminToken, Map.of(
+                "name", "Load Test Product " + key,
+                "description", "Seeded by the load test runner",
+                "price", 5 + Math.floorMod(key.hashCode(), 95),
+                "stockQuantity", stock,
+                "sku", "LT-" + key,
+                "category", "ELECTRONICS"));
+    }
+
+    /**
+     * Places an order with a quantity of one for each product.
+     *
+     * @param token      the bearer token
+     * @param userId     the ID of the ordering user
+     * @param productIds the products to order
+     * @return the result
+     * @throws IOException          on a transport failure
+     * @throws InterruptedException if interrupted
+     */
+    public ApiResult createOrder(String token, long userId, List<Long> productIds)
+            throws IOException, InterruptedException {
+        List<Map<String, Object>> items = productIds.stream()
+                .<Map<String, Object>>map(productId -> Map.of("productId", productId, "quantity", 1))
+                .toList();
+        return post("/api/v1/orders", token, Map.of(
+                "userId", userId,
+                "items", items,
+                "shippingAddress", "1 Load Test Street",
+                "billingAddress", "1 Load Test Street"));
+    }
+
+    /**
+     * Cancels an order.
+     *
+     * @param token   the bearer token
+     * @param orderId the order ID
+     * @return the result
+     * @throws IOException          on a transport failure
+     * @throws InterruptedException if interrupted
+     */
+    public ApiResult cancelOrder(String token, long orderId) throws IOException, InterruptedException {
+        return post("/api/v1/orders/" + orderId + "/cancel", token, null);
+    }
+
+    private ApiResult get(String path, String token) throws IOException, InterruptedException {
+        return send(request(path, token).GET());
+    }
+
+    private ApiResult post(String path, String token, Object body) throws IOException, InterruptedException {
+        HttpRequest.BodyPublisher publisher = body == null
+                ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body));
+        return send(request(path, token)
+                .header("Content-Type", "application/json")
+                .POST(publisher));
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Accept", "application/json");
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private ApiResult send(HttpRequest.Builder builder) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofByteArray());
+        JsonNode data = MissingNode.getInstance();
+        byte[] body = response.body();
+        if (body.length > 0) {
+            try {
+                data = objectMapper.readTree(body).path("data");
+            } catch (IOException e) {
+                // non-JSON error page; the status code is enough
+            }
+        }
+        return new ApiResult(response.statusCode(), data);
+    }
+}
@@ -0,0 +1,82 @@
+package com.safezone.loadtest;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Thread-safe per-operation latency and error recorder backed by HdrHistogram.
+ * <p>
+ * Latencies are recorded in microseconds with three significant digits, up to
+ * one minute; slower responses are clamped to the maximum.
+ * </p>
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-06
+ */
+public class LatencyRecorder {
+
+    /** Highest trackable latency in microseconds. */
+    static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final Map<Operation, ConcurrentHistogram> histograms = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+
+    /**
+     * Creates an empty recorder for every operation.
+     */
+    public LatencyRecorder() {
+        for (Operation operation : Operation.values()) {
+            histograms.put(operation, new ConcurrentHistogram(MAX_LATENCY_MICROS, 3));
+            errors.put(operation, new LongAdder());
+        }
+    }
+
+    /**
+     * Records one request.
+     *
+     * @param operation    the operation performed
+     * @param elapsedNanos the request latency in nanoseconds
+     * @param success      whether the request succeeded
+     */
+    public void record(Operation operation, long elapsedNanos, boolean success) {
+        long micros = Math.clamp(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), 1L, MAX_LATENCY_MICROS);
+        histograms.get(operation).recordValue(micros);
+        if (!success) {
+            errors.get(operation).increment();
+        }
+    }
+
+    /**
+     * Discards everything recorded so far, e.g. at the end of the warm-up.
+     */
+    public void reset() {
+        histograms.values().forEach(Histogram::reset);
+        errors.values().forEach(LongAdder::reset);
+    }
+
+    /**
+     * Returns a copy of the latency histogram of an operation.
+     *
+     * @param operation the operation
+     * @return the histogram, in microseconds
+     */
+    public Histogram histogram(Operation operation) {
+        return histograms.get(operation).copy();
+    }
+
+    /**
+     * Returns the number of failed requests of an operation.
+     *
+     * @param operation the operation
+     * @return the error count
+     */
+    public long errors(Operation operation) {
+        return errors.get(operation).sum();
+    }
+}
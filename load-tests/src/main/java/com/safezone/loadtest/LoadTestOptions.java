@@ -0,0 +1,150 @@
+package com.safezone.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Command line options of the load test runner.
+ * <p>
+ * Options use the {@code --name=value} form. When {@code --base-url} is
+ * omitted the runner starts a local stack of services on consecutive ports
+ * from {@code --base-port}: gateway, product, order and user service.
+ * </p>
+ *
+ * @param baseUrl      the gateway URL to test, or {@code null} to start a local stack
+ * @param projectDir   the repository root holding the service jars
+ * @param basePort     the first port of the local stack
+ * @param users        the number of concurrent virtual users
+ * @param duration     the length of the measured phase
+ * @param warmup       the length of the warm-up phase, excluded from the report
+ * @param products     the number of products seeded before the run
+ * @param jwtSecret    the JWT secret shared with the services, or {@code null} to generate one
+ * @param reportPath   the JSON report file
+ * @param mix          the weighted mix of operations
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-06
+ */
+public record LoadTestOptions(
+        String baseUrl,
+        Path projectDir,
+        int basePort,
+        int users,
+        Duration duration,
+        Duration warmup,
+        int products,
+        String jwtSecret,
+        Path reportPath,
+        WorkloadMix mix) {
+
+    private static final Set<String> KNOWN_OPTIONS = Set.of(
+            "base-url", "project-dir", "base-port", "users", "duration",
+            "warmup", "products", "jwt-secret", "report", "mix");
+
+    /**
+     * Parses command line arguments, applying defaults for missing options.
+     *
+     * @param args the arguments
+     * @return the options
+     * @throws IllegalArgumentException if an argument is unknown or invalid
+     */
+    public static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Expected --name=value but got '" + arg + "'");
+            }
+            String name = arg.substring(2, separator);
+            if (!KNOWN_OPTIONS.contains(name)) {
+                throw new IllegalArgumentException("Unknown option '--" + name + "'");
+            }
+            values.put(name, arg.substring(separator + 1));
+        }
+
+        String baseUrl = values.get("base-url");
+        return new LoadTestOptions(
+                baseUrl == null || baseUrl.isBlank() ? null : stripTrailingSlash(baseUrl),
+                Path.of(values.getOrDefault("project-dir", ".")),
+                positiveInt(values, "base-port", 18080),
+                positiveInt(values, "users", 50),
+                duration(values, "duration", Duration.ofSeconds(60)),
+                duration(values, "warmup", Duration.ofSeconds(10)),
+                positiveInt(values, "products", 100),
+                values.get("jwt-secret"),
+                Path.of(values.getOrDefault("report", "load-tests/target/load-test-report.json")),
+                WorkloadMix.parse(values.getOrDefault("mix", WorkloadMix.DEFAULT)));
+    }
+
+    /**
+     * Returns whether the runner has to start the services itself.
+     *
+     * @return {@code true} if no external base URL was given
+     */
+    public boolean startsLocalStack() {
+        return baseUrl == null;
+    }
+
+    /**
+     * Parses a duration such as {@code 90}, {@code 90s} or {@code 5m}; plain
+     * numbers are seconds.
+     *
+     * @param value the duration text
+     * @return the duration
+     * @throws IllegalArgumentException if the text is not a valid duration
+     */
+    static Duration parseDuration(String value) {
+        String text = value.trim().toLowerCase();
+        try {
+            if (text.endsWith("ms")) {
+                return Duration.ofMillis(Long.parseLong(text.substring(0, text.length() - 2)));
+            }
+            if (text.endsWith("m")) {
+                return Duration.ofMinutes(Long.parseLong(text.substring(0, text.length() - 1)));
+            }
+            if (text.endsWith("s")) {
+                return Duration.ofSeconds(Long.parseLong(text.substring(0, text.length() - 1)));
+            }
+            return Duration.ofSeconds(Long.parseLong(text));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid duration '" + value + "'", e);
+        }
+    }
+
+    private static Duration duration(Map<String, String> values, String name, Duration defaultValue) {
+        String value = values.get(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        Duration duration = parseDuration(value);
+        if (duration.isNegative()) {
+            throw new IllegalArgumentException("--" + name + " must not be negative");
+        }
+        return duration;
+    }
+
+    private static int positiveInt(Map<String, String> values, String name, int defaultValue) {
+        String value = values.get(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        int parsed;
+        try {
+            parsed = Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("--" + name + " must be a number but was '" + value + "'", e);
+        }
+        if (parsed <= 0) {
+            throw new IllegalArgumentException("--" + name + " must be positive");
+        }
+        return parsed;
+    }
+
+    private static String stripTrailingSlash(String url) {
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+}
@@ -0,0 +1,147 @@
+package com.safezone.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.HdrHistogram.Histogram;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Summary of a load test run: throughput, errors and latency percentiles per
+ * endpoint.
+ *
+ * @param startedAt    when the measured phase started
+ * @param duration     the length of the measured phase
+ * @param virtualUsers the number of concurrent virtual users
+ * @param target       the base URL the load was sent to
+ * @param endpoints    the statistics of each endpoint that received requests
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-06
+ */
+public record LoadTestReport(
+        Instant startedAt,
+        Duration duration,
+        int virtualUsers,
+        String target,
+        List<EndpointStats> endpoints) {
+
+    /**
+     * Statistics of a single endpoint. Latencies are in milliseconds.
+     *
+     * @param operation           the operation key
+     * @param endpoint            the HTTP method and path template
+     * @param requests            the number of requests sent
+     * @param errors              the number of failed requests
+     * @param throughputPerSecond the completed requests per second
+     * @param p50                 the median latency
+     * @param p90                 the 90th percentile latency
+     * @param p99                 the 99th percentile latency
+     * @param p999                the 99.9th percentile latency
+     * @param max                 the maximum latency
+     * @param mean                the mean latency
+     */
+    public record EndpointStats(
+            String operation,
+            String endpoint,
+            long requests,
+            long errors,
+            double throughputPerSecond,
+            double p50,
+            double p90,
+            double p99,
+            double p999,
+            double max,
+            double mean) {
+    }
+
+    /**
+     * Builds a report from the recorded latencies.
+     *
+     * @param recorder     the recorder of the measured phase
+     * @param startedAt    when the measured phase started
+     * @param duration     the length of the measured phase
+     * @param virtualUsers the number of concurrent virtual users
+     * @param target       the base URL the load was sent to
+     * @return the report
+     */
+    public static LoadTestReport from(LatencyRecorder recorder, Instant startedAt, Duration duration,
+            int virtualUsers, String target) {
+        double seconds = Math.max(duration.toMillis(), 1) / 1000.0;
+        List<EndpointStats> endpoints = new ArrayList<>();
+        for (Operation operation : Operation.values()) {
+            Histogram histogram = recorder.histogram(operation);
+            long requests = histogram.getTotalCount();
+            if (requests == 0) {
+                continue;
+            }
+            endpoints.add(new EndpointStats(
+                    operation.key(),
+                    operation.endpoint(),
+                    requests,
+                    recorder.errors(operation),
+                    round(requests / seconds),
+                    millis(histogram.getValueAtPercentile(50)),
+                    millis(histogram.getValueAtPercentile(90)),
+                    millis(histogram.getValueAtPercentile(99)),
+                    millis(histogram.getValueAtPercentile(99.9)),
+                    millis(histogram.getMaxValue()),
+                    round(histogram.getMean() / 1000.0)));
+        }
+        return new LoadTestReport(startedAt, duration, virtualUsers, target, List.copyOf(endpoints));
+    }
+
+    /**
+     * Writes the report as JSON, creating parent directories as needed.
+     *
+     * @param path the report file
+     * @throws IOException if the file cannot be written
+     */
+    public void writeJson(Path path) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        ObjectMapper mapper = new ObjectMapper()
+                .findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(SerializationFeature.WRITE_DURATIONS_AS_TIMESTAMPS)
+                .enable(SerializationFeature.INDENT_OUTPUT);
+        mapper.writeValue(path.toFile(), this);
+    }
+
+    /**
+     * Formats the report as a fixed-width table for the console.
+     *
+     * @return the table
+     */
+    public String toTable() {
+        StringBuilder table = new StringBuilder(String.format(Locale.ROOT,
+                "%-32s %9s %7s %9s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p999 ms", "max ms"));
+        for (EndpointStats stats : endpoints) {
+            table.append(String.format(Locale.ROOT,
+                    "%-32s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    stats.endpoint(), stats.requests(), stats.errors(), stats.throughputPerSecond(),
+                    stats.p50(), stats.p90(), stats.p99(), stats.p999(), stats.max()));
+        }
+        return table.toString();
+    }
+
+    private static double millis(long micros) {
+        return round(micros / 1000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+}
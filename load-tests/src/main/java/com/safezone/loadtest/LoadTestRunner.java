@@ -0,0 +1,157 @@
+package com.safezone.loadtest;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.safezone.common.security.JwtTokenProvider;
+
+/**
+ * Entry point of the end-to-end load test.
+ * <p>
+ * The runner starts the services locally (unless {@code --base-url} points to
+ * a running gateway), seeds products, registers the virtual users and drives
+ * them on virtual threads through a warm-up and a measured phase. Latencies
+ * of the measured phase are written per endpoint to a JSON report and printed
+ * as a table.
+ * </p>
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-06
+ */
+public final class LoadTestRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoadTestRunner.class);
+
+    private static final String PASSWORD = "LoadTest123";
+    private static final int SEED_STOCK = 1_000_000;
+
+    private record Account(String username, long userId, String token) {
+    }
+
+    private LoadTestRunner() {
+    }
+
+    /**
+     * Runs the load test.
+     *
+     * @param args the command line options, see {@link LoadTestOptions}
+     * @throws Exception if the stack cannot be started or the run fails
+     */
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        String jwtSecret = options.jwtSecret() != null ? options.jwtSecret() : randomSecret();
+
+        ServiceStack stack = null;
+        try {
+            String baseUrl = options.baseUrl();
+            if (options.startsLocalStack()) {
+                stack = ServiceStack.start(options.projectDir(), options.basePort(), jwtSecret, randomSecret());
+                baseUrl = stack.gatewayUrl();
+            } else if (options.jwtSecret() == null) {
+                throw new IllegalArgumentException("--jwt-secret is required with --base-url to seed products");
+            }
+            LoadTestReport report = run(options, baseUrl, jwtSecret);
+            report.writeJson(options.reportPath());
+            logger.info("Load test results ({} users, {}s):{}{}", report.virtualUsers(),
+                    report.duration().toSeconds(), System.lineSeparator(), report.toTable());
+            logger.info("Report written to {}", options.reportPath().toAbsolutePath());
+        } finally {
+            if (stack != null) {
+                stack.close();
+            }
+        }
+    }
+
+    private static LoadTestReport run(LoadTestOptions options, String baseUrl, String jwtSecret)
+            throws IOException, InterruptedException {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        ApiClient api = new ApiClient(httpClient, new ObjectMapper(), baseUrl);
+
+        List<Long> productIds = seedProducts(api, jwtSecret, options.products());
+        List<Account> accounts = registerUsers(api, options.users());
+        LatencyRecorder recorder = new LatencyRecorder();
+        Instant deadline = Instant.now().plus(options.warmup()).plus(options.duration());
+        List<VirtualUser> users = new ArrayList<>(accounts.size());
+        for (int i = 0; i < accounts.size(); i++) {
+            Account account = accounts.get(i);
+            users.add(new VirtualUser(api, recorder, options.mix(), productIds, deadline,
+                    account.username(), PASSWORD, account.userId(), account.token(), i));
+        }
+
+        logger.info("Running {} virtual users: {} warm-up, {} measured",
+                users.size(), options.warmup(), options.duration());
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            users.forEach(executor::submit);
+            Thread.sleep(options.warmup());
+            recorder.reset();
+            Instant measuredFrom = Instant.now();
+            executor.shutdown();
+            if (!executor.awaitTermination(options.duration().toSeconds() + 60, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+            Duration measured = Duration.between(measuredFrom, Instant.now());
+            return LoadTestReport.from(recorder, measuredFrom, measured, users.size(), baseUrl);
+        }
+    }
+
+    private static List<Long> seedProducts(ApiClient api, String jwtSecret, int count)
+            throws IOException, InterruptedException {
+        String adminToken = new JwtTokenProvider(jwtSecret, TimeUnit.HOURS.toMillis(1))
+                .generateToken("load-test-admin", List.of("ADMIN"));
+        String runId = runId();
+        List<Long> productIds = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ApiClient.ApiResult result = api.createProduct(adminToken, runId + "-" + i, SEED_STOCK);
+            if (!result.isSuccess()) {
+                throw new IllegalStateException("Seeding product " + i + " failed with status " + result.status());
+            }
+            productIds.add(result.data().path("id").asLong());
+        }
+        logger.info("Seeded {} products", productIds.size());
+        return List.copyOf(productIds);
+    }
+
+    private static List<Account> registerUsers(ApiClient api, int count) throws IOException, InterruptedException {
+        String runId = runId();
+        List<Account> accounts = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String username = "lt_" + runId + "_" + i;
+            ApiClient.ApiResult result = api.register(username, PASSWORD);
+            if (!result.isSuccess()) {
+                throw new IllegalStateException("Registering " + username + " failed with status " + result.status());
+            }
+            JsonNode data = result.data();
+            accounts.add(new Account(username, data.path("user").path("id").asLong(), data.path("token").asText()));
+        }
+        logger.info("Registered {} virtual users", accounts.size());
+        return accounts;
+    }
+
+    private static String runId() {
+        return Long.toString(System.currentTimeMillis(), 36);
+    }
+
+    private static String randomSecret() {
+        byte[] bytes = new byte[48];
+        new SecureRandom().nextBytes(bytes);
+        return Base64.getEncoder().encodeToString(bytes);
+    }
+}
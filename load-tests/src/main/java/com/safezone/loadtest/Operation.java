@@ -0,0 +1,71 @@
+package com.safezone.loadtest;
+
+/**
+ * User actions driven by the load generator, each reported as one endpoint.
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-06
+ */
+public enum Operation {
+
+    /** Log in with an existing account. */
+    LOGIN("login", "POST /api/v1/auth/login"),
+
+    /** Browse a page of the product catalog. */
+    BROWSE_PRODUCTS("browse", "GET /api/v1/products"),
+
+    /** Search products by name. */
+    SEARCH_PRODUCTS("search", "GET /api/v1/products/search"),
+
+    /** Fetch a single product. */
+    GET_PRODUCT("product", "GET /api/v1/products/{id}"),
+
+    /** Create an order of one to three products. */
+    CREATE_ORDER("createOrder", "POST /api/v1/orders"),
+
+    /** Cancel an order created by the same user. */
+    CANCEL_ORDER("cancelOrder", "POST /api/v1/orders/{id}/cancel");
+
+    private final String key;
+    private final String endpoint;
+
+    Operation(String key, String endpoint) {
+        this.key = key;
+        this.endpoint = endpoint;
+    }
+
+    /**
+     * Returns the short name used in the {@code --mix} option.
+     *
+     * @return the operation key
+     */
+    public String key() {
+        return key;
+    }
+
+    /**
+     * Returns the HTTP method and path template of the operation.
+     *
+     * @return the endpoint label
+     */
+    public String endpoint() {
+        return endpoint;
+    }
+
+    /**
+     * Resolves an operation from its key.
+     *
+     * @param key the operation key
+     * @return the operation
+     * @throws IllegalArgumentException if no operation has this key
+     */
+    public static Operation fromKey(String key) {
+        for (Operation operation : values()) {
+            if (operation.key.equalsIgnoreCase(key)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Unknown operation '" + key + "'");
+    }
+}
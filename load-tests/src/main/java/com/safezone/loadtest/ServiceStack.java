@@ -0,0 +1,203 @@
+package com.safezone.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs the user, product and order services and the API gateway as local
+ * processes on their in-memory H2 databases.
+ * <p>
+ * Each service is started from its packaged jar with {@code java -jar}, on a
+ * port derived from the base port, with the shared JWT and gateway identity
+ * secrets passed through the environment. Process output is written to
+ * {@code load-tests/target/logs}. Closing the stack stops every process.
+ * </p>
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-06
+ */
+public final class ServiceStack implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ServiceStack.class);
+
+    /** Maximum time to wait for a service to report healthy. */
+    static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(5);
+
+    private final List<Process> processes = new ArrayList<>();
+    private final String gatewayUrl;
+
+    private ServiceStack(String gatewayUrl) {
+        this.gatewayUrl = gatewayUrl;
+    }
+
+    /**
+     * Starts the services and waits until each one is healthy.
+     *
+     * @param projectDir            the repository root holding the service modules
+     * @param basePort              the gateway port; services use the next three ports
+     * @param jwtSecret             the JWT secret shared by all services
+     * @param gatewayIdentitySecret the secret signing gateway identity headers
+     * @return the running stack
+     * @throws IOException          if a jar is missing or a process cannot be started
+     * @throws InterruptedException if interrupted while waiting for startup
+     */
+    public static ServiceStack start(Path projectDir, int basePort, String jwtSecret, String gatewayIdentitySecret)
+            throws IOException, InterruptedException {
+        int productPort = basePort + 1;
+        int orderPort = basePort + 2;
+        int userPort = basePort + 3;
+        String productUrl = localUrl(productPort);
+        String orderUrl = localUrl(orderPort);
+        String userUrl = localUrl(userPort);
+
+        Path logDir = projectDir.resolve("load-tests/target/logs");
+        Files.createDirectories(logDir);
+        Map<String, String> environment = Map.of(
+                "JWT_SECRET", jwtSecret,
+                "GATEWAY_IDENTITY_SECRET", gatewayIdentitySecret,
+                "PRODUCT_SERVICE_URL", productUrl,
+                "ORDER_SERVICE_URL", orderUrl,
+                "USER_SERVICE_URL", userUrl);
+
+        ServiceStack stack = new ServiceStack(localUrl(basePort));
+        try {
+            stack.launch(projectDir, logDir, "user-service", userPort, environment);
+            stack.launch(projectDir, logDir, "product-service", productPort, environment);
+            stack.launch(projectDir, logDir, "order-service", orderPort, environment,
+                    "--services.product.url=" + productUrl,
+                    "--services.user.url=" + userUrl);
+            stack.launch(projectDir, logDir, "api-gateway", basePort, environment);
+
+            HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2)).build();
+            for (String url : List.of(userUrl, productUrl, orderUrl, stack.gatewayUrl)) {
+                stack.awaitHealthy(client, url);
+            }
+        } catch (IOException | InterruptedException | RuntimeException e) {
+            stack.close();
+            throw e;
+        }
+        return stack;
+    }
+
+    /**
+     * Returns the base URL of the gateway.
+     *
+     * @return the gateway URL
+     */
+    public String gatewayUrl() {
+        return gatewayUrl;
+    }
+
+    /**
+     * Locates the runnable jar of a module, preferring the Spring Boot
+     * {@code -exec} jar over the plain artifact.
+     *
+     * @param moduleDir the module directory
+     * @return the jar, if the module has been packaged
+     * @throws IOException if the target directory cannot be listed
+     */
+    static Optional<Path> findJar(Path moduleDir) throws IOException {
+        Path target = moduleDir.resolve("target");
+        if (!Files.isDirectory(target)) {
+            return Optional.empty();
+        }
+        try (Stream<Path> files = Files.list(target)) {
+            List<Path> jars = files
+                    .filter(file -> file.getFileName().toString().endsWith(".jar"))
+                    .filter(file -> !file.getFileName().toString().endsWith("-sources.jar"))
+                    .sorted()
+                    .toList();
+            return jars.stream()
+                    .filter(file -> file.getFileName().toString().endsWith("-exec.jar"))
+                    .findFirst()
+                    .or(() -> jars.stream().findFirst());
+        }
+    }
+
+    @Override
+    public void close() {
+        for (Process process : processes.reversed()) {
+            process.destroy();
+        }
+        for (Process process : processes.reversed()) {
+            try {
+                if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                    process.destroyForcibly();
+                }
+            } catch (InterruptedException e) {
+                process.destroyForcibly();
+                Thread.currentThread().interrupt();
+            }
+        }
+        processes.clear();
+    }
+
+    private void launch(Path projectDir, Path logDir, String module, int port, Map<String, String> environment,
+            String... extraArgs) throws IOException {
+        Path jar = findJar(projectDir.resolve(module))
+                .orElseThrow(() -> new IOException("No jar found for " + module
+                        + "; run 'mvn package -DskipTests' first"));
+
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.add("-jar");
+        command.add(jar.toString());
+        command.add("--server.port=" + port);
+        command.addAll(List.of(extraArgs));
+
+        ProcessBuilder builder = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(logDir.resolve(module + ".log").toFile());
+        builder.environment().putAll(environment);
+        logger.info("Starting {} on port {} from {}", module, port, jar);
+        processes.add(builder.start());
+    }
+
+    private void awaitHealthy(HttpClient client, String baseUrl) throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/actuator/health"))
+                .timeout(Duration.ofSeconds(5))
+                .GET()
+                .build();
+        Instant deadline = Instant.now().plus(STARTUP_TIMEOUT);
+        while (Instant.now().isBefore(deadline)) {
+            for (Process process : processes) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("A service exited during startup with code "
+                            + process.exitValue() + "; see load-tests/target/logs");
+                }
+            }
+            try {
+                HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() == 200) {
+                    logger.info("{} is healthy", baseUrl);
+                    return;
+                }
+            } catch (IOException e) {
+                // not listening yet
+            }
+            Thread.sleep(1000);
+        }
+        throw new IllegalStateException(baseUrl + " did not become healthy within " + STARTUP_TIMEOUT);
+    }
+
+    private static String localUrl(int port) {
+        return "http://localhost:" + port;
+    }
+}
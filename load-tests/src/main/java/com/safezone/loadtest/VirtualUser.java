@@ -0,0 +1,142 @@
+package com.safezone.loadtest;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * One simulated customer issuing requests back to back, without think time,
+ * according to the workload mix.
+ * <p>
+ * The user remembers the orders it created so that cancellations target its
+ * own pending orders; when it has none, a cancellation is replaced by an
+ * order creation.
+ * </p>
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-06
+ */
+public class VirtualUser implements Runnable {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualUser.class);
+
+    private static final int PAGE_SIZE = 20;
+    private static final List<String> SEARCH_TERMS = List.of("Load", "Product", "Test", "1", "42");
+
+    private final ApiClient api;
+    private final LatencyRecorder recorder;
+    private final WorkloadMix mix;
+    private final List<Long> productIds;
+    private final Instant deadline;
+    private final String username;
+    private final String password;
+    private final long userId;
+    private final SplittableRandom random;
+    private final Deque<Long> openOrders = new ArrayDeque<>();
+    private String token;
+
+    /**
+     * Creates a registered virtual user.
+     *
+     * @param api        the API client
+     * @param recorder   the shared latency recorder
+     * @param mix        the workload mix
+     * @param productIds the IDs of the seeded products
+     * @param deadline   when the user stops issuing requests
+     * @param username   the registered username
+     * @param password   the password
+     * @param userId     the user ID
+     * @param token      the token obtained at registration
+     * @param seed       the random seed of this user
+     */
+    public VirtualUser(ApiClient api, LatencyRecorder recorder, WorkloadMix mix, List<Long> productIds,
+            Instant deadline, String username, String password, long userId, String token, long seed) {
+        this.api = api;
+        this.recorder = recorder;
+        this.mix = mix;
+        this.productIds = productIds;
+        this.deadline = deadline;
+        this.username = username;
+        this.password = password;
+        this.userId = userId;
+        this.token = token;
+        this.random = new SplittableRandom(seed);
+    }
+
+    @Override
+    public void run() {
+        while (Instant.now().isBefore(deadline) && !Thread.currentThread().isInterrupted()) {
+            Operation operation = mix.next(random);
+            if (operation == Operation.CANCEL_ORDER && openOrders.isEmpty()) {
+                operation = Operation.CREATE_ORDER;
+            }
+            long start = System.nanoTime();
+            boolean success;
+            try {
+                success = execute(operation);
+            } catch (IOException e) {
+                logger.debug("{} failed for {}: {}", operation, username, e.getMessage());
+                success = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            recorder.record(operation, System.nanoTime() - start, success);
+        }
+    }
+
+    private boolean execute(Operation operation) throws IOException, InterruptedException {
+        return switch (operation) {
+            case LOGIN -> login();
+            case BROWSE_PRODUCTS -> api.listProducts(token, random.nextInt(pageCount()), PAGE_SIZE).isSuccess();
+            case SEARCH_PRODUCTS -> api.searchProducts(token,
+                    SEARCH_TERMS.get(random.nextInt(SEARCH_TERMS.size()))).isSuccess();
+            case GET_PRODUCT -> api.getProduct(token, randomProduct()).isSuccess();
+            case CREATE_ORDER -> createOrder();
+            case CANCEL_ORDER -> api.cancelOrder(token, openOrders.pop()).isSuccess();
+        };
+    }
+
+    private boolean login() throws IOException, InterruptedException {
+        ApiClient.ApiResult result = api.login(username, password);
+        String refreshed = result.data().path("token").asText(null);
+        if (result.isSuccess() && refreshed != null) {
+            token = refreshed;
+            return true;
+        }
+        return false;
+    }
+
+    private boolean createOrder() throws IOException, InterruptedException {
+        int itemCount = 1 + random.nextInt(Math.min(3, productIds.size()));
+        List<Long> items = random.ints(0, productIds.size())
+                .distinct()
+                .limit(itemCount)
+                .mapToObj(productIds::get)
+                .toList();
+        ApiClient.ApiResult result = api.createOrder(token, userId, items);
+        JsonNode orderId = result.data().path("id");
+        if (result.isSuccess() && orderId.canConvertToLong()) {
+            openOrders.push(orderId.asLong());
+            return true;
+        }
+        return false;
+    }
+
+    private long randomProduct() {
+        return productIds.get(random.nextInt(productIds.size()));
+    }
+
+    private int pageCount() {
+        return Math.max(1, (productIds.size() + PAGE_SIZE - 1) / PAGE_SIZE);
+    }
+}
@@ -0,0 +1,95 @@
+package com.safezone.loadtest;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+/**
+ * Weighted mix of operations picked by each virtual user.
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-06
+ */
+public final class WorkloadMix {
+
+    /** Default mix: mostly catalog reads, one order in five requests. */
+    public static final String DEFAULT = "login:5,browse:30,search:20,product:20,createOrder:20,cancelOrder:5";
+
+    private final Map<Operation, Integer> weights;
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+    private final int totalWeight;
+
+    private WorkloadMix(Map<Operation, Integer> weights) {
+        this.weights = Collections.unmodifiableMap(new EnumMap<>(weights));
+        this.operations = weights.keySet().toArray(Operation[]::new);
+        this.cumulativeWeights = new int[operations.length];
+        int sum = 0;
+        for (int i = 0; i < operations.length; i++) {
+            sum += weights.get(operations[i]);
+            cumulativeWeights[i] = sum;
+        }
+        this.totalWeight = sum;
+    }
+
+    /**
+     * Parses a mix such as {@code browse:30,createOrder:20}.
+     *
+     * @param spec comma-separated {@code key:weight} pairs
+     * @return the mix
+     * @throws IllegalArgumentException if the spec is malformed or all weights
+     *                                  are zero
+     */
+    public static WorkloadMix parse(String spec) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String entry : spec.split(",")) {
+            String trimmed = entry.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            int separator = trimmed.indexOf(':');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Expected key:weight but got '" + trimmed + "'");
+            }
+            Operation operation = Operation.fromKey(trimmed.substring(0, separator).trim());
+            int weight = Integer.parseInt(trimmed.substring(separator + 1).trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Weight of " + operation.key() + " cannot be negative");
+            }
+            if (weight > 0) {
+                weights.merge(operation, weight, Integer::sum);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("Workload mix has no operation with a positive weight");
+        }
+        return new WorkloadMix(weights);
+    }
+
+    /**
+     * Picks the next operation according to the weights.
+     *
+     * @param random the random generator of the calling virtual user
+     * @return the operation
+     */
+    public Operation next(RandomGenerator random) {
+        int roll = random.nextInt(totalWeight);
+        for (int i = 0; i < operations.length; i++) {
+            if (roll < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+
+    /**
+     * Returns the configured weights.
+     *
+     * @return the weights by operation
+     */
+    public Map<Operation, Integer> weights() {
+        return weights;
+    }
+}
@@ -0,0 +1,69 @@
+package com.safezone.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link LoadTestOptions}.
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-06
+ */
+@DisplayName("Load Test Options Tests")
+class LoadTestOptionsTest {
+
+    @Test
+    @DisplayName("Should apply defaults and start a local stack")
+    void shouldApplyDefaults() {
+        LoadTestOptions options = LoadTestOptions.parse(new String[0]);
+
+        assertThat(options.startsLocalStack()).isTrue();
+        assertThat(options.basePort()).isEqualTo(18080);
+        assertThat(options.users()).isEqualTo(50);
+        assertThat(options.duration()).isEqualTo(Duration.ofSeconds(60));
+        assertThat(options.warmup()).isEqualTo(Duration.ofSeconds(10));
+        assertThat(options.reportPath()).isEqualTo(Path.of("load-tests/target/load-test-report.json"));
+    }
+
+    @Test
+    @DisplayName("Should parse explicit options")
+    void shouldParseOptions() {
+        LoadTestOptions options = LoadTestOptions.parse(new String[] {
+                "--base-url=http://localhost:8080/", "--users=5", "--duration=2m", "--warmup=500ms",
+                "--jwt-secret=secret", "--mix=browse:1" });
+
+        assertThat(options.startsLocalStack()).isFalse();
+        assertThat(options.baseUrl()).isEqualTo("http://localhost:8080");
+        assertThat(options.users()).isEqualTo(5);
+        assertThat(options.duration()).isEqualTo(Duration.ofMinutes(2));
+        assertThat(options.warmup()).isEqualTo(Duration.ofMillis(500));
+        assertThat(options.jwtSecret()).isEqualTo("secret");
+        assertThat(options.mix().weights()).containsOnlyKeys(Operation.BROWSE_PRODUCTS);
+    }
+
+    @Test
+    @DisplayName("Should treat plain numbers as seconds")
+    void shouldParsePlainDurationAsSeconds() {
+        assertThat(LoadTestOptions.parseDuration("90")).isEqualTo(Duration.ofSeconds(90));
+    }
+
+    @Test
+    @DisplayName("Should reject unknown or invalid options")
+    void shouldRejectInvalidOptions() {
+        assertThatThrownBy(() -> LoadTestOptions.parse(new String[] { "--threads=4" }))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> LoadTestOptions.parse(new String[] { "users=4" }))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> LoadTestOptions.parse(new String[] { "--users=0" }))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> LoadTestOptions.parse(new String[] { "--duration=soon" }))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
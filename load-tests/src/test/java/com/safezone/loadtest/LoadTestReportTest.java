@@ -0,0 +1,78 @@
+package com.safezone.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Unit tests for {@link LatencyRecorder} and {@link LoadTestReport}.
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-06
+ */
+@DisplayName("Load Test Report Tests")
+class LoadTestReportTest {
+
+    private static final Instant STARTED_AT = Instant.parse("2026-01-06T10:00:00Z");
+
+    @Test
+    @DisplayName("Should report percentiles, throughput and errors per endpoint")
+    void shouldSummarizeRecordedLatencies() {
+        LatencyRecorder recorder = new LatencyRecorder();
+        for (int millis = 1; millis <= 100; millis++) {
+            recorder.record(Operation.GET_PRODUCT, TimeUnit.MILLISECONDS.toNanos(millis), millis != 100);
+        }
+
+        LoadTestReport report = LoadTestReport.from(recorder, STARTED_AT, Duration.ofSeconds(10), 4, "http://gw");
+
+        assertThat(report.endpoints()).singleElement().satisfies(stats -> {
+            assertThat(stats.operation()).isEqualTo("product");
+            assertThat(stats.requests()).isEqualTo(100);
+            assertThat(stats.errors()).isEqualTo(1);
+            assertThat(stats.throughputPerSecond()).isEqualTo(10.0);
+            assertThat(stats.p50()).isBetween(49.9, 50.1);
+            assertThat(stats.p99()).isBetween(98.9, 99.1);
+            assertThat(stats.max()).isBetween(99.9, 100.1);
+        });
+        assertThat(report.toTable()).contains("GET /api/v1/products/{id}");
+    }
+
+    @Test
+    @DisplayName("Should discard warm-up samples on reset")
+    void shouldResetRecorder() {
+        LatencyRecorder recorder = new LatencyRecorder();
+        recorder.record(Operation.LOGIN, 1_000_000, false);
+
+        recorder.reset();
+
+        assertThat(recorder.histogram(Operation.LOGIN).getTotalCount()).isZero();
+        assertThat(recorder.errors(Operation.LOGIN)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should write the report as JSON")
+    void shouldWriteJson(@TempDir Path tempDir) throws IOException {
+        LatencyRecorder recorder = new LatencyRecorder();
+        recorder.record(Operation.CREATE_ORDER, TimeUnit.MILLISECONDS.toNanos(20), true);
+        Path file = tempDir.resolve("reports/report.json");
+
+        LoadTestReport.from(recorder, STARTED_AT, Duration.ofSeconds(1), 1, "http://gw").writeJson(file);
+
+        JsonNode json = new ObjectMapper().readTree(file.toFile());
+        assertThat(json.path("startedAt").asText()).isEqualTo("2026-01-06T10:00:00Z");
+        assertThat(json.path("endpoints").get(0).path("endpoint").asText()).isEqualTo("POST /api/v1/orders");
+        assertThat(json.path("endpoints").get(0).path("requests").asLong()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,57 @@
+package com.safezone.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link WorkloadMix}.
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-06
+ */
+@DisplayName("Workload Mix Tests")
+class WorkloadMixTest {
+
+    @Test
+    @DisplayName("Should parse the default mix with every operation")
+    void shouldParseDefaultMix() {
+        WorkloadMix mix = WorkloadMix.parse(WorkloadMix.DEFAULT);
+
+        assertThat(mix.weights()).containsOnlyKeys(Operation.values());
+        assertThat(mix.weights()).containsEntry(Operation.BROWSE_PRODUCTS, 30);
+    }
+
+    @Test
+    @DisplayName("Should skip zero weights and pick operations in proportion")
+    void shouldPickInProportion() {
+        WorkloadMix mix = WorkloadMix.parse("browse:3, createOrder:1, login:0");
+        SplittableRandom random = new SplittableRandom(42);
+        Map<Operation, Integer> counts = new EnumMap<>(Operation.class);
+
+        for (int i = 0; i < 40_000; i++) {
+            counts.merge(mix.next(random), 1, Integer::sum);
+        }
+
+        assertThat(mix.weights()).containsOnlyKeys(Operation.BROWSE_PRODUCTS, Operation.CREATE_ORDER);
+        assertThat(counts).containsOnlyKeys(Operation.BROWSE_PRODUCTS, Operation.CREATE_ORDER);
+        assertThat(counts.get(Operation.BROWSE_PRODUCTS) / (double) counts.get(Operation.CREATE_ORDER))
+                .isBetween(2.7, 3.3);
+    }
+
+    @Test
+    @DisplayName("Should reject malformed specs")
+    void shouldRejectMalformedSpecs() {
+        assertThatThrownBy(() -> WorkloadMix.parse("browse")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> WorkloadMix.parse("checkout:1")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> WorkloadMix.parse("browse:-1")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> WorkloadMix.parse("browse:0")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -3,6 +3,7 @@ package com.safezone.order;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 import com.safezone.order.config.ApplicationProperties;
 import com.safezone.order.config.JwtProperties;
@@ -16,7 +17,8 @@ import com.safezone.order.config.ServiceProperties;
  * Product Service to validate product availability and update stock levels.
  * </p>
  * <p>
- * The service scans both order and common packages for components.
+ * The service scans both order and common packages for components. Scheduling
+ * is enabled for the stock outbox relay.
  * </p>
  *
  * @author SafeZone Team
@@ -26,6 +28,7 @@ import com.safezone.order.config.ServiceProperties;
 @SpringBootApplication(scanBasePackages = { "com.safezone.order", "com.safezone.common" })
 @ConfigurationPropertiesScan(basePackageClasses = { ServiceProperties.class, JwtProperties.class,
         ApplicationProperties.class })
+@EnableScheduling
 public class OrderServiceApplication {
 
     /**
@@ -0,0 +1,158 @@
+package com.safezone.order.client;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.safezone.order.config.ServiceProperties;
+import com.safezone.order.dto.ProductDto;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import reactor.core.publisher.Mono;
+
+/**
+ * Bounded in-process cache of product catalog data in front of
+ * {@link ProductServiceClient}.
+ * <p>
+ * Only catalog fields (name, SKU, price) are meant to be read from cached
+ * entries. Stock and active flags may be stale and must not be used to decide
+ * availability: that decision is made by the Product Service when the stock
+ * of an order is reserved. Entries expire after the configured TTL and can be
+ * evicted through the admin endpoint when a product changes.
+ * </p>
+ * <p>
+ * Products held by the {@link ProductCatalogReplica} are served from it
+ * without touching the cache, so they follow the change feed instead of the
+ * TTL; the cache only covers products the replica does not hold.
+ * </p>
+ * <p>
+ * Hit, miss, put and eviction counts are published as {@code cache.*} meters
+ * tagged {@code cache=productCatalog}.
+ * </p>
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-09
+ */
+@Component
+public class ProductCatalogCache {
+
+    /** Logger for this class. */
+    private static final Logger logger = LoggerFactory.getLogger(ProductCatalogCache.class);
+
+    /** Name of the cache in metrics. */
+    static final String CACHE_NAME = "productCatalog";
+
+    /** Client used to load missing entries. */
+    private final ProductServiceClient productServiceClient;
+
+    /** Local catalog replica consulted before the cache. */
+    private final ProductCatalogReplica catalogReplica;
+
+    /** Underlying Caffeine cache keyed by product ID. */
+    private final Cache<Long, ProductDto> cache;
+
+    /**
+     * Constructs the cache from the configured size and TTL.
+     *
+     * @param productServiceClient the client used to load missing products
+     * @param serviceProperties    the service configuration holding cache settings
+     * @param meterRegistry        the registry receiving cache metrics
+     * @param catalogReplica       the local catalog replica consulted first
+     */
+    public ProductCatalogCache(
+            ProductServiceClient productServiceClient,
+            ServiceProperties serviceProperties,
+            MeterRegistry meterRegistry,
+            ProductCatalogReplica catalogReplica) {
+        ServiceProperties.Cache settings = serviceProperties.getProduct().getCache();
+        this.productServiceClient = productServiceClient;
+        this.catalogReplica = catalogReplica;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(settings.getMaximumSize())
+                .expireAfterWrite(settings.getTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Returns a product, loading it from the Product Service on a miss.
+     *
+     * @param productId the product ID
+     * @return an Optional containing the product if found
+     */
+    public Optional<ProductDto> getProduct(Long productId) {
+        return catalogReplica.get(productId).or(() -> Optional.ofNullable(cache.get(productId,
+                id -> productServiceClient.getProductById(id).orElse(null))));
+    }
+
+    /**
+     * Returns several products without blocking. Products held by the replica
+     * or the cache are served from memory and all misses are loaded with one
+     * batch lookup, then added to both. Products that do not exist are absent
+     * from the result and are not cached.
+     *
+     * @param productIds the product IDs
+     * @return the products found, keyed by product ID; fails if the lookup fails
+     */
+    public Mono<Map<Long, ProductDto>> getProducts(Collection<Long> productIds) {
+        Map<Long, ProductDto> cached = catalogReplica.getAll(productIds);
+        List<Long> notReplicated = productIds.stream()
+                .distinct()
+                .filter(productId -> !cached.containsKey(productId))
+                .toList();
+        cached.putAll(cache.getAllPresent(notReplicated));
+        List<Long> missing = notReplicated.stream()
+                .filter(productId -> !cached.containsKey(productId))
+                .toList();
+        if (missing.isEmpty()) {
+            return Mono.just(cached);
+        }
+        return productServiceClient.getProducts(missing).map(loaded -> {
+            cache.putAll(loaded);
+            loaded.values().forEach(catalogReplica::putIfAbsent);
+            Map<Long, ProductDto> products = new HashMap<>(cached);
+            products.putAll(loaded);
+            return products;
+        });
+    }
+
+    /**
+     * Evicts a single product from the cache and the replica.
+     *
+     * @param productId the product ID
+     */
+    public void evict(Long productId) {
+        logger.info("Evicting product {} from the catalog cache", productId);
+        cache.invalidate(productId);
+        catalogReplica.invalidate(productId);
+    }
+
+    /**
+     * Evicts every product from the cache and the replica.
+     */
+    public void evictAll() {
+        logger.info("Evicting all products from the catalog cache");
+        cache.invalidateAll();
+        catalogReplica.clear();
+    }
+
+    /**
+     * Returns the approximate number of cached products.
+     *
+     * @return the estimated entry count
+     */
+    public long size() {
+        return cache.estimatedSize();
+    }
+}
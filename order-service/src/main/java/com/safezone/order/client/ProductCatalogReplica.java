@@ -0,0 +1,565 @@
+package com.safezone.order.client;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.StampedLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import com.safezone.order.config.ServiceProperties;
+import com.safezone.order.dto.ProductChangeDto;
+import com.safezone.order.dto.ProductDto;
+
+/**
+ * Local replica of the product catalog kept in a memory-mapped file.
+ * <p>
+ * Holds the fields the order path reads (name, SKU, price and active flag)
+ * plus a stock hint for every product seen on the Product Service change feed,
+ * so that resolving prices and names does not wait for the Product Service.
+ * The file is an open-addressing hash table of fixed {@value #RECORD_SIZE}-byte
+ * records keyed by product ID, behind a header holding the last applied feed
+ * version. Opening the replica maps the file as it is: after a restart it
+ * answers at once and {@link ProductCatalogReplicaSync} resumes from the
+ * stored version.
+ * </p>
+ * <p>
+ * Lookups take no lock: a record is read under an optimistic stamp and read
+ * again under the read lock only if a write overlapped. A change is applied
+ * only if it is newer than the stored record, and the header version is
+ * written after the records, so a batch interrupted by a crash is replayed
+ * harmlessly. Products whose name or SKU do not fit their field, and new
+ * products arriving once the replica holds
+ * {@code services.product.replica.capacity} products, are left to the Product
+ * Service. The table has the next power of two slots at or above four thirds
+ * of that maximum, so it is never more than three-quarters full.
+ * </p>
+ * <p>
+ * {@link #invalidate} and {@link #clear} drop products until the Product
+ * Service is asked for them again or the change feed rewrites them. An
+ * invalidated record keeps its slot, so that probe chains stay intact.
+ * </p>
+ * <p>
+ * The stock hint is as old as the last sync and must not be used to decide
+ * availability. When {@code services.product.replica.enabled} is false no
+ * file is opened and every lookup misses.
+ * </p>
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-09
+ */
+@Component
+public class ProductCatalogReplica implements AutoCloseable {
+
+    /** Logger for this class. */
+    private static final Logger logger = LoggerFactory.getLogger(ProductCatalogReplica.class);
+
+    /** Largest number of product slots, a 1 GiB file. */
+    static final int MAX_CAPACITY = 1 << 22;
+
+    /** Largest configurable number of products, three quarters of {@link #MAX_CAPACITY}. */
+    static final int MAX_PRODUCTS = MAX_CAPACITY / 4 * 3;
+
+    /** Size of the file header. */
+    static final int HEADER_SIZE = 64;
+
+    /** Size of one product record. */
+    static final int RECORD_SIZE = 256;
+
+    /** Bytes available for the UTF-8 SKU. */
+    static final int SKU_BYTES = 64;
+
+    /** Bytes available for the UTF-8 name. */
+    static final int NAME_BYTES = 160;
+
+    private static final int MAGIC = 0x535A5052;
+    private static final int FORMAT = 1;
+    private static final int MIN_CAPACITY = 16;
+
+    private static final int HEADER_MAGIC = 0;
+    private static final int HEADER_FORMAT = 4;
+    private static final int HEADER_CAPACITY = 8;
+    private static final int HEADER_RECORD_SIZE = 12;
+    private static final int HEADER_VERSION = 16;
+    private static final int HEADER_COUNT = 24;
+
+    private static final int PRODUCT_ID = 0;
+    private static final int VERSION = 8;
+    private static final int PRICE = 16;
+    private static final int STOCK = 24;
+    private static final int PRICE_SCALE = 28;
+    private static final int FLAGS = 29;
+    private static final int SKU_LENGTH = 30;
+    private static final int NAME_LENGTH = 31;
+    private static final int SKU = 32;
+    private static final int NAME = SKU + SKU_BYTES;
+
+    private static final byte ACTIVE = 1;
+    private static final byte HAS_PRICE = 2;
+    private static final byte HAS_STOCK = 4;
+    private static final byte INCOMPLETE = 8;
+
+    private static final byte[] EMPTY_RECORD = new byte[RECORD_SIZE];
+
+    /** Guards writes and validates optimistic reads. */
+    private final StampedLock lock = new StampedLock();
+
+    /** Replica file, or null when the replica is disabled. */
+    private final Path path;
+
+    /** Channel holding the file lock, or null when the replica is disabled. */
+    private final FileChannel channel;
+
+    /** Mapping of the whole file, or null when the replica is disabled. */
+    private final MappedByteBuffer buffer;
+
+    /** Number of product slots, a power of two. */
+    private final int capacity;
+
+    /** Number of products past which new products are left to the Product Service. */
+    private final int maxProducts;
+
+    /** Number of products stored; guarded by the write lock. */
+    private int count;
+
+    /** Whether a full table was already reported; guarded by the write lock. */
+    private boolean fullReported;
+
+    /**
+     * Opens the replica file, creating or rebuilding it when it does not match
+     * the configured capacity.
+     *
+     * @param serviceProperties the service configuration holding the replica settings
+     * @throws IllegalStateException if the file cannot be opened or is used by
+     *                               another order-service instance
+     */
+    public ProductCatalogReplica(ServiceProperties serviceProperties) {
+        ServiceProperties.Replica settings = serviceProperties.getProduct().getReplica();
+        if (!settings.isEnabled()) {
+            this.path = null;
+            this.channel = null;
+            this.buffer = null;
+            this.capacity = 0;
+            this.maxProducts = 0;
+            return;
+        }
+        if (settings.getCapacity() < 1 || settings.getCapacity() > MAX_PRODUCTS) {
+            throw new IllegalArgumentException("services.product.replica.capacity must be between 1 and "
+                    + MAX_PRODUCTS);
+        }
+        long started = System.nanoTime();
+        this.maxProducts = settings.getCapacity();
+        this.capacity = slots(maxProducts);
+        this.path = Path.of(settings.getPath()).toAbsolutePath();
+        this.channel = open(path);
+        try {
+            long size = HEADER_SIZE + (long) capacity * RECORD_SIZE;
+            boolean valid = matches(channel, size, capacity);
+            if (!valid) {
+                channel.truncate(0);
+            }
+            this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            if (!valid) {
+                buffer.putInt(HEADER_FORMAT, FORMAT);
+                buffer.putInt(HEADER_CAPACITY, capacity);
+                buffer.putInt(HEADER_RECORD_SIZE, RECORD_SIZE);
+                buffer.putInt(HEADER_MAGIC, MAGIC);
+                buffer.force();
+            }
+        } catch (IOException e) {
+            close(channel);
+            throw new IllegalStateException("Unable to map product catalog replica " + path, e);
+        }
+        this.count = buffer.getInt(HEADER_COUNT);
+        logger.info("Product catalog replica {} opened with {} products at version {} in {} ms", path, count,
+                lastVersion(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    /**
+     * Returns whether the replica is enabled.
+     *
+     * @return true if lookups are served from the replica file
+     */
+    public boolean isEnabled() {
+        return buffer != null;
+    }
+
+    /**
+     * Returns a product from the replica.
+     *
+     * @param productId the product ID
+     * @return the replicated product, or empty if it is not in the replica
+     */
+    public Optional<ProductDto> get(Long productId) {
+        if (buffer == null || productId == null || productId <= 0) {
+            return Optional.empty();
+        }
+        long stamp = lock.tryOptimisticRead();
+        ProductDto product = read(productId);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                product = read(productId);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return Optional.ofNullable(product);
+    }
+
+    /**
+     * Returns the products found in the replica.
+     *
+     * @param productIds the product IDs
+     * @return the replicated products keyed by product ID; missing products are absent
+     */
+    public Map<Long, ProductDto> getAll(Collection<Long> productIds) {
+        Map<Long, ProductDto> products = new HashMap<>();
+        if (buffer == null) {
+            return products;
+        }
+        for (Long productId : productIds) {
+            get(productId).ifPresent(product -> products.put(productId, product));
+        }
+        return products;
+    }
+
+    /**
+     * Returns the last change feed version applied to the replica.
+     *
+     * @return the version to read the next changes from, 0 when empty
+     */
+    public long lastVersion() {
+        return buffer == null ? 0 : buffer.getLong(HEADER_VERSION);
+    }
+
+    /**
+     * Returns the number of replicated products.
+     *
+     * @return the product count
+     */
+    public int size() {
+        return buffer == null ? 0 : buffer.getInt(HEADER_COUNT);
+    }
+
+    /**
+     * Applies a batch of the change feed and moves the replica to its version.
+     * Changes older than the stored product are skipped.
+     *
+     * @param changes     the changes in version order
+     * @param lastVersion the feed version reached by the batch
+     * @return the number of products written
+     */
+    public int apply(List<ProductChangeDto> changes, long lastVersion) {
+        if (buffer == null) {
+            return 0;
+        }
+        int applied = 0;
+        long stamp = lock.writeLock();
+        try {
+            for (ProductChangeDto change : changes) {
+                if (change.version() != null && write(change.toProduct(), change.version(), false)) {
+                    applied++;
+                }
+            }
+            if (lastVersion > buffer.getLong(HEADER_VERSION)) {
+                buffer.putLong(HEADER_VERSION, lastVersion);
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+        if (!changes.isEmpty()) {
+            buffer.force();
+        }
+        return applied;
+    }
+
+    /**
+     * Adds a product fetched from the Product Service if the replica does not
+     * hold it yet. It is stored below every feed version, so the next change
+     * of the product replaces it.
+     *
+     * @param product the product
+     * @return true if the product was added
+     */
+    public boolean putIfAbsent(ProductDto product) {
+        if (buffer == null) {
+            return false;
+        }
+        long stamp = lock.writeLock();
+        try {
+            return write(product, 0, true);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Drops a product from the replica. Lookups miss it until a product
+     * fetched from the Product Service or the next change of the product is
+     * written.
+     *
+     * @param productId the product ID
+     */
+    public void invalidate(Long productId) {
+        if (buffer == null || productId == null || productId <= 0) {
+            return;
+        }
+        long stamp = lock.writeLock();
+        try {
+            int offset = find(productId);
+            if (offset >= 0) {
+                buffer.putLong(offset + VERSION, 0);
+                buffer.put(offset + FLAGS, (byte) (buffer.get(offset + FLAGS) | INCOMPLETE));
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Drops every product from the replica and keeps its feed version, so
+     * products are fetched from the Product Service again until they change.
+     */
+    public void clear() {
+        if (buffer == null) {
+            return;
+        }
+        long stamp = lock.writeLock();
+        try {
+            // The file is rebuilt on the next start if a crash interrupts the clear.
+            buffer.putInt(HEADER_MAGIC, 0);
+            buffer.force(0, HEADER_SIZE);
+            for (int slot = 0; slot < capacity; slot++) {
+                buffer.put(offset(slot), EMPTY_RECORD);
+            }
+            count = 0;
+            fullReported = false;
+            buffer.putInt(HEADER_COUNT, 0);
+            buffer.putInt(HEADER_MAGIC, MAGIC);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+        buffer.force();
+    }
+
+    /**
+     * Flushes the replica to disk and releases the file.
+     */
+    @Override
+    public void close() {
+        if (buffer != null) {
+            buffer.force();
+            close(channel);
+            logger.info("Product catalog replica {} closed with {} products at version {}", path, size(),
+                    lastVersion());
+        }
+    }
+
+    private ProductDto read(long productId) {
+        int offset = find(productId);
+        if (offset < 0) {
+            return null;
+        }
+        byte flags = buffer.get(offset + FLAGS);
+        if ((flags & INCOMPLETE) != 0) {
+            return null;
+        }
+        BigDecimal price = (flags & HAS_PRICE) == 0 ? null
+                : BigDecimal.valueOf(buffer.getLong(offset + PRICE), buffer.get(offset + PRICE_SCALE));
+        Integer stock = (flags & HAS_STOCK) == 0 ? null : buffer.getInt(offset + STOCK);
+        return new ProductDto(
+                productId,
+                readText(offset + NAME, buffer.get(offset + NAME_LENGTH), NAME_BYTES),
+                readText(offset + SKU, buffer.get(offset + SKU_LENGTH), SKU_BYTES),
+                price,
+                stock,
+                (flags & ACTIVE) != 0);
+    }
+
+    private String readText(int offset, byte length, int maxBytes) {
+        // The length is clamped because an optimistic read may see a record being rewritten.
+        int bytes = Math.min(Byte.toUnsignedInt(length), maxBytes);
+        if (bytes == 0) {
+            return null;
+        }
+        byte[] text = new byte[bytes];
+        buffer.get(offset, text);
+        return new String(text, StandardCharsets.UTF_8);
+    }
+
+    /** Returns the offset of the record of a product, or -1 if it is not stored. */
+    private int find(long productId) {
+        int slot = slot(productId);
+        for (int probes = 0; probes < capacity; probes++) {
+            int offset = offset(slot);
+            long storedId = buffer.getLong(offset + PRODUCT_ID);
+            if (storedId == productId) {
+                return offset;
+            }
+            if (storedId == 0) {
+                return -1;
+            }
+            slot = (slot + 1) & (capacity - 1);
+        }
+        return -1;
+    }
+
+    /** Writes a product at the given version; must hold the write lock. */
+    private boolean write(ProductDto product, long version, boolean onlyIfAbsent) {
+        if (product.id() == null || product.id() <= 0) {
+            return false;
+        }
+        long productId = product.id();
+        int slot = slot(productId);
+        int offset = offset(slot);
+        long storedId = buffer.getLong(offset + PRODUCT_ID);
+        while (storedId != productId && storedId != 0) {
+            slot = (slot + 1) & (capacity - 1);
+            offset = offset(slot);
+            storedId = buffer.getLong(offset + PRODUCT_ID);
+        }
+        if (storedId == productId && (onlyIfAbsent ? !isInvalidated(offset)
+                : buffer.getLong(offset + VERSION) >= version)) {
+            return false;
+        }
+        if (storedId == 0 && count >= maxProducts) {
+            if (!fullReported) {
+                logger.warn("Product catalog replica {} is full with {} products, raise "
+                        + "services.product.replica.capacity", path, count);
+                fullReported = true;
+            }
+            return false;
+        }
+
+        writeFields(offset, product);
+        buffer.putLong(offset + VERSION, version);
+        if (storedId == 0) {
+            // The ID is written last, so a record only becomes visible once complete.
+            buffer.putLong(offset + PRODUCT_ID, productId);
+            buffer.putInt(HEADER_COUNT, ++count);
+        }
+        return true;
+    }
+
+    /** Returns whether a record reads as missing and is below every feed version. */
+    private boolean isInvalidated(int offset) {
+        return (buffer.get(offset + FLAGS) & INCOMPLETE) != 0 && buffer.getLong(offset + VERSION) == 0;
+    }
+
+    private void writeFields(int offset, ProductDto product) {
+        byte[] sku = bytes(product.sku());
+        byte[] name = bytes(product.name());
+        BigDecimal price = product.price();
+        byte flags = Boolean.TRUE.equals(product.active()) ? ACTIVE : 0;
+        if (sku.length > SKU_BYTES || name.length > NAME_BYTES || (price != null && !fits(price))) {
+            buffer.put(offset + FLAGS, (byte) (flags | INCOMPLETE));
+            return;
+        }
+        if (price != null) {
+            flags |= HAS_PRICE;
+            buffer.putLong(offset + PRICE, price.unscaledValue().longValue());
+            buffer.put(offset + PRICE_SCALE, (byte) price.scale());
+        }
+        if (product.stockQuantity() != null) {
+            flags |= HAS_STOCK;
+            buffer.putInt(offset + STOCK, product.stockQuantity());
+        }
+        buffer.put(offset + SKU_LENGTH, (byte) sku.length);
+        buffer.put(offset + SKU, sku);
+        buffer.put(offset + NAME_LENGTH, (byte) name.length);
+        buffer.put(offset + NAME, name);
+        buffer.put(offset + FLAGS, flags);
+    }
+
+    /** Returns the power of two slots keeping the given number of products at most three-quarters full. */
+    static int slots(int maxProducts) {
+        int needed = (int) (((long) maxProducts * 4 + 2) / 3);
+        return Math.max(MIN_CAPACITY, Integer.highestOneBit(needed - 1) << 1);
+    }
+
+    private int slot(long productId) {
+        long hash = productId * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & (capacity - 1);
+    }
+
+    private static int offset(int slot) {
+        return HEADER_SIZE + slot * RECORD_SIZE;
+    }
+
+    private static byte[] bytes(String text) {
+        return text == null ? new byte[0] : text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static boolean fits(BigDecimal price) {
+        return price.scale() >= Byte.MIN_VALUE && price.scale() <= Byte.MAX_VALUE
+                && price.unscaledValue().bitLength() < Long.SIZE;
+    }
+
+    private static FileChannel open(Path path) {
+        FileChannel channel = null;
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            if (channel.tryLock() == null) {
+                throw new IllegalStateException("Product catalog replica " + path
+                        + " is used by another process");
+            }
+            return channel;
+        } catch (IOException | OverlappingFileLockException e) {
+            close(channel);
+            throw new IllegalStateException("Unable to open product catalog replica " + path, e);
+        } catch (IllegalStateException e) {
+            close(channel);
+            throw e;
+        }
+    }
+
+    /** Returns whether an existing file has the expected format, capacity and size. */
+    private static boolean matches(FileChannel channel, long size, int capacity) throws IOException {
+        if (channel.size() != size) {
+            return false;
+        }
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        while (header.hasRemaining()) {
+            if (channel.read(header, header.position()) < 0) {
+                return false;
+            }
+        }
+        int count = header.getInt(HEADER_COUNT);
+        return header.getInt(HEADER_MAGIC) == MAGIC
+                && header.getInt(HEADER_FORMAT) == FORMAT
+                && header.getInt(HEADER_CAPACITY) == capacity
+                && header.getInt(HEADER_RECORD_SIZE) == RECORD_SIZE
+                && count >= 0 && count <= capacity;
+    }
+
+    private static void close(FileChannel channel) {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            logger.warn("Unable to close product catalog replica file", e);
+        }
+    }
+}
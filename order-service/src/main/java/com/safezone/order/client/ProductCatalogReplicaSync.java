@@ -0,0 +1,80 @@
+package com.safezone.order.client;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.safezone.order.config.ServiceProperties;
+import com.safezone.order.dto.ProductChangeBatchDto;
+
+/**
+ * Background sync of the {@link ProductCatalogReplica} with the Product
+ * Service change feed.
+ * <p>
+ * Runs every {@code services.product.replica.sync-interval}, reads the changes
+ * after the version stored in the replica and keeps reading while the Product
+ * Service reports more, so a fresh replica catches up in one run. A failed run
+ * leaves the replica at its last version and is retried on the next tick;
+ * lookups meanwhile fall back to the Product Service for unknown products.
+ * Enabled with {@code services.product.replica.enabled=true}.
+ * </p>
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-09
+ */
+@Component
+@ConditionalOnProperty(prefix = "services.product.replica", name = "enabled")
+public class ProductCatalogReplicaSync {
+
+    /** Logger for this class. */
+    private static final Logger logger = LoggerFactory.getLogger(ProductCatalogReplicaSync.class);
+
+    private final ProductServiceClient productServiceClient;
+    private final ProductCatalogReplica productCatalogReplica;
+    private final int batchSize;
+
+    /**
+     * Constructs the sync.
+     *
+     * @param productServiceClient  the client reading the change feed
+     * @param productCatalogReplica the replica the changes are applied to
+     * @param serviceProperties     the service configuration holding the replica settings
+     */
+    public ProductCatalogReplicaSync(
+            ProductServiceClient productServiceClient,
+            ProductCatalogReplica productCatalogReplica,
+            ServiceProperties serviceProperties) {
+        int size = serviceProperties.getProduct().getReplica().getBatchSize();
+        if (size < 1 || size > ProductServiceClient.MAX_CHANGE_BATCH_SIZE) {
+            throw new IllegalArgumentException("services.product.replica.batch-size must be between 1 and "
+                    + ProductServiceClient.MAX_CHANGE_BATCH_SIZE);
+        }
+        this.productServiceClient = productServiceClient;
+        this.productCatalogReplica = productCatalogReplica;
+        this.batchSize = size;
+    }
+
+    /**
+     * Applies the pending changes of the feed to the replica.
+     */
+    @Scheduled(fixedDelayString = "${services.product.replica.sync-interval:1s}")
+    public void sync() {
+        try {
+            int applied = 0;
+            ProductChangeBatchDto batch;
+            do {
+                batch = productServiceClient.getProductChanges(productCatalogReplica.lastVersion(), batchSize);
+                applied += productCatalogReplica.apply(batch.changes(), batch.lastVersion());
+            } while (batch.hasMore() && !batch.changes().isEmpty());
+            if (applied > 0) {
+                logger.debug("Applied {} product changes, replica at version {}", applied,
+                        productCatalogReplica.lastVersion());
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Product catalog replica sync failed: {}", e.getMessage());
+        }
+    }
+}
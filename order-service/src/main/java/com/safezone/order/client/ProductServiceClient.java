@@ -1,24 +1,49 @@
 package com.safezone.order.client;
 
 import java.time.Duration;
-import java.util.Objects;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 
+import com.safezone.common.exception.BusinessException;
+import com.safezone.common.security.JwtTokenProvider;
+import com.safezone.order.config.ServiceProperties;
+import com.safezone.order.dto.OrderItemRequest;
+import com.safezone.order.dto.ProductAvailabilityDto;
+import com.safezone.order.dto.ProductChangeBatchDto;
 import com.safezone.order.dto.ProductDto;
+import com.safezone.order.dto.StockReleaseResultDto;
 
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 /**
  * HTTP client for communicating with the Product Service.
  * <p>
  * Provides methods to retrieve product information, check availability,
- * and update stock levels using reactive WebClient.
+ * and reserve or release stock using reactive WebClient. The calls on the
+ * order creation path ({@link #getProducts} and {@link #reserveStock}) return
+ * {@link Mono}s so that callers can run them concurrently.
+ * </p>
+ * <p>
+ * Single product lookups are served from the {@link ProductCatalogReplica}
+ * when it holds the product, and products fetched over HTTP are added to it.
+ * </p>
+ * <p>
+ * Every call goes through {@link ProductServiceResilience}: read-only lookups
+ * are guarded by the bulkhead, the circuit breaker and jittered retries, stock
+ * reservations and releases by the bulkhead and the circuit breaker only.
  * </p>
  *
  * @author SafeZone Team
@@ -31,39 +56,118 @@ public class ProductServiceClient {
     /** Logger for this class. */
     private static final Logger logger = LoggerFactory.getLogger(ProductServiceClient.class);
 
-    /** Default timeout for HTTP requests. */
-    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+    /** Product Service path for multi-line stock reservations. */
+    private static final String RESERVATIONS_PATH = "/api/v1/products/stock/reservations";
+
+    /** Error code raised when stock cannot be reserved. */
+    private static final String STOCK_RESERVATION_FAILED = "STOCK_RESERVATION_FAILED";
+
+    /** Error code raised when a stock hold cannot be confirmed. */
+    private static final String STOCK_CONFIRMATION_FAILED = "STOCK_CONFIRMATION_FAILED";
+
+    /** Subject of the service token sent to the Product Service. */
+    private static final String SERVICE_SUBJECT = "order-service";
+
+    /** Roles of the service token sent to the Product Service. */
+    private static final List<String> SERVICE_ROLES = List.of("INVENTORY");
+
+    /** Largest batch accepted by the Product Service batch endpoint. */
+    static final int MAX_BATCH_SIZE = 500;
+
+    /** Largest batch accepted by the Product Service change feed. */
+    static final int MAX_CHANGE_BATCH_SIZE = 1000;
+
+    /** Longest stock hold accepted by the Product Service. */
+    static final Duration MAX_STOCK_HOLD = Duration.ofDays(1);
 
     /** WebClient instance for making HTTP requests. */
     private final WebClient webClient;
 
+    /** Token provider used to authenticate stock operations. */
+    private final JwtTokenProvider jwtTokenProvider;
+
+    /** Maximum number of products per batch lookup. */
+    private final int batchSize;
+
+    /** Maximum number of batch lookups in flight for one call. */
+    private final int batchConcurrency;
+
+    /** Upper bound on the duration of each call attempt. */
+    private final Duration timeout;
+
+    /** Seconds a reservation is held until confirmed, or null to never expire. */
+    private final Integer holdSeconds;
+
+    /** Circuit breaker, bulkhead and retry applied to every call. */
+    private final ProductServiceResilience resilience;
+
+    /** Local catalog replica serving single product lookups. */
+    private final ProductCatalogReplica catalogReplica;
+
     /**
-     * Constructs the Product Service client with configured base URL.
+     * Constructs the Product Service client.
      *
-     * @param webClientBuilder  the WebClient builder for creating HTTP client
-     * @param productServiceUrl the base URL of the Product Service
+     * @param productServiceWebClient the WebClient bound to the Product Service
+     *                                connection pool
+     * @param jwtTokenProvider        the token provider for service-to-service calls
+     * @param serviceProperties       the service configuration holding the batch,
+     *                                timeout and stock hold settings
+     * @param resilience              the circuit breaker, bulkhead and retry
+     *                                guarding the calls
+     * @param catalogReplica          the local catalog replica serving single
+     *                                product lookups
+     * @see com.safezone.order.config.ProductServiceWebClientConfig
      */
     public ProductServiceClient(
-            WebClient.Builder webClientBuilder,
-            @Value("${services.product.url:http://localhost:8081}") String productServiceUrl) {
-        this.webClient = webClientBuilder.baseUrl(Objects.requireNonNull(productServiceUrl)).build();
+            WebClient productServiceWebClient,
+            JwtTokenProvider jwtTokenProvider,
+            ServiceProperties serviceProperties,
+            ProductServiceResilience resilience,
+            ProductCatalogReplica catalogReplica) {
+        ServiceProperties.Product settings = serviceProperties.getProduct();
+        if (settings.getBatchSize() < 1 || settings.getBatchSize() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("services.product.batch-size must be between 1 and " + MAX_BATCH_SIZE);
+        }
+        if (settings.getBatchConcurrency() < 1) {
+            throw new IllegalArgumentException("services.product.batch-concurrency must be positive");
+        }
+        Duration stockHold = settings.getStockHold();
+        if (stockHold != null && (stockHold.isNegative() || stockHold.compareTo(MAX_STOCK_HOLD) > 0)) {
+            throw new IllegalArgumentException("services.product.stock-hold must be between 0 and " + MAX_STOCK_HOLD);
+        }
+        this.webClient = productServiceWebClient;
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.batchSize = settings.getBatchSize();
+        this.batchConcurrency = settings.getBatchConcurrency();
+        this.timeout = settings.getHttp().getResponseTimeout();
+        this.holdSeconds = stockHold == null || stockHold.toSeconds() == 0 ? null : (int) stockHold.toSeconds();
+        this.resilience = resilience;
+        this.catalogReplica = catalogReplica;
     }
 
     /**
-     * Retrieves a product by its unique identifier.
+     * Retrieves a product by its unique identifier, from the catalog replica
+     * when it holds the product and from the Product Service otherwise.
      *
      * @param productId the product ID to retrieve
      * @return an Optional containing the product if found, empty otherwise
      */
     public Optional<ProductDto> getProductById(Long productId) {
+        Optional<ProductDto> replicated = catalogReplica.get(productId);
+        if (replicated.isPresent()) {
+            return replicated;
+        }
         try {
-            return webClient.get()
+            Optional<ProductDto> product = webClient.get()
                     .uri("/api/v1/products/{id}", productId)
                     .retrieve()
                     .bodyToMono(ProductApiResponse.class)
-                    .timeout(TIMEOUT)
+                    .timeout(timeout)
+                    .transform(resilience::read)
                     .map(response -> response.data)
                     .blockOptional();
+            product.ifPresent(catalogReplica::putIfAbsent);
+            return product;
         } catch (Exception e) {
             logger.error("Error fetching product with ID: {}", productId, e);
             return Optional.empty();
@@ -72,10 +176,16 @@ public class ProductServiceClient {
 
     /**
      * Checks if a product has sufficient stock for the requested quantity.
+     * <p>
+     * A product the Product Service rejects (unknown or inactive) is reported
+     * as unavailable. When the Product Service itself cannot answer, the check
+     * fails instead, so an outage is not mistaken for missing stock.
+     * </p>
      *
      * @param productId the product ID to check
      * @param quantity  the requested quantity
      * @return true if sufficient stock is available, false otherwise
+     * @throws BusinessException if the Product Service is unavailable
      */
     public boolean checkProductAvailability(Long productId, Integer quantity) {
         try {
@@ -86,33 +196,216 @@ public class ProductServiceClient {
                             .build(productId))
                     .retrieve()
                     .bodyToMono(AvailabilityResponse.class)
-                    .timeout(TIMEOUT)
+                    .timeout(timeout)
+                    .transform(resilience::read)
                     .map(response -> response.data)
                     .block();
             return Boolean.TRUE.equals(available);
+        } catch (WebClientResponseException e) {
+            if (e.getStatusCode().is4xxClientError()) {
+                logger.warn("Product {} rejected by the availability check: {}", productId, e.getStatusCode());
+                return false;
+            }
+            logger.error("Error checking availability for product: {}", productId, e);
+            throw ProductServiceResilience.unavailable(e);
         } catch (Exception e) {
             logger.error("Error checking availability for product: {}", productId, e);
-            return false;
+            throw ProductServiceResilience.unavailable(e);
         }
     }
 
     /**
-     * Updates the stock level for a product asynchronously.
+     * Retrieves several products without blocking.
+     * <p>
+     * Product details are fetched through the Product Service batch endpoint.
+     * IDs are split into batches of at most {@code services.product.batch-size}
+     * that are requested in parallel, at most
+     * {@code services.product.batch-concurrency} at a time, so an order of any
+     * size resolves in about one round trip. Products that do not exist are
+     * absent from the result.
+     * </p>
      *
-     * @param productId the product ID to update
-     * @param quantity  the quantity change (negative to decrease)
-     * @return a Mono completing when the update finishes
+     * @param productIds the product IDs to retrieve
+     * @return the products found, keyed by product ID; fails if a batch call fails
      */
-    public Mono<Void> updateStock(Long productId, Integer quantity) {
-        return webClient.patch()
+    public Mono<Map<Long, ProductDto>> getProducts(Collection<Long> productIds) {
+        List<Long> ids = productIds.stream().distinct().toList();
+        if (ids.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+        List<List<Long>> batches = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += batchSize) {
+            batches.add(ids.subList(from, Math.min(from + batchSize, ids.size())));
+        }
+        return Flux.fromIterable(batches)
+                .flatMap(this::getProductBatch, batchConcurrency)
+                .flatMapIterable(Function.identity())
+                .mapNotNull(ProductAvailabilityDto::product)
+                .collectMap(ProductDto::id, Function.identity())
+                .doOnError(e -> logger.error("Error fetching {} products in batch", ids.size(), e));
+    }
+
+    /**
+     * Reads the product changes recorded after a version of the Product
+     * Service change feed.
+     *
+     * @param since the last version already applied, 0 to start at the beginning
+     * @param limit the maximum number of changes, at most {@value #MAX_CHANGE_BATCH_SIZE}
+     * @return the changes and the version to read the next batch from
+     * @throws RuntimeException if the Product Service cannot answer
+     */
+    public ProductChangeBatchDto getProductChanges(long since, int limit) {
+        return webClient.get()
                 .uri(uriBuilder -> uriBuilder
-                        .path("/api/v1/products/{id}/stock")
-                        .queryParam("quantity", quantity)
-                        .build(productId))
+                        .path("/api/v1/products/changes")
+                        .queryParam("since", since)
+                        .queryParam("limit", limit)
+                        .build())
+                .retrieve()
+                .bodyToMono(ChangeBatchApiResponse.class)
+                .timeout(timeout)
+                .transform(resilience::read)
+                .mapNotNull(response -> response.data)
+                .switchIfEmpty(Mono.error(() -> new IllegalStateException("Empty product change response")))
+                .block();
+    }
+
+    /**
+     * Reserves stock for every item of an order in a single call, without
+     * blocking.
+     * <p>
+     * The Product Service applies all lines in one transaction, so either the
+     * whole order is reserved or nothing is. The call authenticates with a
+     * short service token carrying the {@code INVENTORY} role.
+     * </p>
+     * <p>
+     * The reservation is a hold of {@code services.product.stock-hold}: unless
+     * it is confirmed with {@link #confirmStockReservation} in time, the
+     * Product Service returns the stock on its own.
+     * </p>
+     *
+     * @param reference the order number recorded with the reservation
+     * @param items     the products and quantities to reserve
+     * @return the reservation ID to use for releasing the stock; fails with a
+     *         {@link BusinessException} if the stock could not be reserved
+     */
+    public Mono<String> reserveStock(String reference, List<OrderItemRequest> items) {
+        return webClient.post()
+                .uri(RESERVATIONS_PATH)
+                .headers(this::applyServiceToken)
+                .bodyValue(new ReservationRequest(reference, items, holdSeconds))
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, response -> response.bodyToMono(ErrorBody.class)
+                        .map(body -> new BusinessException(STOCK_RESERVATION_FAILED, body.message)))
+                .bodyToMono(ReservationApiResponse.class)
+                .timeout(timeout)
+                .transform(resilience::write)
+                .mapNotNull(response -> response.data == null ? null : response.data.reservationId)
+                .switchIfEmpty(Mono.error(() -> new BusinessException(STOCK_RESERVATION_FAILED,
+                        "Empty stock reservation response")))
+                .onErrorMap(ProductServiceResilience::isRejected, e -> {
+                    logger.warn("Stock reservation for order {} rejected: {}", reference, e.getMessage());
+                    return ProductServiceResilience.unavailable(e);
+                })
+                .onErrorMap(e -> !(e instanceof BusinessException), e -> {
+                    logger.error("Error reserving stock for order: {}", reference, e);
+                    return new BusinessException(STOCK_RESERVATION_FAILED,
+                            "Unable to reserve stock for order " + reference);
+                });
+    }
+
+    /**
+     * Confirms a stock hold so that the Product Service keeps its stock for
+     * good. Confirming a confirmed reservation has no effect.
+     *
+     * @param reservationId the reservation ID returned by {@link #reserveStock}
+     * @throws BusinessException if the hold expired, was released or could
+     *                           not be confirmed
+     */
+    public void confirmStockReservation(String reservationId) {
+        webClient.post()
+                .uri(RESERVATIONS_PATH + "/{reservationId}/confirm", reservationId)
+                .headers(this::applyServiceToken)
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, response -> response.bodyToMono(ErrorBody.class)
+                        .map(body -> new BusinessException(STOCK_CONFIRMATION_FAILED, body.message)))
+                .toBodilessEntity()
+                .timeout(timeout)
+                .transform(resilience::write)
+                .onErrorMap(ProductServiceResilience::isRejected, ProductServiceResilience::unavailable)
+                .onErrorMap(e -> !(e instanceof BusinessException), e -> {
+                    logger.error("Error confirming stock reservation: {}", reservationId, e);
+                    return new BusinessException(STOCK_CONFIRMATION_FAILED,
+                            "Unable to confirm stock reservation " + reservationId);
+                })
+                .block();
+    }
+
+    /**
+     * Releases a stock reservation, returning all of its lines to inventory.
+     *
+     * @param reservationId the reservation ID returned by {@link #reserveStock}
+     * @return true if the reservation was released, false otherwise
+     */
+    public boolean releaseStockReservation(String reservationId) {
+        try {
+            webClient.post()
+                    .uri(RESERVATIONS_PATH + "/{reservationId}/release", reservationId)
+                    .headers(this::applyServiceToken)
+                    .retrieve()
+                    .toBodilessEntity()
+                    .timeout(timeout)
+                    .transform(resilience::write)
+                    .block();
+            return true;
+        } catch (Exception e) {
+            logger.error("Error releasing stock reservation: {}", reservationId, e);
+            return false;
+        }
+    }
+
+    /**
+     * Releases several stock reservations in one call, without blocking.
+     * <p>
+     * The Product Service returns the stock of every released reservation line
+     * with its own ledger movement, which on a striped product also updates one
+     * of its stock slots. Releasing is idempotent, so the call can be
+     * repeated after a failure; it is therefore safe for at-least-once
+     * delivery by the stock outbox.
+     * </p>
+     *
+     * @param reservationIds the reservations to release
+     * @return the outcome for every reservation; fails if the call fails
+     */
+    public Mono<StockReleaseResultDto> releaseStockReservations(Collection<String> reservationIds) {
+        return webClient.post()
+                .uri(RESERVATIONS_PATH + "/release")
+                .headers(this::applyServiceToken)
+                .bodyValue(new ReleaseBatchRequest(List.copyOf(reservationIds)))
+                .retrieve()
+                .bodyToMono(ReleaseBatchApiResponse.class)
+                .timeout(timeout)
+                .transform(resilience::write)
+                .mapNotNull(response -> response.data)
+                .switchIfEmpty(Mono.error(() -> new IllegalStateException("Empty stock release response")));
+    }
+
+    private Mono<List<ProductAvailabilityDto>> getProductBatch(List<Long> productIds) {
+        List<OrderItemRequest> items = productIds.stream()
+                .map(productId -> new OrderItemRequest(productId, 1))
+                .toList();
+        return webClient.post()
+                .uri("/api/v1/products/batch")
+                .bodyValue(new BatchRequest(items))
                 .retrieve()
-                .bodyToMono(Void.class)
-                .timeout(TIMEOUT)
-                .doOnError(e -> logger.error("Error updating stock for product: {}", productId, e));
+                .bodyToMono(BatchApiResponse.class)
+                .timeout(timeout)
+                .transform(resilience::read)
+                .mapNotNull(response -> response.data);
+    }
+
+    private void applyServiceToken(HttpHeaders headers) {
+        headers.setBearerAuth(jwtTokenProvider.generateToken(SERVICE_SUBJECT, SERVICE_ROLES));
     }
 
     /**
@@ -132,4 +425,82 @@ public class ProductServiceClient {
      */
     private record AvailabilityResponse(boolean success, Boolean data) {
     }
+
+    /**
+     * Internal record for deserializing change feed responses.
+     *
+     * @param success whether the API call succeeded
+     * @param data    the batch of changes
+     */
+    private record ChangeBatchApiResponse(boolean success, ProductChangeBatchDto data) {
+    }
+
+    /**
+     * Internal record for serializing batch lookup requests.
+     *
+     * @param items the products and quantities to resolve
+     */
+    private record BatchRequest(List<OrderItemRequest> items) {
+    }
+
+    /**
+     * Internal record for deserializing batch lookup responses.
+     *
+     * @param success whether the API call succeeded
+     * @param data    the availability result per product
+     */
+    private record BatchApiResponse(boolean success, List<ProductAvailabilityDto> data) {
+    }
+
+    /**
+     * Internal record for serializing stock reservation requests.
+     *
+     * @param reference   the order number
+     * @param items       the products and quantities to reserve
+     * @param holdSeconds how long the stock is held until confirmed, or null
+     */
+    private record ReservationRequest(String reference, List<OrderItemRequest> items, Integer holdSeconds) {
+    }
+
+    /**
+     * Internal record for deserializing stock reservation responses.
+     *
+     * @param success whether the API call succeeded
+     * @param data    the created reservation
+     */
+    private record ReservationApiResponse(boolean success, ReservationData data) {
+    }
+
+    /**
+     * Internal record for the reservation payload.
+     *
+     * @param reservationId the reservation ID
+     */
+    private record ReservationData(String reservationId) {
+    }
+
+    /**
+     * Internal record for serializing batch release requests.
+     *
+     * @param reservationIds the reservations to release
+     */
+    private record ReleaseBatchRequest(List<String> reservationIds) {
+    }
+
+    /**
+     * Internal record for deserializing batch release responses.
+     *
+     * @param success whether the API call succeeded
+     * @param data    the release outcome
+     */
+    private record ReleaseBatchApiResponse(boolean success, StockReleaseResultDto data) {
+    }
+
+    /**
+     * Internal record for deserializing Product Service error responses.
+     *
+     * @param message the error message
+     */
+    private record ErrorBody(String message) {
+    }
 }
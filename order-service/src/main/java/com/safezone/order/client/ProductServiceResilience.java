@@ -0,0 +1,195 @@
+package com.safezone.order.client;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import com.safezone.common.exception.BusinessException;
+import com.safezone.order.config.ServiceProperties;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.core.IntervalFunction;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedRetryMetrics;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.github.resilience4j.reactor.retry.RetryOperator;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+
+/**
+ * Circuit breaker, bulkhead and retry applied to every Product Service call.
+ * <p>
+ * The bulkhead caps the number of calls in flight, so a slow Product Service
+ * cannot tie up more than {@code services.product.resilience.max-concurrent-calls}
+ * order-service threads; calls beyond the cap are rejected immediately. The
+ * circuit breaker opens when the failure rate or the slow call rate over the
+ * sliding window reaches its threshold, and then rejects calls without
+ * contacting the Product Service until the open-state wait has elapsed.
+ * Product Service 4xx responses are answers, not failures, and are not
+ * recorded. Read-only calls are retried on transient errors (timeouts,
+ * connection errors and 5xx responses) with exponential backoff and random
+ * jitter; stock reservations and releases are never retried.
+ * </p>
+ * <p>
+ * State, call and retry meters are published as {@code resilience4j.*} meters
+ * tagged {@code name=product-service}.
+ * </p>
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-09
+ */
+@Component
+public class ProductServiceResilience {
+
+    /** Name of the circuit breaker, bulkhead and retry in metrics. */
+    public static final String NAME = "product-service";
+
+    /** Error code raised when a call is rejected without reaching the Product Service. */
+    public static final String PRODUCT_SERVICE_UNAVAILABLE = "PRODUCT_SERVICE_UNAVAILABLE";
+
+    /** Growth factor of the retry backoff. */
+    private static final double BACKOFF_MULTIPLIER = 2.0;
+
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final Retry retry;
+
+    /**
+     * Constructs the resilience layer from the configured thresholds.
+     *
+     * @param serviceProperties the service configuration holding the resilience settings
+     * @param meterRegistry     the registry receiving the resilience metrics
+     */
+    public ProductServiceResilience(ServiceProperties serviceProperties, MeterRegistry meterRegistry) {
+        ServiceProperties.Resilience settings = serviceProperties.getProduct().getResilience();
+        CircuitBreakerRegistry circuitBreakers = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .failureRateThreshold(settings.getFailureRateThreshold())
+                .slowCallRateThreshold(settings.getSlowCallRateThreshold())
+                .slowCallDurationThreshold(settings.getSlowCallDurationThreshold())
+                .slidingWindowSize(settings.getSlidingWindowSize())
+                .minimumNumberOfCalls(settings.getMinimumNumberOfCalls())
+                .waitDurationInOpenState(settings.getWaitDurationInOpenState())
+                .permittedNumberOfCallsInHalfOpenState(settings.getPermittedCallsInHalfOpenState())
+                .recordException(ProductServiceResilience::isFailure)
+                .build());
+        BulkheadRegistry bulkheads = BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(settings.getMaxConcurrentCalls())
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+        RetryRegistry retries = RetryRegistry.of(RetryConfig.custom()
+                .maxAttempts(settings.getRetryMaxAttempts())
+                .intervalFunction(IntervalFunction.ofExponentialRandomBackoff(
+                        settings.getRetryInitialBackoff(), BACKOFF_MULTIPLIER, settings.getRetryJitter()))
+                .retryOnException(ProductServiceResilience::isTransient)
+                .build());
+        this.circuitBreaker = circuitBreakers.circuitBreaker(NAME);
+        this.bulkhead = bulkheads.bulkhead(NAME);
+        this.retry = retries.retry(NAME);
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakers).bindTo(meterRegistry);
+        TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheads).bindTo(meterRegistry);
+        TaggedRetryMetrics.ofRetryRegistry(retries).bindTo(meterRegistry);
+    }
+
+    /**
+     * Decorates a read-only call: bulkhead, circuit breaker and retry.
+     *
+     * @param call the call, subscribed once per attempt
+     * @param <T>  the result type
+     * @return the decorated call
+     */
+    public <T> Mono<T> read(Mono<T> call) {
+        return write(call).transformDeferred(RetryOperator.of(retry));
+    }
+
+    /**
+     * Decorates a call that changes state: bulkhead and circuit breaker only.
+     *
+     * @param call the call
+     * @param <T>  the result type
+     * @return the decorated call
+     */
+    public <T> Mono<T> write(Mono<T> call) {
+        return call
+                .transformDeferred(BulkheadOperator.of(bulkhead))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker));
+    }
+
+    /**
+     * Returns whether an error is a rejection by the circuit breaker or the
+     * bulkhead, meaning the Product Service was not called.
+     *
+     * @param error the error
+     * @return true if the call was rejected locally
+     */
+    public static boolean isRejected(Throwable error) {
+        return error instanceof CallNotPermittedException || error instanceof BulkheadFullException;
+    }
+
+    /**
+     * Converts a local rejection into a {@link BusinessException}.
+     *
+     * @param error the rejection
+     * @return the exception to surface to callers
+     */
+    public static BusinessException unavailable(Throwable error) {
+        return new BusinessException(PRODUCT_SERVICE_UNAVAILABLE,
+                "Product Service is temporarily unavailable: " + error.getMessage());
+    }
+
+    /**
+     * Returns the circuit breaker guarding Product Service calls.
+     *
+     * @return the circuit breaker
+     */
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    /**
+     * Returns the bulkhead limiting concurrent Product Service calls.
+     *
+     * @return the bulkhead
+     */
+    public Bulkhead getBulkhead() {
+        return bulkhead;
+    }
+
+    /**
+     * Returns the retry applied to read-only Product Service calls.
+     *
+     * @return the retry
+     */
+    public Retry getRetry() {
+        return retry;
+    }
+
+    private static boolean isFailure(Throwable error) {
+        if (error instanceof WebClientResponseException response) {
+            return response.getStatusCode().is5xxServerError();
+        }
+        return !(error instanceof BusinessException);
+    }
+
+    private static boolean isTransient(Throwable error) {
+        return error instanceof TimeoutException
+                || error instanceof WebClientRequestException
+                || (error instanceof WebClientResponseException response
+                        && response.getStatusCode().is5xxServerError());
+    }
+}
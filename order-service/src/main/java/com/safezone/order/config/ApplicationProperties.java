@@ -1,5 +1,7 @@
 package com.safezone.order.config;
 
+import java.time.Duration;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
@@ -16,11 +18,21 @@ import org.springframework.stereotype.Component;
 public class ApplicationProperties {
 
     private final Jwt jwt = new Jwt();
+    private final Idempotency idempotency = new Idempotency();
+    private final OrderNumber orderNumber = new OrderNumber();
 
     public Jwt getJwt() {
         return jwt;
     }
 
+    public Idempotency getIdempotency() {
+        return idempotency;
+    }
+
+    public OrderNumber getOrderNumber() {
+        return orderNumber;
+    }
+
     public static class Jwt {
         private String secret;
 
@@ -32,4 +44,70 @@ public class ApplicationProperties {
             this.secret = secret;
         }
     }
+
+    /**
+     * Settings of {@code Idempotency-Key} handling for order creation.
+     */
+    public static class Idempotency {
+        private Duration ttl = Duration.ofHours(24);
+        private Duration inFlightTimeout = Duration.ofSeconds(30);
+        private Duration purgeInterval = Duration.ofMinutes(10);
+
+        public Duration getTtl() {
+            return ttl;
+        }
+
+        public void setTtl(Duration ttl) {
+            this.ttl = ttl;
+        }
+
+        public Duration getInFlightTimeout() {
+            return inFlightTimeout;
+        }
+
+        public void setInFlightTimeout(Duration inFlightTimeout) {
+            this.inFlightTimeout = inFlightTimeout;
+        }
+
+        public Duration getPurgeInterval() {
+            return purgeInterval;
+        }
+
+        public void setPurgeInterval(Duration purgeInterval) {
+            this.purgeInterval = purgeInterval;
+        }
+    }
+
+    /**
+     * Settings of the order number generator.
+     */
+    public static class OrderNumber {
+        private Integer nodeId;
+        private Duration nodeLease = Duration.ofMinutes(5);
+        private Duration nodeLeaseRenewal = Duration.ofMinutes(1);
+
+        public Integer getNodeId() {
+            return nodeId;
+        }
+
+        public void setNodeId(Integer nodeId) {
+            this.nodeId = nodeId;
+        }
+
+        public Duration getNodeLease() {
+            return nodeLease;
+        }
+
+        public void setNodeLease(Duration nodeLease) {
+            this.nodeLease = nodeLease;
+        }
+
+        public Duration getNodeLeaseRenewal() {
+            return nodeLeaseRenewal;
+        }
+
+        public void setNodeLeaseRenewal(Duration nodeLeaseRenewal) {
+            this.nodeLeaseRenewal = nodeLeaseRenewal;
+        }
+    }
 }
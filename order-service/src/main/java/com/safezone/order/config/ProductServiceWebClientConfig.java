@@ -0,0 +1,107 @@
+package com.safezone.order.config;
+
+import java.util.Objects;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import io.netty.channel.ChannelOption;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * HTTP client used to call the Product Service.
+ * <p>
+ * The {@link WebClient} runs on a dedicated, named Reactor Netty connection
+ * pool sized by {@code services.product.http.*}: pool size, pending-acquire
+ * queue, idle and lifetime eviction, connect and response timeouts, the
+ * maximum buffered response size and optional HTTP/2 over cleartext (h2c,
+ * which requires {@code server.http2.enabled} on the Product Service). With
+ * metrics enabled the pool publishes the
+ * {@code reactor.netty.connection.provider.*} gauges (total, active, idle and
+ * pending connections) tagged {@code name=product-service}; with h2c the
+ * stream gauges are tagged {@code name=http2.product-service}.
+ * </p>
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-09
+ */
+@Configuration(proxyBeanMethods = false)
+public class ProductServiceWebClientConfig {
+
+    /** Name of the connection pool in metrics. */
+    public static final String POOL_NAME = "product-service";
+
+    /**
+     * Creates the connection pool for Product Service calls.
+     *
+     * @param serviceProperties the service configuration holding the HTTP settings
+     * @return the connection provider, disposed on shutdown
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider productServiceConnectionProvider(ServiceProperties serviceProperties) {
+        return connectionProvider(serviceProperties.getProduct().getHttp());
+    }
+
+    /**
+     * Creates the WebClient used by the Product Service client.
+     *
+     * @param webClientBuilder   the application WebClient builder
+     * @param serviceProperties  the service configuration holding the HTTP settings
+     * @param connectionProvider the Product Service connection pool
+     * @param productServiceUrl  the base URL of the Product Service
+     * @return the WebClient
+     */
+    @Bean
+    public WebClient productServiceWebClient(
+            WebClient.Builder webClientBuilder,
+            ServiceProperties serviceProperties,
+            ConnectionProvider connectionProvider,
+            @Value("${services.product.url:http://localhost:8081}") String productServiceUrl) {
+        ServiceProperties.Http http = serviceProperties.getProduct().getHttp();
+        return webClientBuilder
+                .baseUrl(Objects.requireNonNull(productServiceUrl))
+                .clientConnector(new ReactorClientHttpConnector(httpClient(connectionProvider, http)))
+                .codecs(codecs -> codecs.defaultCodecs()
+                        .maxInMemorySize(Math.toIntExact(http.getMaxResponseSize().toBytes())))
+                .build();
+    }
+
+    /**
+     * Builds a connection pool from the HTTP settings.
+     *
+     * @param http the HTTP settings
+     * @return the connection provider
+     */
+    static ConnectionProvider connectionProvider(ServiceProperties.Http http) {
+        return ConnectionProvider.builder(POOL_NAME)
+                .maxConnections(http.getMaxConnections())
+                .pendingAcquireMaxCount(http.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(http.getPendingAcquireTimeout())
+                .maxIdleTime(http.getMaxIdleTime())
+                .maxLifeTime(http.getMaxLifeTime())
+                .evictInBackground(http.getEvictionInterval())
+                .metrics(http.isMetricsEnabled())
+                .build();
+    }
+
+    /**
+     * Builds the Reactor Netty client on top of a connection pool.
+     *
+     * @param connectionProvider the connection pool
+     * @param http               the HTTP settings
+     * @return the HTTP client
+     */
+    static HttpClient httpClient(ConnectionProvider connectionProvider, ServiceProperties.Http http) {
+        return HttpClient.create(connectionProvider)
+                .protocol(http.isHttp2() ? HttpProtocol.H2C : HttpProtocol.HTTP11)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, Math.toIntExact(http.getConnectTimeout().toMillis()))
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .responseTimeout(http.getResponseTimeout());
+    }
+}
@@ -11,6 +11,7 @@ import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfigurationSource;
 
+import com.safezone.common.security.GatewayIdentityVerifier;
 import com.safezone.common.security.JwtAuthenticationFilter;
 import com.safezone.common.security.JwtTokenProvider;
 
@@ -36,13 +37,19 @@ public class SecurityConfig {
         /** JWT token provider for authentication processing. */
         private final JwtTokenProvider jwtTokenProvider;
 
+        /** Verifier for identity headers signed by the API Gateway. */
+        private final GatewayIdentityVerifier gatewayIdentityVerifier;
+
         /**
          * Constructs the security configuration with required dependencies.
          *
-         * @param jwtTokenProvider the JWT token provider for token validation
+         * @param jwtTokenProvider        the JWT token provider for token validation
+         * @param gatewayIdentityVerifier the verifier for gateway identity headers
          */
-        public SecurityConfig(JwtTokenProvider jwtTokenProvider) {
+        public SecurityConfig(JwtTokenProvider jwtTokenProvider,
+                        GatewayIdentityVerifier gatewayIdentityVerifier) {
                 this.jwtTokenProvider = jwtTokenProvider;
+                this.gatewayIdentityVerifier = gatewayIdentityVerifier;
         }
 
         /**
@@ -89,7 +96,7 @@ public class SecurityConfig {
                 http.exceptionHandling(ex -> ex
                                 .authenticationEntryPoint((request, response, authException) -> response
                                                 .sendError(HttpServletResponse.SC_UNAUTHORIZED, "Unauthorized")));
-                http.addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider),
+                http.addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider, gatewayIdentityVerifier),
                                 UsernamePasswordAuthenticationFilter.class);
                 return http.build();
         }
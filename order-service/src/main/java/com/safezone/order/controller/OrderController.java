@@ -12,15 +12,18 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.safezone.common.dto.ApiResponse;
+import com.safezone.common.dto.CursorPageResponse;
 import com.safezone.common.dto.PageResponse;
 import com.safezone.order.dto.CreateOrderRequest;
 import com.safezone.order.dto.OrderResponse;
 import com.safezone.order.entity.OrderStatus;
+import com.safezone.order.service.OrderIdempotencyService;
 import com.safezone.order.service.OrderService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -37,6 +40,12 @@ import jakarta.validation.Valid;
  * viewing all orders and updating order status.
  * </p>
  *
+ * <p>
+ * Order creation honours an optional {@value #IDEMPOTENCY_KEY_HEADER} header:
+ * retries carrying the same key return the order created by the first request
+ * instead of creating a new one.
+ * </p>
+ *
  * @author SafeZone Team
  * @version 1.0.0
  * @since 2026-01-06
@@ -47,24 +56,34 @@ import jakarta.validation.Valid;
 @Tag(name = "Orders", description = "Order management endpoints")
 public class OrderController {
 
+    /** Header carrying the client supplied idempotency key. */
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
     private final OrderService orderService;
+    private final OrderIdempotencyService orderIdempotencyService;
 
     /**
-     * Constructs an OrderController with the required service.
+     * Constructs an OrderController with the required services.
      *
-     * @param orderService the order service for business operations
+     * @param orderService            the order service for business operations
+     * @param orderIdempotencyService the service deduplicating keyed order creations
      */
-    public OrderController(OrderService orderService) {
+    public OrderController(OrderService orderService, OrderIdempotencyService orderIdempotencyService) {
         this.orderService = orderService;
+        this.orderIdempotencyService = orderIdempotencyService;
     }
 
     @PostMapping
     @PreAuthorize("isAuthenticated()")
     @Operation(summary = "Create a new order")
     public ResponseEntity<ApiResponse<OrderResponse>> createOrder(
+            @Parameter(description = "Key making retries of this request return the same order")
+            @RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
             @Valid @RequestBody CreateOrderRequest request) {
 
-        OrderResponse order = orderService.createOrder(request);
+        OrderResponse order = idempotencyKey == null
+                ? orderService.createOrder(request)
+                : orderIdempotencyService.createOrder(idempotencyKey, request);
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(ApiResponse.success("Order created successfully", order));
     }
@@ -101,6 +120,19 @@ public class OrderController {
         return ResponseEntity.ok(ApiResponse.success(toPageResponse(orders)));
     }
 
+    @GetMapping("/scroll")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Get all orders with cursor pagination, newest first")
+    public ResponseEntity<ApiResponse<CursorPageResponse<OrderResponse>>> scrollOrders(
+            @Parameter(description = "Cursor returned with the previous page")
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "Whether to count all orders")
+            @RequestParam(defaultValue = "true") boolean includeTotal) {
+
+        return ResponseEntity.ok(ApiResponse.success(orderService.getAllOrders(cursor, size, includeTotal)));
+    }
+
     @GetMapping("/user/{userId}")
     @PreAuthorize("isAuthenticated()")
     @Operation(summary = "Get orders by user ID")
@@ -0,0 +1,74 @@
+package com.safezone.order.controller;
+
+import java.io.IOException;
+import java.time.LocalDate;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.safezone.common.exception.BusinessException;
+import com.safezone.order.dto.ExportFormat;
+import com.safezone.order.service.OrderExportService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Admin REST controller for the bulk export of orders.
+ * The export is written to the response while it is read from the database,
+ * so its size is not limited by the service memory.
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-09
+ * @see OrderExportService
+ */
+@RestController
+@RequestMapping("/api/v1/orders/export")
+@PreAuthorize("hasRole('ADMIN')")
+@Tag(name = "Order Export", description = "Bulk order export")
+public class OrderExportController {
+
+    private final OrderExportService orderExportService;
+
+    /**
+     * Constructs an OrderExportController with the export service.
+     *
+     * @param orderExportService the order export service
+     */
+    public OrderExportController(OrderExportService orderExportService) {
+        this.orderExportService = orderExportService;
+    }
+
+    @GetMapping
+    @Operation(summary = "Export the orders created between two dates as NDJSON or CSV")
+    public void exportOrders(
+            @Parameter(description = "First day of the range, inclusive")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Last day of the range, inclusive")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "Output format: ndjson or csv")
+            @RequestParam(defaultValue = "ndjson") String format,
+            HttpServletResponse response) throws IOException {
+
+        if (to.isBefore(from)) {
+            throw new BusinessException("INVALID_DATE_RANGE", "'to' must not be before 'from'");
+        }
+        ExportFormat exportFormat = ExportFormat.from(format);
+        response.setContentType(exportFormat.getMediaType());
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("orders-" + from + "-" + to + "." + exportFormat.getFileExtension())
+                .build().toString());
+        orderExportService.exportOrders(from.atStartOfDay(), to.plusDays(1).atStartOfDay(), exportFormat,
+                response.getOutputStream());
+    }
+}
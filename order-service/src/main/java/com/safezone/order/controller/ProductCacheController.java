@@ -0,0 +1,58 @@
+package com.safezone.order.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.safezone.common.dto.ApiResponse;
+import com.safezone.order.client.ProductCatalogCache;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+/**
+ * Admin REST controller for the order-service product catalog cache.
+ * Allows evicting products after catalog changes without waiting for the TTL.
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-09
+ * @see ProductCatalogCache
+ */
+@RestController
+@RequestMapping("/api/v1/orders/admin/product-cache")
+@PreAuthorize("hasRole('ADMIN')")
+@Tag(name = "Product Cache", description = "Product catalog cache administration")
+public class ProductCacheController {
+
+    private final ProductCatalogCache productCatalogCache;
+
+    /**
+     * Constructs a ProductCacheController with the required cache.
+     *
+     * @param productCatalogCache the product catalog cache
+     */
+    public ProductCacheController(ProductCatalogCache productCatalogCache) {
+        this.productCatalogCache = productCatalogCache;
+    }
+
+    @DeleteMapping("/{productId}")
+    @Operation(summary = "Evict one product from the catalog cache")
+    public ResponseEntity<ApiResponse<Void>> evictProduct(
+            @Parameter(description = "Product ID") @PathVariable Long productId) {
+
+        productCatalogCache.evict(productId);
+        return ResponseEntity.ok(ApiResponse.success("Product evicted from cache", null));
+    }
+
+    @DeleteMapping
+    @Operation(summary = "Evict all products from the catalog cache")
+    public ResponseEntity<ApiResponse<Void>> evictAll() {
+        productCatalogCache.evictAll();
+        return ResponseEntity.ok(ApiResponse.success("Product cache cleared", null));
+    }
+}
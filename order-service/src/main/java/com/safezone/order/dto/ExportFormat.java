@@ -0,0 +1,53 @@
+package com.safezone.order.dto;
+
+import java.util.Locale;
+
+import com.safezone.common.exception.BusinessException;
+
+/**
+ * Output formats of the bulk order export.
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-09
+ */
+public enum ExportFormat {
+
+    /** One JSON object per order and per line, items nested. */
+    NDJSON("application/x-ndjson", "ndjson"),
+
+    /** One comma-separated line per order item, after a header line. */
+    CSV("text/csv", "csv");
+
+    private final String mediaType;
+    private final String fileExtension;
+
+    ExportFormat(String mediaType, String fileExtension) {
+        this.mediaType = mediaType;
+        this.fileExtension = fileExtension;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+
+    /**
+     * Resolves a format from its case-insensitive name.
+     *
+     * @param name the format name
+     * @return the format
+     * @throws BusinessException if the name is not a known format
+     */
+    public static ExportFormat from(String name) {
+        for (ExportFormat format : values()) {
+            if (format.fileExtension.equals(name.toLowerCase(Locale.ROOT))) {
+                return format;
+            }
+        }
+        throw new BusinessException("INVALID_EXPORT_FORMAT", "Unsupported export format: " + name);
+    }
+}
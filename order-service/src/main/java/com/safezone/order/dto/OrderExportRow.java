@@ -0,0 +1,43 @@
+package com.safezone.order.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import com.safezone.order.entity.OrderStatus;
+
+/**
+ * One order item joined with its order, as read by the bulk order export.
+ * The item fields are null for an order without items.
+ *
+ * @param orderId     the order ID
+ * @param orderNumber the order number
+ * @param userId      the ID of the user who placed the order
+ * @param status      the order status
+ * @param totalAmount the order total
+ * @param createdAt   the order creation time
+ * @param productId   the product ID of the item
+ * @param productSku  the product SKU at order time
+ * @param productName the product name at order time
+ * @param quantity    the ordered quantity
+ * @param unitPrice   the unit price at order time
+ * @param subtotal    the item subtotal
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-09
+ */
+public record OrderExportRow(
+        Long orderId,
+        String orderNumber,
+        Long userId,
+        OrderStatus status,
+        BigDecimal totalAmount,
+        LocalDateTime createdAt,
+        Long productId,
+        String productSku,
+        String productName,
+        Integer quantity,
+        BigDecimal unitPrice,
+        BigDecimal subtotal
+) {
+}
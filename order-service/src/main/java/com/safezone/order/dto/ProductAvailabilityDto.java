@@ -0,0 +1,23 @@
+package com.safezone.order.dto;
+
+/**
+ * Data Transfer Object for batch availability results from the Product Service.
+ * <p>
+ * One entry is returned per distinct product requested; {@code product} is
+ * {@code null} when the product does not exist.
+ * </p>
+ *
+ * @param productId the requested product ID
+ * @param product the product details, or null if not found
+ * @param requestedQuantity the total quantity requested for the product
+ * @param available whether the product is active with enough stock
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2024-01-06
+ */
+public record ProductAvailabilityDto(
+        Long productId,
+        ProductDto product,
+        Integer requestedQuantity,
+        boolean available
+) {}
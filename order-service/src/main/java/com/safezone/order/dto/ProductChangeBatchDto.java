@@ -0,0 +1,19 @@
+package com.safezone.order.dto;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for a batch of the Product Service change feed.
+ *
+ * @param changes the changes in version order
+ * @param lastVersion the version to pass as {@code since} to read the next batch
+ * @param hasMore whether more changes were already available
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-09
+ */
+public record ProductChangeBatchDto(
+        List<ProductChangeDto> changes,
+        long lastVersion,
+        boolean hasMore
+) {}
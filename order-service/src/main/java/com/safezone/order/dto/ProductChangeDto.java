@@ -0,0 +1,40 @@
+package com.safezone.order.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * Data Transfer Object for one entry of the Product Service change feed,
+ * carrying the state of the product after the change.
+ *
+ * @param version the feed version of the change
+ * @param productId the changed product
+ * @param type the kind of change (CREATED, UPDATED, DELETED or STOCK)
+ * @param name the product name
+ * @param sku the product SKU
+ * @param price the product price
+ * @param active whether the product is active
+ * @param stockQuantity the available stock right after the change
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-09
+ */
+public record ProductChangeDto(
+        Long version,
+        Long productId,
+        String type,
+        String name,
+        String sku,
+        BigDecimal price,
+        Boolean active,
+        Integer stockQuantity
+) {
+
+    /**
+     * Returns the product as described by this change.
+     *
+     * @return the product after the change
+     */
+    public ProductDto toProduct() {
+        return new ProductDto(productId, name, sku, price, stockQuantity, active);
+    }
+}
@@ -0,0 +1,20 @@
+package com.safezone.order.dto;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for batch stock release results from the Product Service.
+ * Every requested reservation appears in exactly one of the lists.
+ *
+ * @param released the reservations released by the call
+ * @param alreadyReleased the reservations that had already been released
+ * @param notFound the reservation IDs unknown to the Product Service
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-09
+ */
+public record StockReleaseResultDto(
+        List<String> released,
+        List<String> alreadyReleased,
+        List<String> notFound
+) {}
@@ -9,6 +9,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
@@ -33,7 +34,7 @@ import java.util.List;
  * @since 2026-01-06
  */
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = @Index(name = "idx_orders_created_at_id", columnList = "createdAt, id"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -71,6 +72,10 @@ public class Order {
     @Column(length = 500)
     private String billingAddress;
 
+    /** Product Service stock reservation holding the stock of all items. */
+    @Column(length = 36)
+    private String stockReservationId;
+
     /** List of items included in this order. */
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     @Builder.Default
@@ -0,0 +1,86 @@
+package com.safezone.order.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity recording the order created for an {@code Idempotency-Key}.
+ * Keys are scoped to the ordering user; only the order ID and a hash of the
+ * request are stored, and the row expires after the replay window.
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-09
+ */
+@Entity
+@Table(name = "order_idempotency_keys",
+        uniqueConstraints = @UniqueConstraint(name = "uk_order_idempotency_user_key",
+                columnNames = { "userId", "idempotencyKey" }),
+        indexes = @Index(name = "idx_order_idempotency_expires_at", columnList = "expiresAt"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderIdempotencyKey {
+
+    /** Unique identifier. */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** User the key belongs to. */
+    @Column(nullable = false)
+    private Long userId;
+
+    /** Client supplied idempotency key. */
+    @Column(nullable = false, length = 100)
+    private String idempotencyKey;
+
+    /** SHA-256 of the original request, to detect a key reused for another request. */
+    @Column(nullable = false, length = 64)
+    private String requestHash;
+
+    /** Order created for the key; set before the creating transaction commits. */
+    private Long orderId;
+
+    /** Timestamp when the key was recorded. */
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    /** End of the replay window. */
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    /**
+     * JPA lifecycle callback executed before persisting a new entity.
+     */
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+
+    /**
+     * Returns whether the replay window has ended.
+     *
+     * @param now the current time
+     * @return true if the key has expired
+     */
+    public boolean isExpired(LocalDateTime now) {
+        return !expiresAt.isAfter(now);
+    }
+}
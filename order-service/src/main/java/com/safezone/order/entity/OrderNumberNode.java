@@ -0,0 +1,44 @@
+package com.safezone.order.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity recording the lease of an order number node ID.
+ * An order-service instance without a configured node ID leases one, so that
+ * no two running instances embed the same node ID in their order numbers.
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-09
+ */
+@Entity
+@Table(name = "order_number_nodes")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderNumberNode {
+
+    /** Leased node ID, between 0 and 1023. */
+    @Id
+    private Integer nodeId;
+
+    /** Random ID of the instance holding the lease. */
+    @Column(nullable = false, length = 36)
+    private String owner;
+
+    /** End of the lease; the node ID may be taken over afterwards. */
+    @Column(nullable = false)
+    private LocalDateTime leasedUntil;
+}
@@ -0,0 +1,17 @@
+package com.safezone.order.entity;
+
+/**
+ * Delivery state of a stock outbox event.
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-09
+ */
+public enum OutboxStatus {
+    /** Waiting to be delivered to the Product Service. */
+    PENDING,
+    /** Acknowledged by the Product Service. */
+    DELIVERED,
+    /** Given up on after a permanent error or too many attempts. */
+    FAILED
+}
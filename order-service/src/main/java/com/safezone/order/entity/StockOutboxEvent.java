@@ -0,0 +1,92 @@
+package com.safezone.order.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity representing a pending stock release for the Product Service.
+ * Written in the same transaction as the order change that requires it and
+ * delivered afterwards by the outbox relay, so the release survives a crash
+ * and is retried until the Product Service acknowledges it.
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-09
+ */
+@Entity
+@Table(name = "stock_outbox_events",
+        indexes = @Index(name = "idx_stock_outbox_status_next_attempt", columnList = "status, nextAttemptAt"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StockOutboxEvent {
+
+    /** Unique identifier, also the delivery order. */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** Product Service stock reservation to release. */
+    @Column(nullable = false, length = 36)
+    private String reservationId;
+
+    /** Order number the reservation belongs to. */
+    @Column(nullable = false, length = 50)
+    private String orderNumber;
+
+    /** Current delivery state. */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OutboxStatus status;
+
+    /** Number of failed delivery attempts. */
+    @Column(nullable = false)
+    private int attempts;
+
+    /** Earliest time of the next delivery attempt. */
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    /** Last delivery error, if any. */
+    @Column(length = 500)
+    private String lastError;
+
+    /** Timestamp when the event was recorded. */
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    /** Timestamp when the event was delivered, if any. */
+    private LocalDateTime deliveredAt;
+
+    /**
+     * JPA lifecycle callback executed before persisting a new entity.
+     * Sets the creation timestamp and makes the event due immediately.
+     */
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        if (status == null) {
+            status = OutboxStatus.PENDING;
+        }
+        if (nextAttemptAt == null) {
+            nextAttemptAt = createdAt;
+        }
+    }
+}
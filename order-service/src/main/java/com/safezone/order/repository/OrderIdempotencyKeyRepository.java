@@ -0,0 +1,41 @@
+package com.safezone.order.repository;
+
+import com.safezone.order.entity.OrderIdempotencyKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Spring Data JPA repository for OrderIdempotencyKey entities.
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-09
+ */
+@Repository
+public interface OrderIdempotencyKeyRepository extends JpaRepository<OrderIdempotencyKey, Long> {
+
+    /**
+     * Finds the record of a user's idempotency key.
+     *
+     * @param userId         the user ID
+     * @param idempotencyKey the client supplied key
+     * @return an Optional containing the record if the key was used
+     */
+    Optional<OrderIdempotencyKey> findByUserIdAndIdempotencyKey(Long userId, String idempotencyKey);
+
+    /**
+     * Deletes every key whose replay window has ended.
+     *
+     * @param now the current time
+     * @return the number of deleted keys
+     */
+    @Modifying
+    @Query("DELETE FROM OrderIdempotencyKey k WHERE k.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
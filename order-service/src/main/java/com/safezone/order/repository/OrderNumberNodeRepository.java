@@ -0,0 +1,76 @@
+package com.safezone.order.repository;
+
+import com.safezone.order.entity.OrderNumberNode;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Spring Data JPA repository for OrderNumberNode entities.
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-09
+ */
+@Repository
+public interface OrderNumberNodeRepository extends JpaRepository<OrderNumberNode, Integer> {
+
+    /**
+     * Finds expired leases and locks their rows until the end of the
+     * transaction, skipping rows locked by another instance.
+     *
+     * @param now      the current time
+     * @param pageable the maximum number of leases to return
+     * @return the expired leases, lowest node ID first
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT n FROM OrderNumberNode n WHERE n.leasedUntil < :now ORDER BY n.nodeId")
+    List<OrderNumberNode> findExpiredForUpdate(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * Returns the highest node ID ever leased.
+     *
+     * @return the highest node ID, or -1 if none was leased
+     */
+    @Query("SELECT COALESCE(MAX(n.nodeId), -1) FROM OrderNumberNode n")
+    int findMaxNodeId();
+
+    /**
+     * Inserts the lease of a node ID never leased before. Fails with a key
+     * violation if another instance inserted it first.
+     *
+     * @param nodeId      the node ID
+     * @param owner       the instance taking the lease
+     * @param leasedUntil the end of the lease
+     * @return the number of inserted rows
+     */
+    @Modifying
+    @Query("INSERT INTO OrderNumberNode (nodeId, owner, leasedUntil) VALUES (:nodeId, :owner, :leasedUntil)")
+    int insert(@Param("nodeId") int nodeId, @Param("owner") String owner,
+            @Param("leasedUntil") LocalDateTime leasedUntil);
+
+    /**
+     * Extends a lease if it is still held by the given owner.
+     *
+     * @param nodeId      the node ID
+     * @param owner       the instance holding the lease
+     * @param leasedUntil the new end of the lease
+     * @return 1 if the lease was extended, 0 if it was taken over
+     */
+    @Modifying
+    @Query("UPDATE OrderNumberNode n SET n.leasedUntil = :leasedUntil "
+            + "WHERE n.nodeId = :nodeId AND n.owner = :owner")
+    int renew(@Param("nodeId") int nodeId, @Param("owner") String owner,
+            @Param("leasedUntil") LocalDateTime leasedUntil);
+}
@@ -1,22 +1,40 @@
 package com.safezone.order.repository;
 
+import com.safezone.order.dto.OrderExportRow;
 import com.safezone.order.entity.Order;
 import com.safezone.order.entity.OrderStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Spring Data JPA repository for Order entities.
  * Provides CRUD operations and custom queries for order management.
  *
+ * <p>
+ * Paginated reads that return items are done in two phases: a page of order
+ * IDs, then the orders of that page with their items in one fetch join. A
+ * fetch join cannot be paginated by the database, and loading the items
+ * lazily costs one query per order.
+ * </p>
+ *
  * @author SafeZone Team
  * @version 1.0.0
  * @since 2026-01-06
@@ -24,6 +42,9 @@ import java.util.Optional;
 @Repository
 public interface OrderRepository extends JpaRepository<Order, Long> {
 
+    /** JDBC fetch size of the order export cursor. */
+    String EXPORT_FETCH_SIZE = "500";
+
     /**
      * Finds an order by its order number.
      *
@@ -60,6 +81,56 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
      */
     Page<Order> findByUserIdAndStatus(Long userId, OrderStatus status, Pageable pageable);
 
+    /**
+     * Finds a page of order IDs.
+     *
+     * @param pageable pagination parameters
+     * @return page of order IDs
+     */
+    @Query(value = "SELECT o.id FROM Order o", countQuery = "SELECT COUNT(o) FROM Order o")
+    Page<Long> findPageIds(Pageable pageable);
+
+    /**
+     * Finds a page of order IDs for a specific user.
+     *
+     * @param userId   the user ID
+     * @param pageable pagination parameters
+     * @return page of the user's order IDs
+     */
+    @Query(value = "SELECT o.id FROM Order o WHERE o.userId = :userId",
+            countQuery = "SELECT COUNT(o) FROM Order o WHERE o.userId = :userId")
+    Page<Long> findPageIdsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * Finds a page of order IDs with a specific status.
+     *
+     * @param status   the order status
+     * @param pageable pagination parameters
+     * @return page of the IDs of orders with the given status
+     */
+    @Query(value = "SELECT o.id FROM Order o WHERE o.status = :status",
+            countQuery = "SELECT COUNT(o) FROM Order o WHERE o.status = :status")
+    Page<Long> findPageIdsByStatus(@Param("status") OrderStatus status, Pageable pageable);
+
+    /**
+     * Finds the orders following a keyset position, without counting them.
+     *
+     * @param position the keyset position to start after
+     * @param sort     the sort, ending with a unique key
+     * @param limit    the maximum number of orders
+     * @return the window of orders
+     */
+    Window<Order> findAllBy(ScrollPosition position, Sort sort, Limit limit);
+
+    /**
+     * Finds orders by ID with their items loaded in the same query.
+     *
+     * @param ids the order IDs
+     * @return the matching orders, in no particular order
+     */
+    @EntityGraph(attributePaths = "items")
+    List<Order> findWithItemsByIdIn(Collection<Long> ids);
+
     /**
      * Finds orders created within a date range.
      *
@@ -73,6 +144,27 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
             @Param("endDate") LocalDateTime endDate
     );
 
+    /**
+     * Streams the items of the orders created in {@code [from, to)}, joined
+     * with their order, grouped by order in creation order. Rows are read
+     * through a forward-only cursor of {@value #EXPORT_FETCH_SIZE} rows and
+     * are not managed entities, so memory use does not depend on the range.
+     * The stream must be consumed inside a transaction and closed.
+     *
+     * @param from start of the range, inclusive
+     * @param to   end of the range, exclusive
+     * @return the rows, one per order item
+     */
+    @Query("SELECT new com.safezone.order.dto.OrderExportRow(o.id, o.orderNumber, o.userId, o.status, "
+            + "o.totalAmount, o.createdAt, i.productId, i.productSku, i.productName, i.quantity, i.unitPrice, "
+            + "i.subtotal) FROM Order o LEFT JOIN o.items i "
+            + "WHERE o.createdAt >= :from AND o.createdAt < :to ORDER BY o.createdAt, o.id, i.id")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<OrderExportRow> streamExportRows(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
     /**
      * Counts orders for a user with a specific status.
      *
@@ -0,0 +1,52 @@
+package com.safezone.order.repository;
+
+import com.safezone.order.entity.OutboxStatus;
+import com.safezone.order.entity.StockOutboxEvent;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Spring Data JPA repository for StockOutboxEvent entities.
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-09
+ */
+@Repository
+public interface StockOutboxEventRepository extends JpaRepository<StockOutboxEvent, Long> {
+
+    /**
+     * Finds the oldest events in a status that are due for delivery and locks
+     * their rows until the end of the transaction. Rows already locked by
+     * another instance are skipped ({@code FOR UPDATE SKIP LOCKED}) instead of
+     * waited for.
+     *
+     * @param status   the delivery status
+     * @param now      the current time
+     * @param pageable the maximum number of events to return
+     * @return the due events not locked elsewhere, oldest first
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT e FROM StockOutboxEvent e WHERE e.status = :status AND e.nextAttemptAt <= :now ORDER BY e.id")
+    List<StockOutboxEvent> findDueForUpdate(
+            @Param("status") OutboxStatus status, @Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * Counts the events in a status.
+     *
+     * @param status the delivery status
+     * @return the number of events
+     */
+    long countByStatus(OutboxStatus status);
+}
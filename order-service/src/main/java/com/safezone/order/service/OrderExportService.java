@@ -0,0 +1,31 @@
+package com.safezone.order.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+
+import com.safezone.order.dto.ExportFormat;
+
+/**
+ * Service interface for the bulk export of orders.
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-09
+ */
+public interface OrderExportService {
+
+    /**
+     * Writes the orders created in {@code [from, to)} with their items to a
+     * stream, as they are read from the database.
+     *
+     * @param from   start of the range, inclusive
+     * @param to     end of the range, exclusive
+     * @param format the output format
+     * @param out    the stream to write to; flushed but not closed
+     * @return the number of orders written
+     * @throws IOException if writing fails
+     */
+    long exportOrders(LocalDateTime from, LocalDateTime to, ExportFormat format, OutputStream out)
+            throws IOException;
+}
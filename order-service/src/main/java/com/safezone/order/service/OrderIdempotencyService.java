@@ -0,0 +1,36 @@
+package com.safezone.order.service;
+
+import com.safezone.order.dto.CreateOrderRequest;
+import com.safezone.order.dto.OrderResponse;
+
+/**
+ * Service interface for idempotent order creation.
+ * A request carrying an {@code Idempotency-Key} creates at most one order per
+ * user and key within the replay window; repeated requests return that order.
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-09
+ */
+public interface OrderIdempotencyService {
+
+    /**
+     * Creates an order once per key, or returns the order already created for it.
+     * Concurrent requests with the same key are coalesced onto the first one.
+     *
+     * @param idempotencyKey the client supplied key
+     * @param request        the order creation request
+     * @return the order created for the key
+     * @throws com.safezone.common.exception.BusinessException if the key is
+     *         invalid, was used for a different request, or is still being
+     *         processed after the in-flight timeout
+     */
+    OrderResponse createOrder(String idempotencyKey, CreateOrderRequest request);
+
+    /**
+     * Deletes the keys whose replay window has ended.
+     *
+     * @return the number of deleted keys
+     */
+    int purgeExpired();
+}
@@ -1,5 +1,6 @@
 package com.safezone.order.service;
 
+import com.safezone.common.dto.CursorPageResponse;
 import com.safezone.order.dto.CreateOrderRequest;
 import com.safezone.order.dto.OrderResponse;
 import com.safezone.order.entity.OrderStatus;
@@ -52,6 +53,17 @@ public interface OrderService {
      */
     Page<OrderResponse> getAllOrders(Pageable pageable);
 
+    /**
+     * Retrieves all orders, newest first, one keyset page at a time.
+     *
+     * @param cursor       the cursor returned with the previous page, or null for the first page
+     * @param size         the page size
+     * @param includeTotal whether to count all orders
+     * @return a page of order responses with the cursor of the next page
+     * @throws com.safezone.common.exception.BusinessException if the cursor or size is invalid
+     */
+    CursorPageResponse<OrderResponse> getAllOrders(String cursor, int size, boolean includeTotal);
+
     /**
      * Retrieves all orders for a specific user.
      *
@@ -0,0 +1,47 @@
+package com.safezone.order.service;
+
+/**
+ * Service interface for the stock outbox.
+ * Stock releases owed to the Product Service are recorded as outbox events in
+ * the order database and delivered asynchronously in batches, so that they are
+ * neither sent for a transaction that later rolls back nor lost on a crash.
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-09
+ */
+public interface StockOutboxService {
+
+    /**
+     * Records the release of a stock reservation in the current transaction.
+     * The release is only delivered if the transaction commits.
+     *
+     * @param orderNumber   the order the reservation belongs to
+     * @param reservationId the reservation to release
+     * @throws org.springframework.transaction.IllegalTransactionStateException if
+     *         no transaction is active
+     */
+    void enqueueRelease(String orderNumber, String reservationId);
+
+    /**
+     * Records the release of a stock reservation in a transaction of its own.
+     * Used when the surrounding transaction is about to roll back, or already
+     * has, and the reservation made for it must still be returned.
+     *
+     * @param orderNumber   the order the reservation belongs to
+     * @param reservationId the reservation to release
+     */
+    void enqueueReleaseInNewTransaction(String orderNumber, String reservationId);
+
+    /**
+     * Delivers one batch of due events with a single Product Service call.
+     * The batch is claimed first, so that several instances never deliver the
+     * same events concurrently. Delivered events are marked as such; on failure
+     * each event is rescheduled with exponential backoff, and marked failed once
+     * it runs out of attempts.
+     *
+     * @return the number of events delivered or given up on, 0 if none were
+     *         due or the delivery failed
+     */
+    int publishPending();
+}
@@ -0,0 +1,192 @@
+package com.safezone.order.service.impl;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.safezone.order.dto.ExportFormat;
+import com.safezone.order.dto.OrderExportRow;
+import com.safezone.order.repository.OrderRepository;
+import com.safezone.order.service.OrderExportService;
+
+/**
+ * Implementation of the {@link OrderExportService} interface.
+ *
+ * <p>
+ * Rows are read from a forward-only database cursor and written to the
+ * output as soon as they are read, so only the current order is ever held
+ * in memory. NDJSON output is produced with a streaming JSON generator: an
+ * order's line is opened on its first row and closed when the next order
+ * starts.
+ * </p>
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-09
+ */
+@Service
+public class OrderExportServiceImpl implements OrderExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderExportServiceImpl.class);
+
+    private static final String CSV_HEADER = "order_number,user_id,status,total_amount,created_at,"
+            + "product_id,product_sku,product_name,quantity,unit_price,subtotal";
+
+    private final OrderRepository orderRepository;
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    /**
+     * Constructs an OrderExportServiceImpl with the order repository.
+     *
+     * @param orderRepository repository streaming the export rows
+     */
+    public OrderExportServiceImpl(OrderRepository orderRepository) {
+        this.orderRepository = orderRepository;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportOrders(LocalDateTime from, LocalDateTime to, ExportFormat format, OutputStream out)
+            throws IOException {
+        logger.info("Exporting orders created from {} to {} as {}", from, to, format);
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        long orders;
+        try (Stream<OrderExportRow> rows = orderRepository.streamExportRows(from, to)) {
+            orders = format == ExportFormat.CSV
+                    ? writeCsv(rows.iterator(), writer)
+                    : writeNdjson(rows.iterator(), writer);
+        }
+        writer.flush();
+        logger.info("Exported {} orders", orders);
+        return orders;
+    }
+
+    private long writeNdjson(Iterator<OrderExportRow> rows, Writer writer) throws IOException {
+        long orders = 0;
+        JsonGenerator json = jsonFactory.createGenerator(writer);
+        json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        Long currentOrderId = null;
+        while (rows.hasNext()) {
+            OrderExportRow row = rows.next();
+            if (!row.orderId().equals(currentOrderId)) {
+                if (currentOrderId != null) {
+                    endOrder(json, writer);
+                }
+                startOrder(json, row);
+                currentOrderId = row.orderId();
+                orders++;
+            }
+            if (row.productId() != null) {
+                json.writeStartObject();
+                json.writeNumberField("productId", row.productId());
+                json.writeStringField("productSku", row.productSku());
+                json.writeStringField("productName", row.productName());
+                json.writeNumberField("quantity", row.quantity());
+                json.writeNumberField("unitPrice", row.unitPrice());
+                json.writeNumberField("subtotal", row.subtotal());
+                json.writeEndObject();
+            }
+        }
+        if (currentOrderId != null) {
+            endOrder(json, writer);
+        }
+        json.close();
+        return orders;
+    }
+
+    private static void startOrder(JsonGenerator json, OrderExportRow row) throws IOException {
+        json.writeStartObject();
+        json.writeStringField("orderNumber", row.orderNumber());
+        json.writeNumberField("userId", row.userId());
+        json.writeStringField("status", row.status().name());
+        json.writeNumberField("totalAmount", row.totalAmount());
+        json.writeStringField("createdAt", row.createdAt().toString());
+        json.writeArrayFieldStart("items");
+    }
+
+    private static void endOrder(JsonGenerator json, Writer writer) throws IOException {
+        json.writeEndArray();
+        json.writeEndObject();
+        json.flush();
+        writer.write('\n');
+    }
+
+    private long writeCsv(Iterator<OrderExportRow> rows, Writer writer) throws IOException {
+        long orders = 0;
+        Long currentOrderId = null;
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        while (rows.hasNext()) {
+            OrderExportRow row = rows.next();
+            if (!row.orderId().equals(currentOrderId)) {
+                currentOrderId = row.orderId();
+                orders++;
+            }
+            writer.write(csv(row.orderNumber()));
+            writer.write(',');
+            writer.write(csv(row.userId()));
+            writer.write(',');
+            writer.write(csv(row.status()));
+            writer.write(',');
+            writer.write(csv(row.totalAmount()));
+            writer.write(',');
+            writer.write(csv(row.createdAt()));
+            writer.write(',');
+            writer.write(csv(row.productId()));
+            writer.write(',');
+            writer.write(csvText(row.productSku()));
+            writer.write(',');
+            writer.write(csvText(row.productName()));
+            writer.write(',');
+            writer.write(csv(row.quantity()));
+            writer.write(',');
+            writer.write(csv(row.unitPrice()));
+            writer.write(',');
+            writer.write(csv(row.subtotal()));
+            writer.write('\n');
+        }
+        return orders;
+    }
+
+    /**
+     * Renders a CSV field, quoted when it contains a separator, a quote or a
+     * line break (RFC 4180).
+     */
+    private static String csv(Object value) {
+        String text = Objects.toString(value, "");
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return quote(text);
+    }
+
+    /**
+     * Renders a free-text CSV field. Text a spreadsheet would run as a formula,
+     * starting with {@code =}, {@code +}, {@code -}, {@code @}, a tab or a
+     * carriage return, is prefixed with {@code '} and quoted.
+     */
+    private static String csvText(String value) {
+        if (value == null || value.isEmpty() || "=+-@\t\r".indexOf(value.charAt(0)) < 0) {
+            return csv(value);
+        }
+        return quote("'" + value);
+    }
+
+    private static String quote(String text) {
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
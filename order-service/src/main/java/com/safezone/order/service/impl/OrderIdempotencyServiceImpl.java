@@ -0,0 +1,238 @@
+package com.safezone.order.service.impl;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.safezone.common.exception.BusinessException;
+import com.safezone.order.config.ApplicationProperties;
+import com.safezone.order.dto.CreateOrderRequest;
+import com.safezone.order.dto.OrderResponse;
+import com.safezone.order.entity.OrderIdempotencyKey;
+import com.safezone.order.repository.OrderIdempotencyKeyRepository;
+import com.safezone.order.service.OrderIdempotencyService;
+import com.safezone.order.service.OrderService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Implementation of the {@link OrderIdempotencyService} interface.
+ *
+ * <p>
+ * The key is inserted and flushed before the order is created, in the same
+ * transaction, so the unique constraint on {@code (userId, idempotencyKey)}
+ * makes a concurrent duplicate on another instance wait for the first
+ * transaction and then fail before it reserves any stock; it then replays the
+ * committed order. Within one instance, concurrent duplicates do not reach the
+ * database at all: they wait for the in-flight request and share its result.
+ * Replays return the current state of the order. Requests are counted in
+ * {@code orders.idempotency.requests} tagged by {@code outcome}.
+ * </p>
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-09
+ */
+@Service
+public class OrderIdempotencyServiceImpl implements OrderIdempotencyService {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderIdempotencyServiceImpl.class);
+
+    /** Accepted keys: 1 to 100 printable ASCII characters without spaces. */
+    private static final Pattern KEY_PATTERN = Pattern.compile("[\\x21-\\x7E]{1,100}");
+
+    private final OrderService orderService;
+    private final OrderIdempotencyKeyRepository keyRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+    private final Duration inFlightTimeout;
+    private final Map<String, InFlight> inFlight = new ConcurrentHashMap<>();
+    private final Counter created;
+    private final Counter replayed;
+    private final Counter coalesced;
+
+    /**
+     * Constructs an OrderIdempotencyServiceImpl with required dependencies.
+     *
+     * @param orderService          the service creating and reading orders
+     * @param keyRepository         repository for idempotency key persistence
+     * @param transactionManager    the transaction manager shared with order creation
+     * @param objectMapper          the mapper used to fingerprint requests
+     * @param applicationProperties the application configuration holding the key settings
+     * @param meterRegistry         the registry receiving the request counters
+     */
+    public OrderIdempotencyServiceImpl(
+            OrderService orderService,
+            OrderIdempotencyKeyRepository keyRepository,
+            PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper,
+            ApplicationProperties applicationProperties,
+            MeterRegistry meterRegistry) {
+        this.orderService = orderService;
+        this.keyRepository = keyRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.ttl = applicationProperties.getIdempotency().getTtl();
+        this.inFlightTimeout = applicationProperties.getIdempotency().getInFlightTimeout();
+        this.created = outcomeCounter(meterRegistry, "created");
+        this.replayed = outcomeCounter(meterRegistry, "replayed");
+        this.coalesced = outcomeCounter(meterRegistry, "coalesced");
+    }
+
+    @Override
+    public OrderResponse createOrder(String idempotencyKey, CreateOrderRequest request) {
+        if (idempotencyKey == null || !KEY_PATTERN.matcher(idempotencyKey).matches()) {
+            throw new BusinessException("INVALID_IDEMPOTENCY_KEY",
+                    "Idempotency-Key must be 1 to 100 printable ASCII characters without spaces");
+        }
+        String requestHash = hash(request);
+        String scope = request.userId() + ":" + idempotencyKey;
+
+        InFlight mine = new InFlight(requestHash, new CompletableFuture<>());
+        InFlight running = inFlight.putIfAbsent(scope, mine);
+        if (running != null) {
+            requireSameRequest(running.requestHash(), requestHash, idempotencyKey);
+            coalesced.increment();
+            logger.debug("Coalescing duplicate order request for Idempotency-Key {}", idempotencyKey);
+            return await(running.result(), idempotencyKey);
+        }
+        try {
+            OrderResponse response = replayOrCreate(idempotencyKey, request, requestHash);
+            mine.result().complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            mine.result().completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(scope, mine);
+        }
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${application.idempotency.purge-interval:10m}")
+    public int purgeExpired() {
+        Integer deleted = transactionTemplate.execute(status -> keyRepository.deleteExpired(LocalDateTime.now()));
+        if (deleted != null && deleted > 0) {
+            logger.info("Purged {} expired idempotency key(s)", deleted);
+        }
+        return deleted == null ? 0 : deleted;
+    }
+
+    private OrderResponse replayOrCreate(String idempotencyKey, CreateOrderRequest request, String requestHash) {
+        Optional<OrderIdempotencyKey> existing = keyRepository.findByUserIdAndIdempotencyKey(
+                request.userId(), idempotencyKey);
+        LocalDateTime now = LocalDateTime.now();
+        if (existing.isPresent() && !existing.get().isExpired(now)) {
+            return replay(existing.get(), requestHash, idempotencyKey);
+        }
+        try {
+            OrderResponse response = transactionTemplate.execute(status -> {
+                existing.ifPresent(expired -> {
+                    keyRepository.delete(expired);
+                    keyRepository.flush();
+                });
+                OrderIdempotencyKey key = keyRepository.saveAndFlush(OrderIdempotencyKey.builder()
+                        .userId(request.userId())
+                        .idempotencyKey(idempotencyKey)
+                        .requestHash(requestHash)
+                        .expiresAt(now.plus(ttl))
+                        .build());
+                OrderResponse order = orderService.createOrder(request);
+                key.setOrderId(order.id());
+                return order;
+            });
+            created.increment();
+            return Objects.requireNonNull(response);
+        } catch (DataIntegrityViolationException e) {
+            logger.info("Idempotency-Key {} was used concurrently, replaying the committed order", idempotencyKey);
+            return keyRepository.findByUserIdAndIdempotencyKey(request.userId(), idempotencyKey)
+                    .map(key -> replay(key, requestHash, idempotencyKey))
+                    .orElseThrow(() -> e);
+        }
+    }
+
+    private OrderResponse replay(OrderIdempotencyKey key, String requestHash, String idempotencyKey) {
+        requireSameRequest(key.getRequestHash(), requestHash, idempotencyKey);
+        replayed.increment();
+        logger.info("Replaying order {} for Idempotency-Key {}", key.getOrderId(), idempotencyKey);
+        return orderService.getOrderById(key.getOrderId());
+    }
+
+    private OrderResponse await(CompletableFuture<OrderResponse> result, String idempotencyKey) {
+        try {
+            return result.get(inFlightTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw inProgress(idempotencyKey);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw inProgress(idempotencyKey);
+        }
+    }
+
+    private static void requireSameRequest(String expectedHash, String requestHash, String idempotencyKey) {
+        if (!expectedHash.equals(requestHash)) {
+            throw new BusinessException("IDEMPOTENCY_KEY_REUSED",
+                    "Idempotency-Key " + idempotencyKey + " was already used for a different request");
+        }
+    }
+
+    private static BusinessException inProgress(String idempotencyKey) {
+        return new BusinessException("IDEMPOTENCY_KEY_IN_PROGRESS",
+                "A request with Idempotency-Key " + idempotencyKey + " is still being processed");
+    }
+
+    private String hash(CreateOrderRequest request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(objectMapper.writeValueAsString(request)
+                    .getBytes(StandardCharsets.UTF_8)));
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Unable to fingerprint the order request", e);
+        }
+    }
+
+    private static Counter outcomeCounter(MeterRegistry registry, String outcome) {
+        return Counter.builder("orders.idempotency.requests")
+                .tag("outcome", outcome)
+                .description("Order creations carrying an Idempotency-Key, by outcome")
+                .register(registry);
+    }
+
+    /**
+     * A request being processed on this instance.
+     *
+     * @param requestHash the fingerprint of the request
+     * @param result      completed with the outcome of the request
+     */
+    private record InFlight(String requestHash, CompletableFuture<OrderResponse> result) {
+    }
+}
@@ -0,0 +1,181 @@
+package com.safezone.order.service.impl;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.safezone.order.config.ApplicationProperties;
+import com.safezone.order.entity.OrderNumberNode;
+import com.safezone.order.repository.OrderNumberNodeRepository;
+
+/**
+ * Lease of an order number node ID in the order database.
+ * <p>
+ * Used by {@link OrderNumberGenerator} when
+ * {@code application.order-number.node-id} is not set. The instance takes the
+ * lowest expired node ID, or the next unused one, and holds it for
+ * {@code application.order-number.node-lease}, renewing it every
+ * {@code application.order-number.node-lease-renewal}. Claims lock the expired
+ * rows and inserts are keyed by node ID, so two instances never hold the same
+ * ID at once.
+ * </p>
+ * <p>
+ * The instance only uses its ID for half of the lease after the last
+ * successful renewal, which leaves the other half as a margin for clock skew
+ * between instances. If renewals keep failing past that point, order numbers
+ * are refused rather than risk a duplicate; if the lease was taken over, a new
+ * node ID is leased.
+ * </p>
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-09
+ */
+@Component
+public class OrderNumberNodeLease {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderNumberNodeLease.class);
+
+    /** Attempts at inserting a new node ID when other instances insert the same one. */
+    private static final int MAX_CLAIM_ATTEMPTS = 5;
+
+    private final OrderNumberNodeRepository nodeRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration lease;
+    private final String owner = UUID.randomUUID().toString();
+
+    /** Serializes claims and renewals without pinning virtual threads. */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /** Leased node ID, or -1 before the first claim. */
+    private volatile int nodeId = -1;
+
+    /** {@link System#nanoTime()} after which the node ID must no longer be used. */
+    private volatile long usableUntilNanos;
+
+    /**
+     * Constructs the lease.
+     *
+     * @param nodeRepository        repository of the node leases
+     * @param transactionManager    the transaction manager used to claim and renew leases
+     * @param applicationProperties the application configuration holding the lease settings
+     */
+    public OrderNumberNodeLease(
+            OrderNumberNodeRepository nodeRepository,
+            PlatformTransactionManager transactionManager,
+            ApplicationProperties applicationProperties) {
+        ApplicationProperties.OrderNumber settings = applicationProperties.getOrderNumber();
+        if (settings.getNodeLeaseRenewal().multipliedBy(2).compareTo(settings.getNodeLease()) >= 0) {
+            throw new IllegalArgumentException(
+                    "application.order-number.node-lease-renewal must be less than half of the node lease");
+        }
+        this.nodeRepository = nodeRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.lease = settings.getNodeLease();
+    }
+
+    /**
+     * Returns the leased node ID, leasing one on first use.
+     *
+     * @return the node ID, between 0 and {@link OrderNumberGenerator#MAX_NODE_ID}
+     * @throws IllegalStateException if no node ID is free or the lease could
+     *                               not be renewed in time
+     */
+    public int nodeId() {
+        int current = nodeId;
+        if (current < 0) {
+            return claim();
+        }
+        if (System.nanoTime() - usableUntilNanos > 0) {
+            throw new IllegalStateException("Order number node lease " + current + " could not be renewed in time");
+        }
+        return current;
+    }
+
+    /**
+     * Extends the lease, or leases a new node ID if it was taken over.
+     */
+    @Scheduled(fixedDelayString = "${application.order-number.node-lease-renewal:1m}")
+    public void renew() {
+        lock.lock();
+        try {
+            int current = nodeId;
+            if (current < 0) {
+                return;
+            }
+            long started = System.nanoTime();
+            LocalDateTime leasedUntil = LocalDateTime.now().plus(lease);
+            Integer renewed = transactionTemplate.execute(status -> nodeRepository.renew(current, owner, leasedUntil));
+            if (renewed != null && renewed == 1) {
+                usableUntilNanos = started + lease.toNanos() / 2;
+                return;
+            }
+            logger.error("Order number node ID {} was taken over by another instance, leasing a new one", current);
+            nodeId = -1;
+            claimLocked();
+        } catch (RuntimeException e) {
+            logger.warn("Unable to renew the order number node lease: {}", e.getMessage());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int claim() {
+        lock.lock();
+        try {
+            return claimLocked();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int claimLocked() {
+        if (nodeId >= 0) {
+            return nodeId;
+        }
+        for (int attempt = 1; attempt <= MAX_CLAIM_ATTEMPTS; attempt++) {
+            long started = System.nanoTime();
+            try {
+                Integer claimed = transactionTemplate.execute(status -> claimInTransaction());
+                usableUntilNanos = started + lease.toNanos() / 2;
+                nodeId = claimed == null ? -1 : claimed;
+                logger.info("Leased order number node ID {} for {}", nodeId, lease);
+                return nodeId;
+            } catch (DataIntegrityViolationException e) {
+                logger.debug("Order number node ID claimed concurrently, retrying (attempt {})", attempt);
+            }
+        }
+        throw new IllegalStateException("Unable to lease an order number node ID after "
+                + MAX_CLAIM_ATTEMPTS + " attempts");
+    }
+
+    private int claimInTransaction() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime leasedUntil = now.plus(lease);
+        List<OrderNumberNode> expired = nodeRepository.findExpiredForUpdate(now, PageRequest.of(0, 1));
+        if (!expired.isEmpty()) {
+            OrderNumberNode node = expired.get(0);
+            node.setOwner(owner);
+            node.setLeasedUntil(leasedUntil);
+            return node.getNodeId();
+        }
+        int next = nodeRepository.findMaxNodeId() + 1;
+        if (next > OrderNumberGenerator.MAX_NODE_ID) {
+            throw new IllegalStateException("All " + (OrderNumberGenerator.MAX_NODE_ID + 1)
+                    + " order number node IDs are leased");
+        }
+        nodeRepository.insert(next, owner, leasedUntil);
+        return next;
+    }
+}
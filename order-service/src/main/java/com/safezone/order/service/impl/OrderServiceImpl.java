@@ -1,19 +1,30 @@
 package com.safezone.order.service.impl;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import com.safezone.common.dto.CursorPageResponse;
+import com.safezone.common.dto.PageCursor;
 import com.safezone.common.exception.BusinessException;
 import com.safezone.common.exception.ResourceNotFoundException;
+import com.safezone.order.client.ProductCatalogCache;
 import com.safezone.order.client.ProductServiceClient;
 import com.safezone.order.dto.CreateOrderRequest;
 import com.safezone.order.dto.OrderItemRequest;
@@ -25,6 +36,11 @@ import com.safezone.order.entity.OrderStatus;
 import com.safezone.order.mapper.OrderMapper;
 import com.safezone.order.repository.OrderRepository;
 import com.safezone.order.service.OrderService;
+import com.safezone.order.service.StockOutboxService;
+
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Signal;
+import reactor.util.function.Tuple2;
 
 /**
  * Implementation of the {@link OrderService} interface.
@@ -32,7 +48,12 @@ import com.safezone.order.service.OrderService;
  *
  * <p>
  * Handles order lifecycle from creation through fulfillment,
- * integrating with Product Service for availability checks.
+ * integrating with Product Service for catalog data and stock reservations.
+ * Availability is decided by the stock reservation, never by cached data.
+ * Order creation resolves the catalog data and reserves the stock
+ * concurrently, so it costs about one Product Service round trip regardless
+ * of the number of items. Stock releases are recorded in the stock outbox and
+ * delivered after the transaction, never sent from inside it.
  * </p>
  *
  * @author SafeZone Team
@@ -45,10 +66,14 @@ public class OrderServiceImpl implements OrderService {
 
     private static final Logger logger = LoggerFactory.getLogger(OrderServiceImpl.class);
     private static final String ORDER_RESOURCE = "Order";
+    private static final Sort KEYSET_SORT = Sort.by(Sort.Direction.DESC, PageCursor.CREATED_AT, PageCursor.ID);
 
     private final OrderRepository orderRepository;
     private final OrderMapper orderMapper;
     private final ProductServiceClient productServiceClient;
+    private final ProductCatalogCache productCatalogCache;
+    private final StockOutboxService stockOutboxService;
+    private final OrderNumberGenerator orderNumberGenerator;
 
     /**
      * Constructs an OrderServiceImpl with required dependencies.
@@ -56,14 +81,23 @@ public class OrderServiceImpl implements OrderService {
      * @param orderRepository      repository for order persistence
      * @param orderMapper          mapper for DTO/entity conversion
      * @param productServiceClient client for product service communication
+     * @param productCatalogCache  cache of product catalog data
+     * @param stockOutboxService   outbox recording the stock releases to deliver
+     * @param orderNumberGenerator generator of the order numbers
      */
     public OrderServiceImpl(
             OrderRepository orderRepository,
             OrderMapper orderMapper,
-            ProductServiceClient productServiceClient) {
+            ProductServiceClient productServiceClient,
+            ProductCatalogCache productCatalogCache,
+            StockOutboxService stockOutboxService,
+            OrderNumberGenerator orderNumberGenerator) {
         this.orderRepository = orderRepository;
         this.orderMapper = orderMapper;
         this.productServiceClient = productServiceClient;
+        this.productCatalogCache = productCatalogCache;
+        this.stockOutboxService = stockOutboxService;
+        this.orderNumberGenerator = orderNumberGenerator;
     }
 
     @Override
@@ -71,23 +105,37 @@ public class OrderServiceImpl implements OrderService {
         logger.info("Creating new order for user: {}", request.userId());
 
         Order order = Order.builder()
-                .orderNumber(generateOrderNumber())
+                .orderNumber(orderNumberGenerator.next())
                 .userId(request.userId())
                 .status(OrderStatus.PENDING)
                 .shippingAddress(request.shippingAddress())
                 .billingAddress(request.billingAddress())
                 .build();
 
+        List<Long> productIds = request.items().stream()
+                .map(OrderItemRequest::productId)
+                .distinct()
+                .toList();
+        // The catalog lookup and the stock reservation are independent, so both
+        // calls are in flight at once. A failed reservation cancels the lookup;
+        // a failed lookup is materialized so that it never cancels a reservation
+        // that may already have been made.
+        Tuple2<Signal<Map<Long, ProductDto>>, String> resolved = Mono.zip(
+                productCatalogCache.getProducts(productIds).materialize(),
+                productServiceClient.reserveStock(order.getOrderNumber(), request.items()))
+                .block();
+        String reservationId = Objects.requireNonNull(resolved).getT2();
+        Map<Long, ProductDto> products = requireProducts(resolved.getT1(), productIds, order.getOrderNumber(),
+                reservationId);
+        registerReservationRelease(order.getOrderNumber(), reservationId);
+
         for (OrderItemRequest itemRequest : request.items()) {
-            OrderItem item = createOrderItem(itemRequest);
-            order.addItem(item);
+            order.addItem(createOrderItem(itemRequest, products.get(itemRequest.productId())));
         }
-
         order.calculateTotalAmount();
+        order.setStockReservationId(reservationId);
         Order savedOrder = orderRepository.save(order);
 
-        reserveStock(savedOrder);
-
         logger.info("Order created successfully with number: {}", savedOrder.getOrderNumber());
         return orderMapper.toResponse(savedOrder);
     }
@@ -113,24 +161,41 @@ public class OrderServiceImpl implements OrderService {
     @Transactional(readOnly = true)
     public Page<OrderResponse> getAllOrders(Pageable pageable) {
         logger.debug("Fetching all orders with pagination");
-        return orderRepository.findAll(Objects.requireNonNull(pageable))
-                .map(orderMapper::toResponse);
+        return toResponsePage(orderRepository.findPageIds(Objects.requireNonNull(pageable)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<OrderResponse> getAllOrders(String cursor, int size, boolean includeTotal) {
+        logger.debug("Fetching all orders with cursor pagination");
+        PageCursor after = PageCursor.decode(cursor);
+        ScrollPosition position = after == null ? ScrollPosition.keyset() : ScrollPosition.forward(after.keys());
+        Window<Order> window = orderRepository.findAllBy(position, KEYSET_SORT,
+                Limit.of(PageCursor.requireValidSize(size)));
+        List<Order> orders = window.getContent();
+        if (!orders.isEmpty()) {
+            // Loads the items of the whole window in one query.
+            orderRepository.findWithItemsByIdIn(orders.stream().map(Order::getId).toList());
+        }
+        String nextCursor = window.hasNext()
+                ? new PageCursor(orders.getLast().getCreatedAt(), orders.getLast().getId()).encode()
+                : null;
+        return CursorPageResponse.of(orders.stream().map(orderMapper::toResponse).toList(), size, nextCursor,
+                includeTotal ? orderRepository.count() : null);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<OrderResponse> getOrdersByUserId(Long userId, Pageable pageable) {
         logger.debug("Fetching orders for user: {}", userId);
-        return orderRepository.findByUserId(userId, pageable)
-                .map(orderMapper::toResponse);
+        return toResponsePage(orderRepository.findPageIdsByUserId(userId, pageable));
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<OrderResponse> getOrdersByStatus(OrderStatus status, Pageable pageable) {
         logger.debug("Fetching orders by status: {}", status);
-        return orderRepository.findByStatus(status, pageable)
-                .map(orderMapper::toResponse);
+        return toResponsePage(orderRepository.findPageIdsByStatus(status, pageable));
     }
 
     @Override
@@ -139,6 +204,7 @@ public class OrderServiceImpl implements OrderService {
 
         Order order = findOrderById(id);
         validateStatusTransition(order.getStatus(), status);
+        confirmStock(order, status);
 
         order.setStatus(status);
         Order updatedOrder = orderRepository.save(order);
@@ -172,22 +238,43 @@ public class OrderServiceImpl implements OrderService {
                 .orElseThrow(() -> new ResourceNotFoundException(ORDER_RESOURCE, "id", id));
     }
 
-    private String generateOrderNumber() {
-        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss"));
-        String uuid = UUID.randomUUID().toString().substring(0, 8).toUpperCase();
-        return "ORD-" + timestamp + "-" + uuid;
+    /**
+     * Loads the orders of a page of IDs with their items in one query and
+     * maps them in page order. Orders deleted between the two queries are
+     * left out.
+     */
+    private Page<OrderResponse> toResponsePage(Page<Long> ids) {
+        if (ids.isEmpty()) {
+            return new PageImpl<>(List.of(), ids.getPageable(), ids.getTotalElements());
+        }
+        Map<Long, Order> orders = orderRepository.findWithItemsByIdIn(ids.getContent()).stream()
+                .collect(Collectors.toMap(Order::getId, Function.identity()));
+        List<OrderResponse> content = ids.getContent().stream()
+                .map(orders::get)
+                .filter(Objects::nonNull)
+                .map(orderMapper::toResponse)
+                .toList();
+        return new PageImpl<>(content, ids.getPageable(), ids.getTotalElements());
     }
 
-    private OrderItem createOrderItem(OrderItemRequest request) {
-        ProductDto product = productServiceClient.getProductById(request.productId())
-                .orElseThrow(() -> new BusinessException("PRODUCT_NOT_FOUND",
-                        "Product not found with ID: " + request.productId()));
-
-        if (!productServiceClient.checkProductAvailability(request.productId(), request.quantity())) {
-            throw new BusinessException("INSUFFICIENT_STOCK",
-                    "Insufficient stock for product: " + product.name());
+    private Map<Long, ProductDto> requireProducts(Signal<Map<Long, ProductDto>> lookup, List<Long> productIds,
+            String orderNumber, String reservationId) {
+        if (lookup.isOnError()) {
+            stockOutboxService.enqueueReleaseInNewTransaction(orderNumber, reservationId);
+            throw new BusinessException("PRODUCT_LOOKUP_FAILED",
+                    "Unable to resolve the products of order " + orderNumber);
+        }
+        Map<Long, ProductDto> products = Objects.requireNonNullElse(lookup.get(), Map.of());
+        for (Long productId : productIds) {
+            if (!products.containsKey(productId)) {
+                stockOutboxService.enqueueReleaseInNewTransaction(orderNumber, reservationId);
+                throw new BusinessException("PRODUCT_NOT_FOUND", "Product not found with ID: " + productId);
+            }
         }
+        return products;
+    }
 
+    private OrderItem createOrderItem(OrderItemRequest request, ProductDto product) {
         OrderItem item = OrderItem.builder()
                 .productId(product.id())
                 .productName(product.name())
@@ -200,17 +287,62 @@ public class OrderServiceImpl implements OrderService {
         return item;
     }
 
-    private void reserveStock(Order order) {
-        for (OrderItem item : order.getItems()) {
-            productServiceClient.updateStock(item.getProductId(), -item.getQuantity())
-                    .subscribe();
+    private void registerReservationRelease(String orderNumber, String reservationId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        logger.warn("Order {} was not persisted, releasing stock reservation {}",
+                                orderNumber, reservationId);
+                        stockOutboxService.enqueueReleaseInNewTransaction(orderNumber, reservationId);
+                    }
+                }
+            });
         }
     }
 
     private void releaseStock(Order order) {
-        for (OrderItem item : order.getItems()) {
-            productServiceClient.updateStock(item.getProductId(), item.getQuantity())
-                    .subscribe();
+        if (order.getStockReservationId() == null) {
+            logger.warn("Order {} has no stock reservation to release", order.getOrderNumber());
+            return;
+        }
+        stockOutboxService.enqueueRelease(order.getOrderNumber(), order.getStockReservationId());
+    }
+
+    /**
+     * Confirms the stock hold of a pending order that moves forward, so that
+     * the Product Service no longer expires it. Fails, leaving the order
+     * pending, if the hold already expired.
+     * <p>
+     * The confirmation happens before the order is committed, so that an
+     * expired hold still stops the transition. If the commit then fails, the
+     * hold stays confirmed while the order stays pending; confirming is
+     * idempotent on the Product Service side, so retrying the transition
+     * confirms the same hold again and succeeds, and cancelling the order
+     * releases the confirmed hold.
+     * </p>
+     */
+    private void confirmStock(Order order, OrderStatus target) {
+        if (order.getStatus() != OrderStatus.PENDING || target == OrderStatus.PENDING
+                || target == OrderStatus.CANCELLED || order.getStockReservationId() == null) {
+            return;
+        }
+        productServiceClient.confirmStockReservation(order.getStockReservationId());
+        registerConfirmationRollback(order.getOrderNumber(), order.getStockReservationId(), target);
+    }
+
+    private void registerConfirmationRollback(String orderNumber, String reservationId, OrderStatus target) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        logger.warn("Order {} was not moved to {} but its stock reservation {} is confirmed; "
+                                + "retry the transition or cancel the order", orderNumber, target, reservationId);
+                    }
+                }
+            });
         }
     }
 
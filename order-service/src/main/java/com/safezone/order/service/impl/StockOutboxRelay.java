@@ -0,0 +1,58 @@
+package com.safezone.order.service.impl;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.safezone.order.config.ServiceProperties;
+import com.safezone.order.service.StockOutboxService;
+
+/**
+ * Background relay delivering stock outbox events to the Product Service.
+ * <p>
+ * Runs every {@code services.product.outbox.poll-interval} and keeps
+ * publishing batches while full batches are found, so a backlog is drained
+ * without waiting for the next tick. Disabled with
+ * {@code services.product.outbox.enabled=false}.
+ * </p>
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-09
+ */
+@Component
+@ConditionalOnProperty(prefix = "services.product.outbox", name = "enabled", matchIfMissing = true)
+public class StockOutboxRelay {
+
+    private static final Logger logger = LoggerFactory.getLogger(StockOutboxRelay.class);
+
+    private final StockOutboxService stockOutboxService;
+    private final int batchSize;
+
+    /**
+     * Constructs the relay.
+     *
+     * @param stockOutboxService the outbox to drain
+     * @param serviceProperties  the service configuration holding the outbox settings
+     */
+    public StockOutboxRelay(StockOutboxService stockOutboxService, ServiceProperties serviceProperties) {
+        this.stockOutboxService = stockOutboxService;
+        this.batchSize = serviceProperties.getProduct().getOutbox().getBatchSize();
+    }
+
+    /**
+     * Publishes due events until a batch comes back short.
+     */
+    @Scheduled(fixedDelayString = "${services.product.outbox.poll-interval:1s}")
+    public void relay() {
+        try {
+            while (stockOutboxService.publishPending() >= batchSize) {
+                logger.debug("Stock outbox batch full, publishing the next one");
+            }
+        } catch (RuntimeException e) {
+            logger.error("Stock outbox relay failed", e);
+        }
+    }
+}
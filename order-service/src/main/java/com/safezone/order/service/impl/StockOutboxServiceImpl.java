@@ -0,0 +1,209 @@
+package com.safezone.order.service.impl;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.safezone.order.client.ProductServiceClient;
+import com.safezone.order.config.ServiceProperties;
+import com.safezone.order.dto.StockReleaseResultDto;
+import com.safezone.order.entity.OutboxStatus;
+import com.safezone.order.entity.StockOutboxEvent;
+import com.safezone.order.repository.StockOutboxEventRepository;
+import com.safezone.order.service.StockOutboxService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Implementation of the {@link StockOutboxService} interface.
+ *
+ * <p>
+ * Each batch is delivered with one call to the Product Service batch release
+ * endpoint. Events for the same reservation are coalesced into one ID, and the
+ * Product Service coalesces the returned stock per product. Delivery is
+ * at least once: a release that is delivered again has no effect.
+ * </p>
+ *
+ * <p>
+ * A batch is claimed in a short transaction of its own: its rows are locked
+ * with {@code FOR UPDATE SKIP LOCKED} and their next attempt is pushed
+ * {@code services.product.outbox.claim-timeout} ahead, so other instances
+ * neither wait for nor pick them while they are being delivered. If the
+ * instance dies before recording the outcome, the events are due again once
+ * the claim runs out. Outcomes are
+ * counted in {@code stock.outbox.events} tagged by {@code outcome}, and the
+ * backlog is published as the {@code stock.outbox.pending} gauge.
+ * </p>
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-09
+ */
+@Service
+@Transactional
+public class StockOutboxServiceImpl implements StockOutboxService {
+
+    private static final Logger logger = LoggerFactory.getLogger(StockOutboxServiceImpl.class);
+
+    /** Longest error message stored on an event. */
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final StockOutboxEventRepository outboxRepository;
+    private final ProductServiceClient productServiceClient;
+    private final TransactionTemplate transactionTemplate;
+    private final ServiceProperties.Outbox settings;
+    private final Counter delivered;
+    private final Counter retried;
+    private final Counter failed;
+
+    /**
+     * Constructs a StockOutboxServiceImpl with required dependencies.
+     *
+     * @param outboxRepository     repository for outbox persistence
+     * @param productServiceClient client delivering the releases
+     * @param transactionManager   the transaction manager used to claim batches
+     * @param serviceProperties    the service configuration holding the outbox settings
+     * @param meterRegistry        the registry receiving the outbox metrics
+     */
+    public StockOutboxServiceImpl(
+            StockOutboxEventRepository outboxRepository,
+            ProductServiceClient productServiceClient,
+            PlatformTransactionManager transactionManager,
+            ServiceProperties serviceProperties,
+            MeterRegistry meterRegistry) {
+        this.outboxRepository = outboxRepository;
+        this.productServiceClient = productServiceClient;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.settings = serviceProperties.getProduct().getOutbox();
+        this.delivered = outcomeCounter(meterRegistry, "delivered");
+        this.retried = outcomeCounter(meterRegistry, "retried");
+        this.failed = outcomeCounter(meterRegistry, "failed");
+        Gauge.builder("stock.outbox.pending", outboxRepository, r -> r.countByStatus(OutboxStatus.PENDING))
+                .description("Stock outbox events waiting to be delivered")
+                .register(meterRegistry);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueRelease(String orderNumber, String reservationId) {
+        save(orderNumber, reservationId);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void enqueueReleaseInNewTransaction(String orderNumber, String reservationId) {
+        save(orderNumber, reservationId);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int publishPending() {
+        LocalDateTime now = LocalDateTime.now();
+        List<StockOutboxEvent> events = claim(now);
+        if (events.isEmpty()) {
+            return 0;
+        }
+        List<String> reservationIds = events.stream()
+                .map(StockOutboxEvent::getReservationId)
+                .distinct()
+                .toList();
+
+        StockReleaseResultDto result;
+        try {
+            result = Objects.requireNonNull(productServiceClient.releaseStockReservations(reservationIds).block());
+        } catch (RuntimeException e) {
+            logger.warn("Delivery of {} stock release(s) failed: {}", reservationIds.size(), e.getMessage());
+            events.forEach(event -> reschedule(event, e, now));
+            outboxRepository.saveAll(events);
+            return 0;
+        }
+
+        Set<String> notFound = new HashSet<>(result.notFound());
+        for (StockOutboxEvent event : events) {
+            if (notFound.contains(event.getReservationId())) {
+                markFailed(event, "Reservation not found by the Product Service");
+            } else {
+                event.setStatus(OutboxStatus.DELIVERED);
+                event.setDeliveredAt(now);
+                delivered.increment();
+            }
+        }
+        outboxRepository.saveAll(events);
+        logger.info("Delivered {} stock release(s): {} released, {} already released, {} not found",
+                events.size(), result.released().size(), result.alreadyReleased().size(), notFound.size());
+        return events.size();
+    }
+
+    /** Locks the next due batch and moves its next attempt past the claim timeout. */
+    private List<StockOutboxEvent> claim(LocalDateTime now) {
+        LocalDateTime claimedUntil = now.plus(settings.getClaimTimeout());
+        List<StockOutboxEvent> events = transactionTemplate.execute(status -> {
+            List<StockOutboxEvent> due = outboxRepository.findDueForUpdate(OutboxStatus.PENDING, now,
+                    PageRequest.of(0, settings.getBatchSize()));
+            due.forEach(event -> event.setNextAttemptAt(claimedUntil));
+            return due;
+        });
+        return events == null ? List.of() : events;
+    }
+
+    private void save(String orderNumber, String reservationId) {
+        outboxRepository.save(StockOutboxEvent.builder()
+                .orderNumber(orderNumber)
+                .reservationId(reservationId)
+                .status(OutboxStatus.PENDING)
+                .build());
+        logger.debug("Recorded release of stock reservation {} for order {}", reservationId, orderNumber);
+    }
+
+    private void reschedule(StockOutboxEvent event, RuntimeException error, LocalDateTime now) {
+        event.setAttempts(event.getAttempts() + 1);
+        if (event.getAttempts() >= settings.getMaxAttempts()) {
+            markFailed(event, error.getMessage());
+            return;
+        }
+        event.setLastError(truncate(error.getMessage()));
+        event.setNextAttemptAt(now.plus(backoff(event.getAttempts())));
+        retried.increment();
+    }
+
+    private void markFailed(StockOutboxEvent event, String error) {
+        logger.error("Giving up on release of stock reservation {} for order {}: {}",
+                event.getReservationId(), event.getOrderNumber(), error);
+        event.setStatus(OutboxStatus.FAILED);
+        event.setLastError(truncate(error));
+        failed.increment();
+    }
+
+    private Duration backoff(int attempts) {
+        Duration backoff = settings.getInitialBackoff().multipliedBy(1L << Math.min(attempts - 1, 20));
+        return backoff.compareTo(settings.getMaxBackoff()) > 0 ? settings.getMaxBackoff() : backoff;
+    }
+
+    private static String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    private static Counter outcomeCounter(MeterRegistry registry, String outcome) {
+        return Counter.builder("stock.outbox.events")
+                .tag("outcome", outcome)
+                .description("Stock outbox events by delivery outcome")
+                .register(registry);
+    }
+}
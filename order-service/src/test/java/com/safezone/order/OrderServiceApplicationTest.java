@@ -10,6 +10,8 @@ import org.springframework.context.ApplicationContext;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.web.client.RestTemplate;
 
+import com.safezone.common.metrics.VirtualThreadPinningMonitor;
+
 /**
  * Integration tests for the Order Service Application.
  * <p>
@@ -42,4 +44,10 @@ class OrderServiceApplicationTest {
     void shouldHaveOrderServiceBean() {
         assertThat(applicationContext.containsBean("orderServiceImpl")).isTrue();
     }
+
+    @Test
+    @DisplayName("Should not monitor pinning when running on platform threads")
+    void shouldNotMonitorPinningByDefault() {
+        assertThat(applicationContext.getBeanNamesForType(VirtualThreadPinningMonitor.class)).isEmpty();
+    }
 }
@@ -0,0 +1,172 @@
+package com.safezone.order.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.safezone.order.config.ServiceProperties;
+import com.safezone.order.dto.ProductDto;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+
+/**
+ * Unit tests for {@link ProductCatalogCache}.
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-09
+ */
+@DisplayName("ProductCatalogCache Tests")
+class ProductCatalogCacheTest {
+
+    private final ProductDto widget = new ProductDto(1L, "Widget", "W-1", BigDecimal.TEN, 5, true);
+    private final ProductDto gadget = new ProductDto(2L, "Gadget", "G-1", BigDecimal.ONE, 3, true);
+
+    private ProductServiceClient client;
+    private SimpleMeterRegistry registry;
+    private ProductCatalogCache cache;
+
+    @BeforeEach
+    void setUp() {
+        client = mock(ProductServiceClient.class);
+        registry = new SimpleMeterRegistry();
+        ServiceProperties properties = new ServiceProperties();
+        properties.getProduct().getCache().setMaximumSize(100);
+        properties.getProduct().getCache().setTtl(Duration.ofMinutes(1));
+        cache = new ProductCatalogCache(client, properties, registry, new ProductCatalogReplica(properties));
+    }
+
+    @Test
+    @DisplayName("getProducts loads only misses in one batch and serves hits from memory")
+    void getProductsLoadsMissesInBatch() {
+        given(client.getProducts(List.of(1L))).willReturn(Mono.just(Map.of(1L, widget)));
+        given(client.getProducts(List.of(2L))).willReturn(Mono.just(Map.of(2L, gadget)));
+
+        assertThat(cache.getProducts(List.of(1L)).block()).containsOnlyKeys(1L);
+        assertThat(cache.getProducts(List.of(1L, 2L)).block()).containsOnlyKeys(1L, 2L);
+
+        verify(client).getProducts(List.of(1L));
+        verify(client).getProducts(List.of(2L));
+        assertThat(registry.get("cache.gets").tag("cache", "productCatalog").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1.0);
+        assertThat(registry.get("cache.gets").tag("cache", "productCatalog").tag("result", "miss")
+                .functionCounter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("getProducts does not cache unknown products")
+    void getProductsDoesNotCacheUnknownProducts() {
+        given(client.getProducts(anyList())).willReturn(Mono.just(Map.of()));
+
+        assertThat(cache.getProducts(List.of(9L)).block()).isEmpty();
+        assertThat(cache.getProducts(List.of(9L)).block()).isEmpty();
+
+        verify(client, times(2)).getProducts(List.of(9L));
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("getProducts serves a fully cached lookup without calling the Product Service")
+    void getProductsServesHitsWithoutCall() {
+        given(client.getProducts(List.of(1L, 2L))).willReturn(Mono.just(Map.of(1L, widget, 2L, gadget)));
+        cache.getProducts(List.of(1L, 2L)).block();
+
+        assertThat(cache.getProducts(List.of(2L, 1L)).block()).containsOnlyKeys(1L, 2L);
+
+        verify(client).getProducts(anyList());
+    }
+
+    @Test
+    @DisplayName("getProduct caches single lookups")
+    void getProductCachesSingleLookups() {
+        given(client.getProductById(1L)).willReturn(Optional.of(widget));
+        given(client.getProductById(9L)).willReturn(Optional.empty());
+
+        assertThat(cache.getProduct(1L)).contains(widget);
+        assertThat(cache.getProduct(1L)).contains(widget);
+        assertThat(cache.getProduct(9L)).isEmpty();
+
+        verify(client).getProductById(1L);
+    }
+
+    @Test
+    @DisplayName("evict and evictAll force a reload")
+    void evictForcesReload() {
+        given(client.getProductById(1L)).willReturn(Optional.of(widget));
+        given(client.getProductById(2L)).willReturn(Optional.of(gadget));
+        cache.getProduct(1L);
+        cache.getProduct(2L);
+
+        cache.evict(1L);
+        cache.getProduct(1L);
+        cache.getProduct(2L);
+        verify(client, times(2)).getProductById(1L);
+        verify(client).getProductById(2L);
+
+        cache.evictAll();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("evict and evictAll drop replicated products so they are fetched again")
+    void evictFetchesReplicatedProductAgain(@TempDir Path directory) {
+        ServiceProperties properties = new ServiceProperties();
+        properties.getProduct().getReplica().setEnabled(true);
+        properties.getProduct().getReplica().setPath(directory.resolve("catalog.replica").toString());
+        try (ProductCatalogReplica replica = new ProductCatalogReplica(properties)) {
+            replica.putIfAbsent(widget);
+            replica.putIfAbsent(gadget);
+            ProductCatalogCache replicated = new ProductCatalogCache(client, properties, registry, replica);
+            ProductDto renamed = new ProductDto(1L, "Widget v2", "W-1", BigDecimal.TEN, 5, true);
+            given(client.getProducts(List.of(1L))).willReturn(Mono.just(Map.of(1L, renamed)));
+            given(client.getProducts(List.of(1L, 2L))).willReturn(Mono.just(Map.of(1L, renamed, 2L, gadget)));
+
+            assertThat(replicated.getProducts(List.of(1L)).block()).containsEntry(1L, widget);
+            replicated.evict(1L);
+            assertThat(replicated.getProducts(List.of(1L)).block()).containsEntry(1L, renamed);
+            assertThat(replica.get(1L)).contains(renamed);
+            verify(client).getProducts(List.of(1L));
+
+            replicated.evictAll();
+            assertThat(replicated.getProducts(List.of(1L, 2L)).block()).containsOnlyKeys(1L, 2L);
+            verify(client).getProducts(List.of(1L, 2L));
+        }
+    }
+
+    @Test
+    @DisplayName("getProducts serves replicated products and replicates the products it loads")
+    void getProductsUsesReplica(@TempDir Path directory) {
+        ServiceProperties properties = new ServiceProperties();
+        properties.getProduct().getReplica().setEnabled(true);
+        properties.getProduct().getReplica().setPath(directory.resolve("catalog.replica").toString());
+        try (ProductCatalogReplica replica = new ProductCatalogReplica(properties)) {
+            replica.putIfAbsent(widget);
+            ProductCatalogCache replicated = new ProductCatalogCache(client, properties, registry, replica);
+            given(client.getProducts(List.of(2L))).willReturn(Mono.just(Map.of(2L, gadget)));
+
+            assertThat(replicated.getProducts(List.of(1L, 2L)).block()).containsOnlyKeys(1L, 2L);
+            assertThat(replicated.getProduct(1L)).contains(widget);
+
+            assertThat(replica.get(2L)).contains(gadget);
+            verify(client).getProducts(List.of(2L));
+            verify(client, never()).getProductById(1L);
+        }
+    }
+}
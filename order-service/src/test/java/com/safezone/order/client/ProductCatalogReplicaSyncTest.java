@@ -0,0 +1,101 @@
+package com.safezone.order.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.safezone.order.config.ServiceProperties;
+import com.safezone.order.dto.ProductChangeBatchDto;
+import com.safezone.order.dto.ProductChangeDto;
+
+/**
+ * Unit tests for {@link ProductCatalogReplicaSync}.
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-09
+ */
+@DisplayName("ProductCatalogReplicaSync Tests")
+class ProductCatalogReplicaSyncTest {
+
+    @TempDir
+    private Path directory;
+
+    private ServiceProperties properties;
+    private ProductServiceClient client;
+    private ProductCatalogReplica replica;
+    private ProductCatalogReplicaSync sync;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ServiceProperties();
+        properties.getProduct().getReplica().setEnabled(true);
+        properties.getProduct().getReplica().setPath(directory.resolve("catalog.replica").toString());
+        properties.getProduct().getReplica().setBatchSize(2);
+        client = mock(ProductServiceClient.class);
+        replica = new ProductCatalogReplica(properties);
+        sync = new ProductCatalogReplicaSync(client, replica, properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        replica.close();
+    }
+
+    private static ProductChangeDto change(long version, long productId) {
+        return new ProductChangeDto(version, productId, "CREATED", "Item " + productId, "SKU-" + productId,
+                BigDecimal.ONE, true, 1);
+    }
+
+    @Test
+    @DisplayName("Should read batches until the feed reports no more changes")
+    void shouldCatchUpInOneRun() {
+        given(client.getProductChanges(0, 2)).willReturn(
+                new ProductChangeBatchDto(List.of(change(1, 1), change(2, 2)), 2, true));
+        given(client.getProductChanges(2, 2)).willReturn(
+                new ProductChangeBatchDto(List.of(change(3, 3)), 3, false));
+        given(client.getProductChanges(3, 2)).willReturn(new ProductChangeBatchDto(List.of(), 3, false));
+
+        sync.sync();
+        assertThat(replica.lastVersion()).isEqualTo(3);
+        assertThat(replica.getAll(List.of(1L, 2L, 3L))).hasSize(3);
+
+        sync.sync();
+        verify(client).getProductChanges(3, 2);
+        assertThat(replica.lastVersion()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should keep the replica at its version when the feed cannot be read")
+    void shouldSurviveFailures() {
+        given(client.getProductChanges(0, 2)).willReturn(
+                new ProductChangeBatchDto(List.of(change(1, 1), change(2, 2)), 2, true));
+        given(client.getProductChanges(2, 2)).willThrow(new IllegalStateException("Product Service down"));
+
+        sync.sync();
+
+        assertThat(replica.lastVersion()).isEqualTo(2);
+        assertThat(replica.get(2L)).isPresent();
+    }
+
+    @Test
+    @DisplayName("Should reject a batch size the change feed does not accept")
+    void shouldValidateBatchSize() {
+        properties.getProduct().getReplica().setBatchSize(ProductServiceClient.MAX_CHANGE_BATCH_SIZE + 1);
+
+        assertThatThrownBy(() -> new ProductCatalogReplicaSync(client, replica, properties))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
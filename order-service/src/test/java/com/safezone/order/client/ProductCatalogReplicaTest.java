@@ -0,0 +1,259 @@
+package com.safezone.order.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.safezone.order.config.ServiceProperties;
+import com.safezone.order.dto.ProductChangeDto;
+import com.safezone.order.dto.ProductDto;
+
+/**
+ * Unit tests for {@link ProductCatalogReplica}.
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-09
+ */
+@DisplayName("ProductCatalogReplica Tests")
+class ProductCatalogReplicaTest {
+
+    @TempDir
+    private Path directory;
+
+    private ServiceProperties properties;
+    private ProductCatalogReplica replica;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ServiceProperties();
+        properties.getProduct().getReplica().setEnabled(true);
+        properties.getProduct().getReplica().setPath(directory.resolve("catalog.replica").toString());
+        properties.getProduct().getReplica().setCapacity(64);
+        replica = new ProductCatalogReplica(properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        replica.close();
+    }
+
+    private static ProductChangeDto change(long version, long productId, String name, String price, int stock) {
+        return new ProductChangeDto(version, productId, "UPDATED", name, "SKU-" + productId,
+                new BigDecimal(price), true, stock);
+    }
+
+    private ProductCatalogReplica reopen() {
+        replica.close();
+        replica = new ProductCatalogReplica(properties);
+        return replica;
+    }
+
+    @Test
+    @DisplayName("Should apply feed changes in version order and skip older ones")
+    void shouldApplyNewerChanges() {
+        assertThat(replica.apply(List.of(change(1, 1, "Widget", "9.99", 5), change(2, 2, "Gadget", "1.50", 3)), 2))
+                .isEqualTo(2);
+        assertThat(replica.apply(List.of(change(3, 1, "Widget v2", "12.00", 4), change(2, 1, "Stale", "0.01", 0)),
+                3)).isEqualTo(1);
+        replica.apply(List.of(), 1);
+
+        assertThat(replica.get(1L)).contains(new ProductDto(1L, "Widget v2", "SKU-1", new BigDecimal("12.00"), 4,
+                true));
+        assertThat(replica.get(2L)).get().extracting(ProductDto::price).isEqualTo(new BigDecimal("1.50"));
+        assertThat(replica.getAll(List.of(1L, 2L, 3L))).containsOnlyKeys(1L, 2L);
+        assertThat(replica.get(3L)).isEmpty();
+        assertThat(replica.get(null)).isEmpty();
+        assertThat(replica.lastVersion()).isEqualTo(3);
+        assertThat(replica.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should keep fetched products below every feed version")
+    void shouldPutIfAbsent() {
+        ProductDto fetched = new ProductDto(1L, "Fetched", "SKU-1", BigDecimal.TEN, null, true);
+
+        assertThat(replica.putIfAbsent(fetched)).isTrue();
+        assertThat(replica.putIfAbsent(new ProductDto(1L, "Again", "SKU-1", BigDecimal.ONE, 1, true))).isFalse();
+        assertThat(replica.get(1L)).contains(fetched);
+
+        replica.apply(List.of(new ProductChangeDto(1L, 1L, "DELETED", "Fetched", "SKU-1", BigDecimal.TEN, false, 0)),
+                1);
+        assertThat(replica.get(1L)).get().extracting(ProductDto::active).isEqualTo(false);
+        assertThat(replica.putIfAbsent(new ProductDto(null, "No ID", "X", BigDecimal.ONE, 1, true))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should reopen warm with its products and version after a restart")
+    void shouldReopenWarm() {
+        replica.apply(List.of(change(41, 7, "Café crème", "3.20", 12)), 42);
+
+        ProductCatalogReplica reopened = reopen();
+
+        assertThat(reopened.lastVersion()).isEqualTo(42);
+        assertThat(reopened.size()).isEqualTo(1);
+        assertThat(reopened.get(7L)).get().extracting(ProductDto::name).isEqualTo("Café crème");
+        assertThat(reopened.apply(List.of(change(40, 7, "Older", "1.00", 1)), 42)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should rebuild the file when the capacity changes or the file is not a replica")
+    void shouldRebuildIncompatibleFile() throws IOException {
+        replica.apply(List.of(change(1, 1, "Widget", "9.99", 5)), 1);
+        properties.getProduct().getReplica().setCapacity(1000);
+
+        ProductCatalogReplica resized = reopen();
+        assertThat(resized.lastVersion()).isZero();
+        assertThat(resized.get(1L)).isEmpty();
+        assertThat(Files.size(directory.resolve("catalog.replica")))
+                .isEqualTo(ProductCatalogReplica.HEADER_SIZE + 2048L * ProductCatalogReplica.RECORD_SIZE);
+
+        replica.close();
+        Files.write(directory.resolve("catalog.replica"), new byte[] {1, 2, 3});
+        replica = new ProductCatalogReplica(properties);
+        assertThat(replica.size()).isZero();
+        replica.apply(List.of(change(1, 1, "Widget", "9.99", 5)), 1);
+        assertThat(replica.get(1L)).isPresent();
+    }
+
+    @Test
+    @DisplayName("Should leave products that do not fit to the Product Service")
+    void shouldSkipProductsThatDoNotFit() {
+        String longName = "N".repeat(ProductCatalogReplica.NAME_BYTES + 1);
+        replica.apply(List.of(change(1, 1, longName, "1.00", 1),
+                new ProductChangeDto(2L, 2L, "CREATED", "Huge", "SKU-2", new BigDecimal("1e40").setScale(2), true,
+                        1)), 2);
+
+        assertThat(replica.get(1L)).isEmpty();
+        assertThat(replica.get(2L)).isEmpty();
+
+        replica.apply(List.of(change(3, 1, "Short", "1.00", 1)), 3);
+        assertThat(replica.get(1L)).get().extracting(ProductDto::name).isEqualTo("Short");
+    }
+
+    @Test
+    @DisplayName("Should hold the configured maximum of products and stop adding beyond it")
+    void shouldBoundProductCount() {
+        List<ProductChangeDto> changes = new ArrayList<>();
+        for (long id = 1; id <= 100; id++) {
+            changes.add(change(id, id, "Item " + id, "1.00", 1));
+        }
+
+        assertThat(replica.apply(changes, 100)).isEqualTo(64);
+        assertThat(replica.size()).isEqualTo(64);
+        assertThat(replica.apply(List.of(change(101, 1, "Updated", "2.00", 2)), 101)).isEqualTo(1);
+        assertThat(replica.getAll(changes.stream().map(ProductChangeDto::productId).toList())).hasSize(64);
+    }
+
+    @Test
+    @DisplayName("Should size the table to keep the maximum of products at most three quarters full")
+    void shouldSizeSlotsForMaximumProducts() {
+        assertThat(ProductCatalogReplica.slots(1)).isEqualTo(16);
+        assertThat(ProductCatalogReplica.slots(48)).isEqualTo(64);
+        assertThat(ProductCatalogReplica.slots(49)).isEqualTo(128);
+        assertThat(ProductCatalogReplica.slots(65_536)).isEqualTo(131_072);
+        assertThat(ProductCatalogReplica.slots(ProductCatalogReplica.MAX_PRODUCTS))
+                .isEqualTo(ProductCatalogReplica.MAX_CAPACITY);
+    }
+
+    @Test
+    @DisplayName("Should miss invalidated and cleared products until they are written again")
+    void shouldInvalidateAndClear() {
+        replica.apply(List.of(change(1, 1, "Widget", "9.99", 5), change(2, 2, "Gadget", "1.50", 3)), 2);
+
+        replica.invalidate(1L);
+        replica.invalidate(3L);
+        replica.invalidate(null);
+        assertThat(replica.get(1L)).isEmpty();
+        assertThat(replica.get(2L)).isPresent();
+        assertThat(replica.putIfAbsent(new ProductDto(1L, "Fetched", "SKU-1", BigDecimal.TEN, 4, true))).isTrue();
+        assertThat(replica.get(1L)).get().extracting(ProductDto::name).isEqualTo("Fetched");
+        assertThat(replica.apply(List.of(change(3, 1, "Widget v2", "12.00", 4)), 3)).isEqualTo(1);
+        assertThat(replica.get(1L)).get().extracting(ProductDto::name).isEqualTo("Widget v2");
+        assertThat(replica.size()).isEqualTo(2);
+
+        replica.clear();
+        assertThat(replica.size()).isZero();
+        assertThat(replica.getAll(List.of(1L, 2L))).isEmpty();
+        assertThat(replica.lastVersion()).isEqualTo(3);
+
+        ProductCatalogReplica reopened = reopen();
+        assertThat(reopened.lastVersion()).isEqualTo(3);
+        assertThat(reopened.putIfAbsent(new ProductDto(2L, "Gadget", "SKU-2", BigDecimal.ONE, 3, true))).isTrue();
+        assertThat(reopened.get(2L)).isPresent();
+    }
+
+    @Test
+    @DisplayName("Should refuse a file already used by another replica")
+    void shouldLockFile() {
+        assertThatThrownBy(() -> new ProductCatalogReplica(properties))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("catalog.replica");
+        properties.getProduct().getReplica().setCapacity(0);
+        assertThatThrownBy(() -> new ProductCatalogReplica(properties))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should miss every lookup and open no file when disabled")
+    void shouldDoNothingWhenDisabled() {
+        ProductCatalogReplica disabled = new ProductCatalogReplica(new ServiceProperties());
+
+        assertThat(disabled.isEnabled()).isFalse();
+        assertThat(disabled.apply(List.of(change(1, 1, "Widget", "1.00", 1)), 1)).isZero();
+        assertThat(disabled.putIfAbsent(new ProductDto(1L, "Widget", "W", BigDecimal.ONE, 1, true))).isFalse();
+        assertThat(disabled.get(1L)).isEmpty();
+        assertThat(disabled.getAll(List.of(1L))).isEmpty();
+        disabled.invalidate(1L);
+        disabled.clear();
+        assertThat(disabled.lastVersion()).isZero();
+        assertThat(disabled.size()).isZero();
+        disabled.close();
+    }
+
+    @Test
+    @DisplayName("Should never return a torn product while it is rewritten")
+    void shouldReadConsistentlyDuringWrites() throws Exception {
+        replica.apply(List.of(change(1, 1, "Name 0", "0.00", 0)), 1);
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            futures.add(executor.submit(() -> {
+                for (int i = 1; i <= 5_000; i++) {
+                    replica.apply(List.of(change(i + 1L, 1, "Name " + i, i + ".00", i)), i + 1L);
+                }
+            }));
+            for (int t = 0; t < 2; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 5_000; i++) {
+                        ProductDto product = replica.get(1L).orElseThrow();
+                        int stock = product.stockQuantity();
+                        assertThat(product.name()).isEqualTo("Name " + stock);
+                        assertThat(product.price()).isEqualByComparingTo(BigDecimal.valueOf(stock));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(replica.lastVersion()).isEqualTo(5_001);
+    }
+}
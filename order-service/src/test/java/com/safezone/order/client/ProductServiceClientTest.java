@@ -0,0 +1,424 @@
+package com.safezone.order.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.time.Duration;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.client.reactive.MockClientHttpRequest;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import com.safezone.common.exception.BusinessException;
+import com.safezone.common.security.JwtTokenProvider;
+import com.safezone.order.config.ServiceProperties;
+import com.safezone.order.dto.OrderItemRequest;
+import com.safezone.order.dto.ProductChangeBatchDto;
+import com.safezone.order.dto.ProductDto;
+import com.safezone.order.dto.StockReleaseResultDto;
+
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+
+/**
+ * Unit tests for {@link ProductServiceClient}.
+ * Uses a stubbed exchange function instead of a live Product Service.
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-09
+ */
+@DisplayName("ProductServiceClient Tests")
+class ProductServiceClientTest {
+
+    private static final String BATCH_RESPONSE = """
+            {"success":true,"data":[
+              {"productId":1,"requestedQuantity":2,"available":true,
+               "product":{"id":1,"name":"Widget","sku":"W-1","price":9.99,"stockQuantity":5,"active":true}},
+              {"productId":2,"requestedQuantity":1,"available":false,"product":null}
+            ]}""";
+
+    private static final Pattern PRODUCT_ID = Pattern.compile("\"productId\":(\\d+)");
+
+    private final AtomicReference<ClientRequest> lastRequest = new AtomicReference<>();
+
+    private final JwtTokenProvider jwtTokenProvider = new JwtTokenProvider("", 60_000L);
+
+    private ProductServiceClient clientReturning(HttpStatus status, String body) {
+        WebClient.Builder builder = WebClient.builder().exchangeFunction(request -> {
+            lastRequest.set(request);
+            return Mono.just(ClientResponse.create(status)
+                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                    .body(body)
+                    .build());
+        });
+        return clientWith(builder, new ServiceProperties());
+    }
+
+    @Test
+    @DisplayName("getProducts issues a single batch call and keys found products by ID")
+    void getProductsUsesBatchEndpoint() {
+        ProductServiceClient client = clientReturning(HttpStatus.OK, BATCH_RESPONSE);
+
+        Map<Long, ProductDto> result = client.getProducts(List.of(1L, 2L)).block();
+
+        assertThat(lastRequest.get().method()).isEqualTo(HttpMethod.POST);
+        assertThat(lastRequest.get().url().getPath()).isEqualTo("/api/v1/products/batch");
+        assertThat(result).containsOnlyKeys(1L);
+        assertThat(result.get(1L).sku()).isEqualTo("W-1");
+    }
+
+    @Test
+    @DisplayName("getProducts skips the call for an empty ID list")
+    void getProductsSkipsEmptyRequest() {
+        ProductServiceClient client = clientReturning(HttpStatus.OK, BATCH_RESPONSE);
+
+        assertThat(client.getProducts(List.of()).block()).isEmpty();
+        assertThat(lastRequest.get()).isNull();
+    }
+
+    @Test
+    @DisplayName("getProducts fails when the Product Service fails")
+    void getProductsFailsOnError() {
+        ProductServiceClient client = clientReturning(HttpStatus.INTERNAL_SERVER_ERROR, "{}");
+        Mono<Map<Long, ProductDto>> products = client.getProducts(List.of(1L));
+
+        assertThatThrownBy(products::block).isInstanceOf(WebClientResponseException.class);
+    }
+
+    @Test
+    @DisplayName("getProducts splits large lookups into parallel batches and merges the results")
+    void getProductsSplitsIntoBatches() {
+        List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        WebClient.Builder builder = WebClient.builder().exchangeFunction(request -> {
+            List<String> ids = PRODUCT_ID.matcher(bodyOf(request)).results().map(match -> match.group(1)).toList();
+            batchSizes.add(ids.size());
+            String data = ids.stream()
+                    .map(id -> """
+                            {"productId":%s,"requestedQuantity":1,"available":true,"product":\
+                            {"id":%s,"name":"P%s","sku":"S-%s","price":1,"stockQuantity":1,"active":true}}"""
+                            .formatted(id, id, id, id))
+                    .collect(Collectors.joining(","));
+            return Mono.just(ClientResponse.create(HttpStatus.OK)
+                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                    .body("{\"success\":true,\"data\":[" + data + "]}")
+                    .build());
+        });
+        ServiceProperties properties = new ServiceProperties();
+        properties.getProduct().setBatchSize(2);
+        properties.getProduct().setBatchConcurrency(2);
+        ProductServiceClient client = clientWith(builder, properties);
+
+        Map<Long, ProductDto> result = client.getProducts(List.of(1L, 2L, 3L, 4L, 5L, 5L)).block();
+
+        assertThat(result).containsOnlyKeys(1L, 2L, 3L, 4L, 5L);
+        assertThat(batchSizes).containsExactlyInAnyOrder(2, 2, 1);
+    }
+
+    @Test
+    @DisplayName("Constructor rejects batch settings the Product Service cannot serve")
+    void constructorRejectsInvalidBatchSettings() {
+        ServiceProperties tooLarge = new ServiceProperties();
+        tooLarge.getProduct().setBatchSize(ProductServiceClient.MAX_BATCH_SIZE + 1);
+        ServiceProperties noConcurrency = new ServiceProperties();
+        noConcurrency.getProduct().setBatchConcurrency(0);
+
+        assertThatThrownBy(() -> clientWith(WebClient.builder(), tooLarge))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> clientWith(WebClient.builder(), noConcurrency))
+                .isInstanceOf(IllegalArgumentException.class);
+        ServiceProperties longHold = new ServiceProperties();
+        longHold.getProduct().setStockHold(ProductServiceClient.MAX_STOCK_HOLD.plusSeconds(1));
+        assertThatThrownBy(() -> clientWith(WebClient.builder(), longHold))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("reserveStock posts all items once with a service token and returns the reservation ID")
+    void reserveStockUsesReservationEndpoint() {
+        ProductServiceClient client = clientReturning(HttpStatus.CREATED,
+                "{\"success\":true,\"data\":{\"reservationId\":\"res-1\",\"status\":\"ACTIVE\"}}");
+
+        String reservationId = client.reserveStock("ORD-1",
+                List.of(new OrderItemRequest(1L, 2), new OrderItemRequest(2L, 1))).block();
+
+        assertThat(reservationId).isEqualTo("res-1");
+        assertThat(lastRequest.get().method()).isEqualTo(HttpMethod.POST);
+        assertThat(lastRequest.get().url().getPath()).isEqualTo("/api/v1/products/stock/reservations");
+        String authorization = lastRequest.get().headers().getFirst(HttpHeaders.AUTHORIZATION);
+        assertThat(authorization).startsWith("Bearer ");
+        assertThat(jwtTokenProvider.extractRoles(authorization.substring(7))).containsExactly("INVENTORY");
+        assertThat(bodyOf(lastRequest.get())).endsWith(",\"holdSeconds\":900}");
+    }
+
+    @Test
+    @DisplayName("confirmStockReservation confirms the hold and surfaces an expired hold")
+    void confirmStockReservationUsesConfirmEndpoint() {
+        clientReturning(HttpStatus.OK, "{\"success\":true}").confirmStockReservation("res-1");
+
+        assertThat(lastRequest.get().url().getPath())
+                .isEqualTo("/api/v1/products/stock/reservations/res-1/confirm");
+        assertThat(lastRequest.get().headers().getFirst(HttpHeaders.AUTHORIZATION)).startsWith("Bearer ");
+        ProductServiceClient expired = clientReturning(HttpStatus.BAD_REQUEST,
+                "{\"status\":400,\"message\":\"Stock hold res-1 expired\"}");
+        assertThatThrownBy(() -> expired.confirmStockReservation("res-1"))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("expired");
+        ProductServiceClient down = clientReturning(HttpStatus.SERVICE_UNAVAILABLE, "{}");
+        assertThatThrownBy(() -> down.confirmStockReservation("res-1"))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("Unable to confirm");
+    }
+
+    @Test
+    @DisplayName("getProductChanges reads the change feed after the given version")
+    void getProductChangesReadsFeed() {
+        ProductServiceClient client = clientReturning(HttpStatus.OK, """
+                {"success":true,"data":{"changes":[
+                  {"version":8,"productId":1,"type":"UPDATED","name":"Widget","sku":"W-1","price":9.99,
+                   "category":"OTHER","active":true,"stockQuantity":5,"changedAt":"2026-01-09T10:00:00"}
+                ],"lastVersion":8,"hasMore":true}}""");
+
+        ProductChangeBatchDto batch = client.getProductChanges(7, 1);
+
+        assertThat(lastRequest.get().method()).isEqualTo(HttpMethod.GET);
+        assertThat(lastRequest.get().url().getPath()).isEqualTo("/api/v1/products/changes");
+        assertThat(lastRequest.get().url().getQuery()).isEqualTo("since=7&limit=1");
+        assertThat(batch.lastVersion()).isEqualTo(8);
+        assertThat(batch.hasMore()).isTrue();
+        assertThat(batch.changes()).singleElement().satisfies(change -> {
+            assertThat(change.type()).isEqualTo("UPDATED");
+            assertThat(change.toProduct().price()).isEqualByComparingTo("9.99");
+        });
+        ProductServiceClient down = clientReturning(HttpStatus.INTERNAL_SERVER_ERROR, "{}");
+        assertThatThrownBy(() -> down.getProductChanges(0, 1)).isInstanceOf(WebClientResponseException.class);
+    }
+
+    @Test
+    @DisplayName("getProductById serves replicated products and replicates fetched ones")
+    void getProductByIdUsesReplica(@TempDir Path directory) {
+        AtomicInteger calls = new AtomicInteger();
+        WebClient.Builder builder = WebClient.builder().exchangeFunction(request -> {
+            calls.incrementAndGet();
+            return Mono.just(ClientResponse.create(HttpStatus.OK)
+                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                    .body("""
+                            {"success":true,"data":{"id":1,"name":"Widget","sku":"W-1","price":9.99,
+                             "stockQuantity":5,"active":true}}""")
+                    .build());
+        });
+        ServiceProperties properties = new ServiceProperties();
+        properties.getProduct().getReplica().setEnabled(true);
+        properties.getProduct().getReplica().setPath(directory.resolve("catalog.replica").toString());
+        ProductServiceClient client = clientWith(builder, properties);
+
+        Optional<ProductDto> fetched = client.getProductById(1L);
+        Optional<ProductDto> replicated = client.getProductById(1L);
+
+        assertThat(calls).hasValue(1);
+        assertThat(replicated).isEqualTo(fetched);
+        assertThat(replicated).get().extracting(ProductDto::sku).isEqualTo("W-1");
+    }
+
+    @Test
+    @DisplayName("reserveStock surfaces the Product Service error message on rejection")
+    void reserveStockThrowsOnRejection() {
+        ProductServiceClient client = clientReturning(HttpStatus.BAD_REQUEST,
+                "{\"status\":400,\"message\":\"Insufficient stock for product 1, requested: 2\"}");
+        List<OrderItemRequest> items = List.of(new OrderItemRequest(1L, 2));
+
+        assertThatThrownBy(() -> client.reserveStock("ORD-1", items).block())
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("Insufficient stock for product 1");
+    }
+
+    @Test
+    @DisplayName("reserveStock fails when the Product Service is unavailable")
+    void reserveStockThrowsOnServerError() {
+        ProductServiceClient client = clientReturning(HttpStatus.SERVICE_UNAVAILABLE, "{}");
+        List<OrderItemRequest> items = List.of(new OrderItemRequest(1L, 2));
+
+        assertThatThrownBy(() -> client.reserveStock("ORD-1", items).block())
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("Unable to reserve stock");
+    }
+
+    private final List<ProductCatalogReplica> replicas = new CopyOnWriteArrayList<>();
+
+    @AfterEach
+    void closeReplicas() {
+        replicas.forEach(ProductCatalogReplica::close);
+    }
+
+    private ProductServiceClient clientWith(WebClient.Builder builder, ServiceProperties properties) {
+        ProductCatalogReplica replica = new ProductCatalogReplica(properties);
+        replicas.add(replica);
+        return new ProductServiceClient(builder.baseUrl("http://product-service").build(), jwtTokenProvider,
+                properties, new ProductServiceResilience(properties, new SimpleMeterRegistry()),
+                replica);
+    }
+
+    private static String bodyOf(ClientRequest request) {
+        MockClientHttpRequest httpRequest = new MockClientHttpRequest(request.method(), request.url());
+        request.writeTo(httpRequest, ExchangeStrategies.withDefaults()).block();
+        return httpRequest.getBodyAsString().block();
+    }
+
+    @Test
+    @DisplayName("releaseStockReservation calls the release endpoint and reports the outcome")
+    void releaseStockReservationReportsOutcome() {
+        assertThat(clientReturning(HttpStatus.OK, "{\"success\":true}").releaseStockReservation("res-1")).isTrue();
+        assertThat(lastRequest.get().url().getPath())
+                .isEqualTo("/api/v1/products/stock/reservations/res-1/release");
+        assertThat(clientReturning(HttpStatus.NOT_FOUND, "{}").releaseStockReservation("res-1")).isFalse();
+    }
+
+    @Test
+    @DisplayName("releaseStockReservations releases a batch in one call with a service token")
+    void releaseStockReservationsUsesBatchEndpoint() {
+        ProductServiceClient client = clientReturning(HttpStatus.OK, """
+                {"success":true,"data":{"released":["res-1"],"alreadyReleased":["res-2"],"notFound":[]}}""");
+
+        StockReleaseResultDto result = client.releaseStockReservations(List.of("res-1", "res-2")).block();
+
+        assertThat(result.released()).containsExactly("res-1");
+        assertThat(result.alreadyReleased()).containsExactly("res-2");
+        assertThat(lastRequest.get().url().getPath()).isEqualTo("/api/v1/products/stock/reservations/release");
+        assertThat(bodyOf(lastRequest.get())).isEqualTo("{\"reservationIds\":[\"res-1\",\"res-2\"]}");
+        assertThat(lastRequest.get().headers().getFirst(HttpHeaders.AUTHORIZATION)).startsWith("Bearer ");
+        assertThatThrownBy(() -> clientReturning(HttpStatus.OK, "{\"success\":true}")
+                .releaseStockReservations(List.of("res-1")).block())
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("checkProductAvailability reports rejected products as unavailable")
+    void checkProductAvailabilityReportsAnswer() {
+        assertThat(clientReturning(HttpStatus.OK, "{\"success\":true,\"data\":true}")
+                .checkProductAvailability(1L, 2)).isTrue();
+        assertThat(lastRequest.get().url().getQuery()).isEqualTo("quantity=2");
+        assertThat(clientReturning(HttpStatus.NOT_FOUND, "{}").checkProductAvailability(1L, 2)).isFalse();
+    }
+
+    @Test
+    @DisplayName("checkProductAvailability fails instead of reporting no stock when the Product Service is down")
+    void checkProductAvailabilityFailsOnOutage() {
+        ProductServiceClient client = clientReturning(HttpStatus.SERVICE_UNAVAILABLE, "{}");
+
+        assertThatThrownBy(() -> client.checkProductAvailability(1L, 2))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ProductServiceResilience.PRODUCT_SERVICE_UNAVAILABLE);
+    }
+
+    @Test
+    @DisplayName("Read-only lookups are retried on server errors while reservations are not")
+    void onlyReadsAreRetried() {
+        AtomicInteger calls = new AtomicInteger();
+        ServiceProperties properties = fastRetries();
+        ProductServiceClient client = clientWith(countingBuilder(calls, HttpStatus.SERVICE_UNAVAILABLE), properties);
+        Mono<Map<Long, ProductDto>> products = client.getProducts(List.of(1L));
+        Mono<String> reservation = client.reserveStock("ORD-1", List.of(new OrderItemRequest(1L, 1)));
+
+        assertThatThrownBy(products::block).isInstanceOf(WebClientResponseException.class);
+        assertThat(calls.getAndSet(0)).isEqualTo(3);
+
+        assertThatThrownBy(reservation::block).isInstanceOf(BusinessException.class);
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Rejected reservations are not counted as Product Service failures")
+    void clientErrorsDoNotOpenTheCircuit() {
+        AtomicInteger calls = new AtomicInteger();
+        ServiceProperties properties = fastRetries();
+        properties.getProduct().getResilience().setSlidingWindowSize(2);
+        properties.getProduct().getResilience().setMinimumNumberOfCalls(2);
+        ProductServiceClient client = clientWith(countingBuilder(calls, HttpStatus.BAD_REQUEST), properties);
+        List<OrderItemRequest> items = List.of(new OrderItemRequest(1L, 1));
+
+        for (int i = 0; i < 5; i++) {
+            assertThatThrownBy(() -> client.reserveStock("ORD-1", items).block())
+                    .isInstanceOf(BusinessException.class);
+        }
+
+        assertThat(calls.get()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("An open circuit rejects calls without contacting the Product Service")
+    void openCircuitFailsFast() {
+        AtomicInteger calls = new AtomicInteger();
+        ServiceProperties properties = new ServiceProperties();
+        properties.getProduct().getResilience().setRetryMaxAttempts(1);
+        properties.getProduct().getResilience().setSlidingWindowSize(2);
+        properties.getProduct().getResilience().setMinimumNumberOfCalls(2);
+        ProductServiceClient client = clientWith(countingBuilder(calls, HttpStatus.SERVICE_UNAVAILABLE), properties);
+        List<OrderItemRequest> items = List.of(new OrderItemRequest(1L, 1));
+
+        client.getProducts(List.of(1L)).onErrorComplete().block();
+        client.getProducts(List.of(2L)).onErrorComplete().block();
+
+        assertThatThrownBy(() -> client.reserveStock("ORD-1", items).block())
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ProductServiceResilience.PRODUCT_SERVICE_UNAVAILABLE);
+        assertThat(client.getProductById(1L)).isEmpty();
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("The bulkhead rejects calls beyond the concurrency limit")
+    void bulkheadLimitsConcurrentCalls() {
+        ServiceProperties properties = new ServiceProperties();
+        properties.getProduct().getResilience().setMaxConcurrentCalls(1);
+        properties.getProduct().getHttp().setResponseTimeout(Duration.ofSeconds(30));
+        WebClient.Builder builder = WebClient.builder().exchangeFunction(request -> Mono.never());
+        ProductServiceClient client = clientWith(builder, properties);
+
+        var pending = client.getProducts(List.of(1L)).subscribe();
+        try {
+            assertThatThrownBy(() -> client.getProducts(List.of(2L)).block())
+                    .isInstanceOf(BulkheadFullException.class);
+        } finally {
+            pending.dispose();
+        }
+    }
+
+    private static ServiceProperties fastRetries() {
+        ServiceProperties properties = new ServiceProperties();
+        ServiceProperties.Resilience resilience = properties.getProduct().getResilience();
+        resilience.setRetryMaxAttempts(3);
+        resilience.setRetryInitialBackoff(Duration.ofMillis(1));
+        return properties;
+    }
+
+    private static WebClient.Builder countingBuilder(AtomicInteger calls, HttpStatus status) {
+        return WebClient.builder().exchangeFunction(request -> {
+            calls.incrementAndGet();
+            return Mono.just(ClientResponse.create(status)
+                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                    .body("{\"status\":" + status.value() + ",\"message\":\"" + status.getReasonPhrase() + "\"}")
+                    .build());
+        });
+    }
+}
@@ -0,0 +1,106 @@
+package com.safezone.order.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.safezone.common.exception.BusinessException;
+import com.safezone.order.config.ServiceProperties;
+
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+
+/**
+ * Unit tests for {@link ProductServiceResilience}.
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-09
+ */
+@DisplayName("ProductServiceResilience Tests")
+class ProductServiceResilienceTest {
+
+    private SimpleMeterRegistry registry;
+    private ProductServiceResilience resilience;
+
+    @BeforeEach
+    void setUp() {
+        ServiceProperties properties = new ServiceProperties();
+        ServiceProperties.Resilience settings = properties.getProduct().getResilience();
+        settings.setSlidingWindowSize(4);
+        settings.setMinimumNumberOfCalls(4);
+        settings.setSlowCallDurationThreshold(Duration.ofMillis(20));
+        settings.setRetryMaxAttempts(3);
+        settings.setRetryInitialBackoff(Duration.ofMillis(1));
+        registry = new SimpleMeterRegistry();
+        resilience = new ProductServiceResilience(properties, registry);
+    }
+
+    @Test
+    @DisplayName("Reads are retried on timeouts until they succeed")
+    void readRetriesTransientErrors() {
+        AtomicInteger attempts = new AtomicInteger();
+        Mono<String> call = Mono.defer(() -> attempts.incrementAndGet() < 3
+                ? Mono.error(new TimeoutException("slow"))
+                : Mono.just("ok"));
+
+        assertThat(resilience.read(call).block()).isEqualTo("ok");
+        assertThat(attempts.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Reads are not retried on business errors and writes are never retried")
+    void nonTransientErrorsAndWritesAreNotRetried() {
+        AtomicInteger attempts = new AtomicInteger();
+        Mono<String> rejected = Mono.defer(() -> {
+            attempts.incrementAndGet();
+            return Mono.error(new BusinessException("OUT_OF_STOCK", "no stock"));
+        });
+        Mono<String> timedOut = Mono.defer(() -> {
+            attempts.incrementAndGet();
+            return Mono.error(new TimeoutException("slow"));
+        });
+
+        assertThatThrownBy(() -> resilience.read(rejected).block()).isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> resilience.write(timedOut).block()).hasCauseInstanceOf(TimeoutException.class);
+        assertThat(attempts.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Slow calls open the circuit, which then rejects calls")
+    void slowCallsOpenTheCircuit() {
+        Mono<String> slow = Mono.just("late").delayElement(Duration.ofMillis(40));
+        for (int i = 0; i < 4; i++) {
+            resilience.write(slow).block();
+        }
+
+        assertThat(resilience.getCircuitBreaker().getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThatThrownBy(() -> resilience.write(Mono.just("fast")).block())
+                .isInstanceOf(CallNotPermittedException.class)
+                .matches(ProductServiceResilience::isRejected);
+        assertThat(ProductServiceResilience.unavailable(new IllegalStateException("x")).getErrorCode())
+                .isEqualTo(ProductServiceResilience.PRODUCT_SERVICE_UNAVAILABLE);
+    }
+
+    @Test
+    @DisplayName("Circuit breaker, bulkhead and retry state is published as tagged meters")
+    void publishesStateMetrics() {
+        resilience.getCircuitBreaker().transitionToOpenState();
+
+        assertThat(registry.get("resilience4j.circuitbreaker.state")
+                .tags("name", ProductServiceResilience.NAME, "state", "open").gauge().value()).isEqualTo(1.0);
+        assertThat(registry.get("resilience4j.bulkhead.available.concurrent.calls")
+                .tag("name", ProductServiceResilience.NAME).gauge().value()).isEqualTo(50.0);
+        assertThat(registry.find("resilience4j.retry.calls").tag("name", ProductServiceResilience.NAME).meters())
+                .isNotEmpty();
+    }
+}
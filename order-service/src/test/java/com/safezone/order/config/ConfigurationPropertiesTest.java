@@ -2,8 +2,11 @@ package com.safezone.order.config;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.time.Duration;
+
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
 
 /**
  * Tests for configuration properties classes.
@@ -24,6 +27,121 @@ class ConfigurationPropertiesTest {
         assertThat(props.getProduct().getUrl()).isEqualTo("http://localhost:8081");
     }
 
+    @Test
+    @DisplayName("ServiceProperties exposes product cache defaults and setters")
+    void servicePropertiesProductCache() {
+        ServiceProperties props = new ServiceProperties();
+
+        assertThat(props.getProduct().getCache().getMaximumSize()).isEqualTo(10_000L);
+        assertThat(props.getProduct().getCache().getTtl()).isEqualTo(Duration.ofMinutes(5));
+
+        props.getProduct().getCache().setMaximumSize(50);
+        props.getProduct().getCache().setTtl(Duration.ofSeconds(30));
+
+        assertThat(props.getProduct().getCache().getMaximumSize()).isEqualTo(50L);
+        assertThat(props.getProduct().getCache().getTtl()).isEqualTo(Duration.ofSeconds(30));
+    }
+
+    @Test
+    @DisplayName("ServiceProperties exposes product batch and HTTP client defaults and setters")
+    void servicePropertiesProductHttp() {
+        ServiceProperties props = new ServiceProperties();
+        ServiceProperties.Http http = props.getProduct().getHttp();
+
+        assertThat(props.getProduct().getBatchSize()).isEqualTo(500);
+        assertThat(props.getProduct().getBatchConcurrency()).isEqualTo(4);
+        assertThat(http.getMaxConnections()).isEqualTo(50);
+        assertThat(http.getPendingAcquireMaxCount()).isEqualTo(500);
+        assertThat(http.getPendingAcquireTimeout()).isEqualTo(Duration.ofSeconds(5));
+        assertThat(http.getMaxIdleTime()).isEqualTo(Duration.ofSeconds(30));
+        assertThat(http.getMaxLifeTime()).isEqualTo(Duration.ofMinutes(5));
+        assertThat(http.getEvictionInterval()).isEqualTo(Duration.ofSeconds(30));
+        assertThat(http.getConnectTimeout()).isEqualTo(Duration.ofSeconds(2));
+        assertThat(http.getResponseTimeout()).isEqualTo(Duration.ofSeconds(5));
+        assertThat(http.isHttp2()).isFalse();
+        assertThat(http.getMaxResponseSize()).isEqualTo(DataSize.ofMegabytes(1));
+        assertThat(http.isMetricsEnabled()).isTrue();
+
+        props.getProduct().setBatchSize(100);
+        props.getProduct().setBatchConcurrency(8);
+        http.setMaxConnections(200);
+        http.setPendingAcquireMaxCount(-1);
+        http.setPendingAcquireTimeout(Duration.ofSeconds(1));
+        http.setMaxIdleTime(Duration.ofSeconds(10));
+        http.setMaxLifeTime(Duration.ofMinutes(1));
+        http.setEvictionInterval(Duration.ZERO);
+        http.setConnectTimeout(Duration.ofMillis(500));
+        http.setResponseTimeout(Duration.ofSeconds(2));
+        http.setHttp2(true);
+        http.setMaxResponseSize(DataSize.ofKilobytes(256));
+        http.setMetricsEnabled(false);
+
+        assertThat(props.getProduct().getBatchSize()).isEqualTo(100);
+        assertThat(props.getProduct().getBatchConcurrency()).isEqualTo(8);
+        assertThat(http.getMaxConnections()).isEqualTo(200);
+        assertThat(http.getPendingAcquireMaxCount()).isEqualTo(-1);
+        assertThat(http.getPendingAcquireTimeout()).isEqualTo(Duration.ofSeconds(1));
+        assertThat(http.getMaxIdleTime()).isEqualTo(Duration.ofSeconds(10));
+        assertThat(http.getMaxLifeTime()).isEqualTo(Duration.ofMinutes(1));
+        assertThat(http.getEvictionInterval()).isEqualTo(Duration.ZERO);
+        assertThat(http.getConnectTimeout()).isEqualTo(Duration.ofMillis(500));
+        assertThat(http.getResponseTimeout()).isEqualTo(Duration.ofSeconds(2));
+        assertThat(http.isHttp2()).isTrue();
+        assertThat(http.getMaxResponseSize()).isEqualTo(DataSize.ofKilobytes(256));
+        assertThat(http.isMetricsEnabled()).isFalse();
+    }
+
+    @Test
+    @DisplayName("ServiceProperties exposes product resilience defaults and setters")
+    void servicePropertiesProductResilience() {
+        ServiceProperties.Resilience resilience = new ServiceProperties().getProduct().getResilience();
+
+        assertThat(resilience.getFailureRateThreshold()).isEqualTo(50f);
+        assertThat(resilience.getSlowCallRateThreshold()).isEqualTo(50f);
+        assertThat(resilience.getSlowCallDurationThreshold()).isEqualTo(Duration.ofSeconds(2));
+        assertThat(resilience.getSlidingWindowSize()).isEqualTo(20);
+        assertThat(resilience.getMinimumNumberOfCalls()).isEqualTo(10);
+        assertThat(resilience.getWaitDurationInOpenState()).isEqualTo(Duration.ofSeconds(10));
+        assertThat(resilience.getPermittedCallsInHalfOpenState()).isEqualTo(3);
+        assertThat(resilience.getMaxConcurrentCalls()).isEqualTo(50);
+        assertThat(resilience.getRetryMaxAttempts()).isEqualTo(2);
+        assertThat(resilience.getRetryInitialBackoff()).isEqualTo(Duration.ofMillis(100));
+        assertThat(resilience.getRetryJitter()).isEqualTo(0.5);
+
+        resilience.setFailureRateThreshold(25f);
+        resilience.setSlowCallRateThreshold(80f);
+        resilience.setWaitDurationInOpenState(Duration.ofSeconds(30));
+        resilience.setPermittedCallsInHalfOpenState(5);
+        resilience.setRetryJitter(0.2);
+
+        assertThat(resilience.getFailureRateThreshold()).isEqualTo(25f);
+        assertThat(resilience.getSlowCallRateThreshold()).isEqualTo(80f);
+        assertThat(resilience.getWaitDurationInOpenState()).isEqualTo(Duration.ofSeconds(30));
+        assertThat(resilience.getPermittedCallsInHalfOpenState()).isEqualTo(5);
+        assertThat(resilience.getRetryJitter()).isEqualTo(0.2);
+    }
+
+    @Test
+    @DisplayName("ServiceProperties exposes stock outbox defaults and setters")
+    void servicePropertiesProductOutbox() {
+        ServiceProperties.Outbox outbox = new ServiceProperties().getProduct().getOutbox();
+
+        assertThat(outbox.isEnabled()).isTrue();
+        assertThat(outbox.getPollInterval()).isEqualTo(Duration.ofSeconds(1));
+        assertThat(outbox.getBatchSize()).isEqualTo(100);
+        assertThat(outbox.getMaxAttempts()).isEqualTo(10);
+        assertThat(outbox.getInitialBackoff()).isEqualTo(Duration.ofSeconds(1));
+        assertThat(outbox.getMaxBackoff()).isEqualTo(Duration.ofMinutes(5));
+
+        outbox.setEnabled(false);
+        outbox.setPollInterval(Duration.ofMillis(200));
+        outbox.setMaxBackoff(Duration.ofSeconds(30));
+
+        assertThat(outbox.isEnabled()).isFalse();
+        assertThat(outbox.getPollInterval()).isEqualTo(Duration.ofMillis(200));
+        assertThat(outbox.getMaxBackoff()).isEqualTo(Duration.ofSeconds(30));
+    }
+
     @Test
     @DisplayName("ServiceProperties sets and gets user URL")
     void servicePropertiesUserUrl() {
@@ -59,4 +177,22 @@ class ConfigurationPropertiesTest {
 
         assertThat(props.getJwt().getSecret()).isEqualTo("app-secret");
     }
+
+    @Test
+    @DisplayName("ApplicationProperties exposes idempotency defaults and setters")
+    void applicationPropertiesIdempotency() {
+        ApplicationProperties.Idempotency idempotency = new ApplicationProperties().getIdempotency();
+
+        assertThat(idempotency.getTtl()).isEqualTo(Duration.ofHours(24));
+        assertThat(idempotency.getInFlightTimeout()).isEqualTo(Duration.ofSeconds(30));
+        assertThat(idempotency.getPurgeInterval()).isEqualTo(Duration.ofMinutes(10));
+
+        idempotency.setTtl(Duration.ofHours(1));
+        idempotency.setInFlightTimeout(Duration.ofSeconds(5));
+        idempotency.setPurgeInterval(Duration.ofMinutes(1));
+
+        assertThat(idempotency.getTtl()).isEqualTo(Duration.ofHours(1));
+        assertThat(idempotency.getInFlightTimeout()).isEqualTo(Duration.ofSeconds(5));
+        assertThat(idempotency.getPurgeInterval()).isEqualTo(Duration.ofMinutes(1));
+    }
 }
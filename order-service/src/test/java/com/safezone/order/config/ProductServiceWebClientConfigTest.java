@@ -0,0 +1,111 @@
+package com.safezone.order.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import io.micrometer.core.instrument.Metrics;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * Tests for {@link ProductServiceWebClientConfig} against a local HTTP server.
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-09
+ */
+@DisplayName("ProductServiceWebClientConfig Tests")
+class ProductServiceWebClientConfigTest {
+
+    private final ProductServiceWebClientConfig config = new ProductServiceWebClientConfig();
+
+    private HttpServer server;
+    private ConnectionProvider connectionProvider;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/small", exchange -> respond(exchange, "{\"success\":true}"));
+        server.createContext("/large", exchange -> respond(exchange, "x".repeat(4096)));
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (connectionProvider != null) {
+            connectionProvider.dispose();
+        }
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("Connection pool is named and sized from the HTTP settings")
+    void connectionProviderUsesSettings() {
+        ServiceProperties properties = new ServiceProperties();
+        properties.getProduct().getHttp().setMaxConnections(7);
+
+        connectionProvider = config.productServiceConnectionProvider(properties);
+
+        assertThat(connectionProvider.name()).isEqualTo(ProductServiceWebClientConfig.POOL_NAME);
+        assertThat(connectionProvider.maxConnections()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("WebClient reuses pooled connections and publishes pool metrics")
+    void webClientPublishesPoolMetrics() {
+        WebClient webClient = webClient(new ServiceProperties());
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(webClient.get().uri("/small").retrieve().bodyToMono(String.class).block())
+                    .contains("success");
+        }
+
+        assertThat(Metrics.globalRegistry.find("reactor.netty.connection.provider.total.connections")
+                .tag("name", ProductServiceWebClientConfig.POOL_NAME)
+                .gauge()).isNotNull();
+        assertThat(Metrics.globalRegistry.find("reactor.netty.connection.provider.idle.connections")
+                .tag("name", ProductServiceWebClientConfig.POOL_NAME)
+                .gauge()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("WebClient rejects responses above the configured size")
+    void webClientLimitsResponseSize() {
+        ServiceProperties properties = new ServiceProperties();
+        properties.getProduct().getHttp().setMaxResponseSize(DataSize.ofBytes(1024));
+        WebClient webClient = webClient(properties);
+
+        assertThatThrownBy(() -> webClient.get().uri("/large").retrieve().bodyToMono(String.class).block())
+                .hasRootCauseInstanceOf(DataBufferLimitException.class);
+    }
+
+    private WebClient webClient(ServiceProperties properties) {
+        connectionProvider = config.productServiceConnectionProvider(properties);
+        return config.productServiceWebClient(WebClient.builder(), properties, connectionProvider,
+                "http://localhost:" + server.getAddress().getPort());
+    }
+
+    private static void respond(HttpExchange exchange, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.safezone.order.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.apache.tomcat.util.threads.VirtualThreadExecutor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+
+import com.safezone.common.metrics.VirtualThreadPinningMonitor;
+
+/**
+ * Verifies the virtual-thread execution mode of the Order Service.
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-09
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.threads.virtual.enabled=true")
+@DisplayName("Virtual Thread Mode Tests")
+class VirtualThreadModeTest {
+
+    @Autowired
+    private ServletWebServerApplicationContext applicationContext;
+
+    @Test
+    @DisplayName("Should handle requests on virtual threads")
+    void shouldUseVirtualThreadExecutor() {
+        TomcatWebServer webServer = (TomcatWebServer) applicationContext.getWebServer();
+
+        assertThat(webServer.getTomcat().getConnector().getProtocolHandler().getExecutor())
+                .isInstanceOf(VirtualThreadExecutor.class);
+    }
+
+    @Test
+    @DisplayName("Should monitor virtual thread pinning")
+    void shouldStartPinningMonitor() {
+        assertThat(applicationContext.getBean(VirtualThreadPinningMonitor.class).isRunning()).isTrue();
+    }
+}
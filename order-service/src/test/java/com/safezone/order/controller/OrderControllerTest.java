@@ -3,7 +3,10 @@ package com.safezone.order.controller;
 import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
@@ -31,10 +34,12 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.safezone.common.dto.CursorPageResponse;
 import com.safezone.order.dto.CreateOrderRequest;
 import com.safezone.order.dto.OrderItemRequest;
 import com.safezone.order.dto.OrderResponse;
 import com.safezone.order.entity.OrderStatus;
+import com.safezone.order.service.OrderIdempotencyService;
 import com.safezone.order.service.OrderService;
 
 /**
@@ -59,6 +64,9 @@ class OrderControllerTest {
     @MockitoBean
     private OrderService orderService;
 
+    @MockitoBean
+    private OrderIdempotencyService orderIdempotencyService;
+
     private OrderResponse testOrderResponse;
 
     @BeforeEach
@@ -103,6 +111,29 @@ class OrderControllerTest {
                     .andExpect(jsonPath("$.data.orderNumber").value("ORD-20260106-ABC12345"));
         }
 
+        @Test
+        @DisplayName("Should route keyed order creation through the idempotency service")
+        @WithMockUser(username = "user1", roles = "USER")
+        void shouldCreateOrderWithIdempotencyKey() throws Exception {
+            CreateOrderRequest request = new CreateOrderRequest(
+                    1L,
+                    List.of(new OrderItemRequest(1L, 2)),
+                    "123 Test St",
+                    null);
+
+            given(orderIdempotencyService.createOrder(eq("key-1"), any(CreateOrderRequest.class)))
+                    .willReturn(testOrderResponse);
+
+            mockMvc.perform(post("/api/v1/orders")
+                    .with(csrf())
+                    .header(OrderController.IDEMPOTENCY_KEY_HEADER, "key-1")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.data.id").value(1));
+            verify(orderService, never()).createOrder(any(CreateOrderRequest.class));
+        }
+
         @Test
         @DisplayName("Should reject create order without authentication")
         void shouldRejectCreateOrderWithoutAuth() throws Exception {
@@ -190,6 +221,22 @@ class OrderControllerTest {
                     .andExpect(jsonPath("$.data.content", hasSize(1)));
         }
 
+        @Test
+        @DisplayName("Should get all orders with cursor pagination")
+        void shouldScrollOrders() throws Exception {
+            given(orderService.getAllOrders("abc", 10, false))
+                    .willReturn(CursorPageResponse.of(List.of(testOrderResponse), 10, "next", null));
+
+            mockMvc.perform(get("/api/v1/orders/scroll")
+                    .param("cursor", "abc")
+                    .param("size", "10")
+                    .param("includeTotal", "false"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.content", hasSize(1)))
+                    .andExpect(jsonPath("$.data.nextCursor").value("next"))
+                    .andExpect(jsonPath("$.data.hasNext").value(true));
+        }
+
         @Test
         @DisplayName("Should get all orders with descending sort")
         void shouldGetAllOrdersWithDescSort() throws Exception {
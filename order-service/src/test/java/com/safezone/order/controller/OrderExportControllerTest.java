@@ -0,0 +1,77 @@
+package com.safezone.order.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.safezone.order.dto.ExportFormat;
+import com.safezone.order.service.OrderExportService;
+
+/**
+ * Tests for {@link OrderExportController}.
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-09
+ */
+@WebMvcTest(OrderExportController.class)
+@DisplayName("OrderExportController Tests")
+class OrderExportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private OrderExportService orderExportService;
+
+    @Test
+    @WithMockUser(username = "admin", roles = "ADMIN")
+    @DisplayName("Should stream the export of the inclusive day range as an attachment")
+    void shouldStreamExport() throws Exception {
+        given(orderExportService.exportOrders(eq(LocalDateTime.of(2026, 1, 1, 0, 0)),
+                eq(LocalDateTime.of(2026, 2, 1, 0, 0)), eq(ExportFormat.CSV), any())).willAnswer(invocation -> {
+                    invocation.getArgument(3, OutputStream.class).write("order_number\n".getBytes(StandardCharsets.UTF_8));
+                    return 0L;
+                });
+
+        mockMvc.perform(get("/api/v1/orders/export")
+                .param("from", "2026-01-01")
+                .param("to", "2026-01-31")
+                .param("format", "CSV"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                .andExpect(header().string("Content-Disposition",
+                        "attachment; filename=\"orders-2026-01-01-2026-01-31.csv\""))
+                .andExpect(content().string("order_number\n"));
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = "ADMIN")
+    @DisplayName("Should reject an inverted range and an unknown format")
+    void shouldRejectInvalidRequests() throws Exception {
+        mockMvc.perform(get("/api/v1/orders/export").param("from", "2026-02-01").param("to", "2026-01-01"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/orders/export").param("from", "2026-01-01").param("to", "2026-01-31")
+                .param("format", "xml"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(orderExportService);
+    }
+}
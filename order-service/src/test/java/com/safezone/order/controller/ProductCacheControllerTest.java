@@ -0,0 +1,63 @@
+package com.safezone.order.controller;
+
+import static org.mockito.Mockito.verify;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.safezone.order.client.ProductCatalogCache;
+
+/**
+ * Tests for {@link ProductCacheController}.
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-09
+ */
+@WebMvcTest(ProductCacheController.class)
+@DisplayName("ProductCacheController Tests")
+class ProductCacheControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private ProductCatalogCache productCatalogCache;
+
+    @Test
+    @WithMockUser(username = "admin", roles = "ADMIN")
+    @DisplayName("Should evict one product")
+    void shouldEvictOneProduct() throws Exception {
+        mockMvc.perform(delete("/api/v1/orders/admin/product-cache/5").with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true));
+
+        verify(productCatalogCache).evict(5L);
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = "ADMIN")
+    @DisplayName("Should evict all products")
+    void shouldEvictAllProducts() throws Exception {
+        mockMvc.perform(delete("/api/v1/orders/admin/product-cache").with(csrf()))
+                .andExpect(status().isOk());
+
+        verify(productCatalogCache).evictAll();
+    }
+
+    @Test
+    @DisplayName("Should reject unauthenticated eviction")
+    void shouldRejectUnauthenticatedEviction() throws Exception {
+        mockMvc.perform(delete("/api/v1/orders/admin/product-cache").with(csrf()))
+                .andExpect(status().isUnauthorized());
+    }
+}
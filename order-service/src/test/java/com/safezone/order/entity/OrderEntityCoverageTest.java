@@ -88,11 +88,13 @@ class OrderEntityCoverageTest {
                 BigDecimal.valueOf(199.99),
                 "111 Construct St",
                 "222 Build Ave",
+                "res-3",
                 new ArrayList<>(),
                 now,
                 now);
 
         assertThat(order.getId()).isEqualTo(3L);
+        assertThat(order.getStockReservationId()).isEqualTo("res-3");
         assertThat(order.getOrderNumber()).isEqualTo("ORD-003");
         assertThat(order.getStatus()).isEqualTo(OrderStatus.PROCESSING);
     }
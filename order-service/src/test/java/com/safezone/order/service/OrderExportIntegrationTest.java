@@ -0,0 +1,135 @@
+package com.safezone.order.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.safezone.order.client.ProductServiceClient;
+import com.safezone.order.dto.ExportFormat;
+import com.safezone.order.entity.Order;
+import com.safezone.order.entity.OrderItem;
+import com.safezone.order.entity.OrderStatus;
+import com.safezone.order.repository.OrderRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Integration tests for the bulk order export against the order database.
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-09
+ */
+@SpringBootTest(properties = {
+        "services.product.outbox.enabled=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@DisplayName("Order Export Integration Tests")
+class OrderExportIntegrationTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2025, 3, 1, 0, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2025, 4, 1, 0, 0);
+
+    @Autowired
+    private OrderExportService orderExportService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockitoBean
+    private ProductServiceClient productServiceClient;
+
+    @BeforeEach
+    void setUp() {
+        if (orderRepository.existsByOrderNumber("ORD-EXPORT-1")) {
+            return;
+        }
+        saveOrder("ORD-EXPORT-1", LocalDateTime.of(2025, 3, 2, 10, 0), "Plain", "Comma, \"quoted\"");
+        saveOrder("ORD-EXPORT-2", LocalDateTime.of(2025, 3, 31, 23, 59), "=HYPERLINK(\"http://x\")");
+        saveOrder("ORD-EXPORT-OUT", LocalDateTime.of(2025, 4, 1, 0, 0), "Outside");
+    }
+
+    private void saveOrder(String orderNumber, LocalDateTime createdAt, String... productNames) {
+        Order order = Order.builder().orderNumber(orderNumber).userId(3L).status(OrderStatus.DELIVERED).build();
+        long productId = 1;
+        for (String productName : productNames) {
+            OrderItem item = OrderItem.builder()
+                    .productId(productId)
+                    .productName(productName)
+                    .productSku("SKU-" + productId++)
+                    .quantity(2)
+                    .unitPrice(new BigDecimal("1.50"))
+                    .build();
+            item.calculateSubtotal();
+            order.addItem(item);
+        }
+        order.calculateTotalAmount();
+        Long id = orderRepository.save(order).getId();
+        jdbcTemplate.update("UPDATE orders SET created_at = ? WHERE id = ?", createdAt, id);
+    }
+
+    private String export(ExportFormat format) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        assertThat(orderExportService.exportOrders(FROM, TO, format, out)).isEqualTo(2);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    @DisplayName("Should write one JSON line per order with its items, in one query")
+    void shouldExportNdjson() throws Exception {
+        List<String> lines = export(ExportFormat.NDJSON).lines().toList();
+
+        assertThat(lines).hasSize(2);
+        JsonNode first = objectMapper.readTree(lines.get(0));
+        assertThat(first.get("orderNumber").asText()).isEqualTo("ORD-EXPORT-1");
+        assertThat(first.get("status").asText()).isEqualTo("DELIVERED");
+        assertThat(first.get("totalAmount").decimalValue()).isEqualByComparingTo("6.00");
+        assertThat(first.get("createdAt").asText()).isEqualTo("2025-03-02T10:00");
+        assertThat(first.get("items")).hasSize(2);
+        assertThat(first.get("items").get(1).get("productName").asText()).isEqualTo("Comma, \"quoted\"");
+        assertThat(objectMapper.readTree(lines.get(1)).get("items")).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should write one escaped CSV line per order item after a header, defusing formulas, in one query")
+    void shouldExportCsv() throws Exception {
+        List<String> lines = export(ExportFormat.CSV).lines().toList();
+
+        assertThat(lines).hasSize(4);
+        assertThat(lines.get(0)).startsWith("order_number,user_id,status");
+        assertThat(lines.get(1)).isEqualTo("ORD-EXPORT-1,3,DELIVERED,6.00,2025-03-02T10:00,1,SKU-1,Plain,2,1.50,3.00");
+        assertThat(lines.get(2)).contains(",\"Comma, \"\"quoted\"\"\",");
+        assertThat(lines.get(3)).startsWith("ORD-EXPORT-2,")
+                .contains(",SKU-1,\"'=HYPERLINK(\"\"http://x\"\")\",");
+    }
+}
@@ -0,0 +1,161 @@
+package com.safezone.order.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import com.safezone.common.exception.BusinessException;
+import com.safezone.order.client.ProductCatalogCache;
+import com.safezone.order.client.ProductServiceClient;
+import com.safezone.order.dto.CreateOrderRequest;
+import com.safezone.order.dto.OrderItemRequest;
+import com.safezone.order.dto.OrderResponse;
+import com.safezone.order.dto.ProductDto;
+import com.safezone.order.entity.OrderIdempotencyKey;
+import com.safezone.order.repository.OrderIdempotencyKeyRepository;
+import com.safezone.order.service.impl.OrderIdempotencyServiceImpl;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Integration tests for {@link OrderIdempotencyServiceImpl} against the order
+ * database, with the Product Service mocked.
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-09
+ */
+@SpringBootTest(properties = "services.product.outbox.enabled=false")
+@DisplayName("Order Idempotency Integration Tests")
+class OrderIdempotencyIntegrationTest {
+
+    @Autowired
+    private OrderIdempotencyService idempotencyService;
+
+    @Autowired
+    private OrderIdempotencyKeyRepository keyRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @MockitoBean
+    private ProductServiceClient productServiceClient;
+
+    @MockitoBean
+    private ProductCatalogCache productCatalogCache;
+
+    private final CreateOrderRequest request = new CreateOrderRequest(
+            7L, List.of(new OrderItemRequest(1L, 2)), "1 Test St", null);
+
+    @BeforeEach
+    void setUp() {
+        keyRepository.deleteAll();
+        given(productCatalogCache.getProducts(any())).willReturn(Mono.just(Map.of(1L,
+                new ProductDto(1L, "Widget", "W-1", BigDecimal.TEN, 10, true))));
+        given(productServiceClient.reserveStock(anyString(), any())).willReturn(Mono.just("res-1"));
+    }
+
+    private double outcome(String outcome) {
+        return meterRegistry.get("orders.idempotency.requests").tag("outcome", outcome).counter().count();
+    }
+
+    @Test
+    @DisplayName("Should create the order once and replay it for the same key")
+    void shouldReplayOrderForSameKey() {
+        OrderResponse first = idempotencyService.createOrder("key-replay", request);
+        OrderResponse second = idempotencyService.createOrder("key-replay", request);
+
+        assertThat(second.id()).isEqualTo(first.id());
+        assertThat(second.orderNumber()).isEqualTo(first.orderNumber());
+        verify(productServiceClient, times(1)).reserveStock(anyString(), any());
+        assertThat(keyRepository.findByUserIdAndIdempotencyKey(7L, "key-replay"))
+                .get().extracting(OrderIdempotencyKey::getOrderId).isEqualTo(first.id());
+    }
+
+    @Test
+    @DisplayName("Should scope keys per user and reject a key reused for another request")
+    void shouldRejectKeyReusedForAnotherRequest() {
+        OrderResponse first = idempotencyService.createOrder("key-reuse", request);
+        CreateOrderRequest otherUser = new CreateOrderRequest(8L, request.items(), "1 Test St", null);
+        CreateOrderRequest otherItems = new CreateOrderRequest(7L, List.of(new OrderItemRequest(1L, 3)),
+                "1 Test St", null);
+
+        assertThat(idempotencyService.createOrder("key-reuse", otherUser).id()).isNotEqualTo(first.id());
+        assertThatThrownBy(() -> idempotencyService.createOrder("key-reuse", otherItems))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", "IDEMPOTENCY_KEY_REUSED");
+    }
+
+    @Test
+    @DisplayName("Should reject malformed keys")
+    void shouldRejectMalformedKeys() {
+        assertThatThrownBy(() -> idempotencyService.createOrder("has space", request))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", "INVALID_IDEMPOTENCY_KEY");
+        assertThatThrownBy(() -> idempotencyService.createOrder("k".repeat(101), request))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    @DisplayName("Should coalesce a concurrent duplicate onto the in-flight request")
+    void shouldCoalesceConcurrentDuplicates() throws Exception {
+        Sinks.One<String> reservation = Sinks.one();
+        given(productServiceClient.reserveStock(anyString(), any())).willReturn(reservation.asMono());
+        double coalescedBefore = outcome("coalesced");
+
+        CompletableFuture<OrderResponse> first = CompletableFuture.supplyAsync(
+                () -> idempotencyService.createOrder("key-concurrent", request));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (reservation.currentSubscriberCount() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        CompletableFuture<OrderResponse> duplicate = CompletableFuture.supplyAsync(
+                () -> idempotencyService.createOrder("key-concurrent", request));
+        while (outcome("coalesced") == coalescedBefore && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        reservation.tryEmitValue("res-1");
+
+        assertThat(duplicate.get(10, TimeUnit.SECONDS).id()).isEqualTo(first.get(10, TimeUnit.SECONDS).id());
+        verify(productServiceClient, times(1)).reserveStock(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Should create a new order once the key has expired and purge expired keys")
+    void shouldCreateNewOrderAfterExpiry() {
+        OrderResponse first = idempotencyService.createOrder("key-expiry", request);
+        OrderIdempotencyKey key = keyRepository.findByUserIdAndIdempotencyKey(7L, "key-expiry").orElseThrow();
+        key.setExpiresAt(LocalDateTime.now().minusMinutes(1));
+        keyRepository.save(key);
+
+        OrderResponse second = idempotencyService.createOrder("key-expiry", request);
+
+        assertThat(second.id()).isNotEqualTo(first.id());
+        assertThat(idempotencyService.purgeExpired()).isZero();
+        OrderIdempotencyKey renewed = keyRepository.findByUserIdAndIdempotencyKey(7L, "key-expiry").orElseThrow();
+        renewed.setExpiresAt(LocalDateTime.now().minusMinutes(1));
+        keyRepository.save(renewed);
+        assertThat(idempotencyService.purgeExpired()).isEqualTo(1);
+        assertThat(keyRepository.count()).isZero();
+    }
+}
@@ -0,0 +1,165 @@
+package com.safezone.order.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.safezone.order.config.ApplicationProperties;
+import com.safezone.order.service.impl.OrderNumberGenerator;
+import com.safezone.order.service.impl.OrderNumberNodeLease;
+
+/**
+ * Unit tests for {@link OrderNumberGenerator}.
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-09
+ */
+@DisplayName("OrderNumberGenerator Tests")
+class OrderNumberGeneratorTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-09T12:00:00Z");
+
+    /** Clock whose time is moved by the tests. */
+    private static final class MutableClock extends Clock {
+        private final AtomicLong millis = new AtomicLong(NOW.toEpochMilli());
+
+        @Override
+        public long millis() {
+            return millis.get();
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis());
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+
+    @Test
+    @DisplayName("Should produce compact numbers that sort in creation order")
+    void shouldProduceSortableNumbers() {
+        MutableClock clock = new MutableClock();
+        OrderNumberGenerator generator = new OrderNumberGenerator(3, clock);
+        List<String> numbers = new ArrayList<>();
+
+        for (int i = 0; i < 100; i++) {
+            numbers.add(generator.next());
+            clock.millis.addAndGet(i % 3);
+        }
+
+        assertThat(numbers).allMatch(number -> number.matches("ORD-[0-9A-HJKMNP-TV-Z]{13}"));
+        assertThat(numbers).isSorted().doesNotHaveDuplicates();
+        assertThat(OrderNumberGenerator.encode(Long.MAX_VALUE)).isEqualTo("ORD-7ZZZZZZZZZZZZ");
+    }
+
+    @Test
+    @DisplayName("Should embed the node ID and keep numbers of different nodes apart")
+    void shouldEmbedNodeId() {
+        Clock clock = Clock.fixed(NOW, ZoneOffset.UTC);
+        long first = new OrderNumberGenerator(5, clock).nextId();
+        long second = new OrderNumberGenerator(6, clock).nextId();
+
+        assertThat((first >>> 12) & OrderNumberGenerator.MAX_NODE_ID).isEqualTo(5);
+        assertThat((second >>> 12) & OrderNumberGenerator.MAX_NODE_ID).isEqualTo(6);
+        assertThat(first >>> 22).isEqualTo(second >>> 22).isEqualTo(NOW.toEpochMilli() - 1_767_225_600_000L);
+    }
+
+    @Test
+    @DisplayName("Should borrow the next millisecond when the sequence is exhausted or the clock moves back")
+    void shouldStayMonotonicWithoutBlocking() {
+        MutableClock clock = new MutableClock();
+        OrderNumberGenerator generator = new OrderNumberGenerator(0, clock);
+
+        long previous = generator.nextId();
+        for (int i = 0; i < 10_000; i++) {
+            long next = generator.nextId();
+            assertThat(next).isGreaterThan(previous);
+            previous = next;
+        }
+        clock.millis.addAndGet(-60_000);
+        assertThat(generator.nextId()).isGreaterThan(previous);
+    }
+
+    @Test
+    @DisplayName("Should stay unique under multi-threaded bursts")
+    void shouldStayUniqueUnderConcurrency() throws Exception {
+        OrderNumberGenerator generator = new OrderNumberGenerator(1, Clock.systemUTC());
+        int threads = 16;
+        int perThread = 20_000;
+        Set<String> numbers = ConcurrentHashMap.newKeySet();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perThread; i++) {
+                        numbers.add(generator.next());
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(numbers).hasSize(threads * perThread);
+    }
+
+    @Test
+    @DisplayName("Should use the configured node ID, lease one when unset and reject invalid ones")
+    void shouldResolveNodeId() {
+        ApplicationProperties properties = new ApplicationProperties();
+        OrderNumberNodeLease lease = mock(OrderNumberNodeLease.class);
+        given(lease.nodeId()).willReturn(7, 7, 9);
+        OrderNumberGenerator leased = new OrderNumberGenerator(properties, lease);
+        assertThat((leased.nextId() >>> 12) & OrderNumberGenerator.MAX_NODE_ID).isEqualTo(7);
+        assertThat((leased.nextId() >>> 12) & OrderNumberGenerator.MAX_NODE_ID).isEqualTo(9);
+
+        OrderNumberNodeLease unused = mock(OrderNumberNodeLease.class);
+        properties.getOrderNumber().setNodeId(42);
+        assertThat((new OrderNumberGenerator(properties, unused).nextId() >>> 12) & OrderNumberGenerator.MAX_NODE_ID)
+                .isEqualTo(42);
+        verifyNoInteractions(unused);
+
+        properties.getOrderNumber().setNodeId(OrderNumberGenerator.MAX_NODE_ID + 1);
+        assertThatThrownBy(() -> new OrderNumberGenerator(properties, unused))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new OrderNumberGenerator(-1, Clock.systemUTC()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
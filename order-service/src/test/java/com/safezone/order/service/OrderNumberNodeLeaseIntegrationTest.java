@@ -0,0 +1,92 @@
+package com.safezone.order.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.safezone.order.config.ApplicationProperties;
+import com.safezone.order.entity.OrderNumberNode;
+import com.safezone.order.repository.OrderNumberNodeRepository;
+import com.safezone.order.service.impl.OrderNumberNodeLease;
+
+/**
+ * Integration tests for {@link OrderNumberNodeLease} against the real
+ * database, covering distinct leases, take-over of expired leases and the
+ * refusal of a lease that could not be renewed.
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-09
+ */
+@SpringBootTest
+@DisplayName("Order Number Node Lease Integration Tests")
+class OrderNumberNodeLeaseIntegrationTest {
+
+    @Autowired
+    private OrderNumberNodeRepository nodeRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private OrderNumberNodeLease newLease(Duration lease, Duration renewal) {
+        ApplicationProperties properties = new ApplicationProperties();
+        properties.getOrderNumber().setNodeLease(lease);
+        properties.getOrderNumber().setNodeLeaseRenewal(renewal);
+        return new OrderNumberNodeLease(nodeRepository, transactionManager, properties);
+    }
+
+    private void expire(int nodeId) {
+        OrderNumberNode node = nodeRepository.findById(nodeId).orElseThrow();
+        node.setLeasedUntil(LocalDateTime.now().minusSeconds(1));
+        nodeRepository.save(node);
+    }
+
+    @Test
+    @DisplayName("Should lease a distinct node ID to every instance and take over expired ones")
+    void shouldLeaseDistinctNodeIds() {
+        // Short leases left by other tests would expire mid-test and be taken over first.
+        LocalDateTime soon = LocalDateTime.now().plusMinutes(1);
+        nodeRepository.deleteAll(nodeRepository.findAll().stream()
+                .filter(node -> node.getLeasedUntil().isBefore(soon))
+                .toList());
+        OrderNumberNodeLease first = newLease(Duration.ofMinutes(5), Duration.ofMinutes(1));
+        OrderNumberNodeLease second = newLease(Duration.ofMinutes(5), Duration.ofMinutes(1));
+
+        int firstId = first.nodeId();
+        int secondId = second.nodeId();
+        assertThat(secondId).isNotEqualTo(firstId);
+        assertThat(first.nodeId()).isEqualTo(firstId);
+
+        expire(firstId);
+        OrderNumberNodeLease third = newLease(Duration.ofMinutes(5), Duration.ofMinutes(1));
+        assertThat(third.nodeId()).isEqualTo(firstId);
+
+        first.renew();
+        assertThat(first.nodeId()).isNotIn(firstId, secondId);
+        second.renew();
+        assertThat(second.nodeId()).isEqualTo(secondId);
+    }
+
+    @Test
+    @DisplayName("Should refuse the node ID once half of the lease passed without renewal")
+    void shouldRefuseUnrenewedLease() throws InterruptedException {
+        OrderNumberNodeLease lease = newLease(Duration.ofMillis(200), Duration.ofMillis(50));
+        int nodeId = lease.nodeId();
+
+        Thread.sleep(150);
+
+        assertThatThrownBy(lease::nodeId).isInstanceOf(IllegalStateException.class);
+        lease.renew();
+        assertThat(lease.nodeId()).isEqualTo(nodeId);
+        assertThatThrownBy(() -> newLease(Duration.ofMinutes(1), Duration.ofSeconds(30)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,159 @@
+package com.safezone.order.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import com.safezone.common.dto.CursorPageResponse;
+import com.safezone.order.client.ProductServiceClient;
+import com.safezone.order.dto.OrderResponse;
+import com.safezone.order.entity.Order;
+import com.safezone.order.entity.OrderItem;
+import com.safezone.order.entity.OrderStatus;
+import com.safezone.order.repository.OrderRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Counts the SQL statements issued by the paginated order queries, which
+ * must not grow with the number of orders on the page, and checks that
+ * offset and cursor pages walk the orders in a stable order.
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-09
+ */
+@SpringBootTest(properties = {
+        "services.product.outbox.enabled=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@DisplayName("Order Pagination Query Tests")
+class OrderPaginationQueryTest {
+
+    private static final long USER_ID = 4242L;
+    private static final int ORDERS = 25;
+    private static final int PAGE_SIZE = 20;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockitoBean
+    private ProductServiceClient productServiceClient;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        if (orderRepository.countByUserIdAndStatus(USER_ID, OrderStatus.SHIPPED) > 0) {
+            return;
+        }
+        for (int i = 0; i < ORDERS; i++) {
+            Order order = Order.builder()
+                    .orderNumber("ORD-PAGE-" + i)
+                    .userId(USER_ID)
+                    .status(OrderStatus.SHIPPED)
+                    .build();
+            for (long productId = 1; productId <= 2; productId++) {
+                OrderItem item = OrderItem.builder()
+                        .productId(productId)
+                        .productName("Product " + productId)
+                        .productSku("SKU-" + productId)
+                        .quantity(1)
+                        .unitPrice(BigDecimal.ONE)
+                        .build();
+                item.calculateSubtotal();
+                order.addItem(item);
+            }
+            order.calculateTotalAmount();
+            orderRepository.save(order);
+        }
+    }
+
+    private long statementsFor(Runnable query) {
+        statistics.clear();
+        query.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private static void assertFullPage(Page<OrderResponse> page) {
+        assertThat(page.getContent()).hasSize(PAGE_SIZE);
+        assertThat(page.getTotalElements()).isGreaterThanOrEqualTo(ORDERS);
+        assertThat(page.getContent()).allSatisfy(order -> assertThat(order.items()).hasSize(2));
+    }
+
+    @Test
+    @DisplayName("Each paginated query issues an ID page, a count and one items query")
+    void paginatedQueriesUseConstantStatements() {
+        PageRequest pageable = PageRequest.of(0, PAGE_SIZE, Sort.by("createdAt").descending());
+
+        assertThat(statementsFor(() -> assertFullPage(orderService.getAllOrders(pageable)))).isEqualTo(3);
+        assertThat(statementsFor(() -> assertFullPage(orderService.getOrdersByUserId(USER_ID, pageable))))
+                .isEqualTo(3);
+        assertThat(statementsFor(() -> assertFullPage(
+                orderService.getOrdersByStatus(OrderStatus.SHIPPED, pageable)))).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Pages keep the requested order and do not overlap")
+    void pagesKeepSortOrder() {
+        Sort byNumber = Sort.by("orderNumber");
+        Page<OrderResponse> first = orderService.getOrdersByUserId(USER_ID, PageRequest.of(0, PAGE_SIZE, byNumber));
+        Page<OrderResponse> second = orderService.getOrdersByUserId(USER_ID, PageRequest.of(1, PAGE_SIZE, byNumber));
+
+        assertThat(first.getContent()).extracting(OrderResponse::orderNumber).isSorted();
+        assertThat(second.getContent()).hasSize(ORDERS - PAGE_SIZE);
+        assertThat(second.getContent().get(0).orderNumber())
+                .isGreaterThan(first.getContent().get(PAGE_SIZE - 1).orderNumber());
+        assertThat(second.getTotalElements()).isEqualTo(ORDERS);
+    }
+
+    @Test
+    @DisplayName("Cursor pages issue one window query and one items query, plus a count on request")
+    void cursorPagesUseConstantStatements() {
+        assertThat(statementsFor(() -> {
+            CursorPageResponse<OrderResponse> page = orderService.getAllOrders(null, PAGE_SIZE, false);
+            assertThat(page.content()).hasSize(PAGE_SIZE).allSatisfy(order -> assertThat(order.items()).hasSize(2));
+            assertThat(page.totalElements()).isNull();
+        })).isEqualTo(2);
+        assertThat(statementsFor(() -> orderService.getAllOrders(null, PAGE_SIZE, true))).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Cursor pages walk every order once, newest first")
+    void cursorPagesWalkEveryOrderOnce() {
+        List<OrderResponse> seen = new ArrayList<>();
+        CursorPageResponse<OrderResponse> page = orderService.getAllOrders(null, 7, true);
+        long total = page.totalElements();
+        seen.addAll(page.content());
+        while (page.hasNext()) {
+            page = orderService.getAllOrders(page.nextCursor(), 7, false);
+            seen.addAll(page.content());
+        }
+
+        assertThat(seen).hasSize((int) total).extracting(OrderResponse::id).doesNotHaveDuplicates();
+        assertThat(seen).extracting(OrderResponse::createdAt).isSortedAccordingTo(Comparator.reverseOrder());
+        assertThat(page.nextCursor()).isNull();
+    }
+}
@@ -2,15 +2,22 @@ package com.safezone.order.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyInt;
-import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -19,8 +26,10 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
@@ -31,6 +40,7 @@ import org.springframework.data.domain.Pageable;
 
 import com.safezone.common.exception.BusinessException;
 import com.safezone.common.exception.ResourceNotFoundException;
+import com.safezone.order.client.ProductCatalogCache;
 import com.safezone.order.client.ProductServiceClient;
 import com.safezone.order.dto.CreateOrderRequest;
 import com.safezone.order.dto.OrderItemRequest;
@@ -41,9 +51,11 @@ import com.safezone.order.entity.OrderItem;
 import com.safezone.order.entity.OrderStatus;
 import com.safezone.order.mapper.OrderMapper;
 import com.safezone.order.repository.OrderRepository;
+import com.safezone.order.service.impl.OrderNumberGenerator;
 import com.safezone.order.service.impl.OrderServiceImpl;
 
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 
 /**
  * Comprehensive unit tests for {@link OrderServiceImpl}.
@@ -95,6 +107,7 @@ import reactor.core.publisher.Mono;
  * <li>{@link OrderRepository} - Database operations</li>
  * <li>{@link OrderMapper} - Entity to DTO mapping</li>
  * <li>{@link ProductServiceClient} - Reactive product service integration</li>
+ * <li>{@link ProductCatalogCache} - Cached product catalog lookups</li>
  * </ul>
  * </p>
  * 
@@ -131,6 +144,15 @@ class OrderServiceTest {
     @Mock
     private ProductServiceClient productServiceClient;
 
+    @Mock
+    private ProductCatalogCache productCatalogCache;
+
+    @Mock
+    private StockOutboxService stockOutboxService;
+
+    @Spy
+    private OrderNumberGenerator orderNumberGenerator = new OrderNumberGenerator(1, Clock.systemUTC());
+
     @InjectMocks
     private OrderServiceImpl orderService;
 
@@ -210,18 +232,17 @@ class OrderServiceTest {
          * <p>
          * <strong>Then:</strong> Order is created successfully with proper product
          * validation,
-         * stock is updated via ProductServiceClient, order is saved to repository, and
-         * OrderResponse is returned with correct order details.
+         * stock of all items is reserved in one ProductServiceClient call, the
+         * reservation ID is stored on the saved order, and OrderResponse is returned.
          * 
          * <p>
          * <strong>Coverage:</strong> Tests happy path of createOrder() including
          * product lookup,
-         * availability check, stock update, order save, and response mapping.
+         * availability check, stock reservation, order save, and response mapping.
          * 
          * @see OrderServiceImpl#createOrder(CreateOrderRequest)
-         * @see ProductServiceClient#getProductById(Long)
-         * @see ProductServiceClient#checkProductAvailability(Long, int)
-         * @see ProductServiceClient#updateStock(Long, int)
+         * @see ProductCatalogCache#getProducts(java.util.Collection)
+         * @see ProductServiceClient#reserveStock(String, List)
          */
         @Test
         @DisplayName("Should create order successfully")
@@ -232,15 +253,56 @@ class OrderServiceTest {
                     "123 Test St",
                     null);
 
-            given(productServiceClient.getProductById(1L)).willReturn(Optional.of(testProduct));
-            given(productServiceClient.checkProductAvailability(1L, 2)).willReturn(true);
-            given(productServiceClient.updateStock(anyLong(), anyInt())).willReturn(Mono.empty());
-            given(orderRepository.save(any(Order.class))).willReturn(testOrder);
+            given(productCatalogCache.getProducts(List.of(1L))).willReturn(Mono.just(Map.of(1L, testProduct)));
+            given(productServiceClient.reserveStock(anyString(), eq(request.items()))).willReturn(Mono.just("res-1"));
+            given(orderRepository.save(any(Order.class))).willAnswer(invocation -> invocation.getArgument(0));
             given(orderMapper.toResponse(any(Order.class))).willReturn(testOrderResponse);
 
             OrderResponse result = orderService.createOrder(request);
 
             assertThat(result).isNotNull();
+            ArgumentCaptor<Order> saved = ArgumentCaptor.forClass(Order.class);
+            verify(orderRepository).save(saved.capture());
+            assertThat(saved.getValue().getStockReservationId()).isEqualTo("res-1");
+            verify(productServiceClient).reserveStock(saved.getValue().getOrderNumber(), request.items());
+        }
+
+        /**
+         * Tests that order creation fails without saving when stock cannot be
+         * reserved.
+         *
+         * <p>
+         * <strong>Given:</strong> The product resolves as available but the
+         * Product Service rejects the reservation (e.g. a concurrent order took
+         * the last units).
+         *
+         * <p>
+         * <strong>When:</strong> orderService.createOrder() is called.
+         *
+         * <p>
+         * <strong>Then:</strong> The BusinessException is propagated and no order
+         * is saved.
+         *
+         * @see OrderServiceImpl#createOrder(CreateOrderRequest)
+         * @see ProductServiceClient#reserveStock(String, List)
+         */
+        @Test
+        @DisplayName("Should not save order when stock reservation fails")
+        void shouldNotSaveOrderWhenReservationFails() {
+            CreateOrderRequest request = new CreateOrderRequest(
+                    1L,
+                    List.of(new OrderItemRequest(1L, 2)),
+                    "123 Test St",
+                    null);
+
+            given(productCatalogCache.getProducts(List.of(1L))).willReturn(Mono.just(Map.of(1L, testProduct)));
+            given(productServiceClient.reserveStock(anyString(), any()))
+                    .willReturn(Mono.error(new BusinessException("STOCK_RESERVATION_FAILED", "Insufficient stock")));
+
+            assertThatThrownBy(() -> orderService.createOrder(request))
+                    .isInstanceOf(BusinessException.class)
+                    .hasMessageContaining("Insufficient stock");
+            verify(orderRepository, never()).save(any(Order.class));
         }
 
         /**
@@ -249,22 +311,21 @@ class OrderServiceTest {
          * <p>
          * <strong>Given:</strong> A create order request with non-existent product ID
          * 999.
-         * ProductServiceClient returns Optional.empty() indicating product not found.
+         * The catalog lookup returns no entry for it (not found).
          * 
          * <p>
          * <strong>When:</strong> orderService.createOrder() is called with the request.
          * 
          * <p>
          * <strong>Then:</strong> BusinessException is thrown with message "Product not
-         * found".
-         * Order creation is aborted before any stock operations.
+         * found". The reservation, which runs in parallel with the lookup, is
+         * released and no order is saved.
          * 
          * <p>
          * <strong>Coverage:</strong> Tests product validation branch in createOrder().
-         * Validates early-exit behavior when product lookup fails.
          * 
          * @see OrderServiceImpl#createOrder(CreateOrderRequest)
-         * @see ProductServiceClient#getProductById(Long)
+         * @see ProductCatalogCache#getProducts(java.util.Collection)
          */
         @Test
         @DisplayName("Should throw exception when product not found")
@@ -275,11 +336,125 @@ class OrderServiceTest {
                     "123 Test St",
                     null);
 
-            given(productServiceClient.getProductById(999L)).willReturn(Optional.empty());
+            given(productCatalogCache.getProducts(List.of(999L))).willReturn(Mono.just(Map.of()));
+            given(productServiceClient.reserveStock(anyString(), any())).willReturn(Mono.just("res-9"));
 
             assertThatThrownBy(() -> orderService.createOrder(request))
                     .isInstanceOf(BusinessException.class)
                     .hasMessageContaining("Product not found");
+            verify(stockOutboxService).enqueueReleaseInNewTransaction(anyString(), eq("res-9"));
+            verify(orderRepository, never()).save(any(Order.class));
+        }
+
+        /**
+         * Tests that a failed catalog lookup releases the parallel reservation.
+         *
+         * <p>
+         * <strong>Given:</strong> The Product Service batch lookup fails while the
+         * stock reservation succeeds.
+         *
+         * <p>
+         * <strong>When:</strong> orderService.createOrder() is called.
+         *
+         * <p>
+         * <strong>Then:</strong> A PRODUCT_LOOKUP_FAILED BusinessException is
+         * thrown, the reservation is released and no order is saved.
+         *
+         * @see OrderServiceImpl#createOrder(CreateOrderRequest)
+         */
+        @Test
+        @DisplayName("Should release the reservation when the product lookup fails")
+        void shouldReleaseReservationWhenLookupFails() {
+            CreateOrderRequest request = new CreateOrderRequest(
+                    1L,
+                    List.of(new OrderItemRequest(1L, 2)),
+                    "123 Test St",
+                    null);
+
+            given(productCatalogCache.getProducts(List.of(1L)))
+                    .willReturn(Mono.error(new IllegalStateException("Product Service unavailable")));
+            given(productServiceClient.reserveStock(anyString(), any())).willReturn(Mono.just("res-1"));
+
+            assertThatThrownBy(() -> orderService.createOrder(request))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", "PRODUCT_LOOKUP_FAILED");
+            verify(stockOutboxService).enqueueReleaseInNewTransaction(anyString(), eq("res-1"));
+            verify(orderRepository, never()).save(any(Order.class));
+        }
+
+        /**
+         * Tests that the catalog lookup and the reservation are in flight at the
+         * same time.
+         *
+         * <p>
+         * <strong>Given:</strong> A catalog lookup that only completes once the
+         * reservation call has been issued.
+         *
+         * <p>
+         * <strong>When:</strong> orderService.createOrder() is called.
+         *
+         * <p>
+         * <strong>Then:</strong> The order is created, which is only possible if
+         * the reservation does not wait for the lookup.
+         *
+         * @see OrderServiceImpl#createOrder(CreateOrderRequest)
+         */
+        @Test
+        @DisplayName("Should resolve products and reserve stock concurrently")
+        void shouldResolveProductsAndReserveStockConcurrently() {
+            CreateOrderRequest request = new CreateOrderRequest(
+                    1L,
+                    List.of(new OrderItemRequest(1L, 2)),
+                    "123 Test St",
+                    null);
+            Sinks.One<Map<Long, ProductDto>> lookup = Sinks.one();
+
+            given(productCatalogCache.getProducts(List.of(1L))).willReturn(lookup.asMono());
+            given(productServiceClient.reserveStock(anyString(), eq(request.items()))).willReturn(Mono.fromCallable(() -> {
+                lookup.tryEmitValue(Map.of(1L, testProduct));
+                return "res-1";
+            }));
+            given(orderRepository.save(any(Order.class))).willAnswer(invocation -> invocation.getArgument(0));
+            given(orderMapper.toResponse(any(Order.class))).willReturn(testOrderResponse);
+
+            assertTimeoutPreemptively(Duration.ofSeconds(5), () -> orderService.createOrder(request));
+            verify(orderRepository).save(any(Order.class));
+        }
+
+        /**
+         * Tests that an unavailable product fails the order without waiting for
+         * the catalog lookup.
+         *
+         * <p>
+         * <strong>Given:</strong> A catalog lookup that never completes and a
+         * reservation rejected by the Product Service.
+         *
+         * <p>
+         * <strong>When:</strong> orderService.createOrder() is called.
+         *
+         * <p>
+         * <strong>Then:</strong> The reservation error is thrown right away.
+         *
+         * @see OrderServiceImpl#createOrder(CreateOrderRequest)
+         */
+        @Test
+        @DisplayName("Should fail fast when stock cannot be reserved")
+        void shouldFailFastWhenReservationFails() {
+            CreateOrderRequest request = new CreateOrderRequest(
+                    1L,
+                    List.of(new OrderItemRequest(1L, 2)),
+                    "123 Test St",
+                    null);
+
+            given(productCatalogCache.getProducts(List.of(1L))).willReturn(Mono.never());
+            given(productServiceClient.reserveStock(anyString(), any()))
+                    .willReturn(Mono.error(new BusinessException("STOCK_RESERVATION_FAILED", "Out of stock")));
+
+            assertTimeoutPreemptively(Duration.ofSeconds(5), () -> assertThatThrownBy(
+                    () -> orderService.createOrder(request))
+                    .isInstanceOf(BusinessException.class)
+                    .hasMessageContaining("Out of stock"));
+            verify(orderRepository, never()).save(any(Order.class));
         }
 
         /**
@@ -287,8 +462,8 @@ class OrderServiceTest {
          * 
          * <p>
          * <strong>Given:</strong> A create order request for 200 units of product ID 1.
-         * Product exists but only has 100 units in stock. Availability check returns
-         * false.
+         * Product exists but only has 100 units in stock, so the Product Service
+         * rejects the stock reservation.
          * 
          * <p>
          * <strong>When:</strong> orderService.createOrder() is called with the request.
@@ -296,7 +471,7 @@ class OrderServiceTest {
          * <p>
          * <strong>Then:</strong> BusinessException is thrown with message "Insufficient
          * stock".
-         * No stock update is performed since availability check fails.
+         * No order is saved since the reservation fails.
          * 
          * <p>
          * <strong>Coverage:</strong> Tests stock availability validation branch in
@@ -304,7 +479,7 @@ class OrderServiceTest {
          * Validates that orders cannot be placed when stock is insufficient.
          * 
          * @see OrderServiceImpl#createOrder(CreateOrderRequest)
-         * @see ProductServiceClient#checkProductAvailability(Long, int)
+         * @see ProductCatalogCache#getProducts(java.util.Collection)
          */
         @Test
         @DisplayName("Should throw exception when insufficient stock")
@@ -315,12 +490,51 @@ class OrderServiceTest {
                     "123 Test St",
                     null);
 
-            given(productServiceClient.getProductById(1L)).willReturn(Optional.of(testProduct));
-            given(productServiceClient.checkProductAvailability(1L, 200)).willReturn(false);
+            given(productCatalogCache.getProducts(List.of(1L))).willReturn(Mono.just(Map.of(1L, testProduct)));
+            given(productServiceClient.reserveStock(anyString(), eq(request.items())))
+                    .willReturn(Mono.error(new BusinessException("INSUFFICIENT_STOCK",
+                            "Insufficient stock for product 1, requested: 200")));
 
             assertThatThrownBy(() -> orderService.createOrder(request))
                     .isInstanceOf(BusinessException.class)
                     .hasMessageContaining("Insufficient stock");
+            verify(orderRepository, never()).save(any(Order.class));
+        }
+
+        /**
+         * Tests that cached stock levels are never used to reject an order.
+         *
+         * <p>
+         * <strong>Given:</strong> The cached catalog entry still shows 0 units in
+         * stock, but the product has since been restocked.
+         *
+         * <p>
+         * <strong>When:</strong> orderService.createOrder() is called.
+         *
+         * <p>
+         * <strong>Then:</strong> The order goes through, because availability is
+         * decided by the stock reservation rather than by the cache.
+         *
+         * @see OrderServiceImpl#createOrder(CreateOrderRequest)
+         * @see ProductCatalogCache#getProducts(java.util.Collection)
+         */
+        @Test
+        @DisplayName("Should ignore stale cached stock when creating an order")
+        void shouldIgnoreStaleCachedStock() {
+            CreateOrderRequest request = new CreateOrderRequest(
+                    1L,
+                    List.of(new OrderItemRequest(1L, 2)),
+                    "123 Test St",
+                    null);
+            ProductDto staleProduct = new ProductDto(1L, "Test Product", "TEST-001",
+                    BigDecimal.valueOf(99.99), 0, true);
+
+            given(productCatalogCache.getProducts(List.of(1L))).willReturn(Mono.just(Map.of(1L, staleProduct)));
+            given(productServiceClient.reserveStock(anyString(), eq(request.items()))).willReturn(Mono.just("res-1"));
+            given(orderRepository.save(any(Order.class))).willAnswer(invocation -> invocation.getArgument(0));
+            given(orderMapper.toResponse(any(Order.class))).willReturn(testOrderResponse);
+
+            assertThat(orderService.createOrder(request)).isNotNull();
         }
     }
 
@@ -459,16 +673,16 @@ class OrderServiceTest {
          * Validates user-specific order queries.
          * 
          * @see OrderServiceImpl#getOrdersByUserId(Long, Pageable)
-         * @see OrderRepository#findByUserId(Long, Pageable)
+         * @see OrderRepository#findPageIdsByUserId(Long, Pageable)
          */
         @Test
         @DisplayName("Should get orders by user ID")
         void shouldGetOrdersByUserId() {
             Pageable pageable = PageRequest.of(0, 10);
-            List<Order> orderList = Collections.singletonList(testOrder);
-            Page<Order> orderPage = new PageImpl<>(Objects.requireNonNull(orderList), pageable, 1);
+            Page<Long> idPage = new PageImpl<>(List.of(1L), pageable, 1);
 
-            given(orderRepository.findByUserId(1L, pageable)).willReturn(orderPage);
+            given(orderRepository.findPageIdsByUserId(1L, pageable)).willReturn(idPage);
+            given(orderRepository.findWithItemsByIdIn(List.of(1L))).willReturn(List.of(testOrder));
             given(orderMapper.toResponse(testOrder)).willReturn(testOrderResponse);
 
             Page<OrderResponse> result = orderService.getOrdersByUserId(1L, pageable);
@@ -491,19 +705,19 @@ class OrderServiceTest {
          * 
          * <p>
          * <strong>Coverage:</strong> Tests getAllOrders() with pagination support.
-         * Validates repository findAll() integration.
+         * Validates the two-phase ID page then items query.
          * 
          * @see OrderServiceImpl#getAllOrders(Pageable)
-         * @see OrderRepository#findAll(Pageable)
+         * @see OrderRepository#findPageIds(Pageable)
          */
         @Test
         @DisplayName("Should get all orders with pagination")
         void shouldGetAllOrders() {
             Pageable pageable = PageRequest.of(0, 10);
-            List<Order> orderList = Collections.singletonList(testOrder);
-            Page<Order> orderPage = new PageImpl<>(Objects.requireNonNull(orderList), pageable, 1);
+            Page<Long> idPage = new PageImpl<>(List.of(1L), pageable, 1);
 
-            given(orderRepository.findAll(pageable)).willReturn(orderPage);
+            given(orderRepository.findPageIds(pageable)).willReturn(idPage);
+            given(orderRepository.findWithItemsByIdIn(List.of(1L))).willReturn(List.of(testOrder));
             given(orderMapper.toResponse(testOrder)).willReturn(testOrderResponse);
 
             Page<OrderResponse> result = orderService.getAllOrders(pageable);
@@ -531,17 +745,17 @@ class OrderServiceTest {
          * and pagination.
          * 
          * @see OrderServiceImpl#getOrdersByStatus(OrderStatus, Pageable)
-         * @see OrderRepository#findByStatus(OrderStatus, Pageable)
+         * @see OrderRepository#findPageIdsByStatus(OrderStatus, Pageable)
          */
         @Test
         @DisplayName("Should get orders by status")
         void shouldGetOrdersByStatus() {
             Pageable pageable = PageRequest.of(0, 10);
             testOrder.setStatus(OrderStatus.PENDING);
-            List<Order> orderList = Collections.singletonList(testOrder);
-            Page<Order> orderPage = new PageImpl<>(Objects.requireNonNull(orderList), pageable, 1);
+            Page<Long> idPage = new PageImpl<>(List.of(1L), pageable, 1);
 
-            given(orderRepository.findByStatus(OrderStatus.PENDING, pageable)).willReturn(orderPage);
+            given(orderRepository.findPageIdsByStatus(OrderStatus.PENDING, pageable)).willReturn(idPage);
+            given(orderRepository.findWithItemsByIdIn(List.of(1L))).willReturn(List.of(testOrder));
             given(orderMapper.toResponse(testOrder)).willReturn(testOrderResponse);
 
             Page<OrderResponse> result = orderService.getOrdersByStatus(OrderStatus.PENDING, pageable);
@@ -549,6 +763,30 @@ class OrderServiceTest {
             assertThat(result.getContent()).hasSize(1);
         }
 
+        @Test
+        @DisplayName("Should keep the page order, skip vanished orders and not query items for an empty page")
+        void shouldKeepPageOrder() {
+            Pageable pageable = PageRequest.of(1, 3);
+            Order second = Order.builder().id(2L).orderNumber("ORD-2").userId(1L).build();
+            OrderResponse secondResponse = new OrderResponse(2L, "ORD-2", 1L, OrderStatus.PENDING,
+                    BigDecimal.ZERO, null, null, List.of(), null, null);
+            given(orderRepository.findPageIds(pageable)).willReturn(new PageImpl<>(List.of(2L, 9L, 1L), pageable, 6));
+            given(orderRepository.findWithItemsByIdIn(List.of(2L, 9L, 1L))).willReturn(List.of(testOrder, second));
+            given(orderMapper.toResponse(testOrder)).willReturn(testOrderResponse);
+            given(orderMapper.toResponse(second)).willReturn(secondResponse);
+
+            Page<OrderResponse> result = orderService.getAllOrders(pageable);
+
+            assertThat(result.getContent()).containsExactly(secondResponse, testOrderResponse);
+            assertThat(result.getTotalElements()).isEqualTo(6);
+            assertThat(result.getNumber()).isEqualTo(1);
+
+            Pageable beyond = PageRequest.of(5, 3);
+            given(orderRepository.findPageIds(beyond)).willReturn(new PageImpl<>(List.of(), beyond, 6));
+            assertThat(orderService.getAllOrders(beyond).getContent()).isEmpty();
+            verify(orderRepository, never()).findWithItemsByIdIn(List.of());
+        }
+
         /**
          * Tests order retrieval failure when order number does not exist.
          * 
@@ -646,6 +884,66 @@ class OrderServiceTest {
             assertThat(result).isNotNull();
         }
 
+        /**
+         * Tests that the stock hold of a pending order is confirmed when the
+         * order moves forward, and that a failed confirmation keeps the order
+         * pending.
+         *
+         * @see OrderServiceImpl#updateOrderStatus(Long, OrderStatus)
+         */
+        @Test
+        @DisplayName("Should confirm the stock hold when a pending order moves forward")
+        void shouldConfirmStockHold() {
+            testOrder.setStockReservationId("res-1");
+            given(orderRepository.findById(1L)).willReturn(Optional.of(testOrder));
+            given(orderRepository.save(Objects.requireNonNull(testOrder))).willReturn(testOrder);
+
+            orderService.updateOrderStatus(1L, OrderStatus.CONFIRMED);
+            orderService.updateOrderStatus(1L, OrderStatus.PROCESSING);
+
+            verify(productServiceClient).confirmStockReservation("res-1");
+        }
+
+        /**
+         * Tests that a transition whose order commit failed after the stock
+         * hold was confirmed can be retried: the hold is confirmed again and
+         * the retry succeeds.
+         *
+         * @see OrderServiceImpl#updateOrderStatus(Long, OrderStatus)
+         */
+        @Test
+        @DisplayName("Should confirm the stock hold again when the transition is retried")
+        void shouldRetryTransitionAfterFailedCommit() {
+            testOrder.setStockReservationId("res-1");
+            given(orderRepository.findById(1L)).willReturn(Optional.of(testOrder));
+            given(orderRepository.save(Objects.requireNonNull(testOrder)))
+                    .willThrow(new IllegalStateException("Commit failed"))
+                    .willReturn(testOrder);
+
+            assertThatThrownBy(() -> orderService.updateOrderStatus(1L, OrderStatus.CONFIRMED))
+                    .isInstanceOf(IllegalStateException.class);
+            testOrder.setStatus(OrderStatus.PENDING);
+            orderService.updateOrderStatus(1L, OrderStatus.CONFIRMED);
+
+            assertThat(testOrder.getStatus()).isEqualTo(OrderStatus.CONFIRMED);
+            verify(productServiceClient, times(2)).confirmStockReservation("res-1");
+        }
+
+        @Test
+        @DisplayName("Should keep the order pending when its stock hold expired")
+        void shouldKeepOrderPendingWhenHoldExpired() {
+            testOrder.setStockReservationId("res-1");
+            given(orderRepository.findById(1L)).willReturn(Optional.of(testOrder));
+            willThrow(new BusinessException("STOCK_CONFIRMATION_FAILED", "Stock hold expired"))
+                    .given(productServiceClient).confirmStockReservation("res-1");
+
+            assertThatThrownBy(() -> orderService.updateOrderStatus(1L, OrderStatus.CONFIRMED))
+                    .isInstanceOf(BusinessException.class)
+                    .hasMessageContaining("expired");
+            assertThat(testOrder.getStatus()).isEqualTo(OrderStatus.PENDING);
+            verify(orderRepository, never()).save(any());
+        }
+
         /**
          * Tests rejection of status transition from CANCELLED status.
          * 
@@ -824,16 +1122,16 @@ class OrderServiceTest {
          * <strong>When:</strong> orderService.cancelOrder(1L) is called.
          * 
          * <p>
-         * <strong>Then:</strong> Order status is changed to CANCELLED, stock is
-         * restored
-         * for product 1 (2 units added back), and OrderResponse is returned.
+         * <strong>Then:</strong> Order status is changed to CANCELLED, the release
+         * of its stock reservation is recorded in the stock outbox, and
+         * OrderResponse is returned.
          * 
          * <p>
          * <strong>Coverage:</strong> Tests valid cancellation path from PENDING status.
-         * Validates stock restoration integration with ProductServiceClient.
+         * Validates that stock restoration goes through the stock outbox.
          * 
          * @see OrderServiceImpl#cancelOrder(Long)
-         * @see ProductServiceClient#updateStock(Long, int)
+         * @see StockOutboxService#enqueueRelease(String, String)
          */
         @Test
         @DisplayName("Should cancel pending order")
@@ -843,15 +1141,67 @@ class OrderServiceTest {
                     .productId(1L)
                     .quantity(2)
                     .build()));
+            testOrder.setStockReservationId("res-1");
 
             given(orderRepository.findById(1L)).willReturn(Optional.of(testOrder));
             given(orderRepository.save(Objects.requireNonNull(testOrder))).willReturn(testOrder);
             given(orderMapper.toResponse(testOrder)).willReturn(testOrderResponse);
-            given(productServiceClient.updateStock(anyLong(), anyInt())).willReturn(Mono.empty());
-
             OrderResponse result = orderService.cancelOrder(1L);
 
             assertThat(result).isNotNull();
+            verify(stockOutboxService).enqueueRelease(testOrder.getOrderNumber(), "res-1");
+        }
+
+        /**
+         * Tests cancellation of an order that has no stock reservation.
+         *
+         * <p>
+         * <strong>Given:</strong> A PENDING order created before stock reservations
+         * were recorded (no reservation ID).
+         *
+         * <p>
+         * <strong>When:</strong> orderService.cancelOrder(1L) is called.
+         *
+         * <p>
+         * <strong>Then:</strong> The order is cancelled and no release call is made.
+         *
+         * @see OrderServiceImpl#cancelOrder(Long)
+         */
+        @Test
+        @DisplayName("Should cancel order without stock reservation")
+        void shouldCancelOrderWithoutReservation() {
+            testOrder.setStatus(OrderStatus.PENDING);
+            testOrder.setStockReservationId(null);
+
+            given(orderRepository.findById(1L)).willReturn(Optional.of(testOrder));
+            given(orderRepository.save(Objects.requireNonNull(testOrder))).willReturn(testOrder);
+            given(orderMapper.toResponse(testOrder)).willReturn(testOrderResponse);
+
+            assertThat(orderService.cancelOrder(1L)).isNotNull();
+            verify(stockOutboxService, never()).enqueueRelease(anyString(), anyString());
+        }
+
+        /**
+         * Tests that cancellation records the release instead of calling the
+         * Product Service from inside the transaction.
+         *
+         * @see OrderServiceImpl#cancelOrder(Long)
+         * @see StockOutboxService#enqueueRelease(String, String)
+         */
+        @Test
+        @DisplayName("Should cancel order without calling the Product Service")
+        void shouldCancelOrderThroughOutbox() {
+            testOrder.setStatus(OrderStatus.PENDING);
+            testOrder.setStockReservationId("res-2");
+
+            given(orderRepository.findById(1L)).willReturn(Optional.of(testOrder));
+            given(orderRepository.save(Objects.requireNonNull(testOrder))).willReturn(testOrder);
+            given(orderMapper.toResponse(testOrder)).willReturn(testOrderResponse);
+
+            assertThat(orderService.cancelOrder(1L)).isNotNull();
+            assertThat(testOrder.getStatus()).isEqualTo(OrderStatus.CANCELLED);
+            verify(stockOutboxService).enqueueRelease(testOrder.getOrderNumber(), "res-2");
+            verify(productServiceClient, never()).releaseStockReservation(anyString());
         }
 
         /**
@@ -907,7 +1257,7 @@ class OrderServiceTest {
          * Validates that confirmed orders can still be cancelled before processing.
          * 
          * @see OrderServiceImpl#cancelOrder(Long)
-         * @see ProductServiceClient#updateStock(Long, int)
+         * @see StockOutboxService#enqueueRelease(String, String)
          */
         @Test
         @DisplayName("Should successfully cancel confirmed order")
@@ -917,15 +1267,15 @@ class OrderServiceTest {
                     .productId(1L)
                     .quantity(2)
                     .build()));
+            testOrder.setStockReservationId("res-1");
 
             given(orderRepository.findById(1L)).willReturn(Optional.of(testOrder));
             given(orderRepository.save(Objects.requireNonNull(testOrder))).willReturn(testOrder);
             given(orderMapper.toResponse(testOrder)).willReturn(testOrderResponse);
-            given(productServiceClient.updateStock(anyLong(), anyInt())).willReturn(Mono.empty());
-
             OrderResponse result = orderService.cancelOrder(1L);
 
             assertThat(result).isNotNull();
+            verify(stockOutboxService).enqueueRelease(testOrder.getOrderNumber(), "res-1");
         }
 
         /**
@@ -949,7 +1299,7 @@ class OrderServiceTest {
          * Validates that orders being processed can be cancelled (before shipment).
          * 
          * @see OrderServiceImpl#cancelOrder(Long)
-         * @see ProductServiceClient#updateStock(Long, int)
+         * @see StockOutboxService#enqueueRelease(String, String)
          */
         @Test
         @DisplayName("Should successfully cancel processing order")
@@ -959,15 +1309,15 @@ class OrderServiceTest {
                     .productId(1L)
                     .quantity(2)
                     .build()));
+            testOrder.setStockReservationId("res-1");
 
             given(orderRepository.findById(1L)).willReturn(Optional.of(testOrder));
             given(orderRepository.save(Objects.requireNonNull(testOrder))).willReturn(testOrder);
             given(orderMapper.toResponse(testOrder)).willReturn(testOrderResponse);
-            given(productServiceClient.updateStock(anyLong(), anyInt())).willReturn(Mono.empty());
-
             OrderResponse result = orderService.cancelOrder(1L);
 
             assertThat(result).isNotNull();
+            verify(stockOutboxService).enqueueRelease(testOrder.getOrderNumber(), "res-1");
         }
 
         /**
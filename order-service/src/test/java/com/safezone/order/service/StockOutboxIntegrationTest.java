@@ -0,0 +1,124 @@
+package com.safezone.order.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.safezone.order.client.ProductServiceClient;
+import com.safezone.order.dto.StockReleaseResultDto;
+import com.safezone.order.entity.Order;
+import com.safezone.order.entity.OrderStatus;
+import com.safezone.order.entity.OutboxStatus;
+import com.safezone.order.entity.StockOutboxEvent;
+import com.safezone.order.repository.OrderRepository;
+import com.safezone.order.repository.StockOutboxEventRepository;
+import com.safezone.order.service.impl.StockOutboxRelay;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Integration tests for the stock outbox against the order database.
+ * The relay is disabled so that delivery is driven by the tests.
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-09
+ */
+@SpringBootTest(properties = "services.product.outbox.enabled=false")
+@DisplayName("Stock Outbox Integration Tests")
+class StockOutboxIntegrationTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private StockOutboxService stockOutboxService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private StockOutboxEventRepository outboxRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired(required = false)
+    private StockOutboxRelay relay;
+
+    @MockitoBean
+    private ProductServiceClient productServiceClient;
+
+    @BeforeEach
+    void setUp() {
+        outboxRepository.deleteAll();
+    }
+
+    private Order savedOrder(String orderNumber, String reservationId) {
+        return orderRepository.save(Order.builder()
+                .orderNumber(orderNumber)
+                .userId(1L)
+                .status(OrderStatus.PENDING)
+                .totalAmount(BigDecimal.TEN)
+                .stockReservationId(reservationId)
+                .build());
+    }
+
+    @Test
+    @DisplayName("Cancelling an order records its release in the same transaction and delivers it later")
+    void cancelRecordsReleaseAndRelayDeliversIt() {
+        Order order = savedOrder("ORD-OUTBOX-1", "res-outbox-1");
+        given(productServiceClient.releaseStockReservations(any()))
+                .willReturn(Mono.just(new StockReleaseResultDto(List.of("res-outbox-1"), List.of(), List.of())));
+
+        orderService.cancelOrder(order.getId());
+
+        assertThat(relay).isNull();
+        assertThat(outboxRepository.findAll()).singleElement()
+                .satisfies(event -> assertThat(event.getStatus()).isEqualTo(OutboxStatus.PENDING));
+
+        assertThat(stockOutboxService.publishPending()).isEqualTo(1);
+
+        StockOutboxEvent delivered = outboxRepository.findAll().get(0);
+        assertThat(delivered.getStatus()).isEqualTo(OutboxStatus.DELIVERED);
+        assertThat(delivered.getOrderNumber()).isEqualTo("ORD-OUTBOX-1");
+        assertThat(delivered.getDeliveredAt()).isNotNull();
+        assertThat(stockOutboxService.publishPending()).isZero();
+    }
+
+    @Test
+    @DisplayName("A release recorded in a rolled back transaction is discarded")
+    void rolledBackReleaseIsDiscarded() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        transaction.executeWithoutResult(status -> {
+            stockOutboxService.enqueueRelease("ORD-OUTBOX-2", "res-outbox-2");
+            stockOutboxService.enqueueReleaseInNewTransaction("ORD-OUTBOX-3", "res-outbox-3");
+            status.setRollbackOnly();
+        });
+
+        assertThat(outboxRepository.findAll()).extracting(StockOutboxEvent::getReservationId)
+                .containsExactly("res-outbox-3");
+    }
+
+    @Test
+    @DisplayName("Recording a release in the caller's transaction requires one")
+    void enqueueRequiresTransaction() {
+        assertThatThrownBy(() -> stockOutboxService.enqueueRelease("ORD-OUTBOX-4", "res-outbox-4"))
+                .isInstanceOf(IllegalTransactionStateException.class);
+    }
+}
@@ -0,0 +1,191 @@
+package com.safezone.order.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.safezone.order.client.ProductServiceClient;
+import com.safezone.order.config.ServiceProperties;
+import com.safezone.order.dto.StockReleaseResultDto;
+import com.safezone.order.entity.OutboxStatus;
+import com.safezone.order.entity.StockOutboxEvent;
+import com.safezone.order.repository.StockOutboxEventRepository;
+import com.safezone.order.service.impl.StockOutboxRelay;
+import com.safezone.order.service.impl.StockOutboxServiceImpl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+
+/**
+ * Unit tests for {@link StockOutboxServiceImpl} and {@link StockOutboxRelay}.
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-09
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Stock Outbox Service Tests")
+class StockOutboxServiceTest {
+
+    @Mock
+    private StockOutboxEventRepository outboxRepository;
+
+    @Mock
+    private ProductServiceClient productServiceClient;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ServiceProperties properties = new ServiceProperties();
+    private StockOutboxServiceImpl outboxService;
+
+    @BeforeEach
+    void setUp() {
+        properties.getProduct().getOutbox().setMaxAttempts(3);
+        outboxService = new StockOutboxServiceImpl(outboxRepository, productServiceClient, transactionManager,
+                properties, meterRegistry);
+    }
+
+    private static StockOutboxEvent event(long id, String reservationId, int attempts) {
+        return StockOutboxEvent.builder()
+                .id(id)
+                .orderNumber("ORD-" + id)
+                .reservationId(reservationId)
+                .status(OutboxStatus.PENDING)
+                .attempts(attempts)
+                .nextAttemptAt(LocalDateTime.now().minusSeconds(1))
+                .build();
+    }
+
+    private void givenDue(List<StockOutboxEvent> events) {
+        given(outboxRepository.findDueForUpdate(
+                eq(OutboxStatus.PENDING), any(LocalDateTime.class), any(Pageable.class))).willReturn(events);
+    }
+
+    private double outcome(String outcome) {
+        return meterRegistry.get("stock.outbox.events").tag("outcome", outcome).counter().count();
+    }
+
+    @Test
+    @DisplayName("Should record a pending release")
+    void shouldRecordPendingRelease() {
+        outboxService.enqueueRelease("ORD-1", "res-1");
+        outboxService.enqueueReleaseInNewTransaction("ORD-2", "res-2");
+
+        ArgumentCaptor<StockOutboxEvent> saved = ArgumentCaptor.forClass(StockOutboxEvent.class);
+        verify(outboxRepository, times(2)).save(saved.capture());
+        assertThat(saved.getAllValues()).extracting(StockOutboxEvent::getReservationId)
+                .containsExactly("res-1", "res-2");
+        assertThat(saved.getAllValues()).allMatch(event -> event.getStatus() == OutboxStatus.PENDING);
+    }
+
+    @Test
+    @DisplayName("Should deliver a batch with one call and coalesce events of the same reservation")
+    void shouldDeliverBatchInOneCall() {
+        List<StockOutboxEvent> events = List.of(event(1, "res-1", 0), event(2, "res-2", 0), event(3, "res-1", 0),
+                event(4, "res-9", 0));
+        givenDue(events);
+        given(productServiceClient.releaseStockReservations(List.of("res-1", "res-2", "res-9")))
+                .willReturn(Mono.just(new StockReleaseResultDto(List.of("res-1"), List.of("res-2"),
+                        List.of("res-9"))));
+
+        assertThat(outboxService.publishPending()).isEqualTo(4);
+
+        assertThat(events).extracting(StockOutboxEvent::getStatus).containsExactly(
+                OutboxStatus.DELIVERED, OutboxStatus.DELIVERED, OutboxStatus.DELIVERED, OutboxStatus.FAILED);
+        assertThat(events.get(0).getDeliveredAt()).isNotNull();
+        verify(outboxRepository).saveAll(events);
+        assertThat(outcome("delivered")).isEqualTo(3.0);
+        assertThat(outcome("failed")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should reschedule with backoff on failure and give up after the last attempt")
+    void shouldRescheduleOnFailure() {
+        StockOutboxEvent fresh = event(1, "res-1", 0);
+        StockOutboxEvent exhausted = event(2, "res-2", 2);
+        givenDue(List.of(fresh, exhausted));
+        given(productServiceClient.releaseStockReservations(any()))
+                .willReturn(Mono.error(new IllegalStateException("Product Service unavailable")));
+        LocalDateTime before = LocalDateTime.now();
+
+        assertThat(outboxService.publishPending()).isZero();
+
+        assertThat(fresh.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(fresh.getAttempts()).isEqualTo(1);
+        assertThat(fresh.getLastError()).isEqualTo("Product Service unavailable");
+        assertThat(fresh.getNextAttemptAt()).isAfterOrEqualTo(before.plus(Duration.ofSeconds(1)));
+        assertThat(exhausted.getStatus()).isEqualTo(OutboxStatus.FAILED);
+        assertThat(outcome("retried")).isEqualTo(1.0);
+        assertThat(outcome("failed")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should claim a batch before delivering it")
+    void shouldClaimBatchBeforeDelivery() {
+        StockOutboxEvent event = event(1, "res-1", 0);
+        givenDue(List.of(event));
+        LocalDateTime before = LocalDateTime.now();
+        given(productServiceClient.releaseStockReservations(List.of("res-1"))).willAnswer(invocation -> {
+            assertThat(event.getNextAttemptAt()).isAfterOrEqualTo(before.plus(Duration.ofMinutes(1)));
+            return Mono.just(new StockReleaseResultDto(List.of("res-1"), List.of(), List.of()));
+        });
+
+        assertThat(outboxService.publishPending()).isEqualTo(1);
+
+        verify(transactionManager).commit(any());
+        assertThat(event.getStatus()).isEqualTo(OutboxStatus.DELIVERED);
+    }
+
+    @Test
+    @DisplayName("Should do nothing when no event is due")
+    void shouldSkipWhenNothingIsDue() {
+        givenDue(List.of());
+
+        assertThat(outboxService.publishPending()).isZero();
+        verify(productServiceClient, never()).releaseStockReservations(any());
+    }
+
+    @Test
+    @DisplayName("Should publish the pending backlog as a gauge")
+    void shouldPublishPendingGauge() {
+        given(outboxRepository.countByStatus(OutboxStatus.PENDING)).willReturn(7L);
+
+        assertThat(meterRegistry.get("stock.outbox.pending").gauge().value()).isEqualTo(7.0);
+    }
+
+    @Test
+    @DisplayName("Relay keeps publishing while batches are full")
+    void relayDrainsFullBatches() {
+        properties.getProduct().getOutbox().setBatchSize(2);
+        StockOutboxService outbox = mock(StockOutboxService.class);
+        given(outbox.publishPending()).willReturn(2, 2, 1).willThrow(new IllegalStateException("database down"));
+        StockOutboxRelay relay = new StockOutboxRelay(outbox, properties);
+
+        relay.relay();
+        verify(outbox, times(3)).publishPending();
+
+        relay.relay();
+        verify(outbox, times(4)).publishPending();
+    }
+}
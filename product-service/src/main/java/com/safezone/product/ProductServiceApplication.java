@@ -2,6 +2,7 @@ package com.safezone.product;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Main entry point for the Product Service microservice.
@@ -14,6 +15,7 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
  * @since 2026-01-06
  */
 @SpringBootApplication(scanBasePackages = {"com.safezone.product", "com.safezone.common"})
+@EnableScheduling
 public class ProductServiceApplication {
 
     /**
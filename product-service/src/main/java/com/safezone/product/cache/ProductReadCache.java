@@ -0,0 +1,174 @@
+package com.safezone.product.cache;
+
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.safezone.product.dto.ProductResponse;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Measurement;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Read-through cache for single product lookups by ID and by SKU.
+ *
+ * <p>
+ * Built on the Spring {@link CacheManager}, so the backing store is pluggable
+ * through {@code spring.cache.*} (Caffeine by default, with size and expiry set
+ * by {@code spring.cache.caffeine.spec}). Products are stored once, keyed by ID;
+ * the SKU cache only maps a SKU to its product ID, so evicting a product ID also
+ * invalidates lookups by SKU.
+ * </p>
+ *
+ * <p>
+ * Writers evict entries through {@link #evict(Long)} and
+ * {@link #evictSku(String)}. Entries are evicted immediately and again after
+ * the surrounding transaction commits, so a concurrent read cannot repopulate
+ * the cache with pre-commit data. A {@code cache.hit.ratio} gauge is published
+ * per cache.
+ * </p>
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-06
+ */
+@Component
+public class ProductReadCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProductReadCache.class);
+
+    /** Cache of product responses keyed by product ID. */
+    public static final String PRODUCTS_CACHE = "products";
+
+    /** Cache of product IDs keyed by SKU. */
+    public static final String PRODUCT_SKUS_CACHE = "productSkus";
+
+    private final Cache products;
+    private final Cache productSkus;
+
+    /**
+     * Constructs the cache on top of the application cache manager.
+     *
+     * @param cacheManager  the cache manager providing the backing caches
+     * @param meterRegistry the registry receiving the hit ratio gauges
+     */
+    public ProductReadCache(CacheManager cacheManager, MeterRegistry meterRegistry) {
+        this.products = Objects.requireNonNull(cacheManager.getCache(PRODUCTS_CACHE),
+                "Cache '" + PRODUCTS_CACHE + "' is not configured");
+        this.productSkus = Objects.requireNonNull(cacheManager.getCache(PRODUCT_SKUS_CACHE),
+                "Cache '" + PRODUCT_SKUS_CACHE + "' is not configured");
+        registerHitRatio(meterRegistry, PRODUCTS_CACHE);
+        registerHitRatio(meterRegistry, PRODUCT_SKUS_CACHE);
+    }
+
+    /**
+     * Returns a product by ID, loading and caching it on a miss.
+     *
+     * @param id     the product ID
+     * @param loader loads the product from the database
+     * @return the product
+     */
+    public ProductResponse getById(Long id, Function<Long, ProductResponse> loader) {
+        ProductResponse cached = products.get(id, ProductResponse.class);
+        if (cached != null) {
+            return cached;
+        }
+        ProductResponse loaded = loader.apply(id);
+        put(loaded);
+        return loaded;
+    }
+
+    /**
+     * Returns a product by SKU, loading and caching it on a miss.
+     *
+     * @param sku    the Stock Keeping Unit
+     * @param loader loads the product from the database
+     * @return the product
+     */
+    public ProductResponse getBySku(String sku, Supplier<ProductResponse> loader) {
+        Long id = productSkus.get(sku, Long.class);
+        if (id != null) {
+            ProductResponse cached = products.get(id, ProductResponse.class);
+            if (cached != null && sku.equals(cached.sku())) {
+                return cached;
+            }
+        }
+        ProductResponse loaded = loader.get();
+        put(loaded);
+        return loaded;
+    }
+
+    /**
+     * Evicts a product by ID, now and after the current transaction commits.
+     *
+     * @param id the product ID
+     */
+    public void evict(Long id) {
+        evictNowAndAfterCommit(products, id);
+    }
+
+    /**
+     * Evicts a SKU mapping, now and after the current transaction commits.
+     *
+     * @param sku the Stock Keeping Unit
+     */
+    public void evictSku(String sku) {
+        evictNowAndAfterCommit(productSkus, sku);
+    }
+
+    private void put(ProductResponse product) {
+        if (product == null || product.id() == null) {
+            return;
+        }
+        products.put(product.id(), product);
+        if (product.sku() != null) {
+            productSkus.put(product.sku(), product.id());
+        }
+    }
+
+    private void evictNowAndAfterCommit(Cache cache, Object key) {
+        cache.evict(key);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.evict(key);
+                }
+            });
+        }
+        logger.debug("Evicted {} from cache '{}'", key, cache.getName());
+    }
+
+    private static void registerHitRatio(MeterRegistry registry, String cacheName) {
+        Gauge.builder("cache.hit.ratio", registry, r -> hitRatio(r, cacheName))
+                .tag("cache", cacheName)
+                .description("Ratio of cache lookups that were hits")
+                .register(registry);
+    }
+
+    private static double hitRatio(MeterRegistry registry, String cacheName) {
+        double hits = sum(registry, cacheName, "hit");
+        double total = hits + sum(registry, cacheName, "miss");
+        return total == 0 ? 0.0 : hits / total;
+    }
+
+    private static double sum(MeterRegistry registry, String cacheName, String result) {
+        double total = 0;
+        for (Meter meter : registry.find("cache.gets").tags("cache", cacheName, "result", result).meters()) {
+            for (Measurement measurement : meter.measure()) {
+                total += measurement.getValue();
+            }
+        }
+        return total;
+    }
+}
@@ -0,0 +1,22 @@
+package com.safezone.product.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Enables the Spring cache abstraction for the Product Service.
+ *
+ * <p>
+ * The cache provider, cache names, maximum size and expiry are configured
+ * through {@code spring.cache.*} in application.yml.
+ * </p>
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-06
+ * @see com.safezone.product.cache.ProductReadCache
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+}
@@ -11,6 +11,7 @@ import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfigurationSource;
 
+import com.safezone.common.security.GatewayIdentityVerifier;
 import com.safezone.common.security.JwtAuthenticationFilter;
 import com.safezone.common.security.JwtTokenProvider;
 
@@ -27,6 +28,7 @@ import jakarta.servlet.http.HttpServletResponse;
  * <li>Actuator endpoints (health checks)</li>
  * <li>Swagger/OpenAPI documentation</li>
  * <li>GET requests on product endpoints</li>
+ * <li>Batch product lookup (read-only POST)</li>
  * </ul>
  *
  * @author SafeZone Team
@@ -41,13 +43,19 @@ public class SecurityConfig {
         /** JWT token provider for authentication filter. */
         private final JwtTokenProvider jwtTokenProvider;
 
+        /** Verifier for identity headers signed by the API Gateway. */
+        private final GatewayIdentityVerifier gatewayIdentityVerifier;
+
         /**
          * Constructs a SecurityConfig with the required JWT provider.
          *
-         * @param jwtTokenProvider the JWT token provider
+         * @param jwtTokenProvider        the JWT token provider
+         * @param gatewayIdentityVerifier the verifier for gateway identity headers
          */
-        public SecurityConfig(JwtTokenProvider jwtTokenProvider) {
+        public SecurityConfig(JwtTokenProvider jwtTokenProvider,
+                        GatewayIdentityVerifier gatewayIdentityVerifier) {
                 this.jwtTokenProvider = jwtTokenProvider;
+                this.gatewayIdentityVerifier = gatewayIdentityVerifier;
         }
 
         /**
@@ -92,11 +100,15 @@ public class SecurityConfig {
                                                 .requestMatchers(HttpMethod.GET, "/api/v1/products/sku/{sku}")
                                                 .permitAll()
                                                 .requestMatchers(HttpMethod.GET, "/api/v1/products/active").permitAll()
+                                                .requestMatchers(HttpMethod.GET, "/api/v1/products/scroll").permitAll()
                                                 .requestMatchers(HttpMethod.GET, "/api/v1/products/low-stock")
                                                 .permitAll()
                                                 .requestMatchers(HttpMethod.GET, "/api/v1/products/search").permitAll()
+                                                .requestMatchers(HttpMethod.GET, "/api/v1/products/changes").permitAll()
                                                 .requestMatchers(HttpMethod.GET, "/api/v1/products/{id}/availability")
                                                 .permitAll()
+                                                // Batch lookup is a read-only POST used by order-service
+                                                .requestMatchers(HttpMethod.POST, "/api/v1/products/batch").permitAll()
                                                 // GET /api/v1/products (listing) is public for pagination/sorting
                                                 .requestMatchers(HttpMethod.GET, "/api/v1/products").permitAll()
                                                 // All other requests require authentication
@@ -113,7 +125,7 @@ public class SecurityConfig {
                                                                                 "Unauthorized");
                                                         }
                                                 }))
-                                .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider),
+                                .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider, gatewayIdentityVerifier),
                                                 UsernamePasswordAuthenticationFilter.class);
                 return http.build();
         }
@@ -1,12 +1,19 @@
 package com.safezone.product.controller;
 
 import com.safezone.common.dto.ApiResponse;
+import com.safezone.common.dto.CursorPageResponse;
 import com.safezone.common.dto.PageResponse;
 import com.safezone.product.dto.CreateProductRequest;
+import com.safezone.product.dto.ProductAvailabilityResponse;
+import com.safezone.product.dto.ProductBatchRequest;
+import com.safezone.product.dto.ProductChangeBatchResponse;
 import com.safezone.product.dto.ProductResponse;
+import com.safezone.product.dto.StockMovementResponse;
 import com.safezone.product.dto.UpdateProductRequest;
 import com.safezone.product.entity.ProductCategory;
+import com.safezone.product.service.ProductChangeService;
 import com.safezone.product.service.ProductService;
+import com.safezone.product.service.StockLedgerService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -29,7 +36,9 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * REST controller for product management operations.
@@ -49,14 +58,21 @@ import java.util.List;
 public class ProductController {
 
     private final ProductService productService;
+    private final StockLedgerService stockLedgerService;
+    private final ProductChangeService productChangeService;
 
     /**
-     * Constructs a ProductController with the required service.
+     * Constructs a ProductController with the required services.
      *
-     * @param productService the product service for business operations
+     * @param productService       the product service for business operations
+     * @param stockLedgerService   the stock ledger exposing the movement history
+     * @param productChangeService the product change feed
      */
-    public ProductController(ProductService productService) {
+    public ProductController(ProductService productService, StockLedgerService stockLedgerService,
+            ProductChangeService productChangeService) {
         this.productService = productService;
+        this.stockLedgerService = stockLedgerService;
+        this.productChangeService = productChangeService;
     }
 
     @PostMapping
@@ -101,6 +117,18 @@ public class ProductController {
         return ResponseEntity.ok(ApiResponse.success(toPageResponse(products)));
     }
 
+    @GetMapping("/scroll")
+    @Operation(summary = "Get all products with cursor pagination, newest first")
+    public ResponseEntity<ApiResponse<CursorPageResponse<ProductResponse>>> scrollProducts(
+            @Parameter(description = "Cursor returned with the previous page")
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "Whether to count all products")
+            @RequestParam(defaultValue = "true") boolean includeTotal) {
+
+        return ResponseEntity.ok(ApiResponse.success(productService.getAllProducts(cursor, size, includeTotal)));
+    }
+
     @GetMapping("/active")
     @Operation(summary = "Get active products with pagination")
     public ResponseEntity<ApiResponse<PageResponse<ProductResponse>>> getActiveProducts(
@@ -126,15 +154,32 @@ public class ProductController {
         return ResponseEntity.ok(ApiResponse.success(toPageResponse(products)));
     }
 
+    @GetMapping("/changes")
+    @Operation(summary = "Get the product changes after a version", description = "Incremental catalog sync: "
+            + "pass the lastVersion of the previous batch as since; with wait, the request is held until a "
+            + "new change commits or the wait is over")
+    public CompletableFuture<ResponseEntity<ApiResponse<ProductChangeBatchResponse>>> getChanges(
+            @Parameter(description = "Last version already seen, 0 to start at the beginning")
+            @RequestParam(defaultValue = "0") long since,
+            @Parameter(description = "Maximum number of changes") @RequestParam(defaultValue = "100") int limit,
+            @Parameter(description = "Seconds to wait for a new change when there is none, at most 30")
+            @RequestParam(defaultValue = "0") int wait) {
+
+        return productChangeService.pollChanges(since, limit, Duration.ofSeconds(wait))
+                .thenApply(changes -> ResponseEntity.ok(ApiResponse.success(changes)));
+    }
+
     @GetMapping("/search")
-    @Operation(summary = "Search products")
+    @Operation(summary = "Search products", description = "Ranked full-text search over name, description "
+            + "and SKU of active products; every term matches a word exactly or as a prefix")
     public ResponseEntity<ApiResponse<PageResponse<ProductResponse>>> searchProducts(
             @Parameter(description = "Search term") @RequestParam String q,
+            @Parameter(description = "Category filter") @RequestParam(required = false) ProductCategory category,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size) {
 
         Pageable pageable = PageRequest.of(page, size);
-        Page<ProductResponse> products = productService.searchProducts(q, pageable);
+        Page<ProductResponse> products = productService.searchProducts(q, category, pageable);
         return ResponseEntity.ok(ApiResponse.success(toPageResponse(products)));
     }
 
@@ -164,12 +209,37 @@ public class ProductController {
     @Operation(summary = "Update product stock")
     public ResponseEntity<ApiResponse<ProductResponse>> updateStock(
             @Parameter(description = "Product ID") @PathVariable Long id,
-            @Parameter(description = "Quantity to add (positive) or remove (negative)") @RequestParam Integer quantity) {
+            @Parameter(description = "Quantity to add (positive) or remove (negative)") @RequestParam Integer quantity,
+            @Parameter(description = "Reference recorded with the stock movement")
+            @RequestParam(required = false) String reference) {
 
-        ProductResponse product = productService.updateStock(id, quantity);
+        ProductResponse product = productService.updateStock(id, quantity, reference);
         return ResponseEntity.ok(ApiResponse.success("Stock updated successfully", product));
     }
 
+    @PutMapping("/{id}/stock-slots")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Split the stock of a hot product across slots, or merge it back with 0 slots")
+    public ResponseEntity<ApiResponse<ProductResponse>> setStockSlots(
+            @Parameter(description = "Product ID") @PathVariable Long id,
+            @Parameter(description = "Number of stock slots, 0 to disable striping") @RequestParam int slots) {
+
+        ProductResponse product = productService.setStockSlots(id, slots);
+        return ResponseEntity.ok(ApiResponse.success("Stock slots updated successfully", product));
+    }
+
+    @GetMapping("/{id}/stock-movements")
+    @PreAuthorize("hasAnyRole('ADMIN', 'INVENTORY')")
+    @Operation(summary = "Get the stock movement history of a product, newest first")
+    public ResponseEntity<ApiResponse<PageResponse<StockMovementResponse>>> getStockMovements(
+            @Parameter(description = "Product ID") @PathVariable Long id,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+
+        Page<StockMovementResponse> movements = stockLedgerService.getMovements(id, PageRequest.of(page, size));
+        return ResponseEntity.ok(ApiResponse.success(toPageResponse(movements)));
+    }
+
     @GetMapping("/low-stock")
     @PreAuthorize("hasAnyRole('ADMIN', 'INVENTORY')")
     @Operation(summary = "Get products with low stock")
@@ -190,6 +260,15 @@ public class ProductController {
         return ResponseEntity.ok(ApiResponse.success(available));
     }
 
+    @PostMapping("/batch")
+    @Operation(summary = "Get products and availability in batch")
+    public ResponseEntity<ApiResponse<List<ProductAvailabilityResponse>>> getProductsBatch(
+            @Valid @RequestBody ProductBatchRequest request) {
+
+        List<ProductAvailabilityResponse> products = productService.getProductsAvailability(request.items());
+        return ResponseEntity.ok(ApiResponse.success(products));
+    }
+
     /**
      * Creates a Pageable object from pagination parameters.
      *
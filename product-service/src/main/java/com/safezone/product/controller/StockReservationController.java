@@ -0,0 +1,94 @@
+package com.safezone.product.controller;
+
+import com.safezone.common.dto.ApiResponse;
+import com.safezone.product.dto.StockReleaseBatchRequest;
+import com.safezone.product.dto.StockReleaseBatchResponse;
+import com.safezone.product.dto.StockReservationRequest;
+import com.safezone.product.dto.StockReservationResponse;
+import com.safezone.product.service.StockReservationService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller for multi-line stock reservations.
+ * Lets callers hold the stock of a whole order in one round trip, confirm
+ * it, and release it again with a single call.
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-06
+ * @see StockReservationService
+ */
+@RestController
+@RequestMapping("/api/v1/products/stock/reservations")
+@PreAuthorize("hasAnyRole('ADMIN', 'INVENTORY')")
+@Tag(name = "Stock Reservations", description = "Multi-line stock reservation endpoints")
+public class StockReservationController {
+
+    private final StockReservationService reservationService;
+
+    /**
+     * Constructs a StockReservationController with the required service.
+     *
+     * @param reservationService the reservation service for business operations
+     */
+    public StockReservationController(StockReservationService reservationService) {
+        this.reservationService = reservationService;
+    }
+
+    @PostMapping
+    @Operation(summary = "Reserve stock for several products, all or nothing")
+    public ResponseEntity<ApiResponse<StockReservationResponse>> reserve(
+            @Valid @RequestBody StockReservationRequest request) {
+
+        StockReservationResponse reservation = reservationService.reserve(request);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success("Stock reserved successfully", reservation));
+    }
+
+    @GetMapping("/{reservationId}")
+    @Operation(summary = "Get a stock reservation")
+    public ResponseEntity<ApiResponse<StockReservationResponse>> getReservation(
+            @Parameter(description = "Reservation ID") @PathVariable String reservationId) {
+
+        return ResponseEntity.ok(ApiResponse.success(reservationService.getReservation(reservationId)));
+    }
+
+    @PostMapping("/{reservationId}/confirm")
+    @Operation(summary = "Confirm a stock hold so that it no longer expires")
+    public ResponseEntity<ApiResponse<StockReservationResponse>> confirm(
+            @Parameter(description = "Reservation ID") @PathVariable String reservationId) {
+
+        StockReservationResponse reservation = reservationService.confirm(reservationId);
+        return ResponseEntity.ok(ApiResponse.success("Stock reservation confirmed", reservation));
+    }
+
+    @PostMapping("/{reservationId}/release")
+    @Operation(summary = "Release a stock reservation")
+    public ResponseEntity<ApiResponse<StockReservationResponse>> release(
+            @Parameter(description = "Reservation ID") @PathVariable String reservationId) {
+
+        StockReservationResponse reservation = reservationService.release(reservationId);
+        return ResponseEntity.ok(ApiResponse.success("Stock reservation released", reservation));
+    }
+
+    @PostMapping("/release")
+    @Operation(summary = "Release several stock reservations, returning each line with its own ledger movement")
+    public ResponseEntity<ApiResponse<StockReleaseBatchResponse>> releaseAll(
+            @Valid @RequestBody StockReleaseBatchRequest request) {
+
+        StockReleaseBatchResponse result = reservationService.releaseAll(request);
+        return ResponseEntity.ok(ApiResponse.success("Stock reservations released", result));
+    }
+}
@@ -0,0 +1,21 @@
+package com.safezone.product.dto;
+
+/**
+ * Data Transfer Object describing a product and whether it can satisfy a requested quantity.
+ * Returned by the batch lookup endpoint, one entry per distinct requested product.
+ *
+ * @param productId         the requested product identifier
+ * @param product           the product details, or {@code null} if the product does not exist
+ * @param requestedQuantity the total quantity requested for this product
+ * @param available         whether the product is active and has enough stock
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-06
+ */
+public record ProductAvailabilityResponse(
+        Long productId,
+        ProductResponse product,
+        Integer requestedQuantity,
+        boolean available
+) {}
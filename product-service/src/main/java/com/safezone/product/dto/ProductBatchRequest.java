@@ -0,0 +1,27 @@
+package com.safezone.product.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for batch product lookup requests.
+ * Resolves product details and availability for many products in a single call.
+ *
+ * <p>Lines referencing the same product are merged and their quantities summed
+ * before availability is evaluated.</p>
+ *
+ * @param items the products and quantities to resolve (1-500 lines)
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-06
+ */
+public record ProductBatchRequest(
+        @NotEmpty(message = "At least one item is required")
+        @Size(max = 500, message = "A batch cannot contain more than 500 items")
+        @Valid
+        List<ProductQuantityRequest> items
+) {}
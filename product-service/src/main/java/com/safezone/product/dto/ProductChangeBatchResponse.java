@@ -0,0 +1,20 @@
+package com.safezone.product.dto;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for one batch of the product change feed.
+ *
+ * @param changes     the changes after the requested version, in version order
+ * @param lastVersion the version to pass as {@code since} to get the next batch
+ * @param hasMore     whether more changes are available right away
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-06
+ */
+public record ProductChangeBatchResponse(
+        List<ProductChangeResponse> changes,
+        long lastVersion,
+        boolean hasMore
+) {}
@@ -0,0 +1,39 @@
+package com.safezone.product.dto;
+
+import com.safezone.product.entity.ProductCategory;
+import com.safezone.product.entity.ProductChangeType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object describing one entry of the product change feed,
+ * with the state of the product after the change.
+ *
+ * @param version       the feed version of the change
+ * @param productId     the changed product
+ * @param type          the kind of change
+ * @param name          the product name
+ * @param sku           the product SKU
+ * @param price         the product price
+ * @param category      the product category
+ * @param active        whether the product is active
+ * @param stockQuantity the available stock right after the change
+ * @param changedAt     the timestamp of the change
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-06
+ */
+public record ProductChangeResponse(
+        Long version,
+        Long productId,
+        ProductChangeType type,
+        String name,
+        String sku,
+        BigDecimal price,
+        ProductCategory category,
+        Boolean active,
+        Integer stockQuantity,
+        LocalDateTime changedAt
+) {}
@@ -0,0 +1,24 @@
+package com.safezone.product.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Data Transfer Object pairing a product with a requested quantity.
+ * Used as a line item by batch operations that work on several products at once.
+ *
+ * @param productId the product identifier
+ * @param quantity  the requested quantity (at least 1)
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-06
+ */
+public record ProductQuantityRequest(
+        @NotNull(message = "Product ID is required")
+        Long productId,
+
+        @NotNull(message = "Quantity is required")
+        @Min(value = 1, message = "Quantity must be at least 1")
+        Integer quantity
+) {}
@@ -0,0 +1,28 @@
+package com.safezone.product.dto;
+
+import com.safezone.product.entity.StockMovementType;
+
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object describing one stock ledger entry.
+ *
+ * @param id          the movement identifier
+ * @param productId   the product whose stock moved
+ * @param quantity    the signed number of units added or removed
+ * @param type        the reason for the movement
+ * @param referenceId the caller reference, if any
+ * @param createdAt   the timestamp of the movement
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-06
+ */
+public record StockMovementResponse(
+        Long id,
+        Long productId,
+        Integer quantity,
+        StockMovementType type,
+        String referenceId,
+        LocalDateTime createdAt
+) {}
@@ -0,0 +1,22 @@
+package com.safezone.product.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for releasing several stock reservations at once.
+ *
+ * @param reservationIds the reservations to release; duplicates are ignored
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-06
+ */
+public record StockReleaseBatchRequest(
+        @NotEmpty(message = "At least one reservation ID is required")
+        @Size(max = 500, message = "At most 500 reservations can be released at once")
+        List<@NotBlank(message = "Reservation ID is required") String> reservationIds
+) {}
@@ -0,0 +1,21 @@
+package com.safezone.product.dto;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object describing the outcome of a batch release.
+ * Every requested reservation appears in exactly one of the lists.
+ *
+ * @param released        the reservations released by this call
+ * @param alreadyReleased the reservations that had already been released
+ * @param notFound        the reservation IDs that do not exist
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-06
+ */
+public record StockReleaseBatchResponse(
+        List<String> released,
+        List<String> alreadyReleased,
+        List<String> notFound
+) {}
@@ -0,0 +1,36 @@
+package com.safezone.product.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for reserving stock of several products at once.
+ * Either every line is reserved or none is.
+ *
+ * @param reference   optional caller reference, such as an order number
+ * @param items       the products and quantities to reserve
+ * @param holdSeconds optional hold duration; the stock is returned unless the
+ *                    reservation is confirmed within it
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-06
+ */
+public record StockReservationRequest(
+        @Size(max = 100, message = "Reference must not exceed 100 characters")
+        String reference,
+
+        @NotEmpty(message = "At least one item is required")
+        @Size(max = 500, message = "At most 500 items can be reserved at once")
+        @Valid
+        List<ProductQuantityRequest> items,
+
+        @Positive(message = "Hold duration must be positive")
+        @Max(value = 86_400, message = "Hold duration cannot exceed one day")
+        Integer holdSeconds
+) {}
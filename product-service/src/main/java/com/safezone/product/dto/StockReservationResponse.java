@@ -0,0 +1,31 @@
+package com.safezone.product.dto;
+
+import com.safezone.product.entity.ReservationStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Data Transfer Object describing a stock reservation.
+ *
+ * @param reservationId the reservation identifier used to release it
+ * @param reference     the caller reference, if any
+ * @param status        the current reservation status
+ * @param items         the reserved lines, sorted by product ID
+ * @param createdAt     the creation timestamp
+ * @param releasedAt    the release or expiry timestamp, or null while held
+ * @param expiresAt     when an unconfirmed hold expires, or null if it never does
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-06
+ */
+public record StockReservationResponse(
+        String reservationId,
+        String reference,
+        ReservationStatus status,
+        List<ProductQuantityRequest> items,
+        LocalDateTime createdAt,
+        LocalDateTime releasedAt,
+        LocalDateTime expiresAt
+) {}
@@ -7,6 +7,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
@@ -15,6 +16,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Formula;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -28,7 +30,7 @@ import java.time.LocalDateTime;
  * @since 2026-01-06
  */
 @Entity
-@Table(name = "products")
+@Table(name = "products", indexes = @Index(name = "idx_products_created_at_id", columnList = "createdAt, id"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -53,8 +55,12 @@ public class Product {
     @Column(nullable = false, precision = 10, scale = 2)
     private BigDecimal price;
 
-    /** Current stock quantity available for sale. */
-    @Column(nullable = false)
+    /**
+     * Stock snapshot. Entity updates never write it: stock moves through the
+     * stock ledger, and compaction folds ledger movements into the snapshot
+     * with a bulk update. See {@link #getAvailableStock()}.
+     */
+    @Column(nullable = false, updatable = false)
     private Integer stockQuantity;
 
     /** Unique Stock Keeping Unit identifier. */
@@ -78,6 +84,46 @@ public class Product {
     @Column(nullable = false)
     private LocalDateTime updatedAt;
 
+    /**
+     * Number of stock slots in striped inventory mode, or null or zero when the
+     * stock is held by the snapshot alone. Entity updates never write it; only
+     * the stock ledger changes it, together with the snapshot.
+     */
+    @Column(updatable = false)
+    private Integer stockSlots;
+
+    /**
+     * Stock held outside the snapshot, read with the product: the stock ledger
+     * movements not yet folded into the snapshot plus the stock slots of a
+     * striped product.
+     */
+    @Formula("(select coalesce(sum(m.quantity), 0) from stock_movements m "
+            + "where m.product_id = id and m.compacted = false)"
+            + " + (select coalesce(sum(s.quantity), 0) from product_stock_slots s where s.product_id = id)")
+    private Integer pendingStock;
+
+    /**
+     * Returns whether the stock of this product is split across stock slots.
+     *
+     * @return true in striped inventory mode
+     */
+    public boolean isStriped() {
+        return stockSlots != null && stockSlots > 0;
+    }
+
+    /**
+     * Returns the stock available for sale: the snapshot plus pending ledger
+     * movements and, for a striped product, the stock of its slots.
+     *
+     * @return the available stock, or null if the snapshot is not set
+     */
+    public Integer getAvailableStock() {
+        if (stockQuantity == null) {
+            return null;
+        }
+        return pendingStock == null ? stockQuantity : stockQuantity + pendingStock;
+    }
+
     /**
      * JPA lifecycle callback executed before persisting a new entity.
      * Sets creation and update timestamps, and default active status.
@@ -0,0 +1,93 @@
+package com.safezone.product.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Entity representing one entry of the append-only product change feed.
+ * Each entry carries the state of the product after the change, so
+ * consumers can apply it without fetching the product again.
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-06
+ */
+@Entity
+@Table(name = "product_changes")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductChange {
+
+    /** Feed version, drawn from a sequence so that it increases with every change. */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_change_version")
+    @SequenceGenerator(name = "product_change_version", sequenceName = "product_change_version_seq",
+            allocationSize = 1)
+    private Long version;
+
+    /** Identifier of the changed product. */
+    @Column(nullable = false)
+    private Long productId;
+
+    /** Kind of change. */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ProductChangeType type;
+
+    /** Product name after the change. */
+    @Column(nullable = false, length = 100)
+    private String name;
+
+    /** Product SKU after the change. */
+    @Column(nullable = false, length = 50)
+    private String sku;
+
+    /** Product price after the change. */
+    @Column(nullable = false, precision = 10, scale = 2)
+    private BigDecimal price;
+
+    /** Product category after the change. */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ProductCategory category;
+
+    /** Whether the product is active after the change. */
+    @Column(nullable = false)
+    private Boolean active;
+
+    /** Available stock right after the change. */
+    @Column(nullable = false)
+    private Integer stockQuantity;
+
+    /** Timestamp when the change was recorded. */
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime changedAt;
+
+    /**
+     * JPA lifecycle callback executed before persisting a new entity.
+     * Sets the change timestamp.
+     */
+    @PrePersist
+    protected void onCreate() {
+        changedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,19 @@
+package com.safezone.product.entity;
+
+/**
+ * Kind of change recorded in the product change feed.
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-06
+ */
+public enum ProductChangeType {
+    /** Product created. */
+    CREATED,
+    /** Name, description, price, category, active flag or stock updated. */
+    UPDATED,
+    /** Product soft-deleted. */
+    DELETED,
+    /** Stock restocked or corrected. */
+    STOCK
+}
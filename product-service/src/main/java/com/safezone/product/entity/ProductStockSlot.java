@@ -0,0 +1,53 @@
+package com.safezone.product.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Entity representing one stripe of the stock of a product in striped
+ * inventory mode.
+ * The stock of a striped product is split across several slot rows, so
+ * concurrent decrements lock different rows instead of queueing on one.
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-06
+ */
+@Entity
+@Table(name = "product_stock_slots",
+        uniqueConstraints = @UniqueConstraint(name = "uk_product_stock_slots_product_slot",
+                columnNames = {"productId", "slot"}))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductStockSlot {
+
+    /** Unique identifier for the slot row. */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** Identifier of the product the stock belongs to. */
+    @Column(nullable = false)
+    private Long productId;
+
+    /** Slot number, from zero to the product's slot count, exclusive. */
+    @Column(nullable = false)
+    private Integer slot;
+
+    /** Units held by this slot. */
+    @Column(nullable = false)
+    private Integer quantity;
+}
@@ -0,0 +1,19 @@
+package com.safezone.product.entity;
+
+/**
+ * Lifecycle states of a stock reservation.
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-06
+ */
+public enum ReservationStatus {
+    /** Stock is held for the reservation, until it expires if it is a hold. */
+    ACTIVE,
+    /** Stock is taken for good: the reservation no longer expires. */
+    CONFIRMED,
+    /** Stock has been returned to the products. */
+    RELEASED,
+    /** Stock has been returned to the products because the hold expired. */
+    EXPIRED
+}
@@ -0,0 +1,81 @@
+package com.safezone.product.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity representing one append-only entry of the stock ledger.
+ * A movement is never updated except to mark it as compacted, once its
+ * quantity has been folded into {@link Product#getStockQuantity()}.
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-06
+ */
+@Entity
+@Table(name = "stock_movements", indexes = {
+        @Index(name = "idx_stock_movements_product_compacted", columnList = "productId, compacted"),
+        @Index(name = "idx_stock_movements_reference", columnList = "referenceId")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StockMovement {
+
+    /** Unique identifier, increasing in insertion order. */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** Identifier of the product whose stock moved. */
+    @Column(nullable = false)
+    private Long productId;
+
+    /** Signed number of units added (positive) or removed (negative). */
+    @Column(nullable = false)
+    private Integer quantity;
+
+    /** Reason for the movement. */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private StockMovementType type;
+
+    /** Optional caller reference, such as a reservation ID. */
+    @Column(length = 100)
+    private String referenceId;
+
+    /** Whether the quantity is already part of the product's stock snapshot. */
+    @Column(nullable = false)
+    @Builder.Default
+    private Boolean compacted = false;
+
+    /** Timestamp when the movement was recorded. */
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * JPA lifecycle callback executed before persisting a new entity.
+     * Sets the creation timestamp.
+     */
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
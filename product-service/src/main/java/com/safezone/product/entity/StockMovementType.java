@@ -0,0 +1,21 @@
+package com.safezone.product.entity;
+
+/**
+ * Reasons a product's stock moved, as recorded in the stock ledger.
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-06
+ */
+public enum StockMovementType {
+    /** Stock the product was created with. */
+    INITIAL,
+    /** Stock taken by a stock reservation. */
+    RESERVATION,
+    /** Stock returned by a released stock reservation. */
+    RELEASE,
+    /** Stock returned by a stock hold that expired before confirmation. */
+    EXPIRY,
+    /** Manual stock correction or restock. */
+    ADJUSTMENT
+}
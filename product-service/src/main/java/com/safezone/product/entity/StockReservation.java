@@ -0,0 +1,89 @@
+package com.safezone.product.entity;
+
+import jakarta.persistence.CollectionTable;
+import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.OrderColumn;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Entity representing stock held for a multi-line order.
+ * All lines are decremented together when the reservation is created and
+ * returned together when it is released. A reservation with an expiry is a
+ * stock hold: unless it is confirmed in time, its stock is returned when it
+ * expires.
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-06
+ */
+@Entity
+@Table(name = "stock_reservations", indexes = @Index(name = "idx_stock_reservations_status_id",
+        columnList = "status, id"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StockReservation {
+
+    /** Unique reservation identifier (UUID). */
+    @Id
+    @Column(length = 36)
+    private String id;
+
+    /** Optional caller reference, such as an order number. */
+    @Column(length = 100)
+    private String reference;
+
+    /** Current reservation status. */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ReservationStatus status;
+
+    /** Reserved product lines, sorted by product ID. */
+    @ElementCollection(fetch = FetchType.EAGER)
+    @CollectionTable(name = "stock_reservation_lines", joinColumns = @JoinColumn(name = "reservation_id"))
+    @OrderColumn(name = "line_index")
+    @Builder.Default
+    private List<StockReservationLine> lines = new ArrayList<>();
+
+    /** Timestamp when the reservation was created. */
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    /** Timestamp when an unconfirmed hold expires, or null if it never expires. */
+    private LocalDateTime expiresAt;
+
+    /** Timestamp when the reservation was released or expired, if any. */
+    private LocalDateTime releasedAt;
+
+    /**
+     * JPA lifecycle callback executed before persisting a new entity.
+     * Sets the creation timestamp and default status.
+     */
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        if (status == null) {
+            status = ReservationStatus.ACTIVE;
+        }
+    }
+}
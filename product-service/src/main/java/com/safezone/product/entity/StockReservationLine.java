@@ -0,0 +1,29 @@
+package com.safezone.product.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * A single product line held by a {@link StockReservation}.
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-06
+ */
+@Embeddable
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockReservationLine {
+
+    /** Identifier of the reserved product. */
+    @Column(nullable = false)
+    private Long productId;
+
+    /** Number of units held for the product. */
+    @Column(nullable = false)
+    private Integer quantity;
+}
@@ -0,0 +1,174 @@
+package com.safezone.product.feed;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Tracks the versions of the product change feed until their transactions
+ * complete, and wakes up the readers waiting for new changes.
+ *
+ * <p>
+ * Versions come from a database sequence, so a transaction may commit
+ * version {@code n + 1} while version {@code n} is still in flight. A reader
+ * that moved past {@code n + 1} would never see {@code n}. Readers therefore
+ * stop below the oldest version this instance still has in flight, as given
+ * by {@link #visibleUpTo()}, and at any gap in the versions they read that is
+ * not settled yet, as decided by {@link #isGapSettled}. The gap check covers
+ * the versions written by other product service instances: a gap is settled
+ * once this instance saw its versions roll back, or once the change after it
+ * is older than {@code product.change-feed.gap-timeout}, which must exceed
+ * the longest product write transaction plus the clock skew between
+ * instances.
+ * </p>
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-06
+ */
+@Component
+public class ProductChangeFeed {
+
+    private final Duration gapTimeout;
+    private final Set<CompletableFuture<Void>> waiters = ConcurrentHashMap.newKeySet();
+
+    /** Guards the versions in flight and rolled back; never held across a database call. */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final NavigableSet<Long> inFlight = new TreeSet<>();
+
+    /** Versions rolled back here, with the {@link System#nanoTime()} of the rollback. */
+    private final NavigableMap<Long, Long> rolledBack = new TreeMap<>();
+
+    /**
+     * Constructs the feed.
+     *
+     * @param gapTimeout the age of the change after a gap past which the gap is
+     *                   taken as rolled back on another instance
+     */
+    public ProductChangeFeed(@Value("${product.change-feed.gap-timeout:1m}") Duration gapTimeout) {
+        this.gapTimeout = gapTimeout;
+    }
+
+    /**
+     * Writes a change and tracks its version until the current transaction
+     * completes, or until the write returns outside a transaction.
+     *
+     * @param write the write, returning the version of the change
+     * @return the version of the change
+     */
+    public long append(LongSupplier write) {
+        long version = write.getAsLong();
+        lock.lock();
+        try {
+            inFlight.add(version);
+        } finally {
+            lock.unlock();
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    complete(version, status == STATUS_COMMITTED);
+                }
+            });
+        } else {
+            complete(version, true);
+        }
+        return version;
+    }
+
+    /**
+     * Returns the highest version readers may go up to without skipping a
+     * change of this instance that is still in flight.
+     *
+     * @return the highest readable version
+     */
+    public long visibleUpTo() {
+        lock.lock();
+        try {
+            return inFlight.isEmpty() ? Long.MAX_VALUE : inFlight.first() - 1;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Tells whether readers may move past missing versions, because they will
+     * never be written.
+     *
+     * @param from          the first missing version
+     * @param to            the last missing version
+     * @param nextChangedAt the time of the change right after the gap
+     * @return {@code true} if the gap is settled
+     */
+    public boolean isGapSettled(long from, long to, LocalDateTime nextChangedAt) {
+        if (nextChangedAt.isBefore(LocalDateTime.now().minus(gapTimeout))) {
+            return true;
+        }
+        lock.lock();
+        try {
+            return to - from < rolledBack.size() && rolledBack.subMap(from, true, to, true).size() == to - from + 1;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns a future completed when the next change commits, or with
+     * {@code null} after the given time.
+     *
+     * @param timeout the longest time to wait
+     * @return the future
+     */
+    public CompletableFuture<Void> nextCommit(Duration timeout) {
+        CompletableFuture<Void> waiter = new CompletableFuture<>();
+        waiters.add(waiter);
+        waiter.whenComplete((ignored, error) -> waiters.remove(waiter));
+        return waiter.completeOnTimeout(null, timeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Returns the number of readers waiting for a change.
+     *
+     * @return the number of waiting readers
+     */
+    public int waiting() {
+        return waiters.size();
+    }
+
+    private void complete(long version, boolean committed) {
+        lock.lock();
+        try {
+            inFlight.remove(version);
+            if (!committed) {
+                // Past the gap timeout, the age of the next change settles the gap on its own.
+                long now = System.nanoTime();
+                rolledBack.values().removeIf(rolledBackAt -> now - rolledBackAt > gapTimeout.toNanos());
+                rolledBack.put(version, now);
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (committed) {
+            List<CompletableFuture<Void>> woken = new ArrayList<>(waiters);
+            woken.forEach(waiter -> waiter.complete(null));
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.safezone.product.hold;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.safezone.product.repository.StockReservationRepository;
+import com.safezone.product.repository.StockReservationRepository.HoldDeadline;
+import com.safezone.product.service.StockReservationService;
+
+/**
+ * Expires the stock holds that were not confirmed in time.
+ *
+ * <p>
+ * Every {@code stock.holds.tick} the {@link StockHoldWheel} is advanced and
+ * the holds it returns are expired in batches of
+ * {@code stock.holds.expiry-batch-size}, one transaction per batch. Holds of
+ * a failed batch are retried on the next tick. On startup the active holds
+ * are read from the database in keyset windows of {@value #RECOVERY_BATCH_SIZE}
+ * and scheduled again; holds that expired while the service was down expire
+ * on the first tick.
+ * </p>
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-06
+ */
+@Component
+public class StockHoldExpirer implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(StockHoldExpirer.class);
+
+    static final int RECOVERY_BATCH_SIZE = 1000;
+
+    private final StockHoldWheel stockHoldWheel;
+    private final StockReservationService reservationService;
+    private final StockReservationRepository reservationRepository;
+    private final int batchSize;
+
+    /**
+     * Constructs the expirer.
+     *
+     * @param stockHoldWheel        the schedule of the active holds
+     * @param reservationService    the service expiring holds
+     * @param reservationRepository the repository the active holds are recovered from
+     * @param batchSize             the maximum number of holds expired per transaction
+     */
+    public StockHoldExpirer(StockHoldWheel stockHoldWheel, StockReservationService reservationService,
+            StockReservationRepository reservationRepository,
+            @Value("${stock.holds.expiry-batch-size:500}") int batchSize) {
+        this.stockHoldWheel = stockHoldWheel;
+        this.reservationService = reservationService;
+        this.reservationRepository = reservationRepository;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int recovered = 0;
+        String after = "";
+        while (true) {
+            List<HoldDeadline> holds = reservationRepository.findActiveHoldsAfter(after,
+                    Limit.of(RECOVERY_BATCH_SIZE));
+            holds.forEach(hold -> stockHoldWheel.schedule(hold.getId(), hold.getExpiresAt()));
+            recovered += holds.size();
+            if (holds.size() < RECOVERY_BATCH_SIZE) {
+                break;
+            }
+            after = holds.getLast().getId();
+        }
+        logger.info("Scheduled the expiry of {} active stock hold(s)", recovered);
+    }
+
+    /**
+     * Expires the holds that are due.
+     *
+     * @return the number of holds expired
+     */
+    @Scheduled(fixedDelayString = "${stock.holds.tick:1s}")
+    public int expireDue() {
+        return expireDue(Instant.now());
+    }
+
+    /**
+     * Expires the holds that are due at the given time.
+     *
+     * @param now the current time
+     * @return the number of holds expired
+     */
+    int expireDue(Instant now) {
+        List<String> due = stockHoldWheel.advance(now);
+        int expired = 0;
+        for (int from = 0; from < due.size(); from += batchSize) {
+            List<String> batch = due.subList(from, Math.min(from + batchSize, due.size()));
+            try {
+                expired += reservationService.expire(batch);
+            } catch (RuntimeException e) {
+                logger.error("Failed to expire {} stock hold(s), retrying on the next tick", batch.size(), e);
+                stockHoldWheel.retry(batch);
+            }
+        }
+        if (expired > 0) {
+            logger.info("Expired {} stock hold(s); {} still scheduled", expired, stockHoldWheel.size());
+        }
+        return expired;
+    }
+}
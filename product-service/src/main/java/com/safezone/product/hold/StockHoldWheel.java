@@ -0,0 +1,112 @@
+package com.safezone.product.hold;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * In-process schedule of the stock holds waiting for confirmation, kept in a
+ * {@link TimingWheel} ticking every {@code stock.holds.tick}.
+ *
+ * <p>
+ * Holds are scheduled and cancelled only once the transaction that created,
+ * confirmed or released them has committed, so a rolled back change never
+ * alters the schedule. The schedule is not the source of truth: the expiry of
+ * a hold is checked against the database, and {@link StockHoldExpirer}
+ * schedules the active holds again after a restart.
+ * </p>
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-06
+ */
+@Component
+public class StockHoldWheel {
+
+    /** Number of wheel buckets; one revolution covers this many ticks. */
+    static final int WHEEL_SIZE = 1024;
+
+    private final TimingWheel<String> wheel;
+    private final long tickMillis;
+
+    /**
+     * Constructs the wheel.
+     *
+     * @param tick the tick duration, which is also the expiry precision
+     */
+    public StockHoldWheel(@Value("${stock.holds.tick:1s}") Duration tick) {
+        this.tickMillis = tick.toMillis();
+        this.wheel = new TimingWheel<>(tickMillis, WHEEL_SIZE, System.currentTimeMillis());
+    }
+
+    /**
+     * Schedules the expiry of a hold. Applied after commit when called inside a
+     * transaction.
+     *
+     * @param reservationId the reservation ID
+     * @param expiresAt     when the hold expires
+     */
+    public void schedule(String reservationId, LocalDateTime expiresAt) {
+        long deadline = expiresAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        afterCommit(() -> wheel.schedule(reservationId, deadline));
+    }
+
+    /**
+     * Schedules holds to expire again on the next tick, after a failed expiry.
+     *
+     * @param reservationIds the reservation IDs
+     */
+    public void retry(List<String> reservationIds) {
+        long deadline = System.currentTimeMillis() + tickMillis;
+        reservationIds.forEach(reservationId -> wheel.schedule(reservationId, deadline));
+    }
+
+    /**
+     * Removes a confirmed or released hold from the schedule. Applied after
+     * commit when called inside a transaction.
+     *
+     * @param reservationId the reservation ID
+     */
+    public void cancel(String reservationId) {
+        afterCommit(() -> wheel.cancel(reservationId));
+    }
+
+    /**
+     * Moves the wheel to the given time.
+     *
+     * @param now the current time
+     * @return the IDs of the holds that expired
+     */
+    public List<String> advance(Instant now) {
+        return wheel.advance(now.toEpochMilli());
+    }
+
+    /**
+     * Returns the number of scheduled holds.
+     *
+     * @return the number of holds waiting to expire
+     */
+    public int size() {
+        return wheel.size();
+    }
+
+    private static void afterCommit(Runnable change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                }
+            });
+        } else {
+            change.run();
+        }
+    }
+}
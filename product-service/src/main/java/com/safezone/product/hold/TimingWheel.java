@@ -0,0 +1,169 @@
+package com.safezone.product.hold;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Hashed timing wheel tracking the deadlines of many keys.
+ *
+ * <p>
+ * Time is cut into ticks, and a key expiring at tick {@code t} sits in bucket
+ * {@code t mod wheelSize}. Scheduling and cancelling are O(1) and lock-free:
+ * new deadlines are queued and placed in their bucket by the next
+ * {@link #advance}, and cancelled keys are dropped when their bucket is
+ * visited. Advancing visits only the buckets of the elapsed ticks, so its cost
+ * depends on the keys in those buckets, never on a scan of every key. Keys
+ * expire at their deadline or up to one tick later, never earlier.
+ * </p>
+ *
+ * <p>
+ * Any thread may schedule or cancel keys; {@link #advance} is serialized.
+ * </p>
+ *
+ * @param <K> the type of the keys
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-06
+ */
+public final class TimingWheel<K> {
+
+    private final long tickMillis;
+    private final long startMillis;
+    private final int mask;
+    private final List<List<Timeout<K>>> buckets;
+    private final Queue<Timeout<K>> scheduled = new ConcurrentLinkedQueue<>();
+    private final ConcurrentHashMap<K, Timeout<K>> timeouts = new ConcurrentHashMap<>();
+
+    /** Last tick whose bucket was visited; guarded by {@code this}. */
+    private long lastTick;
+
+    /** A scheduled deadline; cancelled by removing it from {@link #timeouts}. */
+    private static final class Timeout<K> {
+        private final K key;
+        private final long deadlineMillis;
+        private long deadlineTick;
+
+        private Timeout(K key, long deadlineMillis) {
+            this.key = key;
+            this.deadlineMillis = deadlineMillis;
+        }
+    }
+
+    /**
+     * Creates a wheel.
+     *
+     * @param tickMillis  the tick duration in milliseconds
+     * @param wheelSize   the number of buckets, rounded up to a power of two
+     * @param startMillis the current time in milliseconds, tick zero
+     */
+    public TimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0 || wheelSize <= 0 || wheelSize > 1 << 20) {
+            throw new IllegalArgumentException("Invalid timing wheel: tick " + tickMillis + " ms, "
+                    + wheelSize + " buckets");
+        }
+        int size = Integer.highestOneBit(wheelSize);
+        if (size < wheelSize) {
+            size <<= 1;
+        }
+        this.tickMillis = tickMillis;
+        this.startMillis = startMillis;
+        this.mask = size - 1;
+        this.buckets = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            buckets.add(new ArrayList<>());
+        }
+    }
+
+    /**
+     * Schedules a key, replacing its previous deadline if it has one.
+     *
+     * @param key            the key
+     * @param deadlineMillis when the key expires, in milliseconds
+     */
+    public void schedule(K key, long deadlineMillis) {
+        Timeout<K> timeout = new Timeout<>(key, deadlineMillis);
+        timeouts.put(key, timeout);
+        scheduled.add(timeout);
+    }
+
+    /**
+     * Cancels the deadline of a key.
+     *
+     * @param key the key
+     * @return true if the key was scheduled
+     */
+    public boolean cancel(K key) {
+        return timeouts.remove(key) != null;
+    }
+
+    /**
+     * Returns the number of scheduled keys.
+     *
+     * @return the number of keys not yet expired or cancelled
+     */
+    public int size() {
+        return timeouts.size();
+    }
+
+    /**
+     * Returns the number of buckets.
+     *
+     * @return the wheel size, a power of two
+     */
+    public int wheelSize() {
+        return mask + 1;
+    }
+
+    /**
+     * Moves the wheel to the given time and removes the keys that expired.
+     * A clock moving backwards is ignored.
+     *
+     * @param nowMillis the current time in milliseconds
+     * @return the expired keys, each returned once
+     */
+    public synchronized List<K> advance(long nowMillis) {
+        long target = Math.max(Math.floorDiv(nowMillis - startMillis, tickMillis), lastTick);
+        List<K> expired = new ArrayList<>();
+
+        Timeout<K> timeout;
+        while ((timeout = scheduled.poll()) != null) {
+            if (timeouts.get(timeout.key) != timeout) {
+                continue;
+            }
+            timeout.deadlineTick = Math.ceilDiv(timeout.deadlineMillis - startMillis, tickMillis);
+            if (timeout.deadlineTick <= target) {
+                expire(timeout, expired);
+            } else {
+                buckets.get((int) (timeout.deadlineTick & mask)).add(timeout);
+            }
+        }
+
+        // After a pause longer than a revolution, every bucket is visited once.
+        for (long tick = Math.max(lastTick + 1, target - mask); tick <= target; tick++) {
+            List<Timeout<K>> bucket = buckets.get((int) (tick & mask));
+            int kept = 0;
+            for (Timeout<K> candidate : bucket) {
+                if (timeouts.get(candidate.key) != candidate) {
+                    continue;
+                }
+                if (candidate.deadlineTick <= target) {
+                    expire(candidate, expired);
+                } else {
+                    bucket.set(kept++, candidate);
+                }
+            }
+            bucket.subList(kept, bucket.size()).clear();
+        }
+        lastTick = target;
+        return expired;
+    }
+
+    private void expire(Timeout<K> timeout, List<K> expired) {
+        if (timeouts.remove(timeout.key, timeout)) {
+            expired.add(timeout.key);
+        }
+    }
+}
@@ -32,14 +32,18 @@ public interface ProductMapper {
     @Mapping(target = "active", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "stockSlots", ignore = true)
+    @Mapping(target = "pendingStock", ignore = true)
     Product toEntity(CreateProductRequest request);
 
     /**
      * Converts a Product entity to a response DTO.
+     * The response stock is the available stock, including pending ledger movements.
      *
      * @param product the Product entity
      * @return the mapped ProductResponse
      */
+    @Mapping(target = "stockQuantity", source = "availableStock")
     ProductResponse toResponse(Product product);
 
     /**
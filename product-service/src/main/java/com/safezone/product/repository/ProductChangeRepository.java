@@ -0,0 +1,41 @@
+package com.safezone.product.repository;
+
+import com.safezone.product.entity.ProductChange;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Spring Data JPA repository for the product change feed.
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-06
+ */
+@Repository
+public interface ProductChangeRepository extends JpaRepository<ProductChange, Long> {
+
+    /**
+     * Finds the changes in a range of versions, in version order, by keyset
+     * on the primary key.
+     *
+     * @param since the version to start after
+     * @param upTo  the highest version to return
+     * @param limit the maximum number of changes
+     * @return the changes in version order
+     */
+    @Query("SELECT c FROM ProductChange c WHERE c.version > :since AND c.version <= :upTo ORDER BY c.version")
+    List<ProductChange> findChanges(@Param("since") long since, @Param("upTo") long upTo, Limit limit);
+
+    /**
+     * Returns the highest version of the feed.
+     *
+     * @return the highest version, or 0 if the feed is empty
+     */
+    @Query("SELECT COALESCE(MAX(c.version), 0) FROM ProductChange c")
+    long findLastVersion();
+}
@@ -2,9 +2,16 @@ package com.safezone.product.repository;
 
 import com.safezone.product.entity.Product;
 import com.safezone.product.entity.ProductCategory;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -31,6 +38,16 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
      */
     Optional<Product> findBySku(String sku);
 
+    /**
+     * Finds the products following a keyset position, without counting them.
+     *
+     * @param position the keyset position to start after
+     * @param sort     the sort, ending with a unique key
+     * @param limit    the maximum number of products
+     * @return the window of products
+     */
+    Window<Product> findAllBy(ScrollPosition position, Sort sort, Limit limit);
+
     /**
      * Checks if a product with the given SKU exists.
      *
@@ -66,30 +83,89 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     Page<Product> findByCategoryAndActiveTrue(ProductCategory category, Pageable pageable);
 
     /**
-     * Searches products by name or description.
-     *
-     * @param search   the search term
-     * @param pageable pagination parameters
-     * @return page of matching products
-     */
-    @Query("SELECT p FROM Product p WHERE LOWER(p.name) LIKE LOWER(CONCAT('%', :search, '%')) " +
-            "OR LOWER(p.description) LIKE LOWER(CONCAT('%', :search, '%'))")
-    Page<Product> searchProducts(@Param("search") String search, Pageable pageable);
-
-    /**
-     * Finds products with stock below a threshold.
+     * Finds products whose available stock is below a threshold.
      *
      * @param threshold the stock threshold
      * @return list of low-stock products
      */
-    List<Product> findByStockQuantityLessThan(Integer threshold);
+    @Query("SELECT p FROM Product p WHERE p.stockQuantity + p.pendingStock < :threshold")
+    List<Product> findByStockQuantityLessThan(@Param("threshold") Integer threshold);
 
     /**
-     * Finds active products with stock below a threshold.
+     * Finds active products whose available stock is below a threshold.
      *
      * @param threshold the stock threshold
      * @return list of active low-stock products
      */
-    @Query("SELECT p FROM Product p WHERE p.stockQuantity < :threshold AND p.active = true")
+    @Query("SELECT p FROM Product p WHERE p.stockQuantity + p.pendingStock < :threshold AND p.active = true")
     List<Product> findLowStockActiveProducts(@Param("threshold") Integer threshold);
+
+    /**
+     * Finds a product and locks its row until the end of the transaction.
+     * Stock decrements and ledger compaction of a product are serialized on this
+     * lock; stock increments never take it.
+     *
+     * @param id the product ID
+     * @return the locked product, if it exists
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Product p WHERE p.id = :id")
+    Optional<Product> findByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * Reads the available stock of a product, the snapshot plus the stock
+     * ledger movements not yet compacted and the stock slots, in one
+     * consistent statement.
+     *
+     * @param id the product ID
+     * @return the available stock, or null if the product does not exist
+     */
+    @Query("SELECT p.stockQuantity + COALESCE((SELECT SUM(m.quantity) FROM StockMovement m "
+            + "WHERE m.productId = p.id AND m.compacted = false), 0) + COALESCE((SELECT SUM(s.quantity) "
+            + "FROM ProductStockSlot s WHERE s.productId = p.id), 0) FROM Product p WHERE p.id = :id")
+    Long findAvailableStock(@Param("id") Long id);
+
+    /**
+     * Reads the number of stock slots of a product without locking it.
+     *
+     * @param id the product ID
+     * @return the slot count, zero when the product is not striped, or empty
+     *         if the product does not exist
+     */
+    @Query("SELECT COALESCE(p.stockSlots, 0) FROM Product p WHERE p.id = :id")
+    Optional<Integer> findStockSlots(@Param("id") Long id);
+
+    /**
+     * Checks if an active product with the given ID exists.
+     *
+     * @param id the product ID
+     * @return true if the product exists and is active
+     */
+    boolean existsByIdAndActiveTrue(Long id);
+
+    /**
+     * Replaces the stock snapshot and the stock slot count of a product.
+     * Only the stock ledger calls this, holding the product row lock.
+     *
+     * @param id            the product ID
+     * @param stockQuantity the new stock snapshot
+     * @param stockSlots    the new slot count, zero to disable striping
+     * @return the number of affected rows
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Product p SET p.stockQuantity = :stockQuantity, p.stockSlots = :stockSlots WHERE p.id = :id")
+    int updateStockLayout(@Param("id") Long id, @Param("stockQuantity") int stockQuantity,
+            @Param("stockSlots") int stockSlots);
+
+    /**
+     * Folds compacted stock ledger movements into the stock snapshot of a product.
+     * Only ledger compaction calls this, holding the product row lock.
+     *
+     * @param id    the product ID
+     * @param delta the sum of the compacted movements
+     * @return the number of affected rows
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Product p SET p.stockQuantity = p.stockQuantity + :delta WHERE p.id = :id")
+    int addToStockSnapshot(@Param("id") Long id, @Param("delta") long delta);
 }
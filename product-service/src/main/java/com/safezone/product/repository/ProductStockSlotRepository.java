@@ -0,0 +1,84 @@
+package com.safezone.product.repository;
+
+import com.safezone.product.entity.ProductStockSlot;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Spring Data JPA repository for the stock slots of striped products.
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-06
+ */
+@Repository
+public interface ProductStockSlotRepository extends JpaRepository<ProductStockSlot, Long> {
+
+    /**
+     * Locks the first slot of a product holding at least the given quantity,
+     * skipping the slots locked by other transactions instead of waiting for
+     * them. Native, as the H2 dialect does not render {@code SKIP LOCKED}.
+     *
+     * @param productId the product ID
+     * @param quantity  the number of units to take
+     * @return the locked slot number, or empty if every such slot is taken or locked
+     */
+    @Query(value = "SELECT slot FROM product_stock_slots WHERE product_id = :productId AND quantity >= :quantity "
+            + "ORDER BY slot FETCH FIRST 1 ROWS ONLY FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Integer> lockSlotHolding(@Param("productId") Long productId, @Param("quantity") int quantity);
+
+    /**
+     * Atomically takes units from one slot if it holds enough of them.
+     * Only this slot row is locked, until the end of the transaction.
+     *
+     * @param productId the product ID
+     * @param slot      the slot number
+     * @param quantity  the number of units to take
+     * @return 1 if the units were taken, 0 if the slot does not exist or holds too few
+     */
+    @Modifying
+    @Query("UPDATE ProductStockSlot s SET s.quantity = s.quantity - :quantity "
+            + "WHERE s.productId = :productId AND s.slot = :slot AND s.quantity >= :quantity")
+    int takeFromSlot(@Param("productId") Long productId, @Param("slot") int slot, @Param("quantity") int quantity);
+
+    /**
+     * Atomically adds units to one slot.
+     *
+     * @param productId the product ID
+     * @param slot      the slot number
+     * @param quantity  the number of units to add
+     * @return 1 if the units were added, 0 if the slot does not exist
+     */
+    @Modifying
+    @Query("UPDATE ProductStockSlot s SET s.quantity = s.quantity + :quantity "
+            + "WHERE s.productId = :productId AND s.slot = :slot")
+    int addToSlot(@Param("productId") Long productId, @Param("slot") int slot, @Param("quantity") long quantity);
+
+    /**
+     * Finds the slots of a product and locks them until the end of the
+     * transaction, in slot order so concurrent callers cannot deadlock.
+     *
+     * @param productId the product ID
+     * @return the locked slots, in slot order
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM ProductStockSlot s WHERE s.productId = :productId ORDER BY s.slot")
+    List<ProductStockSlot> findByProductIdForUpdate(@Param("productId") Long productId);
+
+    /**
+     * Deletes the slots of a product.
+     *
+     * @param productId the product ID
+     * @return the number of deleted slots
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM ProductStockSlot s WHERE s.productId = :productId")
+    int deleteByProductId(@Param("productId") Long productId);
+}
@@ -0,0 +1,61 @@
+package com.safezone.product.repository;
+
+import com.safezone.product.entity.StockMovement;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Spring Data JPA repository for the append-only stock ledger.
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-06
+ */
+@Repository
+public interface StockMovementRepository extends JpaRepository<StockMovement, Long> {
+
+    /**
+     * Finds the movements of a product, newest first.
+     *
+     * @param productId the product ID
+     * @param pageable  pagination parameters
+     * @return page of movements
+     */
+    Page<StockMovement> findByProductIdOrderByIdDesc(Long productId, Pageable pageable);
+
+    /**
+     * Finds the movements of a product not yet folded into its stock snapshot.
+     *
+     * @param productId the product ID
+     * @return the pending movements
+     */
+    List<StockMovement> findByProductIdAndCompactedFalse(Long productId);
+
+    /**
+     * Finds products that have movements not yet folded into their stock snapshot.
+     *
+     * @param limit the maximum number of product IDs
+     * @return product IDs in ascending order
+     */
+    @Query("SELECT DISTINCT m.productId FROM StockMovement m WHERE m.compacted = false ORDER BY m.productId")
+    List<Long> findProductIdsWithPendingMovements(Limit limit);
+
+    /**
+     * Marks movements as folded into the stock snapshot.
+     *
+     * @param ids the movement IDs
+     * @return the number of affected rows
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE StockMovement m SET m.compacted = true WHERE m.id IN :ids")
+    int markCompacted(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,102 @@
+package com.safezone.product.repository;
+
+import com.safezone.product.entity.ReservationStatus;
+import com.safezone.product.entity.StockReservation;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Spring Data JPA repository for StockReservation entities.
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-06
+ */
+@Repository
+public interface StockReservationRepository extends JpaRepository<StockReservation, String> {
+
+    /**
+     * Moves a reservation from one status to another in a single conditional
+     * UPDATE, so that concurrent releases cannot return the stock twice.
+     *
+     * @param id         the reservation ID
+     * @param expected   the statuses the reservation may currently have
+     * @param target     the new status
+     * @param releasedAt the release timestamp to record
+     * @return the number of affected rows (1 if the transition happened, 0 otherwise)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE StockReservation r SET r.status = :target, r.releasedAt = :releasedAt " +
+            "WHERE r.id = :id AND r.status IN :expected")
+    int transitionStatus(@Param("id") String id,
+                         @Param("expected") Collection<ReservationStatus> expected,
+                         @Param("target") ReservationStatus target,
+                         @Param("releasedAt") LocalDateTime releasedAt);
+
+    /**
+     * Confirms an active reservation whose hold has not expired yet, in a
+     * single conditional UPDATE, so a hold is either confirmed or expired,
+     * never both.
+     *
+     * @param id  the reservation ID
+     * @param now the current time
+     * @return the number of affected rows (1 if confirmed, 0 otherwise)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE StockReservation r SET r.status = com.safezone.product.entity.ReservationStatus.CONFIRMED " +
+            "WHERE r.id = :id AND r.status = com.safezone.product.entity.ReservationStatus.ACTIVE " +
+            "AND (r.expiresAt IS NULL OR r.expiresAt > :now)")
+    int confirmHold(@Param("id") String id, @Param("now") LocalDateTime now);
+
+    /**
+     * Finds the active holds among the given reservations, with their lines,
+     * in one query.
+     *
+     * @param ids the reservation IDs
+     * @return the active holds
+     */
+    @Query("SELECT DISTINCT r FROM StockReservation r LEFT JOIN FETCH r.lines WHERE r.id IN :ids " +
+            "AND r.status = com.safezone.product.entity.ReservationStatus.ACTIVE AND r.expiresAt IS NOT NULL")
+    List<StockReservation> findActiveHolds(@Param("ids") Collection<String> ids);
+
+    /**
+     * Finds the deadlines of active holds, by keyset on the reservation ID,
+     * to schedule them again after a restart.
+     *
+     * @param after the reservation ID to start after, or an empty string to start at the beginning
+     * @param limit the maximum number of holds
+     * @return the hold deadlines in reservation ID order
+     */
+    @Query("SELECT r.id AS id, r.expiresAt AS expiresAt FROM StockReservation r " +
+            "WHERE r.status = com.safezone.product.entity.ReservationStatus.ACTIVE AND r.expiresAt IS NOT NULL " +
+            "AND r.id > :after ORDER BY r.id")
+    List<HoldDeadline> findActiveHoldsAfter(@Param("after") String after, Limit limit);
+
+    /**
+     * Projection of the expiry of an active hold.
+     */
+    interface HoldDeadline {
+
+        /**
+         * Returns the reservation ID.
+         *
+         * @return the reservation ID
+         */
+        String getId();
+
+        /**
+         * Returns when the hold expires.
+         *
+         * @return the expiry timestamp
+         */
+        LocalDateTime getExpiresAt();
+    }
+}
@@ -0,0 +1,524 @@
+package com.safezone.product.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.safezone.product.entity.Product;
+import com.safezone.product.entity.ProductCategory;
+
+/**
+ * In-memory inverted index over the name, description and SKU of active
+ * products, serving ranked full-text search without scanning the products
+ * table.
+ *
+ * <p>
+ * Text is folded to lower case without accents and split on anything that is
+ * not a letter or a digit. Every query term must match; a term matches a token
+ * exactly or, from {@value #MIN_PREFIX_LENGTH} characters on, as a prefix, so
+ * results follow the storefront search box keystroke by keystroke. A prefix
+ * expands to at most {@value #MAX_PREFIX_EXPANSIONS} indexed terms, those
+ * found in the most products; products matching the prefix only through
+ * rarer terms are left out of its hits until the query term gets longer. Hits are
+ * ranked by a saturated, field-weighted term frequency times the inverse
+ * document frequency, with SKU and name matches weighing more than
+ * description matches and prefix matches less than exact ones.
+ * </p>
+ *
+ * <p>
+ * Each indexed product gets an internal document number, appended in
+ * increasing order, so postings lists are sorted primitive arrays that are
+ * intersected by galloping search. Updating or removing a product only marks its
+ * document as deleted; the index is compacted once deleted documents outnumber
+ * live ones. Searches share a read lock and writes take the write lock.
+ * </p>
+ *
+ * <p>
+ * Writers call {@link #index(Product)} and {@link #remove(Long)}; inside a
+ * transaction the change is applied after commit, so rolled back writes never
+ * reach the index. {@link ProductSearchIndexLoader} fills the index from the
+ * database on startup.
+ * </p>
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-06
+ */
+@Component
+public class ProductSearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProductSearchIndex.class);
+
+    /** Shortest query term that is also matched as a prefix. */
+    public static final int MIN_PREFIX_LENGTH = 2;
+
+    /** Maximum number of indexed terms a single prefix expands to, keeping the most frequent ones. */
+    static final int MAX_PREFIX_EXPANSIONS = 128;
+
+    static final float SKU_BOOST = 4f;
+    static final float NAME_BOOST = 3f;
+    static final float DESCRIPTION_BOOST = 1f;
+    static final float PREFIX_FACTOR = 0.5f;
+    private static final float SATURATION = 1.2f;
+
+    private static final int MIN_DOCS_BEFORE_COMPACTION = 1024;
+    private static final byte DELETED = -1;
+    private static final ProductCategory[] CATEGORIES = ProductCategory.values();
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    /** Result of a search: one page of product IDs, best first, and the total number of hits. */
+    public record SearchHits(List<Long> productIds, long totalHits) {
+    }
+
+    /** Sorted document numbers and matching weights of one term. */
+    private static final class Postings {
+        private int[] docs = new int[4];
+        private float[] weights = new float[4];
+        private int size;
+
+        private void add(int doc, float weight) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                weights = Arrays.copyOf(weights, size * 2);
+            }
+            docs[size] = doc;
+            weights[size++] = weight;
+        }
+
+        /**
+         * Gallops forward from a position to the first entry not below a document.
+         *
+         * @param from the position to start from
+         * @param doc  the document looked for
+         * @return the position of the first entry at or after {@code doc}
+         */
+        private int advance(int from, int doc) {
+            int low = from;
+            int step = 1;
+            while (low + step < size && docs[low + step] < doc) {
+                low += step;
+                step <<= 1;
+            }
+            int index = Arrays.binarySearch(docs, low, Math.min(size, low + step + 1), doc);
+            return index >= 0 ? index : -index - 1;
+        }
+    }
+
+    /** A postings list matched by a query term, with the score factor of that match. */
+    private record TermMatch(Postings postings, float factor) {
+    }
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Guarded by lock.
+    private final TreeMap<String, Postings> terms = new TreeMap<>();
+    private final Map<Long, Integer> docsByProduct = new HashMap<>();
+    private long[] productIds = new long[MIN_DOCS_BEFORE_COMPACTION];
+    private byte[] categories = new byte[MIN_DOCS_BEFORE_COMPACTION];
+    private int docCount;
+
+    /**
+     * Indexes an active product, replacing its previous version, or removes an
+     * inactive one. Applied after commit when called inside a transaction.
+     *
+     * @param product the saved product
+     */
+    public void index(Product product) {
+        if (!Boolean.TRUE.equals(product.getActive())) {
+            remove(product.getId());
+            return;
+        }
+        Long productId = product.getId();
+        ProductCategory category = product.getCategory();
+        Map<String, Float> weights = weigh(product);
+        afterCommit(() -> write(() -> add(productId, category, weights, true)));
+    }
+
+    /**
+     * Removes a product from the index. Applied after commit when called inside a
+     * transaction.
+     *
+     * @param productId the product ID
+     */
+    public void remove(Long productId) {
+        afterCommit(() -> write(() -> delete(productId)));
+    }
+
+    /**
+     * Indexes the active products among a batch that are not indexed yet, leaving
+     * products indexed by concurrent writes untouched.
+     *
+     * @param products the products loaded from the database
+     * @return the number of products added
+     */
+    int indexIfAbsent(Collection<Product> products) {
+        List<Product> active = products.stream().filter(product -> Boolean.TRUE.equals(product.getActive()))
+                .toList();
+        List<Map<String, Float>> weights = active.stream().map(ProductSearchIndex::weigh).toList();
+        int[] added = new int[1];
+        write(() -> {
+            for (int i = 0; i < active.size(); i++) {
+                if (add(active.get(i).getId(), active.get(i).getCategory(), weights.get(i), false)) {
+                    added[0]++;
+                }
+            }
+        });
+        return added[0];
+    }
+
+    /**
+     * Searches active products.
+     *
+     * @param query    the free-text query
+     * @param category the category to restrict hits to, or null for all
+     * @param offset   the number of best hits to skip
+     * @param limit    the maximum number of hits to return
+     * @return the page of hits and the total number of hits
+     */
+    public SearchHits search(String query, ProductCategory category, long offset, int limit) {
+        List<String> tokens = new ArrayList<>(new LinkedHashSet<>(tokenize(query)));
+        if (tokens.isEmpty()) {
+            return new SearchHits(List.of(), 0);
+        }
+        lock.readLock().lock();
+        try {
+            List<List<TermMatch>> matches = new ArrayList<>(tokens.size());
+            for (String token : tokens) {
+                List<TermMatch> tokenMatches = match(token);
+                if (tokenMatches.isEmpty()) {
+                    return new SearchHits(List.of(), 0);
+                }
+                matches.add(tokenMatches);
+            }
+            matches.sort((a, b) -> Long.compare(cost(a), cost(b)));
+            return rank(matches, category, offset, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of indexed products.
+     *
+     * @return the number of indexed products
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docsByProduct.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<TermMatch> match(String token) {
+        List<TermMatch> tokenMatches = new ArrayList<>();
+        Postings exact = terms.get(token);
+        if (exact != null) {
+            tokenMatches.add(new TermMatch(exact, idf(exact)));
+        }
+        if (token.length() >= MIN_PREFIX_LENGTH) {
+            NavigableMap<String, Postings> prefixed = terms.subMap(token, false, token + Character.MAX_VALUE, false);
+            for (Postings postings : expand(token, prefixed.values())) {
+                tokenMatches.add(new TermMatch(postings, PREFIX_FACTOR * idf(postings)));
+            }
+        }
+        return tokenMatches;
+    }
+
+    /**
+     * Keeps the {@value #MAX_PREFIX_EXPANSIONS} postings of a prefix that hold
+     * the most documents, so a truncated expansion loses the fewest hits.
+     */
+    private static Collection<Postings> expand(String prefix, Collection<Postings> prefixed) {
+        if (prefixed.size() <= MAX_PREFIX_EXPANSIONS) {
+            return prefixed;
+        }
+        PriorityQueue<Postings> largest = new PriorityQueue<>(MAX_PREFIX_EXPANSIONS + 1,
+                (a, b) -> Integer.compare(a.size, b.size));
+        for (Postings postings : prefixed) {
+            largest.add(postings);
+            if (largest.size() > MAX_PREFIX_EXPANSIONS) {
+                largest.poll();
+            }
+        }
+        logger.debug("Prefix '{}' matches {} terms, searching the {} most frequent", prefix, prefixed.size(),
+                MAX_PREFIX_EXPANSIONS);
+        return largest;
+    }
+
+    private float idf(Postings postings) {
+        return (float) Math.log(1 + (double) docsByProduct.size() / postings.size);
+    }
+
+    private static long cost(List<TermMatch> tokenMatches) {
+        long cost = 0;
+        for (TermMatch match : tokenMatches) {
+            cost += match.postings().size;
+        }
+        return cost;
+    }
+
+    /**
+     * Scores the documents matching every query term, cheapest term first, and
+     * keeps the requested page of best hits. Candidates stay sorted by document,
+     * so each further term is intersected in one forward pass over its postings.
+     */
+    private SearchHits rank(List<List<TermMatch>> matches, ProductCategory category, long offset, int limit) {
+        long[] candidates = candidates(matches.getFirst());
+        int[] docs = new int[candidates.length];
+        float[] scores = new float[candidates.length];
+        int count = 0;
+        for (int i = 0; i < candidates.length; i++) {
+            int doc = (int) (candidates[i] >>> 32);
+            boolean lastOfDoc = i + 1 == candidates.length || (int) (candidates[i + 1] >>> 32) != doc;
+            if (lastOfDoc && categories[doc] != DELETED
+                    && (category == null || categories[doc] == category.ordinal())) {
+                docs[count] = doc;
+                scores[count++] = Float.intBitsToFloat((int) candidates[i]);
+            }
+        }
+        for (int t = 1; t < matches.size() && count > 0; t++) {
+            List<TermMatch> tokenMatches = matches.get(t);
+            int[] cursors = new int[tokenMatches.size()];
+            int kept = 0;
+            for (int i = 0; i < count; i++) {
+                float score = 0f;
+                for (int m = 0; m < cursors.length; m++) {
+                    Postings postings = tokenMatches.get(m).postings();
+                    int cursor = postings.advance(cursors[m], docs[i]);
+                    cursors[m] = cursor;
+                    if (cursor < postings.size && postings.docs[cursor] == docs[i]) {
+                        score = Math.max(score, saturate(postings.weights[cursor]) * tokenMatches.get(m).factor());
+                    }
+                }
+                if (score > 0f) {
+                    docs[kept] = docs[i];
+                    scores[kept++] = scores[i] + score;
+                }
+            }
+            count = kept;
+        }
+        return new SearchHits(top(docs, scores, count, offset, limit), count);
+    }
+
+    /**
+     * Collects the documents of one query term with their best score, packed as
+     * the document number in the high bits and the score bits in the low bits,
+     * sorted so that the last entry of each document holds its best score.
+     */
+    private static long[] candidates(List<TermMatch> tokenMatches) {
+        long[] packed = new long[(int) cost(tokenMatches)];
+        int n = 0;
+        for (TermMatch match : tokenMatches) {
+            Postings postings = match.postings();
+            for (int i = 0; i < postings.size; i++) {
+                float score = saturate(postings.weights[i]) * match.factor();
+                packed[n++] = ((long) postings.docs[i] << 32) | Float.floatToIntBits(score);
+            }
+        }
+        if (tokenMatches.size() > 1) {
+            Arrays.sort(packed);
+        }
+        return packed;
+    }
+
+    private List<Long> top(int[] docs, float[] scores, int count, long offset, int limit) {
+        if (offset >= count || limit <= 0) {
+            return List.of();
+        }
+        int wanted = (int) Math.min(count, offset + limit);
+        PriorityQueue<Integer> best = new PriorityQueue<>(wanted + 1, (a, b) -> better(docs, scores, b, a));
+        for (int i = 0; i < count; i++) {
+            best.add(i);
+            if (best.size() > wanted) {
+                best.poll();
+            }
+        }
+        Long[] ranked = new Long[best.size()];
+        for (int i = ranked.length - 1; i >= 0; i--) {
+            ranked[i] = productIds[docs[best.poll()]];
+        }
+        return List.of(ranked).subList((int) offset, ranked.length);
+    }
+
+    /** Orders by descending score, then newest document first. */
+    private static int better(int[] docs, float[] scores, int a, int b) {
+        int byScore = Float.compare(scores[b], scores[a]);
+        return byScore != 0 ? byScore : Integer.compare(docs[b], docs[a]);
+    }
+
+    private static float saturate(float weight) {
+        return weight * (1 + SATURATION) / (weight + SATURATION);
+    }
+
+    private boolean add(Long productId, ProductCategory category, Map<String, Float> weights, boolean replace) {
+        if (docsByProduct.containsKey(productId)) {
+            if (!replace) {
+                return false;
+            }
+            delete(productId);
+        }
+        if (docCount == productIds.length) {
+            productIds = Arrays.copyOf(productIds, docCount * 2);
+            categories = Arrays.copyOf(categories, docCount * 2);
+        }
+        int doc = docCount++;
+        productIds[doc] = productId;
+        categories[doc] = (byte) (category == null ? CATEGORIES.length : category.ordinal());
+        weights.forEach((term, weight) -> terms.computeIfAbsent(term, key -> new Postings()).add(doc, weight));
+        docsByProduct.put(productId, doc);
+        return true;
+    }
+
+    private void delete(Long productId) {
+        Integer doc = docsByProduct.remove(productId);
+        if (doc == null) {
+            return;
+        }
+        categories[doc] = DELETED;
+        int deleted = docCount - docsByProduct.size();
+        if (docCount >= MIN_DOCS_BEFORE_COMPACTION && deleted > docsByProduct.size()) {
+            compact();
+        }
+    }
+
+    /** Renumbers live documents densely and drops the postings of deleted ones. */
+    private void compact() {
+        int[] renumbered = new int[docCount];
+        int live = 0;
+        for (int doc = 0; doc < docCount; doc++) {
+            if (categories[doc] == DELETED) {
+                renumbered[doc] = -1;
+            } else {
+                renumbered[doc] = live;
+                productIds[live] = productIds[doc];
+                categories[live++] = categories[doc];
+            }
+        }
+        terms.values().removeIf(postings -> {
+            int kept = 0;
+            for (int i = 0; i < postings.size; i++) {
+                int doc = renumbered[postings.docs[i]];
+                if (doc >= 0) {
+                    postings.docs[kept] = doc;
+                    postings.weights[kept++] = postings.weights[i];
+                }
+            }
+            postings.size = kept;
+            return kept == 0;
+        });
+        docsByProduct.replaceAll((productId, doc) -> renumbered[doc]);
+        logger.debug("Compacted product search index from {} to {} documents", docCount, live);
+        docCount = live;
+    }
+
+    private void write(Runnable change) {
+        lock.writeLock().lock();
+        try {
+            change.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static void afterCommit(Runnable change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                }
+            });
+        } else {
+            change.run();
+        }
+    }
+
+    /**
+     * Computes the field-weighted frequency of every term of a product.
+     *
+     * @param product the product
+     * @return the weight of each term
+     */
+    static Map<String, Float> weigh(Product product) {
+        Map<String, Float> weights = new HashMap<>();
+        addTerms(weights, product.getSku(), SKU_BOOST);
+        addTerms(weights, product.getName(), NAME_BOOST);
+        addTerms(weights, product.getDescription(), DESCRIPTION_BOOST);
+        return weights;
+    }
+
+    private static void addTerms(Map<String, Float> weights, String text, float boost) {
+        for (String token : tokenize(text)) {
+            weights.merge(token, boost, Float::sum);
+        }
+    }
+
+    /**
+     * Splits text into lower-case, accent-free tokens of letters and digits.
+     *
+     * @param text the text, possibly null
+     * @return the tokens, in order
+     */
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        String folded = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("")
+                .toLowerCase(Locale.ROOT);
+        List<String> tokens = new ArrayList<>();
+        for (String token : SEPARATORS.split(folded)) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Returns the number of distinct indexed terms, for tests.
+     *
+     * @return the number of distinct terms
+     */
+    int termCount() {
+        lock.readLock().lock();
+        try {
+            return terms.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of document slots, live or deleted, for tests.
+     *
+     * @return the number of document slots
+     */
+    int documentSlots() {
+        lock.readLock().lock();
+        try {
+            return docCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
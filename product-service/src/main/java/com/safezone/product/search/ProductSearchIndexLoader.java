@@ -0,0 +1,71 @@
+package com.safezone.product.search;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.stereotype.Component;
+
+import com.safezone.product.entity.Product;
+import com.safezone.product.repository.ProductRepository;
+
+/**
+ * Fills the {@link ProductSearchIndex} from the products table on startup.
+ *
+ * <p>
+ * Products are read in keyset windows of {@value #BATCH_SIZE}, each in its own
+ * short read-only transaction, so the whole catalog is never held in memory.
+ * Products already indexed by writes that committed while loading are kept as
+ * they are.
+ * </p>
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-06
+ */
+@Component
+public class ProductSearchIndexLoader implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProductSearchIndexLoader.class);
+
+    static final int BATCH_SIZE = 1000;
+    private static final Sort BY_ID = Sort.by("id");
+
+    private final ProductRepository productRepository;
+    private final ProductSearchIndex productSearchIndex;
+
+    /**
+     * Constructs the loader.
+     *
+     * @param productRepository  repository the products are read from
+     * @param productSearchIndex index the products are added to
+     */
+    public ProductSearchIndexLoader(ProductRepository productRepository, ProductSearchIndex productSearchIndex) {
+        this.productRepository = productRepository;
+        this.productSearchIndex = productSearchIndex;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long started = System.nanoTime();
+        int added = 0;
+        Window<Product> window = productRepository.findAllBy(ScrollPosition.keyset(), BY_ID, Limit.of(BATCH_SIZE));
+        while (true) {
+            List<Product> products = window.getContent();
+            added += productSearchIndex.indexIfAbsent(products);
+            if (!window.hasNext() || products.isEmpty()) {
+                break;
+            }
+            window = productRepository.findAllBy(window.positionAt(products.size() - 1), BY_ID,
+                    Limit.of(BATCH_SIZE));
+        }
+        logger.info("Product search index loaded with {} products in {} ms", added,
+                (System.nanoTime() - started) / 1_000_000);
+    }
+}
@@ -0,0 +1,57 @@
+package com.safezone.product.service;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import com.safezone.product.dto.ProductChangeBatchResponse;
+import com.safezone.product.dto.ProductResponse;
+import com.safezone.product.entity.ProductChangeType;
+
+/**
+ * Service interface for the product change feed.
+ * Every product write appends a change with a new, higher version, so that
+ * caches and replicas can sync the changes after the last version they saw
+ * instead of fetching products one by one.
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-06
+ */
+public interface ProductChangeService {
+
+    /** Maximum number of changes returned per batch. */
+    int MAX_LIMIT = 1000;
+
+    /** Longest time a reader may wait for new changes. */
+    Duration MAX_WAIT = Duration.ofSeconds(30);
+
+    /**
+     * Appends a change to the feed, as part of the current transaction.
+     *
+     * @param type    the kind of change
+     * @param product the product after the change
+     */
+    void record(ProductChangeType type, ProductResponse product);
+
+    /**
+     * Returns the changes after a version, in version order.
+     *
+     * @param since the last version already seen, 0 to start at the beginning
+     * @param limit the maximum number of changes, at most {@value #MAX_LIMIT}
+     * @return the batch of changes
+     * @throws com.safezone.common.exception.BusinessException if the version or limit is invalid
+     */
+    ProductChangeBatchResponse getChanges(long since, int limit);
+
+    /**
+     * Returns the changes after a version, waiting up to the given time for a
+     * new change to commit if there is none yet (long poll).
+     *
+     * @param since the last version already seen, 0 to start at the beginning
+     * @param limit the maximum number of changes, at most {@value #MAX_LIMIT}
+     * @param wait  how long to wait for a new change, at most {@link #MAX_WAIT}
+     * @return the batch of changes, completed when changes are available or the time is up
+     * @throws com.safezone.common.exception.BusinessException if a parameter is invalid
+     */
+    CompletableFuture<ProductChangeBatchResponse> pollChanges(long since, int limit, Duration wait);
+}
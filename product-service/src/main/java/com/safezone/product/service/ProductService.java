@@ -1,6 +1,9 @@
 package com.safezone.product.service;
 
+import com.safezone.common.dto.CursorPageResponse;
 import com.safezone.product.dto.CreateProductRequest;
+import com.safezone.product.dto.ProductAvailabilityResponse;
+import com.safezone.product.dto.ProductQuantityRequest;
 import com.safezone.product.dto.ProductResponse;
 import com.safezone.product.dto.UpdateProductRequest;
 import com.safezone.product.entity.ProductCategory;
@@ -54,6 +57,17 @@ public interface ProductService {
      */
     Page<ProductResponse> getAllProducts(Pageable pageable);
 
+    /**
+     * Retrieves all products, newest first, one keyset page at a time.
+     *
+     * @param cursor       the cursor returned with the previous page, or null for the first page
+     * @param size         the page size
+     * @param includeTotal whether to count all products
+     * @return a page of product responses with the cursor of the next page
+     * @throws com.safezone.common.exception.BusinessException if the cursor or size is invalid
+     */
+    CursorPageResponse<ProductResponse> getAllProducts(String cursor, int size, boolean includeTotal);
+
     /**
      * Retrieves only active products with pagination support.
      *
@@ -72,13 +86,15 @@ public interface ProductService {
     Page<ProductResponse> getProductsByCategory(ProductCategory category, Pageable pageable);
 
     /**
-     * Searches products by name or description.
+     * Searches active products by name, description and SKU, best matches first.
+     * Every search term must match a word exactly or as a prefix.
      *
-     * @param search the search query string
-     * @param pageable pagination parameters
+     * @param search   the search query string
+     * @param category the category to restrict results to, or null for all
+     * @param pageable pagination parameters; any sort is ignored
      * @return a page of matching product responses
      */
-    Page<ProductResponse> searchProducts(String search, Pageable pageable);
+    Page<ProductResponse> searchProducts(String search, ProductCategory category, Pageable pageable);
 
     /**
      * Updates an existing product.
@@ -99,14 +115,41 @@ public interface ProductService {
     void deleteProduct(Long id);
 
     /**
-     * Updates the stock quantity of a product.
+     * Updates the stock quantity of a product by recording a manual adjustment
+     * in the stock ledger.
      *
-     * @param id the product ID
-     * @param quantity the quantity to add (positive) or remove (negative)
+     * @param id        the product ID
+     * @param quantity  the quantity to add (positive) or remove (negative)
+     * @param reference the caller reference to record, or null
      * @return the updated product response
      * @throws com.safezone.common.exception.BusinessException if resulting stock would be negative
      */
-    ProductResponse updateStock(Long id, Integer quantity);
+    ProductResponse updateStock(Long id, Integer quantity, String reference);
+
+    /**
+     * Adjusts the stock quantity of a product by recording a manual adjustment in
+     * the stock ledger, without loading the entity.
+     *
+     * @param id        the product ID
+     * @param delta     the quantity to add (positive) or remove (negative)
+     * @param reference the caller reference to record, or null
+     * @return 1 if the stock was adjusted, 0 if the product does not exist or the
+     *         resulting stock would be negative
+     */
+    int adjustStock(Long id, int delta, String reference);
+
+    /**
+     * Switches a product to striped inventory mode, splitting its stock across
+     * the given number of slots so concurrent orders of a hot product lock
+     * different rows, or back to a single stock row with zero slots.
+     *
+     * @param id    the product ID
+     * @param slots the number of stock slots, 0 to disable striping
+     * @return the updated product
+     * @throws com.safezone.common.exception.ResourceNotFoundException if product not found
+     * @throws com.safezone.common.exception.BusinessException         if the slot count is out of range
+     */
+    ProductResponse setStockSlots(Long id, int slots);
 
     /**
      * Retrieves products with stock below the specified threshold.
@@ -124,4 +167,14 @@ public interface ProductService {
      * @return true if product is available in requested quantity, false otherwise
      */
     boolean isProductAvailable(Long id, Integer quantity);
+
+    /**
+     * Resolves product details and availability for several products at once.
+     * All products are loaded with a single query; lines for the same product
+     * are merged and their quantities summed.
+     *
+     * @param items the requested products and quantities
+     * @return one entry per distinct product, in first-requested order
+     */
+    List<ProductAvailabilityResponse> getProductsAvailability(List<ProductQuantityRequest> items);
 }
@@ -0,0 +1,102 @@
+package com.safezone.product.service;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import com.safezone.product.dto.StockMovementResponse;
+import com.safezone.product.entity.StockMovementType;
+
+/**
+ * Service interface for the append-only stock ledger.
+ * Every stock change is recorded as a movement with its reason and
+ * reference; a product's available stock is its stock snapshot plus the
+ * movements not yet compacted into it, plus its stock slots when the
+ * product is in striped inventory mode.
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-06
+ */
+public interface StockLedgerService {
+
+    /** Maximum number of stock slots of a striped product. */
+    int MAX_STOCK_SLOTS = 64;
+
+    /**
+     * Records the stock a new product was created with, as a movement already
+     * part of its snapshot, so the ledger of the product is complete.
+     *
+     * @param productId the product ID
+     * @param quantity  the initial stock
+     */
+    void recordInitialStock(Long productId, int quantity);
+
+    /**
+     * Takes stock from a product if enough is available.
+     * Takes of the same product are serialized on the product row, or on one
+     * of its stock slots for a striped product, so stock can never be
+     * oversold; reservations are also refused for inactive products.
+     *
+     * @param productId   the product ID
+     * @param quantity    the number of units to take (positive)
+     * @param type        the reason for the movement
+     * @param referenceId the caller reference, or null
+     * @return true if the stock was taken, false if the product does not exist,
+     *         is inactive for a reservation, or has insufficient stock
+     */
+    boolean take(Long productId, int quantity, StockMovementType type, String referenceId);
+
+    /**
+     * Adds stock to a product by appending a movement, without touching the
+     * product row. For a striped product the units go to a random slot.
+     *
+     * @param productId   the product ID
+     * @param quantity    the number of units to add (positive)
+     * @param type        the reason for the movement
+     * @param referenceId the caller reference, or null
+     */
+    void put(Long productId, int quantity, StockMovementType type, String referenceId);
+
+    /**
+     * Sets the available stock of a product by appending the adjustment that
+     * reaches the target. The stock of a striped product is also spread evenly
+     * over its slots again.
+     *
+     * @param productId   the product ID
+     * @param target      the available stock to reach
+     * @param referenceId the caller reference, or null
+     * @throws com.safezone.common.exception.ResourceNotFoundException if the product does not exist
+     */
+    void adjustTo(Long productId, int target, String referenceId);
+
+    /**
+     * Switches a product to striped inventory mode with the given number of
+     * stock slots, or back to a single stock snapshot with zero slots.
+     * The available stock is unchanged and spread evenly over the slots.
+     *
+     * @param productId the product ID
+     * @param slots     the number of slots, from 0 to {@link #MAX_STOCK_SLOTS}
+     * @throws com.safezone.common.exception.BusinessException if the slot count is out of range
+     * @throws com.safezone.common.exception.ResourceNotFoundException if the product does not exist
+     */
+    void setStockSlots(Long productId, int slots);
+
+    /**
+     * Folds the pending movements of a product into its stock snapshot, or
+     * into its first slot for a striped product.
+     *
+     * @param productId the product ID
+     * @return the number of movements folded
+     */
+    int compact(Long productId);
+
+    /**
+     * Retrieves the movements of a product, newest first.
+     *
+     * @param productId the product ID
+     * @param pageable  pagination parameters
+     * @return a page of movements
+     * @throws com.safezone.common.exception.ResourceNotFoundException if the product does not exist
+     */
+    Page<StockMovementResponse> getMovements(Long productId, Pageable pageable);
+}
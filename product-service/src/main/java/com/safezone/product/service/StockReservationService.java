@@ -0,0 +1,89 @@
+package com.safezone.product.service;
+
+import com.safezone.product.dto.StockReleaseBatchRequest;
+import com.safezone.product.dto.StockReleaseBatchResponse;
+import com.safezone.product.dto.StockReservationRequest;
+import com.safezone.product.dto.StockReservationResponse;
+
+import java.util.Collection;
+
+/**
+ * Service interface for multi-line stock reservations.
+ * Reservations hold the stock of every line of an order in one transaction
+ * and can be released in a single call. A reservation made with a hold
+ * duration is a stock hold: it must be confirmed before it expires, or its
+ * stock is returned.
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-06
+ */
+public interface StockReservationService {
+
+    /**
+     * Reserves stock for all requested lines, all or nothing.
+     * Lines are applied in ascending product ID order so that concurrent
+     * reservations always lock rows in the same order.
+     *
+     * @param request the lines to reserve
+     * @return the created reservation
+     * @throws com.safezone.common.exception.ResourceNotFoundException if a product does not exist
+     * @throws com.safezone.common.exception.BusinessException if a product is inactive or has insufficient stock
+     */
+    StockReservationResponse reserve(StockReservationRequest request);
+
+    /**
+     * Confirms a reservation, turning a stock hold into a permanent decrement
+     * that no longer expires. Confirming a confirmed reservation has no effect.
+     *
+     * @param reservationId the reservation ID
+     * @return the confirmed reservation
+     * @throws com.safezone.common.exception.ResourceNotFoundException if the reservation does not exist
+     * @throws com.safezone.common.exception.BusinessException if the hold expired or the reservation was released
+     */
+    StockReservationResponse confirm(String reservationId);
+
+    /**
+     * Releases a reservation and returns its stock to the products.
+     * Confirmed reservations can be released too, for example when an order is
+     * cancelled. Releasing an already released or expired reservation has no
+     * effect.
+     *
+     * @param reservationId the reservation ID
+     * @return the released reservation
+     * @throws com.safezone.common.exception.ResourceNotFoundException if the reservation does not exist
+     */
+    StockReservationResponse release(String reservationId);
+
+    /**
+     * Releases several reservations in one transaction.
+     * The stock of every released reservation line is returned with one ledger
+     * movement referencing its reservation, without locking the products.
+     * Already released and unknown reservations are reported, not rejected, so
+     * the call can safely be repeated.
+     *
+     * @param request the reservations to release
+     * @return the outcome for every requested reservation
+     */
+    StockReleaseBatchResponse releaseAll(StockReleaseBatchRequest request);
+
+    /**
+     * Expires the given holds that are still active and past their expiry,
+     * returning their stock in one transaction. Active holds not yet due are
+     * scheduled again and other reservations are skipped, so the call can
+     * safely be repeated.
+     *
+     * @param reservationIds the IDs of the holds due to expire
+     * @return the number of holds expired
+     */
+    int expire(Collection<String> reservationIds);
+
+    /**
+     * Retrieves a reservation by its ID.
+     *
+     * @param reservationId the reservation ID
+     * @return the reservation
+     * @throws com.safezone.common.exception.ResourceNotFoundException if the reservation does not exist
+     */
+    StockReservationResponse getReservation(String reservationId);
+}
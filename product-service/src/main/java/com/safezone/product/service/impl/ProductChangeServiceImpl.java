@@ -0,0 +1,160 @@
+package com.safezone.product.service.impl;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.safezone.common.exception.BusinessException;
+import com.safezone.product.dto.ProductChangeBatchResponse;
+import com.safezone.product.dto.ProductChangeResponse;
+import com.safezone.product.dto.ProductResponse;
+import com.safezone.product.entity.ProductChange;
+import com.safezone.product.entity.ProductChangeType;
+import com.safezone.product.feed.ProductChangeFeed;
+import com.safezone.product.repository.ProductChangeRepository;
+import com.safezone.product.service.ProductChangeService;
+
+/**
+ * Implementation of the {@link ProductChangeService} interface.
+ *
+ * <p>
+ * Changes are read by keyset on their version, up to the version given by
+ * {@link ProductChangeFeed#visibleUpTo()} and up to the first gap in the
+ * versions that {@link ProductChangeFeed#isGapSettled} does not settle, so a
+ * reader never moves past a change that has not committed yet, whichever
+ * instance writes it. A long poll holds no request thread
+ * while it waits: it completes when {@link ProductChangeFeed} reports the
+ * next commit, or when the wait is over, and the changes are then read on a
+ * virtual thread.
+ * </p>
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-06
+ */
+@Service
+@Transactional
+public class ProductChangeServiceImpl implements ProductChangeService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProductChangeServiceImpl.class);
+
+    private final ProductChangeRepository productChangeRepository;
+    private final ProductChangeFeed productChangeFeed;
+    private final Executor pollExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * Constructs a ProductChangeServiceImpl with required dependencies.
+     *
+     * @param productChangeRepository repository of the change feed
+     * @param productChangeFeed       tracker of the versions in flight and of the waiting readers
+     */
+    public ProductChangeServiceImpl(ProductChangeRepository productChangeRepository,
+            ProductChangeFeed productChangeFeed) {
+        this.productChangeRepository = productChangeRepository;
+        this.productChangeFeed = productChangeFeed;
+    }
+
+    @Override
+    public void record(ProductChangeType type, ProductResponse product) {
+        long version = productChangeFeed.append(() -> productChangeRepository.save(ProductChange.builder()
+                .productId(product.id())
+                .type(type)
+                .name(product.name())
+                .sku(product.sku())
+                .price(product.price())
+                .category(product.category())
+                .active(product.active())
+                .stockQuantity(product.stockQuantity())
+                .build()).getVersion());
+        logger.debug("Recorded {} change of product ID: {} at version {}", type, product.id(), version);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ProductChangeBatchResponse getChanges(long since, int limit) {
+        validate(since, limit);
+        return readChanges(since, limit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CompletableFuture<ProductChangeBatchResponse> pollChanges(long since, int limit, Duration wait) {
+        validate(since, limit);
+        if (wait.isNegative() || wait.compareTo(MAX_WAIT) > 0) {
+            throw new BusinessException("INVALID_WAIT", "Wait must be between 0 and " + MAX_WAIT.toSeconds()
+                    + " seconds");
+        }
+        if (wait.isZero()) {
+            return CompletableFuture.completedFuture(readChanges(since, limit));
+        }
+        // Registered before reading, so a change committing in between still wakes the reader up.
+        CompletableFuture<Void> nextCommit = productChangeFeed.nextCommit(wait);
+        ProductChangeBatchResponse batch = readChanges(since, limit);
+        if (!batch.changes().isEmpty()) {
+            nextCommit.complete(null);
+            return CompletableFuture.completedFuture(batch);
+        }
+        return nextCommit.thenApplyAsync(ignored -> readChanges(since, limit), pollExecutor);
+    }
+
+    private ProductChangeBatchResponse readChanges(long since, int limit) {
+        List<ProductChange> changes = productChangeRepository.findChanges(since, productChangeFeed.visibleUpTo(),
+                Limit.of(limit + 1));
+        int readable = readableCount(since, changes);
+        boolean hasMore = readable > limit;
+        List<ProductChangeResponse> batch = changes.stream()
+                .limit(Math.min(readable, limit))
+                .map(ProductChangeServiceImpl::toResponse)
+                .toList();
+        long lastVersion = batch.isEmpty() ? since : batch.getLast().version();
+        return new ProductChangeBatchResponse(batch, lastVersion, hasMore);
+    }
+
+    /**
+     * Counts the changes before the first gap in the versions that may still
+     * be filled by a transaction in flight.
+     */
+    private int readableCount(long since, List<ProductChange> changes) {
+        long expected = since + 1;
+        for (int i = 0; i < changes.size(); i++) {
+            ProductChange change = changes.get(i);
+            if (change.getVersion() > expected
+                    && !productChangeFeed.isGapSettled(expected, change.getVersion() - 1, change.getChangedAt())) {
+                return i;
+            }
+            expected = change.getVersion() + 1;
+        }
+        return changes.size();
+    }
+
+    private static void validate(long since, int limit) {
+        if (since < 0) {
+            throw new BusinessException("INVALID_VERSION", "Version must not be negative");
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new BusinessException("INVALID_LIMIT", "Limit must be between 1 and " + MAX_LIMIT);
+        }
+    }
+
+    private static ProductChangeResponse toResponse(ProductChange change) {
+        return new ProductChangeResponse(
+                change.getVersion(),
+                change.getProductId(),
+                change.getType(),
+                change.getName(),
+                change.getSku(),
+                change.getPrice(),
+                change.getCategory(),
+                change.getActive(),
+                change.getStockQuantity(),
+                change.getChangedAt());
+    }
+}
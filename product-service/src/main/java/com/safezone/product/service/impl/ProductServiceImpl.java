@@ -1,25 +1,44 @@
 package com.safezone.product.service.impl;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.safezone.common.dto.CursorPageResponse;
+import com.safezone.common.dto.PageCursor;
 import com.safezone.common.exception.BusinessException;
 import com.safezone.common.exception.ResourceNotFoundException;
+import com.safezone.product.cache.ProductReadCache;
 import com.safezone.product.dto.CreateProductRequest;
+import com.safezone.product.dto.ProductAvailabilityResponse;
+import com.safezone.product.dto.ProductQuantityRequest;
 import com.safezone.product.dto.ProductResponse;
 import com.safezone.product.dto.UpdateProductRequest;
 import com.safezone.product.entity.Product;
 import com.safezone.product.entity.ProductCategory;
+import com.safezone.product.entity.ProductChangeType;
+import com.safezone.product.entity.StockMovementType;
 import com.safezone.product.mapper.ProductMapper;
 import com.safezone.product.repository.ProductRepository;
+import com.safezone.product.search.ProductSearchIndex;
+import com.safezone.product.service.ProductChangeService;
 import com.safezone.product.service.ProductService;
+import com.safezone.product.service.StockLedgerService;
 
 /**
  * Implementation of the {@link ProductService} interface.
@@ -27,7 +46,13 @@ import com.safezone.product.service.ProductService;
  *
  * <p>
  * Handles product CRUD operations, stock management, and product search.
- * All write operations are transactional.
+ * All write operations are transactional. Lookups by ID and SKU are served
+ * from {@link ProductReadCache}; every write evicts the affected product.
+ * Searches are served from {@link ProductSearchIndex}, which every create,
+ * update and delete keeps current. Stock changes are recorded in the stock
+ * ledger through {@link StockLedgerService}. Creates, updates, deletes and
+ * stock updates are appended to the product change feed through
+ * {@link ProductChangeService}.
  * </p>
  *
  * @author SafeZone Team
@@ -40,19 +65,34 @@ public class ProductServiceImpl implements ProductService {
 
     private static final Logger logger = LoggerFactory.getLogger(ProductServiceImpl.class);
     private static final String PRODUCT_RESOURCE = "Product";
+    private static final Sort KEYSET_SORT = Sort.by(Sort.Direction.DESC, PageCursor.CREATED_AT, PageCursor.ID);
 
     private final ProductRepository productRepository;
     private final ProductMapper productMapper;
+    private final ProductReadCache productReadCache;
+    private final ProductSearchIndex productSearchIndex;
+    private final StockLedgerService stockLedgerService;
+    private final ProductChangeService productChangeService;
 
     /**
      * Constructs a ProductServiceImpl with required dependencies.
      *
-     * @param productRepository repository for product persistence
-     * @param productMapper     mapper for DTO/entity conversion
+     * @param productRepository  repository for product persistence
+     * @param productMapper      mapper for DTO/entity conversion
+     * @param productReadCache   read cache for lookups by ID and SKU
+     * @param productSearchIndex full-text index serving product searches
+     * @param stockLedgerService   ledger recording every stock change
+     * @param productChangeService feed recording every product change
      */
-    public ProductServiceImpl(ProductRepository productRepository, ProductMapper productMapper) {
+    public ProductServiceImpl(ProductRepository productRepository, ProductMapper productMapper,
+            ProductReadCache productReadCache, ProductSearchIndex productSearchIndex,
+            StockLedgerService stockLedgerService, ProductChangeService productChangeService) {
         this.productRepository = productRepository;
         this.productMapper = productMapper;
+        this.productReadCache = productReadCache;
+        this.productSearchIndex = productSearchIndex;
+        this.stockLedgerService = stockLedgerService;
+        this.productChangeService = productChangeService;
     }
 
     @Override
@@ -66,26 +106,28 @@ public class ProductServiceImpl implements ProductService {
         Product product = productMapper.toEntity(request);
         product.setActive(true);
         Product savedProduct = productRepository.save(product);
+        stockLedgerService.recordInitialStock(savedProduct.getId(), savedProduct.getStockQuantity());
+        productSearchIndex.index(savedProduct);
+        ProductResponse response = productMapper.toResponse(savedProduct);
+        productChangeService.record(ProductChangeType.CREATED, response);
 
         logger.info("Product created successfully with ID: {}", savedProduct.getId());
-        return productMapper.toResponse(savedProduct);
+        return response;
     }
 
     @Override
     @Transactional(readOnly = true)
     public ProductResponse getProductById(Long id) {
         logger.debug("Fetching product by ID: {}", id);
-        Product product = findProductById(id);
-        return productMapper.toResponse(product);
+        return productReadCache.getById(id, key -> productMapper.toResponse(findProductById(key)));
     }
 
     @Override
     @Transactional(readOnly = true)
     public ProductResponse getProductBySku(String sku) {
         logger.debug("Fetching product by SKU: {}", sku);
-        Product product = productRepository.findBySku(sku)
-                .orElseThrow(() -> new ResourceNotFoundException(PRODUCT_RESOURCE, "sku", sku));
-        return productMapper.toResponse(product);
+        return productReadCache.getBySku(sku, () -> productMapper.toResponse(productRepository.findBySku(sku)
+                .orElseThrow(() -> new ResourceNotFoundException(PRODUCT_RESOURCE, "sku", sku))));
     }
 
     @Override
@@ -96,6 +138,22 @@ public class ProductServiceImpl implements ProductService {
                 .map(productMapper::toResponse);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<ProductResponse> getAllProducts(String cursor, int size, boolean includeTotal) {
+        logger.debug("Fetching all products with cursor pagination");
+        PageCursor after = PageCursor.decode(cursor);
+        ScrollPosition position = after == null ? ScrollPosition.keyset() : ScrollPosition.forward(after.keys());
+        Window<Product> window = productRepository.findAllBy(position, KEYSET_SORT,
+                Limit.of(PageCursor.requireValidSize(size)));
+        List<Product> products = window.getContent();
+        String nextCursor = window.hasNext()
+                ? new PageCursor(products.getLast().getCreatedAt(), products.getLast().getId()).encode()
+                : null;
+        return CursorPageResponse.of(products.stream().map(productMapper::toResponse).toList(), size, nextCursor,
+                includeTotal ? productRepository.count() : null);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Page<ProductResponse> getActiveProducts(Pageable pageable) {
@@ -114,10 +172,21 @@ public class ProductServiceImpl implements ProductService {
 
     @Override
     @Transactional(readOnly = true)
-    public Page<ProductResponse> searchProducts(String search, Pageable pageable) {
-        logger.debug("Searching products with term: {}", search);
-        return productRepository.searchProducts(search, pageable)
-                .map(productMapper::toResponse);
+    public Page<ProductResponse> searchProducts(String search, ProductCategory category, Pageable pageable) {
+        logger.debug("Searching products with term: {} in category: {}", search, category);
+        ProductSearchIndex.SearchHits hits = productSearchIndex.search(search, category, pageable.getOffset(),
+                pageable.getPageSize());
+        if (hits.productIds().isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, hits.totalHits());
+        }
+        Map<Long, Product> products = productRepository.findAllById(hits.productIds()).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+        List<ProductResponse> content = hits.productIds().stream()
+                .map(products::get)
+                .filter(Objects::nonNull)
+                .map(productMapper::toResponse)
+                .toList();
+        return new PageImpl<>(content, pageable, hits.totalHits());
     }
 
     @Override
@@ -125,12 +194,20 @@ public class ProductServiceImpl implements ProductService {
         logger.info("Updating product with ID: {}", id);
 
         Product product = findProductById(id);
+        productReadCache.evict(id);
+        productReadCache.evictSku(product.getSku());
 
         updateProductFields(product, request);
+        if (request.stockQuantity() != null) {
+            stockLedgerService.adjustTo(id, request.stockQuantity(), null);
+        }
         Product updatedProduct = productRepository.save(Objects.requireNonNull(product, "Product must not be null"));
+        productSearchIndex.index(updatedProduct);
+        ProductResponse response = productMapper.toResponse(updatedProduct);
+        productChangeService.record(ProductChangeType.UPDATED, response);
 
         logger.info("Product updated successfully with ID: {}", id);
-        return productMapper.toResponse(updatedProduct);
+        return response;
     }
 
     @Override
@@ -140,28 +217,55 @@ public class ProductServiceImpl implements ProductService {
         Product product = findProductById(id);
         product.setActive(false);
         productRepository.save(product);
+        productReadCache.evict(id);
+        productSearchIndex.remove(id);
+        productChangeService.record(ProductChangeType.DELETED, productMapper.toResponse(product));
 
         logger.info("Product soft-deleted successfully with ID: {}", id);
     }
 
     @Override
-    public ProductResponse updateStock(Long id, Integer quantity) {
+    public ProductResponse updateStock(Long id, Integer quantity, String reference) {
         logger.info("Updating stock for product ID: {} with quantity: {}", id, quantity);
 
-        Product product = findProductById(id);
-
-        int newStock = product.getStockQuantity() + quantity;
-        if (newStock < 0) {
+        if (adjustStock(id, quantity, reference) == 0) {
+            Product product = findProductById(id);
             throw new BusinessException("INSUFFICIENT_STOCK",
-                    "Insufficient stock. Available: " + product.getStockQuantity() + ", Requested: "
+                    "Insufficient stock. Available: " + product.getAvailableStock() + ", Requested: "
                             + Math.abs(quantity));
         }
 
-        product.setStockQuantity(newStock);
-        Product updatedProduct = productRepository.save(product);
+        ProductResponse response = productMapper.toResponse(findProductById(id));
+        productChangeService.record(ProductChangeType.STOCK, response);
 
-        logger.info("Stock updated for product ID: {}. New stock: {}", id, newStock);
-        return productMapper.toResponse(updatedProduct);
+        logger.info("Stock updated for product ID: {}. New stock: {}", id, response.stockQuantity());
+        return response;
+    }
+
+    @Override
+    public int adjustStock(Long id, int delta, String reference) {
+        boolean applied;
+        if (delta < 0) {
+            applied = stockLedgerService.take(id, -delta, StockMovementType.ADJUSTMENT, reference);
+        } else {
+            applied = productRepository.existsById(id);
+            if (applied && delta > 0) {
+                stockLedgerService.put(id, delta, StockMovementType.ADJUSTMENT, reference);
+            }
+        }
+        if (applied) {
+            productReadCache.evict(id);
+        }
+        logger.debug("Adjusted stock for product ID: {} by {} (applied: {})", id, delta, applied);
+        return applied ? 1 : 0;
+    }
+
+    @Override
+    public ProductResponse setStockSlots(Long id, int slots) {
+        logger.info("Setting {} stock slot(s) for product ID: {}", slots, id);
+        stockLedgerService.setStockSlots(id, slots);
+        productReadCache.evict(id);
+        return productMapper.toResponse(findProductById(id));
     }
 
     @Override
@@ -175,8 +279,41 @@ public class ProductServiceImpl implements ProductService {
     @Transactional(readOnly = true)
     public boolean isProductAvailable(Long id, Integer quantity) {
         logger.debug("Checking availability for product ID: {} with quantity: {}", id, quantity);
-        Product product = findProductById(id);
-        return product.getActive() && product.getStockQuantity() >= quantity;
+        ProductResponse product = getProductById(id);
+        return Boolean.TRUE.equals(product.active()) && product.stockQuantity() >= quantity;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProductAvailabilityResponse> getProductsAvailability(List<ProductQuantityRequest> items) {
+        Map<Long, Integer> requested = new LinkedHashMap<>();
+        for (ProductQuantityRequest item : items) {
+            requested.merge(item.productId(), item.quantity(), Integer::sum);
+        }
+        logger.debug("Resolving availability for {} products", requested.size());
+
+        Map<Long, Product> products = productRepository.findAllById(requested.keySet()).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        return requested.entrySet().stream()
+                .map(entry -> toAvailability(entry.getKey(), products.get(entry.getKey()), entry.getValue()))
+                .toList();
+    }
+
+    /**
+     * Builds the availability entry for a single requested product.
+     *
+     * @param productId the requested product ID
+     * @param product   the loaded product, or null if it does not exist
+     * @param quantity  the total requested quantity
+     * @return the availability response
+     */
+    private ProductAvailabilityResponse toAvailability(Long productId, Product product, Integer quantity) {
+        if (product == null) {
+            return new ProductAvailabilityResponse(productId, null, quantity, false);
+        }
+        boolean available = product.getActive() && product.getAvailableStock() >= quantity;
+        return new ProductAvailabilityResponse(productId, productMapper.toResponse(product), quantity, available);
     }
 
     /**
@@ -193,7 +330,8 @@ public class ProductServiceImpl implements ProductService {
 
     /**
      * Updates product fields from the update request.
-     * Only non-null fields in the request are applied.
+     * Only non-null fields in the request are applied. The stock quantity is
+     * applied separately, through the stock ledger.
      *
      * @param product the product entity to update
      * @param request the update request containing new values
@@ -208,9 +346,6 @@ public class ProductServiceImpl implements ProductService {
         if (request.price() != null) {
             product.setPrice(request.price());
         }
-        if (request.stockQuantity() != null) {
-            product.setStockQuantity(request.stockQuantity());
-        }
         if (request.category() != null) {
             product.setCategory(request.category());
         }
@@ -0,0 +1,74 @@
+package com.safezone.product.service.impl;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.safezone.product.repository.StockMovementRepository;
+import com.safezone.product.service.StockLedgerService;
+
+/**
+ * Background task folding pending stock ledger movements into the product
+ * stock snapshots.
+ * <p>
+ * Runs every {@code stock.ledger.compaction-interval} and compacts up to
+ * {@code stock.ledger.compaction-batch-size} products per run, each in its own
+ * short transaction, so no lock is held across products. Compaction keeps
+ * the number of movements summed when reading stock small; it never changes
+ * the available stock.
+ * </p>
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-06
+ */
+@Component
+public class StockLedgerCompactor {
+
+    private static final Logger logger = LoggerFactory.getLogger(StockLedgerCompactor.class);
+
+    private final StockMovementRepository movementRepository;
+    private final StockLedgerService stockLedgerService;
+    private final int batchSize;
+
+    /**
+     * Constructs the compactor.
+     *
+     * @param movementRepository the repository finding products with pending movements
+     * @param stockLedgerService the ledger compacting each product
+     * @param batchSize          the maximum number of products compacted per run
+     */
+    public StockLedgerCompactor(StockMovementRepository movementRepository, StockLedgerService stockLedgerService,
+            @Value("${stock.ledger.compaction-batch-size:500}") int batchSize) {
+        this.movementRepository = movementRepository;
+        this.stockLedgerService = stockLedgerService;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Compacts the products that have pending movements.
+     *
+     * @return the number of movements folded
+     */
+    @Scheduled(fixedDelayString = "${stock.ledger.compaction-interval:30s}")
+    public int compactPending() {
+        List<Long> productIds = movementRepository.findProductIdsWithPendingMovements(Limit.of(batchSize));
+        int folded = 0;
+        for (Long productId : productIds) {
+            try {
+                folded += stockLedgerService.compact(productId);
+            } catch (RuntimeException e) {
+                logger.error("Stock ledger compaction failed for product {}", productId, e);
+            }
+        }
+        if (folded > 0) {
+            logger.info("Compacted {} stock movement(s) across {} product(s)", folded, productIds.size());
+        }
+        return folded;
+    }
+}
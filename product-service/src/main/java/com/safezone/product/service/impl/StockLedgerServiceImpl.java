@@ -0,0 +1,299 @@
+package com.safezone.product.service.impl;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.safezone.common.exception.BusinessException;
+import com.safezone.common.exception.ResourceNotFoundException;
+import com.safezone.product.dto.StockMovementResponse;
+import com.safezone.product.entity.Product;
+import com.safezone.product.entity.ProductStockSlot;
+import com.safezone.product.entity.StockMovement;
+import com.safezone.product.entity.StockMovementType;
+import com.safezone.product.repository.ProductRepository;
+import com.safezone.product.repository.ProductStockSlotRepository;
+import com.safezone.product.repository.StockMovementRepository;
+import com.safezone.product.service.StockLedgerService;
+
+/**
+ * Implementation of the {@link StockLedgerService} interface.
+ *
+ * <p>
+ * Stock increments only insert a movement, so releases and restocks never
+ * contend on the product row. Decrements lock the product row, read the
+ * snapshot plus pending movements and insert the movement only if enough
+ * stock is available; compaction takes the same lock, so a decrement always
+ * sees a consistent snapshot. Products are never oversold even though
+ * increments run concurrently, because those can only add stock.
+ * </p>
+ *
+ * <p>
+ * Striped products hold their stock in slot rows instead. A decrement locks
+ * the first slot holding enough units that no other transaction has locked,
+ * skipping locked slots instead of waiting for them, and takes the units from
+ * it. Only when every such slot is taken or locked does it lock all slots, in
+ * slot order, and drain them in that order. A decrement therefore never waits
+ * while holding a slot it did not lock in order, so concurrent decrements
+ * cannot deadlock on the slots; any lock failure left is retried by
+ * {@link StockReservationServiceImpl}. Decrements of a striped product only
+ * queue once every slot holding enough is busy, and their movements are
+ * recorded as already compacted. Changing the slot layout
+ * locks the product row and every slot.
+ * </p>
+ *
+ * <p>
+ * When the product entity is loaded in the current persistence context, its
+ * pending stock is updated in memory after each write, so responses built in
+ * the same transaction show the new stock.
+ * </p>
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-06
+ */
+@Service
+@Transactional
+public class StockLedgerServiceImpl implements StockLedgerService {
+
+    private static final Logger logger = LoggerFactory.getLogger(StockLedgerServiceImpl.class);
+
+    private final StockMovementRepository movementRepository;
+    private final ProductRepository productRepository;
+    private final ProductStockSlotRepository slotRepository;
+
+    /**
+     * Constructs a StockLedgerServiceImpl with required dependencies.
+     *
+     * @param movementRepository the repository for ledger movements
+     * @param productRepository  the repository for product locks and snapshots
+     * @param slotRepository     the repository for the stock slots of striped products
+     */
+    public StockLedgerServiceImpl(StockMovementRepository movementRepository, ProductRepository productRepository,
+            ProductStockSlotRepository slotRepository) {
+        this.movementRepository = movementRepository;
+        this.productRepository = productRepository;
+        this.slotRepository = slotRepository;
+    }
+
+    @Override
+    public void recordInitialStock(Long productId, int quantity) {
+        append(productId, quantity, StockMovementType.INITIAL, null, true);
+    }
+
+    @Override
+    public boolean take(Long productId, int quantity, StockMovementType type, String referenceId) {
+        requirePositive(quantity);
+        Optional<Integer> slots = productRepository.findStockSlots(productId);
+        if (slots.isEmpty()) {
+            return false;
+        }
+        if (slots.get() > 0) {
+            Boolean taken = takeFromSlots(productId, quantity, type, referenceId);
+            if (taken != null) {
+                return taken;
+            }
+        }
+        Optional<Product> locked = productRepository.findByIdForUpdate(productId);
+        if (locked.isEmpty()
+                || (type == StockMovementType.RESERVATION && !Boolean.TRUE.equals(locked.get().getActive()))) {
+            return false;
+        }
+        if (locked.get().isStriped()) {
+            return Boolean.TRUE.equals(takeFromSlots(productId, quantity, type, referenceId));
+        }
+        long available = productRepository.findAvailableStock(productId);
+        if (available < quantity) {
+            logger.debug("Cannot take {} unit(s) of product {}: {} available", quantity, productId, available);
+            return false;
+        }
+        append(productId, -quantity, type, referenceId, false);
+        syncAvailableStock(locked.get(), available - quantity);
+        return true;
+    }
+
+    @Override
+    public void put(Long productId, int quantity, StockMovementType type, String referenceId) {
+        requirePositive(quantity);
+        int slots = productRepository.findStockSlots(productId).orElse(0);
+        boolean inSlot = slots > 0
+                && slotRepository.addToSlot(productId, ThreadLocalRandom.current().nextInt(slots), quantity) == 1;
+        append(productId, quantity, type, referenceId, inSlot);
+    }
+
+    @Override
+    public void adjustTo(Long productId, int target, String referenceId) {
+        Product product = lockProduct(productId);
+        if (product.isStriped()) {
+            long delta = target - collectStock(product);
+            if (delta != 0) {
+                append(productId, Math.toIntExact(delta), StockMovementType.ADJUSTMENT, referenceId, true);
+            }
+            layOutStock(product, target, product.getStockSlots());
+            return;
+        }
+        long delta = target - productRepository.findAvailableStock(productId);
+        if (delta != 0) {
+            append(productId, Math.toIntExact(delta), StockMovementType.ADJUSTMENT, referenceId, false);
+        }
+        syncAvailableStock(product, target);
+    }
+
+    @Override
+    public void setStockSlots(Long productId, int slots) {
+        if (slots < 0 || slots > MAX_STOCK_SLOTS) {
+            throw new BusinessException("INVALID_STOCK_SLOTS",
+                    "Stock slots must be between 0 and " + MAX_STOCK_SLOTS + ", got " + slots);
+        }
+        Product product = lockProduct(productId);
+        long available = collectStock(product);
+        layOutStock(product, available, slots);
+        logger.info("Product {} now holds {} unit(s) of stock in {} slot(s)", productId, available, slots);
+    }
+
+    @Override
+    public int compact(Long productId) {
+        Optional<Product> product = productRepository.findByIdForUpdate(productId);
+        List<StockMovement> pending = movementRepository.findByProductIdAndCompactedFalse(productId);
+        if (pending.isEmpty()) {
+            return 0;
+        }
+        long total = pending.stream().mapToLong(StockMovement::getQuantity).sum();
+        movementRepository.markCompacted(pending.stream().map(StockMovement::getId).toList());
+        if (product.isEmpty()) {
+            logger.warn("Discarded {} stock movement(s) of missing product {}", pending.size(), productId);
+        } else if (!product.get().isStriped() || slotRepository.addToSlot(productId, 0, total) == 0) {
+            productRepository.addToStockSnapshot(productId, total);
+        }
+        logger.debug("Compacted {} stock movement(s) of product {} ({} unit(s))", pending.size(), productId, total);
+        return pending.size();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<StockMovementResponse> getMovements(Long productId, Pageable pageable) {
+        if (!productRepository.existsById(productId)) {
+            throw new ResourceNotFoundException("Product", "id", productId);
+        }
+        return movementRepository.findByProductIdOrderByIdDesc(productId, pageable)
+                .map(movement -> new StockMovementResponse(
+                        movement.getId(),
+                        movement.getProductId(),
+                        movement.getQuantity(),
+                        movement.getType(),
+                        movement.getReferenceId(),
+                        movement.getCreatedAt()));
+    }
+
+    private void append(Long productId, int quantity, StockMovementType type, String referenceId,
+            boolean compacted) {
+        movementRepository.save(StockMovement.builder()
+                .productId(productId)
+                .quantity(quantity)
+                .type(type)
+                .referenceId(referenceId)
+                .compacted(compacted)
+                .build());
+        logger.debug("Recorded {} movement of {} unit(s) for product {}, reference: {}", type, quantity, productId,
+                referenceId);
+    }
+
+    private Product lockProduct(Long productId) {
+        return productRepository.findByIdForUpdate(productId)
+                .orElseThrow(() -> new ResourceNotFoundException("Product", "id", productId));
+    }
+
+    /**
+     * Takes stock from the slots of a striped product.
+     *
+     * @return whether the stock was taken, or null if the product has no slots
+     *         any more and must be handled as a regular product
+     */
+    private Boolean takeFromSlots(Long productId, int quantity, StockMovementType type, String referenceId) {
+        if (type == StockMovementType.RESERVATION && !productRepository.existsByIdAndActiveTrue(productId)) {
+            return false;
+        }
+        List<Integer> free = slotRepository.lockSlotHolding(productId, quantity);
+        if (!free.isEmpty() && slotRepository.takeFromSlot(productId, free.get(0), quantity) == 1) {
+            append(productId, -quantity, type, referenceId, true);
+            return true;
+        }
+
+        // No unlocked slot holds enough: lock them all and drain them in slot order.
+        List<ProductStockSlot> locked = slotRepository.findByProductIdForUpdate(productId);
+        if (locked.isEmpty()) {
+            return null;
+        }
+        long available = locked.stream().mapToLong(ProductStockSlot::getQuantity).sum();
+        if (available < quantity) {
+            logger.debug("Cannot take {} unit(s) of product {}: {} available in {} slot(s)", quantity, productId,
+                    available, locked.size());
+            return false;
+        }
+        int remaining = quantity;
+        for (ProductStockSlot slot : locked) {
+            int taken = Math.min(remaining, Math.max(slot.getQuantity(), 0));
+            slot.setQuantity(slot.getQuantity() - taken);
+            remaining -= taken;
+        }
+        append(productId, -quantity, type, referenceId, true);
+        return true;
+    }
+
+    /**
+     * Gathers all stock of a locked product: marks its pending movements as
+     * compacted and deletes its slots.
+     *
+     * @return the available stock gathered
+     */
+    private long collectStock(Product product) {
+        Long productId = product.getId();
+        List<ProductStockSlot> slots = slotRepository.findByProductIdForUpdate(productId);
+        List<StockMovement> pending = movementRepository.findByProductIdAndCompactedFalse(productId);
+        long available = product.getStockQuantity()
+                + pending.stream().mapToLong(StockMovement::getQuantity).sum()
+                + slots.stream().mapToLong(ProductStockSlot::getQuantity).sum();
+        if (!pending.isEmpty()) {
+            movementRepository.markCompacted(pending.stream().map(StockMovement::getId).toList());
+        }
+        if (!slots.isEmpty()) {
+            slotRepository.deleteByProductId(productId);
+        }
+        return available;
+    }
+
+    /** Stores gathered stock in the snapshot, or spreads it evenly over new slots. */
+    private void layOutStock(Product product, long available, int slots) {
+        int snapshot = slots == 0 ? Math.toIntExact(available) : 0;
+        productRepository.updateStockLayout(product.getId(), snapshot, slots);
+        for (int slot = 0; slot < slots; slot++) {
+            slotRepository.save(ProductStockSlot.builder()
+                    .productId(product.getId())
+                    .slot(slot)
+                    .quantity(Math.toIntExact(Math.floorDiv(available, slots)
+                            + (slot < Math.floorMod(available, slots) ? 1 : 0)))
+                    .build());
+        }
+        product.setStockQuantity(snapshot);
+        product.setStockSlots(slots);
+        syncAvailableStock(product, available);
+    }
+
+    /** Makes the in-memory product report the stock just written. */
+    private static void syncAvailableStock(Product product, long available) {
+        product.setPendingStock(Math.toIntExact(available - product.getStockQuantity()));
+    }
+
+    private static void requirePositive(int quantity) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("Stock movement quantity must be positive: " + quantity);
+        }
+    }
+}
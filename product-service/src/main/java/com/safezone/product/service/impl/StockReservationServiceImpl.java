@@ -0,0 +1,317 @@
+package com.safezone.product.service.impl;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.safezone.common.exception.BusinessException;
+import com.safezone.common.exception.ResourceNotFoundException;
+import com.safezone.product.cache.ProductReadCache;
+import com.safezone.product.dto.ProductQuantityRequest;
+import com.safezone.product.dto.StockReleaseBatchRequest;
+import com.safezone.product.dto.StockReleaseBatchResponse;
+import com.safezone.product.dto.StockReservationRequest;
+import com.safezone.product.dto.StockReservationResponse;
+import com.safezone.product.entity.Product;
+import com.safezone.product.entity.ReservationStatus;
+import com.safezone.product.entity.StockReservation;
+import com.safezone.product.entity.StockMovementType;
+import com.safezone.product.entity.StockReservationLine;
+import com.safezone.product.hold.StockHoldWheel;
+import com.safezone.product.repository.ProductRepository;
+import com.safezone.product.repository.StockReservationRepository;
+import com.safezone.product.service.StockLedgerService;
+import com.safezone.product.service.StockReservationService;
+
+/**
+ * Implementation of the {@link StockReservationService} interface.
+ *
+ * <p>
+ * Each line takes its stock through {@link StockLedgerService#take}, which
+ * also rejects inactive products, so the reservation is the authoritative
+ * availability check. Lines are merged per product and applied in ascending
+ * product ID order; any failing line rolls back the whole transaction. A
+ * reservation that loses a lock conflict, such as a deadlock between the
+ * stock slots of a striped product, is retried in a new transaction.
+ * Releases only append ledger movements referencing the reservation, so they
+ * never wait on a product row, and batch releases evict each product from the
+ * read cache once.
+ * </p>
+ *
+ * <p>
+ * Holds are scheduled in the {@link StockHoldWheel}. Confirmation and expiry
+ * are both conditional status transitions from {@code ACTIVE}, so a hold is
+ * either confirmed or expired, never both, and its stock is returned at most
+ * once.
+ * </p>
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-06
+ */
+@Service
+@Transactional
+public class StockReservationServiceImpl implements StockReservationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(StockReservationServiceImpl.class);
+    private static final String RESERVATION_RESOURCE = "StockReservation";
+    private static final Set<ReservationStatus> RELEASABLE = EnumSet.of(ReservationStatus.ACTIVE,
+            ReservationStatus.CONFIRMED);
+
+    /** Attempts at a reservation that keeps losing lock conflicts. */
+    private static final int MAX_RESERVE_ATTEMPTS = 3;
+
+    private final StockReservationRepository reservationRepository;
+    private final ProductRepository productRepository;
+    private final ProductReadCache productReadCache;
+    private final StockLedgerService stockLedgerService;
+    private final StockHoldWheel stockHoldWheel;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Constructs a StockReservationServiceImpl with required dependencies.
+     *
+     * @param reservationRepository the repository for reservation persistence
+     * @param productRepository     the repository used to explain failed reservations
+     * @param productReadCache      the product read cache to evict on stock changes
+     * @param stockLedgerService    the ledger recording the stock taken and returned
+     * @param stockHoldWheel        the schedule of the holds waiting for confirmation
+     * @param transactionManager    the transaction manager used to retry reservations
+     */
+    public StockReservationServiceImpl(StockReservationRepository reservationRepository,
+            ProductRepository productRepository, ProductReadCache productReadCache,
+            StockLedgerService stockLedgerService, StockHoldWheel stockHoldWheel,
+            PlatformTransactionManager transactionManager) {
+        this.reservationRepository = reservationRepository;
+        this.productRepository = productRepository;
+        this.productReadCache = productReadCache;
+        this.stockLedgerService = stockLedgerService;
+        this.stockHoldWheel = stockHoldWheel;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public StockReservationResponse reserve(StockReservationRequest request) {
+        for (int attempt = 1;; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> reserveOnce(request));
+            } catch (PessimisticLockingFailureException e) {
+                if (attempt == MAX_RESERVE_ATTEMPTS) {
+                    logger.warn("Stock reservation failed on lock conflicts {} times, reference: {}", attempt,
+                            request.reference());
+                    throw new BusinessException("STOCK_CONTENTION",
+                            "Stock is too contended to reserve, try again");
+                }
+                logger.debug("Stock reservation lost a lock conflict (attempt {}), retrying: {}", attempt,
+                        e.getMessage());
+            }
+        }
+    }
+
+    private StockReservationResponse reserveOnce(StockReservationRequest request) {
+        Map<Long, Integer> lines = new TreeMap<>();
+        for (ProductQuantityRequest item : request.items()) {
+            lines.merge(item.productId(), item.quantity(), Integer::sum);
+        }
+        logger.info("Reserving stock for {} product(s), reference: {}", lines.size(), request.reference());
+
+        StockReservation reservation = StockReservation.builder()
+                .id(UUID.randomUUID().toString())
+                .reference(request.reference())
+                .status(ReservationStatus.ACTIVE)
+                .expiresAt(request.holdSeconds() == null ? null
+                        : LocalDateTime.now().plusSeconds(request.holdSeconds()))
+                .build();
+
+        for (Map.Entry<Long, Integer> line : lines.entrySet()) {
+            Long productId = line.getKey();
+            int quantity = line.getValue();
+            if (!stockLedgerService.take(productId, quantity, StockMovementType.RESERVATION, reservation.getId())) {
+                throw reservationFailure(productId, quantity);
+            }
+            productReadCache.evict(productId);
+            reservation.getLines().add(new StockReservationLine(productId, quantity));
+        }
+
+        StockReservation saved = reservationRepository.save(reservation);
+        if (saved.getExpiresAt() != null) {
+            stockHoldWheel.schedule(saved.getId(), saved.getExpiresAt());
+        }
+        logger.info("Stock reservation {} created, expires at: {}", saved.getId(), saved.getExpiresAt());
+        return toResponse(saved);
+    }
+
+    @Override
+    public StockReservationResponse confirm(String reservationId) {
+        logger.info("Confirming stock reservation {}", reservationId);
+
+        if (reservationRepository.confirmHold(reservationId, LocalDateTime.now()) == 0) {
+            StockReservation reservation = findReservation(reservationId);
+            return switch (reservation.getStatus()) {
+                case CONFIRMED -> toResponse(reservation);
+                case RELEASED -> throw new BusinessException("RESERVATION_RELEASED",
+                        "Stock reservation " + reservationId + " was released");
+                default -> throw new BusinessException("RESERVATION_EXPIRED",
+                        "Stock hold " + reservationId + " expired at " + reservation.getExpiresAt());
+            };
+        }
+
+        stockHoldWheel.cancel(reservationId);
+        logger.info("Stock reservation {} confirmed", reservationId);
+        return toResponse(findReservation(reservationId));
+    }
+
+    @Override
+    public StockReservationResponse release(String reservationId) {
+        logger.info("Releasing stock reservation {}", reservationId);
+
+        StockReservation reservation = findReservation(reservationId);
+        List<StockReservationLine> lines = List.copyOf(reservation.getLines());
+
+        LocalDateTime now = LocalDateTime.now();
+        int transitioned = reservationRepository.transitionStatus(
+                reservationId, RELEASABLE, ReservationStatus.RELEASED, now);
+        if (transitioned == 0) {
+            logger.info("Stock reservation {} was already released", reservationId);
+            return toResponse(findReservation(reservationId));
+        }
+        stockHoldWheel.cancel(reservationId);
+
+        for (StockReservationLine line : lines) {
+            stockLedgerService.put(line.getProductId(), line.getQuantity(), StockMovementType.RELEASE, reservationId);
+            productReadCache.evict(line.getProductId());
+        }
+
+        logger.info("Stock reservation {} released", reservationId);
+        return toResponse(findReservation(reservationId));
+    }
+
+    @Override
+    public StockReleaseBatchResponse releaseAll(StockReleaseBatchRequest request) {
+        List<String> reservationIds = request.reservationIds().stream().distinct().toList();
+        logger.info("Releasing {} stock reservation(s) in batch", reservationIds.size());
+
+        Map<String, List<StockReservationLine>> linesById = reservationRepository.findAllById(reservationIds)
+                .stream()
+                .collect(Collectors.toMap(StockReservation::getId, reservation -> List.copyOf(reservation.getLines())));
+
+        LocalDateTime now = LocalDateTime.now();
+        List<String> released = new ArrayList<>();
+        List<String> alreadyReleased = new ArrayList<>();
+        List<String> notFound = new ArrayList<>();
+        Set<Long> productIds = new TreeSet<>();
+        for (String reservationId : reservationIds) {
+            List<StockReservationLine> lines = linesById.get(reservationId);
+            if (lines == null) {
+                notFound.add(reservationId);
+            } else if (reservationRepository.transitionStatus(
+                    reservationId, RELEASABLE, ReservationStatus.RELEASED, now) == 0) {
+                alreadyReleased.add(reservationId);
+            } else {
+                released.add(reservationId);
+                stockHoldWheel.cancel(reservationId);
+                for (StockReservationLine line : lines) {
+                    stockLedgerService.put(line.getProductId(), line.getQuantity(), StockMovementType.RELEASE,
+                            reservationId);
+                    productIds.add(line.getProductId());
+                }
+            }
+        }
+
+        productIds.forEach(productReadCache::evict);
+
+        logger.info("Released {} stock reservation(s) across {} product(s); {} already released, {} not found",
+                released.size(), productIds.size(), alreadyReleased.size(), notFound.size());
+        return new StockReleaseBatchResponse(released, alreadyReleased, notFound);
+    }
+
+    @Override
+    public int expire(Collection<String> reservationIds) {
+        if (reservationIds.isEmpty()) {
+            return 0;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        Map<String, List<StockReservationLine>> linesById = new TreeMap<>();
+        for (StockReservation hold : reservationRepository.findActiveHolds(reservationIds)) {
+            if (hold.getExpiresAt().isAfter(now)) {
+                stockHoldWheel.schedule(hold.getId(), hold.getExpiresAt());
+            } else {
+                linesById.put(hold.getId(), List.copyOf(hold.getLines()));
+            }
+        }
+
+        int expired = 0;
+        Set<Long> productIds = new TreeSet<>();
+        for (Map.Entry<String, List<StockReservationLine>> hold : linesById.entrySet()) {
+            if (reservationRepository.transitionStatus(hold.getKey(), Set.of(ReservationStatus.ACTIVE),
+                    ReservationStatus.EXPIRED, now) == 0) {
+                continue;
+            }
+            expired++;
+            for (StockReservationLine line : hold.getValue()) {
+                stockLedgerService.put(line.getProductId(), line.getQuantity(), StockMovementType.EXPIRY,
+                        hold.getKey());
+                productIds.add(line.getProductId());
+            }
+        }
+
+        productIds.forEach(productReadCache::evict);
+
+        logger.info("Expired {} of {} stock hold(s) across {} product(s)", expired, reservationIds.size(),
+                productIds.size());
+        return expired;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public StockReservationResponse getReservation(String reservationId) {
+        return toResponse(findReservation(reservationId));
+    }
+
+    private RuntimeException reservationFailure(Long productId, int quantity) {
+        Product product = productRepository.findById(productId)
+                .orElseThrow(() -> new ResourceNotFoundException("Product", "id", productId));
+        if (!Boolean.TRUE.equals(product.getActive())) {
+            return new BusinessException("PRODUCT_INACTIVE", "Product " + productId + " is not available for sale");
+        }
+        return new BusinessException("INSUFFICIENT_STOCK",
+                "Insufficient stock for product " + productId + ", requested: " + quantity);
+    }
+
+    private StockReservation findReservation(String reservationId) {
+        return reservationRepository.findById(reservationId)
+                .orElseThrow(() -> new ResourceNotFoundException(RESERVATION_RESOURCE, "id", reservationId));
+    }
+
+    private StockReservationResponse toResponse(StockReservation reservation) {
+        List<ProductQuantityRequest> items = reservation.getLines().stream()
+                .map(line -> new ProductQuantityRequest(line.getProductId(), line.getQuantity()))
+                .toList();
+        return new StockReservationResponse(
+                reservation.getId(),
+                reservation.getReference(),
+                reservation.getStatus(),
+                items,
+                reservation.getCreatedAt(),
+                reservation.getReleasedAt(),
+                reservation.getExpiresAt());
+    }
+}
@@ -0,0 +1,122 @@
+package com.safezone.product.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.safezone.product.dto.ProductResponse;
+import com.safezone.product.entity.ProductCategory;
+
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests for {@link ProductReadCache}.
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-06
+ */
+@DisplayName("ProductReadCache Tests")
+class ProductReadCacheTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private SimpleMeterRegistry registry;
+    private ProductReadCache cache;
+
+    @BeforeEach
+    void setUp() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(
+                ProductReadCache.PRODUCTS_CACHE, ProductReadCache.PRODUCT_SKUS_CACHE);
+        cacheManager.setCaffeine(Caffeine.newBuilder().maximumSize(100).recordStats());
+        registry = new SimpleMeterRegistry();
+        for (String name : cacheManager.getCacheNames()) {
+            CaffeineCacheMetrics.monitor(registry,
+                    ((CaffeineCache) cacheManager.getCache(name)).getNativeCache(),
+                    name);
+        }
+        cache = new ProductReadCache(cacheManager, registry);
+    }
+
+    private ProductResponse load(Long id, String sku) {
+        loads.incrementAndGet();
+        return new ProductResponse(id, "Product", null, BigDecimal.ONE, 5, sku,
+                ProductCategory.OTHER, true, null, null);
+    }
+
+    @Test
+    @DisplayName("Should load a product once and serve it by ID and SKU afterwards")
+    void shouldServeRepeatedLookupsFromCache() {
+        cache.getById(1L, id -> load(id, "SKU-1"));
+        cache.getById(1L, id -> load(id, "SKU-1"));
+        ProductResponse bySku = cache.getBySku("SKU-1", () -> load(1L, "SKU-1"));
+
+        assertThat(bySku.id()).isEqualTo(1L);
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(registry.get("cache.hit.ratio").tag("cache", ProductReadCache.PRODUCTS_CACHE).gauge().value())
+                .isEqualTo(2.0 / 3.0);
+    }
+
+    @Test
+    @DisplayName("Evicting a product ID also invalidates lookups by SKU")
+    void evictByIdInvalidatesSkuLookups() {
+        cache.getBySku("SKU-1", () -> load(1L, "SKU-1"));
+
+        cache.evict(1L);
+        cache.getBySku("SKU-1", () -> load(1L, "SKU-1"));
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("A SKU mapping pointing to a product with another SKU is ignored")
+    void staleSkuMappingIsIgnored() {
+        cache.getBySku("OLD-SKU", () -> load(1L, "OLD-SKU"));
+        cache.getById(1L, id -> load(id, "NEW-SKU"));
+        cache.evict(1L);
+        cache.getById(1L, id -> load(id, "NEW-SKU"));
+
+        ProductResponse result = cache.getBySku("OLD-SKU", () -> load(2L, "OLD-SKU"));
+
+        assertThat(result.id()).isEqualTo(2L);
+        cache.evictSku("OLD-SKU");
+    }
+
+    @Test
+    @DisplayName("Eviction is repeated after the transaction commits")
+    void evictionIsRepeatedAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.evict(1L);
+            cache.getById(1L, id -> load(id, "SKU-1"));
+
+            for (TransactionSynchronization synchronization : TransactionSynchronizationManager
+                    .getSynchronizations()) {
+                synchronization.afterCommit();
+            }
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        cache.getById(1L, id -> load(id, "SKU-1"));
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Hit ratio is zero before any lookup")
+    void hitRatioIsZeroWithoutLookups() {
+        assertThat(registry.get("cache.hit.ratio").tag("cache", ProductReadCache.PRODUCT_SKUS_CACHE).gauge().value())
+                .isZero();
+    }
+}
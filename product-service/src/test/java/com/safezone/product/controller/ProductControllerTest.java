@@ -2,7 +2,9 @@ package com.safezone.product.controller;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
@@ -10,13 +12,16 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -31,13 +36,23 @@ import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.safezone.common.dto.CursorPageResponse;
 import com.safezone.product.dto.CreateProductRequest;
+import com.safezone.product.dto.ProductAvailabilityResponse;
+import com.safezone.product.dto.ProductChangeBatchResponse;
+import com.safezone.product.dto.ProductChangeResponse;
 import com.safezone.product.dto.ProductResponse;
+import com.safezone.product.dto.StockMovementResponse;
 import com.safezone.product.dto.UpdateProductRequest;
 import com.safezone.product.entity.ProductCategory;
+import com.safezone.product.entity.ProductChangeType;
+import com.safezone.product.entity.StockMovementType;
+import com.safezone.product.service.ProductChangeService;
 import com.safezone.product.service.ProductService;
+import com.safezone.product.service.StockLedgerService;
 
 /**
  * Integration tests for {@link ProductController}.
@@ -63,6 +78,14 @@ class ProductControllerTest {
         @MockitoBean
         private ProductService productService;
 
+        /** Mock stock ledger service. */
+        @MockitoBean
+        private StockLedgerService stockLedgerService;
+
+        /** Mock product change feed service. */
+        @MockitoBean
+        private ProductChangeService productChangeService;
+
         /** Test product response DTO. */
         private ProductResponse testProductResponse;
 
@@ -125,6 +148,19 @@ class ProductControllerTest {
                                 .andExpect(jsonPath("$.data.totalElements").value(1));
         }
 
+        @Test
+        @DisplayName("Should get products with cursor pagination")
+        void shouldScrollProducts() throws Exception {
+                given(productService.getAllProducts(null, 20, true))
+                                .willReturn(CursorPageResponse.of(List.of(testProductResponse), 20, null, 1L));
+
+                mockMvc.perform(get("/api/v1/products/scroll"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.data.content").isArray())
+                                .andExpect(jsonPath("$.data.hasNext").value(false))
+                                .andExpect(jsonPath("$.data.totalElements").value(1));
+        }
+
         @Test
         @WithMockUser(roles = "ADMIN")
         @DisplayName("Should create product with admin role")
@@ -208,7 +244,7 @@ class ProductControllerTest {
                                 Objects.requireNonNull(responseList),
                                 PageRequest.of(0, 20),
                                 1);
-                given(productService.searchProducts(eq("test"), any())).willReturn(productPage);
+                given(productService.searchProducts(eq("test"), isNull(), any())).willReturn(productPage);
 
                 mockMvc.perform(get("/api/v1/products/search")
                                 .param("q", "test"))
@@ -217,19 +253,74 @@ class ProductControllerTest {
                                 .andExpect(jsonPath("$.success").value(true));
         }
 
+        @Test
+        @DisplayName("Should serve the product change feed publicly with long poll")
+        void shouldGetProductChanges() throws Exception {
+                ProductChangeResponse change = new ProductChangeResponse(8L, 1L, ProductChangeType.UPDATED,
+                                "Test Product", "TEST-001", new BigDecimal("99.99"), ProductCategory.ELECTRONICS,
+                                true, 100, LocalDateTime.now());
+                given(productChangeService.pollChanges(7L, 50, Duration.ofSeconds(20)))
+                                .willReturn(CompletableFuture.completedFuture(
+                                                new ProductChangeBatchResponse(List.of(change), 8L, false)));
+
+                MvcResult pending = mockMvc.perform(get("/api/v1/products/changes")
+                                .param("since", "7")
+                                .param("limit", "50")
+                                .param("wait", "20"))
+                                .andExpect(request().asyncStarted())
+                                .andReturn();
+                mockMvc.perform(asyncDispatch(pending))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.data.lastVersion").value(8))
+                                .andExpect(jsonPath("$.data.hasMore").value(false))
+                                .andExpect(jsonPath("$.data.changes[0].type").value("UPDATED"))
+                                .andExpect(jsonPath("$.data.changes[0].price").value(99.99));
+        }
+
         @Test
         @WithMockUser(roles = "INVENTORY")
         @DisplayName("Should update stock with inventory role")
         void shouldUpdateStockWithInventoryRole() throws Exception {
-                given(productService.updateStock(1L, 50)).willReturn(testProductResponse);
+                given(productService.updateStock(1L, 50, "PO-1")).willReturn(testProductResponse);
 
                 mockMvc.perform(patch("/api/v1/products/1/stock")
-                                .param("quantity", "50"))
+                                .param("quantity", "50")
+                                .param("reference", "PO-1"))
                                 .andDo(print())
                                 .andExpect(status().isOk())
                                 .andExpect(jsonPath("$.success").value(true));
         }
 
+        @Test
+        @WithMockUser(roles = "ADMIN")
+        @DisplayName("Should set the stock slots of a product with admin role")
+        void shouldSetStockSlotsWithAdminRole() throws Exception {
+                given(productService.setStockSlots(1L, 8)).willReturn(testProductResponse);
+
+                mockMvc.perform(put("/api/v1/products/1/stock-slots")
+                                .param("slots", "8"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.data.id").value(1));
+        }
+
+        @Test
+        @WithMockUser(roles = "INVENTORY")
+        @DisplayName("Should page through the stock movements of a product")
+        void shouldGetStockMovements() throws Exception {
+                StockMovementResponse movement = new StockMovementResponse(9L, 1L, -2,
+                                StockMovementType.RESERVATION, "res-1", LocalDateTime.now());
+                given(stockLedgerService.getMovements(1L, PageRequest.of(0, 5)))
+                                .willReturn(new PageImpl<>(List.of(movement), PageRequest.of(0, 5), 1));
+
+                mockMvc.perform(get("/api/v1/products/1/stock-movements")
+                                .param("size", "5"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.data.content[0].quantity").value(-2))
+                                .andExpect(jsonPath("$.data.content[0].type").value("RESERVATION"))
+                                .andExpect(jsonPath("$.data.content[0].referenceId").value("res-1"))
+                                .andExpect(jsonPath("$.data.totalElements").value(1));
+        }
+
         @Test
         @DisplayName("Should check product availability")
         void shouldCheckProductAvailability() throws Exception {
@@ -243,6 +334,31 @@ class ProductControllerTest {
                                 .andExpect(jsonPath("$.data").value(true));
         }
 
+        @Test
+        @DisplayName("Should resolve products in batch without authentication")
+        void shouldGetProductsBatch() throws Exception {
+                given(productService.getProductsAvailability(any())).willReturn(List.of(
+                                new ProductAvailabilityResponse(1L, testProductResponse, 2, true)));
+
+                mockMvc.perform(post("/api/v1/products/batch")
+                                .contentType(Objects.requireNonNull(MediaType.APPLICATION_JSON))
+                                .content("{\"items\":[{\"productId\":1,\"quantity\":2}]}"))
+                                .andDo(print())
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.data[0].productId").value(1))
+                                .andExpect(jsonPath("$.data[0].available").value(true))
+                                .andExpect(jsonPath("$.data[0].product.sku").value("TEST-001"));
+        }
+
+        @Test
+        @DisplayName("Should reject empty batch request")
+        void shouldRejectEmptyBatchRequest() throws Exception {
+                mockMvc.perform(post("/api/v1/products/batch")
+                                .contentType(Objects.requireNonNull(MediaType.APPLICATION_JSON))
+                                .content("{\"items\":[]}"))
+                                .andExpect(status().isBadRequest());
+        }
+
         @Test
         @DisplayName("Should validate create product request")
         @WithMockUser(roles = "ADMIN")
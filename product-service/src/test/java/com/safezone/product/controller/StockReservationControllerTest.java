@@ -0,0 +1,160 @@
+package com.safezone.product.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.safezone.product.dto.ProductQuantityRequest;
+import com.safezone.product.dto.StockReleaseBatchResponse;
+import com.safezone.product.dto.StockReservationResponse;
+import com.safezone.product.entity.ReservationStatus;
+import com.safezone.product.service.StockReservationService;
+
+/**
+ * Integration tests for {@link StockReservationController}.
+ * Tests REST endpoints with MockMvc and mocked service layer.
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-06
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class StockReservationControllerTest {
+
+        private static final String RESERVATIONS_URL = "/api/v1/products/stock/reservations";
+        private static final String RESERVE_BODY = "{\"reference\":\"ORD-1\",\"items\":[{\"productId\":1,\"quantity\":2}]}";
+
+        /** MockMvc for HTTP request simulation. */
+        @Autowired
+        private MockMvc mockMvc;
+
+        /** Mock reservation service. */
+        @MockitoBean
+        private StockReservationService reservationService;
+
+        /** Test reservation response DTO. */
+        private StockReservationResponse reservation;
+
+        @BeforeEach
+        void setUp() {
+                reservation = new StockReservationResponse("res-1", "ORD-1", ReservationStatus.ACTIVE,
+                                List.of(new ProductQuantityRequest(1L, 2)), LocalDateTime.now(), null, null);
+        }
+
+        @Test
+        @WithMockUser(roles = "INVENTORY")
+        @DisplayName("Should create reservation for inventory role")
+        void shouldCreateReservation() throws Exception {
+                given(reservationService.reserve(any())).willReturn(reservation);
+
+                mockMvc.perform(post(RESERVATIONS_URL)
+                                .contentType(Objects.requireNonNull(MediaType.APPLICATION_JSON))
+                                .content(RESERVE_BODY))
+                                .andExpect(status().isCreated())
+                                .andExpect(jsonPath("$.data.reservationId").value("res-1"))
+                                .andExpect(jsonPath("$.data.items[0].quantity").value(2));
+        }
+
+        @Test
+        @WithMockUser(roles = "USER")
+        @DisplayName("Should forbid reservation for regular users")
+        void shouldForbidReservationForUser() throws Exception {
+                mockMvc.perform(post(RESERVATIONS_URL)
+                                .contentType(Objects.requireNonNull(MediaType.APPLICATION_JSON))
+                                .content(RESERVE_BODY))
+                                .andExpect(result -> org.assertj.core.api.Assertions
+                                                .assertThat(result.getResponse().getStatus())
+                                                .as("Should not allow user role to reserve stock")
+                                                .isIn(403, 500));
+        }
+
+        @Test
+        @DisplayName("Should reject unauthenticated reservation")
+        void shouldRejectUnauthenticatedReservation() throws Exception {
+                mockMvc.perform(post(RESERVATIONS_URL)
+                                .contentType(Objects.requireNonNull(MediaType.APPLICATION_JSON))
+                                .content(RESERVE_BODY))
+                                .andExpect(status().isForbidden());
+        }
+
+        @Test
+        @WithMockUser(roles = "ADMIN")
+        @DisplayName("Should validate reservation request")
+        void shouldValidateReservationRequest() throws Exception {
+                mockMvc.perform(post(RESERVATIONS_URL)
+                                .contentType(Objects.requireNonNull(MediaType.APPLICATION_JSON))
+                                .content("{\"items\":[]}"))
+                                .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @WithMockUser(roles = "INVENTORY")
+        @DisplayName("Should release and fetch reservation")
+        void shouldReleaseAndFetchReservation() throws Exception {
+                StockReservationResponse released = new StockReservationResponse("res-1", "ORD-1",
+                                ReservationStatus.RELEASED, reservation.items(), reservation.createdAt(),
+                                LocalDateTime.now(), null);
+                given(reservationService.release("res-1")).willReturn(released);
+                given(reservationService.getReservation("res-1")).willReturn(released);
+
+                mockMvc.perform(post(RESERVATIONS_URL + "/res-1/release"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.data.status").value("RELEASED"));
+                mockMvc.perform(get(RESERVATIONS_URL + "/res-1"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.data.reservationId").value("res-1"));
+        }
+
+        @Test
+        @WithMockUser(roles = "INVENTORY")
+        @DisplayName("Should confirm a stock hold")
+        void shouldConfirmHold() throws Exception {
+                given(reservationService.confirm("res-1")).willReturn(new StockReservationResponse("res-1", "ORD-1",
+                                ReservationStatus.CONFIRMED, reservation.items(), reservation.createdAt(), null,
+                                LocalDateTime.now().plusMinutes(5)));
+
+                mockMvc.perform(post(RESERVATIONS_URL + "/res-1/confirm"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.message").value("Stock reservation confirmed"))
+                                .andExpect(jsonPath("$.data.status").value("CONFIRMED"))
+                                .andExpect(jsonPath("$.data.expiresAt").exists());
+        }
+
+        @Test
+        @WithMockUser(roles = "INVENTORY")
+        @DisplayName("Should release reservations in batch and validate the request")
+        void shouldReleaseReservationsInBatch() throws Exception {
+                given(reservationService.releaseAll(any()))
+                                .willReturn(new StockReleaseBatchResponse(List.of("res-1"), List.of(), List.of("res-9")));
+
+                mockMvc.perform(post(RESERVATIONS_URL + "/release")
+                                .contentType(Objects.requireNonNull(MediaType.APPLICATION_JSON))
+                                .content("{\"reservationIds\":[\"res-1\",\"res-9\"]}"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.data.released[0]").value("res-1"))
+                                .andExpect(jsonPath("$.data.notFound[0]").value("res-9"));
+                mockMvc.perform(post(RESERVATIONS_URL + "/release")
+                                .contentType(Objects.requireNonNull(MediaType.APPLICATION_JSON))
+                                .content("{\"reservationIds\":[]}"))
+                                .andExpect(status().isBadRequest());
+        }
+}
@@ -101,10 +101,15 @@ class ProductCoverageTest {
                 ProductCategory.AUTOMOTIVE,
                 true,
                 now,
-                now);
+                now,
+                null,
+                null);
 
         assertThat(p2.getId()).isEqualTo(5L);
         assertThat(p2.getName()).isEqualTo("Constructed");
         assertThat(p2.getActive()).isTrue();
+        assertThat(p2.getAvailableStock()).isEqualTo(30);
+        assertThat(p1.getAvailableStock()).isNull();
+        assertThat(p2.isStriped()).isFalse();
     }
 }
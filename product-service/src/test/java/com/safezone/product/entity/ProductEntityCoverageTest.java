@@ -92,13 +92,17 @@ class ProductEntityCoverageTest {
                 ProductCategory.ELECTRONICS,
                 true,
                 now,
-                now);
+                now,
+                4,
+                -20);
 
         assertThat(product.getId()).isEqualTo(3L);
         assertThat(product.getName()).isEqualTo("All Args");
         assertThat(product.getDescription()).isEqualTo("Test Description");
         assertThat(product.getPrice()).isEqualByComparingTo(BigDecimal.valueOf(50));
         assertThat(product.getStockQuantity()).isEqualTo(200);
+        assertThat(product.getAvailableStock()).isEqualTo(180);
+        assertThat(product.isStriped()).isTrue();
         assertThat(product.getSku()).isEqualTo("ALLARGS-001");
         assertThat(product.getCategory()).isEqualTo(ProductCategory.ELECTRONICS);
         assertThat(product.getActive()).isTrue();
@@ -0,0 +1,138 @@
+package com.safezone.product.feed;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Unit tests for {@link ProductChangeFeed}.
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-06
+ */
+@DisplayName("ProductChangeFeed Tests")
+class ProductChangeFeedTest {
+
+    private ProductChangeFeed feed;
+
+    @BeforeEach
+    void setUp() {
+        feed = new ProductChangeFeed(Duration.ofMinutes(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    /** Completes the synchronizations registered so far with the given status. */
+    private static void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+
+    @Test
+    @DisplayName("Should bound no reader when nothing is in flight, including after writes outside a transaction")
+    void shouldNotBoundReadersWithoutVersionsInFlight() {
+        assertThat(feed.visibleUpTo()).isEqualTo(Long.MAX_VALUE);
+
+        assertThat(feed.append(() -> 6L)).isEqualTo(6);
+
+        assertThat(feed.visibleUpTo()).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    @DisplayName("Should hold readers below the oldest version in flight until it completes")
+    void shouldHoldReadersBelowVersionsInFlight() {
+        TransactionSynchronizationManager.initSynchronization();
+        feed.append(() -> 7L);
+        feed.append(() -> 8L);
+
+        assertThat(feed.visibleUpTo()).isEqualTo(6);
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.get(1).afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        assertThat(feed.visibleUpTo()).isEqualTo(6);
+        synchronizations.get(0).afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+        assertThat(feed.visibleUpTo()).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    @DisplayName("Should settle a gap once its versions rolled back here or the next change is old enough")
+    void shouldSettleGaps() {
+        LocalDateTime recent = LocalDateTime.now();
+        assertThat(feed.isGapSettled(7, 7, recent)).isFalse();
+        assertThat(feed.isGapSettled(7, 7, recent.minusMinutes(2))).isTrue();
+
+        TransactionSynchronizationManager.initSynchronization();
+        feed.append(() -> 7L);
+        feed.append(() -> 8L);
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertThat(feed.isGapSettled(7, 7, recent)).isTrue();
+        assertThat(feed.isGapSettled(7, 8, recent)).isTrue();
+        assertThat(feed.isGapSettled(6, 8, recent)).isFalse();
+        assertThat(feed.isGapSettled(7, 9, recent)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should forget rolled back versions after the gap timeout")
+    void shouldForgetOldRollbacks() throws Exception {
+        feed = new ProductChangeFeed(Duration.ofMillis(10));
+        TransactionSynchronizationManager.initSynchronization();
+        feed.append(() -> 7L);
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+        Thread.sleep(20);
+
+        TransactionSynchronizationManager.initSynchronization();
+        feed.append(() -> 9L);
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        LocalDateTime future = LocalDateTime.now().plusMinutes(1);
+        assertThat(feed.isGapSettled(7, 7, future)).isFalse();
+        assertThat(feed.isGapSettled(9, 9, future)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should wake up waiting readers on commit only")
+    void shouldWakeUpReadersOnCommit() throws Exception {
+        CompletableFuture<Void> waiter = feed.nextCommit(Duration.ofSeconds(30));
+        assertThat(feed.waiting()).isEqualTo(1);
+
+        TransactionSynchronizationManager.initSynchronization();
+        feed.append(() -> 6L);
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+        assertThat(waiter).isNotDone();
+
+        TransactionSynchronizationManager.initSynchronization();
+        feed.append(() -> 7L);
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+        assertThat(waiter.get(1, TimeUnit.SECONDS)).isNull();
+        assertThat(feed.waiting()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should release waiting readers when the wait is over")
+    void shouldTimeOutWaitingReaders() throws Exception {
+        CompletableFuture<Void> waiter = feed.nextCommit(Duration.ofMillis(20));
+
+        assertThat(waiter.get(5, TimeUnit.SECONDS)).isNull();
+        assertThat(feed.waiting()).isZero();
+    }
+}
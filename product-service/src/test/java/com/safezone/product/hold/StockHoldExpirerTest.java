@@ -0,0 +1,156 @@
+package com.safezone.product.hold;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.safezone.common.exception.BusinessException;
+import com.safezone.product.dto.ProductQuantityRequest;
+import com.safezone.product.dto.StockReservationRequest;
+import com.safezone.product.entity.Product;
+import com.safezone.product.entity.ProductCategory;
+import com.safezone.product.entity.ReservationStatus;
+import com.safezone.product.entity.StockReservation;
+import com.safezone.product.repository.ProductRepository;
+import com.safezone.product.repository.StockReservationRepository;
+import com.safezone.product.service.StockReservationService;
+
+/**
+ * Integration tests for the expiry of stock holds against the real database.
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-06
+ */
+@SpringBootTest
+@DisplayName("Stock Hold Expirer Tests")
+class StockHoldExpirerTest {
+
+    @Autowired
+    private StockHoldExpirer expirer;
+
+    @Autowired
+    private StockHoldWheel stockHoldWheel;
+
+    @Autowired
+    private StockReservationService reservationService;
+
+    @Autowired
+    private StockReservationRepository reservationRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    private Long createProduct(int stock) {
+        return productRepository.save(Product.builder()
+                .name("Holdable")
+                .price(new BigDecimal("5.00"))
+                .stockQuantity(stock)
+                .sku("HOLD-" + UUID.randomUUID().toString().substring(0, 8))
+                .category(ProductCategory.OTHER)
+                .active(true)
+                .build()).getId();
+    }
+
+    private long stockOf(Long productId) {
+        return productRepository.findAvailableStock(productId);
+    }
+
+    private String hold(Long productId, int quantity) {
+        return reservationService.reserve(new StockReservationRequest("ORD-HOLD",
+                List.of(new ProductQuantityRequest(productId, quantity)), 60)).reservationId();
+    }
+
+    /** Moves the expiry of a hold into the past, as if its duration had elapsed. */
+    private void elapse(String reservationId) {
+        StockReservation reservation = reservationRepository.findById(reservationId).orElseThrow();
+        reservation.setExpiresAt(LocalDateTime.now().minusSeconds(1));
+        reservationRepository.save(reservation);
+    }
+
+    private ReservationStatus statusOf(String reservationId) {
+        return reservationRepository.findById(reservationId).orElseThrow().getStatus();
+    }
+
+    @Test
+    @DisplayName("Should return the stock of a hold that was not confirmed in time")
+    void shouldExpireUnconfirmedHold() {
+        Long productId = createProduct(10);
+        String reservationId = hold(productId, 4);
+        assertThat(stockOf(productId)).isEqualTo(6);
+
+        elapse(reservationId);
+        expirer.expireDue(Instant.now().plusSeconds(120));
+
+        assertThat(statusOf(reservationId)).isEqualTo(ReservationStatus.EXPIRED);
+        assertThat(stockOf(productId)).isEqualTo(10);
+        assertThatThrownBy(() -> reservationService.confirm(reservationId))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", "RESERVATION_EXPIRED");
+        assertThat(reservationService.release(reservationId).status()).isEqualTo(ReservationStatus.EXPIRED);
+        assertThat(stockOf(productId)).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Should keep the stock of a confirmed hold and still allow releasing it")
+    void shouldKeepConfirmedHold() {
+        Long productId = createProduct(10);
+        String reservationId = hold(productId, 4);
+
+        assertThat(reservationService.confirm(reservationId).status()).isEqualTo(ReservationStatus.CONFIRMED);
+        assertThat(reservationService.confirm(reservationId).status()).isEqualTo(ReservationStatus.CONFIRMED);
+        expirer.expireDue(Instant.now().plusSeconds(120));
+
+        assertThat(statusOf(reservationId)).isEqualTo(ReservationStatus.CONFIRMED);
+        assertThat(stockOf(productId)).isEqualTo(6);
+        assertThat(reservationService.release(reservationId).status()).isEqualTo(ReservationStatus.RELEASED);
+        assertThat(stockOf(productId)).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Should reschedule a hold whose expiry is still ahead")
+    void shouldRescheduleHoldNotYetDue() {
+        Long productId = createProduct(10);
+        String reservationId = hold(productId, 3);
+
+        expirer.expireDue(Instant.now().plusSeconds(120));
+
+        assertThat(statusOf(reservationId)).isEqualTo(ReservationStatus.ACTIVE);
+        assertThat(stockOf(productId)).isEqualTo(7);
+
+        elapse(reservationId);
+        expirer.expireDue(Instant.now().plusSeconds(120));
+
+        assertThat(statusOf(reservationId)).isEqualTo(ReservationStatus.EXPIRED);
+        assertThat(stockOf(productId)).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Should recover active holds from the database after a restart")
+    void shouldRecoverHoldsOnStartup() {
+        Long productId = createProduct(10);
+        String reservationId = hold(productId, 5);
+        stockHoldWheel.cancel(reservationId);
+        elapse(reservationId);
+
+        expirer.expireDue(Instant.now().plusSeconds(120));
+        assertThat(statusOf(reservationId)).isEqualTo(ReservationStatus.ACTIVE);
+
+        expirer.run(new DefaultApplicationArguments());
+        expirer.expireDue(Instant.now().plusSeconds(120));
+
+        assertThat(statusOf(reservationId)).isEqualTo(ReservationStatus.EXPIRED);
+        assertThat(stockOf(productId)).isEqualTo(10);
+    }
+}
@@ -0,0 +1,142 @@
+package com.safezone.product.hold;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link TimingWheel}.
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-06
+ */
+@DisplayName("TimingWheel Tests")
+class TimingWheelTest {
+
+    private static final long START = 1_000_000L;
+
+    private TimingWheel<String> wheel;
+
+    @BeforeEach
+    void setUp() {
+        wheel = new TimingWheel<>(100, 8, START);
+    }
+
+    @Test
+    @DisplayName("Should expire keys at their deadline or within one tick, never earlier")
+    void shouldExpireWithinOneTick() {
+        wheel.schedule("a", START + 201);
+        wheel.schedule("b", START + 300);
+        wheel.schedule("c", START + 301);
+
+        assertThat(wheel.advance(START + 200)).isEmpty();
+        assertThat(wheel.advance(START + 299)).isEmpty();
+        assertThat(wheel.advance(START + 300)).containsExactlyInAnyOrder("a", "b");
+        assertThat(wheel.advance(START + 399)).isEmpty();
+        assertThat(wheel.advance(START + 400)).containsExactly("c");
+        assertThat(wheel.advance(START + 1_000)).isEmpty();
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should expire keys already due on the next advance")
+    void shouldExpireOverdueKeys() {
+        wheel.advance(START + 500);
+        wheel.schedule("late", START + 100);
+
+        assertThat(wheel.advance(START + 500)).containsExactly("late");
+    }
+
+    @Test
+    @DisplayName("Should drop cancelled keys and replace rescheduled deadlines")
+    void shouldCancelAndReschedule() {
+        wheel.schedule("cancelled", START + 100);
+        wheel.schedule("moved", START + 100);
+        wheel.advance(START + 50);
+        wheel.schedule("moved", START + 400);
+
+        assertThat(wheel.cancel("cancelled")).isTrue();
+        assertThat(wheel.cancel("unknown")).isFalse();
+        assertThat(wheel.advance(START + 300)).isEmpty();
+        assertThat(wheel.advance(START + 400)).containsExactly("moved");
+    }
+
+    @Test
+    @DisplayName("Should keep keys due after more than one revolution")
+    void shouldKeepKeysBeyondOneRevolution() {
+        wheel.schedule("far", START + 2_050);
+
+        for (long now = START; now < START + 2_000; now += 100) {
+            assertThat(wheel.advance(now)).isEmpty();
+        }
+        assertThat(wheel.advance(START + 2_100)).containsExactly("far");
+    }
+
+    @Test
+    @DisplayName("Should catch up after a long pause and ignore a clock moving backwards")
+    void shouldCatchUpAndIgnoreClockGoingBack() {
+        wheel.schedule("a", START + 100);
+        wheel.schedule("b", START + 5_000);
+        wheel.schedule("c", START + 50_000);
+        wheel.advance(START);
+
+        assertThat(wheel.advance(START + 10_000)).containsExactlyInAnyOrder("a", "b");
+        wheel.schedule("d", START + 10_050);
+        assertThat(wheel.advance(START - 5_000)).isEmpty();
+        assertThat(wheel.advance(START + 10_100)).containsExactly("d");
+        assertThat(wheel.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should round the wheel size up to a power of two and reject invalid settings")
+    void shouldValidateSettings() {
+        assertThat(new TimingWheel<String>(10, 1000, 0).wheelSize()).isEqualTo(1024);
+        assertThat(new TimingWheel<String>(10, 1, 0).wheelSize()).isEqualTo(1);
+        assertThatThrownBy(() -> new TimingWheel<String>(0, 8, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TimingWheel<String>(10, 0, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should expire every key scheduled concurrently exactly once")
+    void shouldScheduleConcurrently() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        Set<String> expired = new HashSet<>();
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 2_000; i++) {
+                        wheel.schedule(thread + "-" + i, START + (i % 20) * 100L);
+                    }
+                }));
+            }
+            for (long now = START; !futures.stream().allMatch(Future::isDone); now += 10) {
+                expired.addAll(wheel.advance(Math.min(now, START + 2_000)));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        List<String> rest = wheel.advance(START + 2_000);
+
+        assertThat(rest).doesNotContainAnyElementsOf(expired);
+        expired.addAll(rest);
+        assertThat(expired).hasSize(8_000);
+        assertThat(wheel.size()).isZero();
+    }
+}
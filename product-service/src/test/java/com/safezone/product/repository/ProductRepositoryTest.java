@@ -0,0 +1,179 @@
+package com.safezone.product.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+
+import com.safezone.common.dto.PageCursor;
+import com.safezone.product.entity.Product;
+import com.safezone.product.entity.ProductCategory;
+import com.safezone.product.entity.ProductStockSlot;
+import com.safezone.product.entity.StockMovement;
+import com.safezone.product.entity.StockMovementType;
+
+/**
+ * Repository tests for the ledger-backed stock queries and keyset
+ * pagination.
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-06
+ */
+@DataJpaTest
+@DisplayName("Product Repository Tests")
+class ProductRepositoryTest {
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private StockMovementRepository stockMovementRepository;
+
+    @Autowired
+    private ProductStockSlotRepository stockSlotRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Long productId;
+
+    @BeforeEach
+    void setUp() {
+        Product product = productRepository.save(Product.builder()
+                .name("Flash Sale Item")
+                .description("Hot SKU")
+                .price(new BigDecimal("9.99"))
+                .stockQuantity(10)
+                .sku("FLASH-001")
+                .category(ProductCategory.ELECTRONICS)
+                .active(true)
+                .build());
+        productId = product.getId();
+    }
+
+    private void record(int quantity, boolean compacted) {
+        stockMovementRepository.save(StockMovement.builder()
+                .productId(productId)
+                .quantity(quantity)
+                .type(StockMovementType.ADJUSTMENT)
+                .compacted(compacted)
+                .build());
+    }
+
+    @Test
+    @DisplayName("Should add pending movements to the stock snapshot")
+    void shouldComputeAvailableStock() {
+        record(-4, false);
+        record(2, false);
+        record(-100, true);
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(productRepository.findAvailableStock(productId)).isEqualTo(8L);
+        assertThat(productRepository.findAvailableStock(Long.MAX_VALUE)).isNull();
+        Product product = productRepository.findById(productId).orElseThrow();
+        assertThat(product.getStockQuantity()).isEqualTo(10);
+        assertThat(product.getAvailableStock()).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("Should add the stock slots of a striped product to the available stock")
+    void shouldAddStockSlots() {
+        assertThat(productRepository.updateStockLayout(productId, 0, 2)).isEqualTo(1);
+        for (int slot = 0; slot < 2; slot++) {
+            stockSlotRepository.save(ProductStockSlot.builder().productId(productId).slot(slot).quantity(5).build());
+        }
+        record(1, false);
+
+        assertThat(stockSlotRepository.takeFromSlot(productId, 0, 6)).isZero();
+        assertThat(stockSlotRepository.takeFromSlot(productId, 0, 5)).isEqualTo(1);
+        assertThat(stockSlotRepository.addToSlot(productId, 1, 3)).isEqualTo(1);
+        assertThat(stockSlotRepository.addToSlot(productId, 2, 3)).isZero();
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(productRepository.findAvailableStock(productId)).isEqualTo(9L);
+        assertThat(productRepository.findStockSlots(productId)).contains(2);
+        assertThat(stockSlotRepository.lockSlotHolding(productId, 8)).containsExactly(1);
+        assertThat(stockSlotRepository.lockSlotHolding(productId, 9)).isEmpty();
+        assertThat(productRepository.findStockSlots(Long.MAX_VALUE)).isEmpty();
+        Product product = productRepository.findById(productId).orElseThrow();
+        assertThat(product.isStriped()).isTrue();
+        assertThat(product.getAvailableStock()).isEqualTo(9);
+        assertThat(stockSlotRepository.findByProductIdForUpdate(productId))
+                .extracting(ProductStockSlot::getQuantity).containsExactly(0, 8);
+        assertThat(stockSlotRepository.deleteByProductId(productId)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should only change the stock snapshot through the dedicated update")
+    void shouldUpdateSnapshotExplicitly() {
+        Product product = productRepository.findByIdForUpdate(productId).orElseThrow();
+        product.setStockQuantity(999);
+        productRepository.saveAndFlush(product);
+        entityManager.clear();
+
+        assertThat(productRepository.addToStockSnapshot(productId, -3)).isEqualTo(1);
+        assertThat(productRepository.addToStockSnapshot(Long.MAX_VALUE, 1)).isZero();
+        assertThat(productRepository.findById(productId)).get()
+                .extracting(Product::getStockQuantity).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("Should report low stock from the available stock")
+    void shouldFindLowStockFromAvailableStock() {
+        assertThat(productRepository.findLowStockActiveProducts(10)).isEmpty();
+
+        record(-1, false);
+        entityManager.flush();
+
+        assertThat(productRepository.findLowStockActiveProducts(10)).extracting(Product::getId)
+                .containsExactly(productId);
+        assertThat(productRepository.findByStockQuantityLessThan(10)).extracting(Product::getId)
+                .contains(productId);
+    }
+
+    @Test
+    @DisplayName("Should walk every product once by keyset, newest first")
+    void shouldScrollByKeyset() {
+        for (int i = 0; i < 4; i++) {
+            productRepository.save(Product.builder()
+                    .name("Item " + i)
+                    .price(BigDecimal.ONE)
+                    .stockQuantity(1)
+                    .sku("SCROLL-" + i)
+                    .category(ProductCategory.BOOKS)
+                    .build());
+        }
+        // Cursors are built from rows as stored, not from the instances just persisted.
+        entityManager.flush();
+        entityManager.clear();
+        Sort sort = Sort.by(Sort.Direction.DESC, "createdAt", "id");
+        List<Product> seen = new ArrayList<>();
+        ScrollPosition position = ScrollPosition.keyset();
+        Window<Product> window;
+        do {
+            window = productRepository.findAllBy(position, sort, Limit.of(2));
+            seen.addAll(window.getContent());
+            Product last = window.getContent().getLast();
+            position = ScrollPosition.forward(new PageCursor(last.getCreatedAt(), last.getId()).keys());
+        } while (window.hasNext());
+
+        assertThat(seen).hasSize(5).extracting(Product::getId).doesNotHaveDuplicates();
+        assertThat(seen).extracting(Product::getCreatedAt).isSortedAccordingTo(Comparator.reverseOrder());
+    }
+}
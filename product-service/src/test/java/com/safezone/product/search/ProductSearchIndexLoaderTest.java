@@ -0,0 +1,59 @@
+package com.safezone.product.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+
+import com.safezone.product.entity.Product;
+import com.safezone.product.entity.ProductCategory;
+import com.safezone.product.repository.ProductRepository;
+
+/**
+ * Unit tests for {@link ProductSearchIndexLoader}.
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-06
+ */
+@DisplayName("ProductSearchIndexLoader Tests")
+class ProductSearchIndexLoaderTest {
+
+    private static Window<Product> window(long from, long to, boolean hasNext) {
+        List<Product> products = LongStream.range(from, to)
+                .mapToObj(id -> Product.builder().id(id).name("Product " + id).sku("SKU-" + id)
+                        .category(ProductCategory.OTHER).active(id % 10 != 0).build())
+                .toList();
+        return Window.from(products, i -> ScrollPosition.forward(Map.of("id", products.get(i).getId())), hasNext);
+    }
+
+    @Test
+    @DisplayName("Should load every active product window by window")
+    void shouldLoadAllWindows() {
+        ProductRepository repository = mock(ProductRepository.class);
+        ProductSearchIndex index = new ProductSearchIndex();
+        Limit batch = Limit.of(ProductSearchIndexLoader.BATCH_SIZE);
+        given(repository.findAllBy(eq(ScrollPosition.keyset()), any(Sort.class), eq(batch)))
+                .willReturn(window(1, 1001, true));
+        given(repository.findAllBy(eq(ScrollPosition.forward(Map.of("id", 1000L))), any(Sort.class), eq(batch)))
+                .willReturn(window(1001, 1501, false));
+
+        new ProductSearchIndexLoader(repository, index).run(null);
+
+        assertThat(index.size()).isEqualTo(1350);
+        assertThat(index.search("product", null, 0, 1).totalHits()).isEqualTo(1350);
+        assertThat(index.search("sku 1499", null, 0, 1).productIds()).containsExactly(1499L);
+    }
+}
@@ -0,0 +1,225 @@
+package com.safezone.product.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.safezone.product.entity.Product;
+import com.safezone.product.entity.ProductCategory;
+import com.safezone.product.search.ProductSearchIndex.SearchHits;
+
+/**
+ * Unit tests for {@link ProductSearchIndex}.
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-06
+ */
+@DisplayName("ProductSearchIndex Tests")
+class ProductSearchIndexTest {
+
+    private ProductSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ProductSearchIndex();
+        index.index(product(1L, "Wireless Mouse", "Ergonomic mouse with USB receiver", "ELEC-MOUSE-1",
+                ProductCategory.ELECTRONICS));
+        index.index(product(2L, "Mouse Pad", "Large pad for any wireless mouse", "ELEC-PAD-2",
+                ProductCategory.ELECTRONICS));
+        index.index(product(3L, "Café Table", "Solid oak table for the garden", "HOME-TABLE-3",
+                ProductCategory.HOME_GARDEN));
+        index.index(product(4L, "Mouse Trap", "Humane trap", "HOME-TRAP-4", ProductCategory.HOME_GARDEN));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static Product product(Long id, String name, String description, String sku,
+            ProductCategory category) {
+        return Product.builder().id(id).name(name).description(description).sku(sku).category(category)
+                .active(true).build();
+    }
+
+    private List<Long> search(String query) {
+        return index.search(query, null, 0, 10).productIds();
+    }
+
+    @Test
+    @DisplayName("Should rank name matches above description matches")
+    void shouldRankByFieldWeight() {
+        assertThat(search("wireless")).containsExactly(1L, 2L);
+        assertThat(search("mouse")).containsExactlyInAnyOrder(1L, 2L, 4L);
+        assertThat(index.search("mouse", null, 0, 10).totalHits()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should require every term and match terms as prefixes")
+    void shouldMatchAllTermsAndPrefixes() {
+        assertThat(search("wire mou")).containsExactly(1L, 2L);
+        assertThat(search("mouse trap")).containsExactly(4L);
+        assertThat(search("mouse table")).isEmpty();
+        assertThat(search("tab")).containsExactly(3L);
+        assertThat(search("t")).isEmpty();
+        assertThat(search("elec-pad")).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("Should expand a prefix to its most frequent terms when it matches too many")
+    void shouldKeepMostFrequentPrefixExpansions() {
+        for (int i = 0; i < ProductSearchIndex.MAX_PREFIX_EXPANSIONS; i++) {
+            index.index(product(100L + i, String.format("Rare zz%03d", i), null, "RARE-" + i,
+                    ProductCategory.OTHER));
+        }
+        index.index(product(10L, "Common zzzcommon", null, "COMMON-10", ProductCategory.OTHER));
+        index.index(product(11L, "Other zzzcommon", null, "COMMON-11", ProductCategory.OTHER));
+
+        SearchHits hits = index.search("zz", null, 0, 200);
+
+        assertThat(hits.productIds()).contains(10L, 11L).hasSize(ProductSearchIndex.MAX_PREFIX_EXPANSIONS + 1);
+        assertThat(hits.totalHits()).isEqualTo(ProductSearchIndex.MAX_PREFIX_EXPANSIONS + 1);
+        assertThat(search("zz127")).containsExactly(100L + ProductSearchIndex.MAX_PREFIX_EXPANSIONS - 1);
+    }
+
+    @Test
+    @DisplayName("Should rank exact terms above prefix matches")
+    void shouldRankExactAbovePrefix() {
+        index.index(product(5L, "Pad", null, "X-5", ProductCategory.OTHER));
+        index.index(product(6L, "Padding", null, "X-6", ProductCategory.OTHER));
+
+        assertThat(index.search("pad", ProductCategory.OTHER, 0, 10).productIds()).containsExactly(5L, 6L);
+    }
+
+    @Test
+    @DisplayName("Should ignore case and accents and reject blank queries")
+    void shouldFoldCaseAndAccents() {
+        assertThat(search("CAFE")).containsExactly(3L);
+        assertThat(search("café")).containsExactly(3L);
+        assertThat(search("  ")).isEmpty();
+        assertThat(search(null)).isEmpty();
+        assertThat(search("--")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should filter by category and page through ranked hits")
+    void shouldFilterAndPage() {
+        SearchHits electronics = index.search("mouse", ProductCategory.ELECTRONICS, 0, 10);
+        SearchHits second = index.search("mouse", null, 1, 1);
+
+        assertThat(electronics.productIds()).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(electronics.totalHits()).isEqualTo(2);
+        assertThat(second.productIds()).hasSize(1).doesNotContain(search("mouse").getFirst());
+        assertThat(second.totalHits()).isEqualTo(3);
+        assertThat(index.search("mouse", null, 3, 10).productIds()).isEmpty();
+        assertThat(index.search("mouse", null, 0, 0).productIds()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should replace updated products and drop deleted or inactive ones")
+    void shouldApplyUpdatesAndDeletes() {
+        index.index(product(1L, "Gaming Keyboard", null, "ELEC-KEY-1", ProductCategory.ELECTRONICS));
+        index.remove(2L);
+        Product inactive = product(4L, "Mouse Trap", null, "HOME-TRAP-4", ProductCategory.HOME_GARDEN);
+        inactive.setActive(false);
+        index.index(inactive);
+        index.remove(99L);
+
+        assertThat(search("mouse")).isEmpty();
+        assertThat(search("keyboard")).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should apply changes made inside a transaction only after commit")
+    void shouldApplyAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        index.index(product(7L, "Desk Lamp", null, "HOME-LAMP-7", ProductCategory.HOME_GARDEN));
+        index.remove(1L);
+
+        assertThat(search("lamp")).isEmpty();
+        assertThat(search("wireless")).contains(1L);
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+
+        assertThat(search("lamp")).containsExactly(7L);
+        assertThat(search("wireless")).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("Should keep products indexed by writes when loading")
+    void shouldIndexIfAbsent() {
+        Product inactive = product(8L, "Old Lamp", null, "X-8", ProductCategory.OTHER);
+        inactive.setActive(false);
+
+        int added = index.indexIfAbsent(List.of(
+                product(1L, "Stale Name", null, "ELEC-MOUSE-1", ProductCategory.ELECTRONICS),
+                product(9L, "Floor Lamp", null, "X-9", ProductCategory.OTHER),
+                inactive));
+
+        assertThat(added).isEqualTo(1);
+        assertThat(search("stale")).isEmpty();
+        assertThat(search("lamp")).containsExactly(9L);
+    }
+
+    @Test
+    @DisplayName("Should compact deleted documents without losing live ones")
+    void shouldCompact() {
+        int terms = index.termCount();
+        for (int i = 0; i < 3000; i++) {
+            index.index(product(10L, "Revision " + i, null, "REV-10", ProductCategory.OTHER));
+        }
+
+        assertThat(index.documentSlots()).isLessThan(2100);
+        assertThat(index.termCount()).isLessThan(terms + 1100);
+        assertThat(search("revision 2999")).containsExactly(10L);
+        assertThat(search("revision 5")).isEmpty();
+        assertThat(search("wireless mouse")).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("Should serve searches while products are written concurrently")
+    void shouldSearchDuringWrites() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 2; t++) {
+                long base = 100L + t * 10_000L;
+                futures.add(executor.submit(() -> {
+                    for (long id = base; id < base + 2_000; id++) {
+                        index.index(product(id, "Bulk Widget " + id, null, "BULK-" + id, ProductCategory.TOYS));
+                    }
+                }));
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 2_000; i++) {
+                        assertThat(index.search("bulk widget", ProductCategory.TOYS, 0, 5).productIds())
+                                .hasSizeLessThanOrEqualTo(5);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(index.search("widget", ProductCategory.TOYS, 0, 1).totalHits()).isEqualTo(4_000);
+    }
+}
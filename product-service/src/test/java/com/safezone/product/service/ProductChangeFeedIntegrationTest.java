@@ -0,0 +1,157 @@
+package com.safezone.product.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.safezone.common.exception.BusinessException;
+import com.safezone.product.dto.CreateProductRequest;
+import com.safezone.product.dto.ProductChangeBatchResponse;
+import com.safezone.product.dto.ProductChangeResponse;
+import com.safezone.product.dto.UpdateProductRequest;
+import com.safezone.product.entity.ProductCategory;
+import com.safezone.product.entity.ProductChange;
+import com.safezone.product.entity.ProductChangeType;
+import com.safezone.product.repository.ProductChangeRepository;
+
+/**
+ * Integration tests for the product change feed against the real database.
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-06
+ */
+@SpringBootTest
+@DisplayName("Product Change Feed Integration Tests")
+class ProductChangeFeedIntegrationTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductChangeService productChangeService;
+
+    @Autowired
+    private ProductChangeRepository productChangeRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Long createProduct(int stock) {
+        return productService.createProduct(new CreateProductRequest(
+                "Feed Item",
+                null,
+                new BigDecimal("4.00"),
+                stock,
+                "FEED-" + UUID.randomUUID().toString().substring(0, 8),
+                ProductCategory.OTHER)).id();
+    }
+
+    @Test
+    @DisplayName("Should record every product write in version order with the product state")
+    void shouldRecordWritesInVersionOrder() {
+        long since = productChangeRepository.findLastVersion();
+        Long productId = createProduct(10);
+        productService.updateProduct(productId, new UpdateProductRequest("Feed Item v2", null,
+                new BigDecimal("5.50"), null, null, null));
+        productService.updateStock(productId, 4, "PO-7");
+        productService.deleteProduct(productId);
+
+        ProductChangeBatchResponse batch = productChangeService.getChanges(since, 100);
+
+        assertThat(batch.changes())
+                .filteredOn(change -> change.productId().equals(productId))
+                .extracting(ProductChangeResponse::type, ProductChangeResponse::name, ProductChangeResponse::price,
+                        ProductChangeResponse::stockQuantity, ProductChangeResponse::active)
+                .containsExactly(
+                        tuple(ProductChangeType.CREATED, "Feed Item", new BigDecimal("4.00"), 10, true),
+                        tuple(ProductChangeType.UPDATED, "Feed Item v2", new BigDecimal("5.50"), 10, true),
+                        tuple(ProductChangeType.STOCK, "Feed Item v2", new BigDecimal("5.50"), 14, true),
+                        tuple(ProductChangeType.DELETED, "Feed Item v2", new BigDecimal("5.50"), 14, false));
+        assertThat(batch.changes()).extracting(ProductChangeResponse::version).isSorted().doesNotHaveDuplicates();
+        assertThat(batch.lastVersion()).isEqualTo(batch.changes().getLast().version());
+        assertThat(batch.hasMore()).isFalse();
+
+        ProductChangeBatchResponse first = productChangeService.getChanges(since, 1);
+        assertThat(first.changes()).hasSize(1);
+        assertThat(first.hasMore()).isTrue();
+        assertThat(productChangeService.getChanges(first.lastVersion(), 100).changes())
+                .containsExactlyElementsOf(batch.changes().subList(1, batch.changes().size()));
+    }
+
+    @Test
+    @DisplayName("Should hold a long poll until the next change commits")
+    void shouldLongPollForNextChange() throws Exception {
+        long since = productChangeRepository.findLastVersion();
+
+        ProductChangeBatchResponse upToDate = productChangeService.pollChanges(since, 100, Duration.ZERO)
+                .get(1, TimeUnit.SECONDS);
+        assertThat(upToDate.changes()).isEmpty();
+        assertThat(upToDate.lastVersion()).isEqualTo(since);
+
+        CompletableFuture<ProductChangeBatchResponse> poll = productChangeService.pollChanges(since, 100,
+                Duration.ofSeconds(10));
+        assertThat(poll).isNotDone();
+        Long productId = createProduct(3);
+
+        ProductChangeBatchResponse batch = poll.get(10, TimeUnit.SECONDS);
+        assertThat(batch.changes()).extracting(ProductChangeResponse::productId).contains(productId);
+        assertThat(productChangeService.pollChanges(since, 100, Duration.ofSeconds(10)).isDone()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should stop at a version written elsewhere until the gap is settled")
+    void shouldStopAtUnsettledGap() {
+        long since = productChangeRepository.findLastVersion();
+        // A write that bypasses this instance's feed, as another instance would, and rolls back.
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            productChangeRepository.save(ProductChange.builder()
+                    .productId(0L)
+                    .type(ProductChangeType.CREATED)
+                    .name("Elsewhere")
+                    .sku("ELSEWHERE")
+                    .price(BigDecimal.ONE)
+                    .category(ProductCategory.OTHER)
+                    .active(true)
+                    .stockQuantity(0)
+                    .build());
+            status.setRollbackOnly();
+        });
+        Long productId = createProduct(2);
+
+        ProductChangeBatchResponse batch = productChangeService.getChanges(since, 100);
+
+        assertThat(productChangeRepository.findLastVersion()).isEqualTo(since + 2);
+        assertThat(batch.changes()).isEmpty();
+        assertThat(batch.lastVersion()).isEqualTo(since);
+        assertThat(batch.hasMore()).isFalse();
+        assertThat(productChangeService.getChanges(since + 1, 100).changes())
+                .extracting(ProductChangeResponse::productId).containsExactly(productId);
+    }
+
+    @Test
+    @DisplayName("Should reject invalid feed parameters")
+    void shouldRejectInvalidParameters() {
+        Duration tooLong = ProductChangeService.MAX_WAIT.plusSeconds(1);
+
+        assertThatThrownBy(() -> productChangeService.getChanges(-1, 10)).isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> productChangeService.getChanges(0, 0)).isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> productChangeService.getChanges(0, ProductChangeService.MAX_LIMIT + 1))
+                .isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> productChangeService.pollChanges(0, 10, tooLong))
+                .isInstanceOf(BusinessException.class);
+    }
+}
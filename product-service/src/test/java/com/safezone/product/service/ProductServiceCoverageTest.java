@@ -18,21 +18,27 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
 import com.safezone.common.exception.ResourceNotFoundException;
+import com.safezone.product.cache.ProductReadCache;
 import com.safezone.product.dto.ProductResponse;
 import com.safezone.product.dto.UpdateProductRequest;
 import com.safezone.product.entity.Product;
 import com.safezone.product.entity.ProductCategory;
 import com.safezone.product.mapper.ProductMapper;
 import com.safezone.product.repository.ProductRepository;
+import com.safezone.product.search.ProductSearchIndex;
 import com.safezone.product.service.impl.ProductServiceImpl;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 /**
  * Additional coverage tests for ProductServiceImpl to reach 100%.
  * Focuses on exception paths and edge cases.
@@ -51,6 +57,21 @@ class ProductServiceCoverageTest {
     @Mock
     private ProductMapper productMapper;
 
+    /** Read cache backed by an in-memory cache manager. */
+    @Spy
+    private ProductReadCache productReadCache = new ProductReadCache(
+            new ConcurrentMapCacheManager(ProductReadCache.PRODUCTS_CACHE, ProductReadCache.PRODUCT_SKUS_CACHE),
+            new SimpleMeterRegistry());
+
+    @Spy
+    private ProductSearchIndex productSearchIndex = new ProductSearchIndex();
+
+    @Mock
+    private StockLedgerService stockLedgerService;
+
+    @Mock
+    private ProductChangeService productChangeService;
+
     @InjectMocks
     private ProductServiceImpl productService;
 
@@ -158,6 +179,8 @@ class ProductServiceCoverageTest {
     void isProductAvailableReturnsFalseWhenInactive() {
         testProduct.setActive(false);
         given(productRepository.findById(1L)).willReturn(Optional.of(testProduct));
+        given(productMapper.toResponse(testProduct)).willReturn(new ProductResponse(1L, "Test", "Desc",
+                BigDecimal.TEN, 50, "SKU-1", ProductCategory.ELECTRONICS, false, null, null));
 
         boolean result = productService.isProductAvailable(1L, 10);
 
@@ -168,6 +191,7 @@ class ProductServiceCoverageTest {
     @DisplayName("isProductAvailable returns false when insufficient stock")
     void isProductAvailableReturnsFalseWhenInsufficientStock() {
         given(productRepository.findById(1L)).willReturn(Optional.of(testProduct));
+        given(productMapper.toResponse(testProduct)).willReturn(testProductResponse);
 
         boolean result = productService.isProductAvailable(1L, 100);
 
@@ -178,6 +202,7 @@ class ProductServiceCoverageTest {
     @DisplayName("isProductAvailable returns true when conditions met")
     void isProductAvailableReturnsTrue() {
         given(productRepository.findById(1L)).willReturn(Optional.of(testProduct));
+        given(productMapper.toResponse(testProduct)).willReturn(testProductResponse);
 
         boolean result = productService.isProductAvailable(1L, 25);
 
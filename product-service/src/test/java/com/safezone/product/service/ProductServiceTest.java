@@ -3,6 +3,7 @@ package com.safezone.product.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.never;
@@ -24,23 +25,39 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 
+import com.safezone.common.dto.CursorPageResponse;
+import com.safezone.common.dto.PageCursor;
 import com.safezone.common.exception.BusinessException;
 import com.safezone.common.exception.ResourceNotFoundException;
+import com.safezone.product.cache.ProductReadCache;
 import com.safezone.product.dto.CreateProductRequest;
+import com.safezone.product.dto.ProductAvailabilityResponse;
+import com.safezone.product.dto.ProductQuantityRequest;
 import com.safezone.product.dto.ProductResponse;
 import com.safezone.product.dto.UpdateProductRequest;
 import com.safezone.product.entity.Product;
 import com.safezone.product.entity.ProductCategory;
+import com.safezone.product.entity.ProductChangeType;
+import com.safezone.product.entity.StockMovementType;
 import com.safezone.product.mapper.ProductMapper;
 import com.safezone.product.repository.ProductRepository;
+import com.safezone.product.search.ProductSearchIndex;
 import com.safezone.product.service.impl.ProductServiceImpl;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 /**
  * Comprehensive unit tests for {@link ProductServiceImpl}.
  * 
@@ -128,6 +145,21 @@ class ProductServiceTest {
     private ProductMapper productMapper;
 
     /** The service under test. */
+    /** Read cache backed by an in-memory cache manager. */
+    @Spy
+    private ProductReadCache productReadCache = new ProductReadCache(
+            new ConcurrentMapCacheManager(ProductReadCache.PRODUCTS_CACHE, ProductReadCache.PRODUCT_SKUS_CACHE),
+            new SimpleMeterRegistry());
+
+    @Spy
+    private ProductSearchIndex productSearchIndex = new ProductSearchIndex();
+
+    @Mock
+    private StockLedgerService stockLedgerService;
+
+    @Mock
+    private ProductChangeService productChangeService;
+
     @InjectMocks
     private ProductServiceImpl productService;
 
@@ -238,6 +270,7 @@ class ProductServiceTest {
             assertThat(result.name()).isEqualTo(testProductResponse.name());
             assertThat(result.sku()).isEqualTo(testProductResponse.sku());
             verify(productRepository).save(Objects.requireNonNull(testProduct));
+            verify(productChangeService).record(ProductChangeType.CREATED, testProductResponse);
             assertThat(testProduct).isNotNull();
         }
 
@@ -520,10 +553,12 @@ class ProductServiceTest {
         void shouldSoftDeleteProduct() {
             given(productRepository.findById(1L)).willReturn(Optional.of(testProduct));
             given(productRepository.save(Objects.requireNonNull(testProduct))).willReturn(testProduct);
+            given(productMapper.toResponse(testProduct)).willReturn(testProductResponse);
 
             productService.deleteProduct(1L);
 
             assertThat(testProduct.getActive()).isFalse();
+            verify(productChangeService).record(ProductChangeType.DELETED, testProductResponse);
             verify(productRepository).save(Objects.requireNonNull(testProduct));
             assertThat(testProduct).isNotNull();
         }
@@ -563,42 +598,44 @@ class ProductServiceTest {
          * units.
          * 
          * <p>
-         * <strong>When:</strong> productService.updateStock(1L, 50) is called (add 50
-         * units).
+         * <strong>When:</strong> productService.updateStock(1L, 50, "PO-1") is called
+         * (add 50 units).
          * 
          * <p>
-         * <strong>Then:</strong> Stock quantity is updated to 150 units (100 + 50).
-         * Updated product is saved to repository and ProductResponse is returned.
+         * <strong>Then:</strong> The units are appended to the stock ledger (no
+         * entity save) and the refreshed ProductResponse is returned.
          * 
          * <p>
          * <strong>Coverage:</strong> Tests stock addition/update path in updateStock().
          * Validates that stock levels can be increased for replenishment.
          * 
-         * @see ProductServiceImpl#updateStock(Long, int)
-         * @see ProductRepository#save(Object)
+         * @see ProductServiceImpl#updateStock(Long, Integer, String)
+         * @see StockLedgerService#put(Long, int, StockMovementType, String)
          */
         @Test
         @DisplayName("Should update stock successfully")
         void shouldUpdateStockSuccessfully() {
+            given(productRepository.existsById(1L)).willReturn(true);
             given(productRepository.findById(1L)).willReturn(Optional.of(testProduct));
-            given(productRepository.save(Objects.requireNonNull(testProduct))).willReturn(testProduct);
             given(productMapper.toResponse(testProduct)).willReturn(testProductResponse);
 
-            ProductResponse result = productService.updateStock(1L, 50);
+            ProductResponse result = productService.updateStock(1L, 50, "PO-1");
 
             assertThat(result).isNotNull();
-            assertThat(testProduct.getStockQuantity()).isEqualTo(150);
+            verify(stockLedgerService).put(1L, 50, StockMovementType.ADJUSTMENT, "PO-1");
+            verify(productRepository, never()).save(any(Product.class));
         }
 
         /**
          * Tests stock update rejection when attempting to make stock negative.
          * 
          * <p>
-         * <strong>Given:</strong> A product with ID 1 exists with stock of 100 units.
+         * <strong>Given:</strong> A product with ID 1 exists with stock of 100 units
+         * and the ledger refuses to take the units.
          * 
          * <p>
-         * <strong>When:</strong> productService.updateStock(1L, -150) is called (remove
-         * 150 units).
+         * <strong>When:</strong> productService.updateStock(1L, -150, null) is called
+         * (remove 150 units).
          * 
          * <p>
          * <strong>Then:</strong> BusinessException is thrown with message "Insufficient
@@ -609,16 +646,69 @@ class ProductServiceTest {
          * <strong>Coverage:</strong> Tests negative stock prevention in updateStock().
          * Validates that stock can never go below zero.
          * 
-         * @see ProductServiceImpl#updateStock(Long, int)
+         * @see ProductServiceImpl#updateStock(Long, Integer, String)
          */
         @Test
         @DisplayName("Should throw exception for insufficient stock")
         void shouldThrowExceptionForInsufficientStock() {
+            given(stockLedgerService.take(1L, 150, StockMovementType.ADJUSTMENT, null)).willReturn(false);
             given(productRepository.findById(1L)).willReturn(Optional.of(testProduct));
 
-            assertThatThrownBy(() -> productService.updateStock(1L, -150))
+            assertThatThrownBy(() -> productService.updateStock(1L, -150, null))
                     .isInstanceOf(BusinessException.class)
                     .hasMessageContaining("Insufficient stock");
+            assertThat(testProduct.getStockQuantity()).isEqualTo(100);
+        }
+
+        /**
+         * Tests stock update on a product that does not exist.
+         *
+         * @see ProductServiceImpl#updateStock(Long, Integer, String)
+         */
+        @Test
+        @DisplayName("Should throw not found when adjusting stock of unknown product")
+        void shouldThrowNotFoundWhenAdjustingUnknownProduct() {
+            given(stockLedgerService.take(99L, 1, StockMovementType.ADJUSTMENT, null)).willReturn(false);
+            given(productRepository.findById(99L)).willReturn(Optional.empty());
+
+            assertThatThrownBy(() -> productService.updateStock(99L, -1, null))
+                    .isInstanceOf(ResourceNotFoundException.class);
+            assertThatThrownBy(() -> productService.updateStock(99L, 1, null))
+                    .isInstanceOf(ResourceNotFoundException.class);
+            verify(stockLedgerService, never()).put(any(), any(Integer.class), any(), any());
+        }
+
+        /**
+         * Tests that the ledger adjustment reports whether it was applied.
+         *
+         * @see ProductServiceImpl#adjustStock(Long, int, String)
+         */
+        @Test
+        @DisplayName("Should report whether a stock adjustment was applied")
+        void shouldReportAffectedRowsForAdjustStock() {
+            given(stockLedgerService.take(1L, 5, StockMovementType.ADJUSTMENT, "COUNT-7")).willReturn(true);
+            given(productRepository.existsById(1L)).willReturn(true);
+
+            assertThat(productService.adjustStock(1L, -5, "COUNT-7")).isEqualTo(1);
+            assertThat(productService.adjustStock(1L, 0, null)).isEqualTo(1);
+            verify(productRepository, never()).findById(any());
+            verify(stockLedgerService, never()).put(any(), any(Integer.class), any(), any());
+        }
+
+        /**
+         * Tests switching a product to striped inventory mode.
+         *
+         * @see ProductServiceImpl#setStockSlots(Long, int)
+         */
+        @Test
+        @DisplayName("Should split stock across slots and return the refreshed product")
+        void shouldSetStockSlots() {
+            given(productRepository.findById(1L)).willReturn(Optional.of(testProduct));
+            given(productMapper.toResponse(testProduct)).willReturn(testProductResponse);
+
+            assertThat(productService.setStockSlots(1L, 8)).isEqualTo(testProductResponse);
+            verify(stockLedgerService).setStockSlots(1L, 8);
+            verify(productReadCache).evict(1L);
         }
 
         /**
@@ -646,12 +736,14 @@ class ProductServiceTest {
         @DisplayName("Should check product availability correctly")
         void shouldCheckProductAvailability() {
             given(productRepository.findById(1L)).willReturn(Optional.of(testProduct));
+            given(productMapper.toResponse(testProduct)).willReturn(testProductResponse);
 
             boolean available = productService.isProductAvailable(1L, 50);
             boolean notAvailable = productService.isProductAvailable(1L, 150);
 
             assertThat(available).isTrue();
             assertThat(notAvailable).isFalse();
+            verify(productRepository).findById(1L);
         }
 
         /**
@@ -735,23 +827,58 @@ class ProductServiceTest {
          * <strong>Coverage:</strong> Tests searchProducts() with keyword matching.
          * Validates full-text search across product fields.
          * 
-         * @see ProductServiceImpl#searchProducts(String, Pageable)
-         * @see ProductRepository#searchProducts(String, Pageable)
+         * @see ProductServiceImpl#searchProducts(String, ProductCategory, Pageable)
+         * @see ProductSearchIndex#search(String, ProductCategory, long, int)
          */
         @Test
         @DisplayName("Should search products by term")
         void shouldSearchProductsByTerm() {
             Pageable pageable = PageRequest.of(0, 10);
-            List<Product> productList = new ArrayList<>();
-            productList.add(testProduct);
-            Page<Product> productPage = new PageImpl<>(productList, pageable, 1);
+            productSearchIndex.index(testProduct);
 
-            given(productRepository.searchProducts("test", pageable)).willReturn(productPage);
+            given(productRepository.findAllById(List.of(1L))).willReturn(List.of(testProduct));
             given(productMapper.toResponse(testProduct)).willReturn(testProductResponse);
 
-            Page<ProductResponse> result = productService.searchProducts("test", pageable);
+            Page<ProductResponse> result = productService.searchProducts("test", null, pageable);
 
             assertThat(result.getContent()).hasSize(1);
+            assertThat(result.getTotalElements()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should return an empty page without loading products when nothing matches")
+        void shouldReturnEmptyPageWhenNothingMatches() {
+            productSearchIndex.index(testProduct);
+
+            Page<ProductResponse> result = productService.searchProducts("test", ProductCategory.BOOKS,
+                    PageRequest.of(0, 10));
+
+            assertThat(result.getContent()).isEmpty();
+            assertThat(result.getTotalElements()).isZero();
+            then(productRepository).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("Should keep index order and skip products deleted since indexing")
+        void shouldKeepRankingOrder() {
+            Product other = Product.builder().id(2L).name("Test Test Gadget").sku("TEST-002")
+                    .category(ProductCategory.ELECTRONICS).active(true).build();
+            Product gone = Product.builder().id(3L).name("Test Leftover").sku("TEST-003")
+                    .category(ProductCategory.ELECTRONICS).active(true).build();
+            productSearchIndex.index(testProduct);
+            productSearchIndex.index(other);
+            productSearchIndex.index(gone);
+            ProductResponse otherResponse = new ProductResponse(2L, "Test Test Gadget", null, BigDecimal.ONE, 1,
+                    "TEST-002", ProductCategory.ELECTRONICS, true, null, null);
+
+            given(productRepository.findAllById(any())).willReturn(List.of(testProduct, other));
+            given(productMapper.toResponse(testProduct)).willReturn(testProductResponse);
+            given(productMapper.toResponse(other)).willReturn(otherResponse);
+
+            Page<ProductResponse> result = productService.searchProducts("test", ProductCategory.ELECTRONICS,
+                    PageRequest.of(0, 10));
+
+            assertThat(result.getContent()).extracting(ProductResponse::id).containsExactly(2L, 1L);
         }
 
         /**
@@ -794,5 +921,110 @@ class ProductServiceTest {
 
             assertThat(result.getContent()).hasSize(1);
         }
+
+        @Test
+        @DisplayName("Should page products by keyset and return the cursor of the next page")
+        void shouldScrollProducts() {
+            PageCursor after = new PageCursor(LocalDateTime.of(2026, 1, 6, 12, 0), 9L);
+            given(productRepository.findAllBy(eq(ScrollPosition.forward(after.keys())), any(Sort.class),
+                    eq(Limit.of(1)))).willReturn(Window.from(List.of(testProduct), ScrollPosition::offset, true));
+            given(productRepository.count()).willReturn(42L);
+            given(productMapper.toResponse(testProduct)).willReturn(testProductResponse);
+
+            CursorPageResponse<ProductResponse> result = productService.getAllProducts(after.encode(), 1, true);
+
+            assertThat(result.content()).containsExactly(testProductResponse);
+            assertThat(result.hasNext()).isTrue();
+            assertThat(PageCursor.decode(result.nextCursor()))
+                    .isEqualTo(new PageCursor(testProduct.getCreatedAt(), testProduct.getId()));
+            assertThat(result.totalElements()).isEqualTo(42L);
+        }
+
+        @Test
+        @DisplayName("Should end the keyset pages without counting when the total is not requested")
+        void shouldScrollLastPageWithoutCount() {
+            given(productRepository.findAllBy(eq(ScrollPosition.keyset()), any(Sort.class), eq(Limit.of(20))))
+                    .willReturn(Window.from(List.of(), ScrollPosition::offset));
+
+            CursorPageResponse<ProductResponse> result = productService.getAllProducts(null, 20, false);
+
+            assertThat(result.content()).isEmpty();
+            assertThat(result.nextCursor()).isNull();
+            assertThat(result.totalElements()).isNull();
+            verify(productRepository, never()).count();
+            assertThatThrownBy(() -> productService.getAllProducts(null, 0, false))
+                    .isInstanceOf(BusinessException.class);
+        }
+    }
+
+    /**
+     * Tests for batch product lookup functionality.
+     *
+     * <p>
+     * Validates that several products are resolved with a single repository query,
+     * that duplicate lines are merged, and that missing or short products are
+     * reported as unavailable.
+     * </p>
+     */
+    @Nested
+    @DisplayName("Batch Lookup Tests")
+    class BatchLookupTests {
+
+        /**
+         * Tests batch resolution of existing, duplicated and missing products.
+         *
+         * <p>
+         * <strong>Given:</strong> Product 1 exists with 100 units; product 99 does not
+         * exist. Product 1 is requested twice (60 + 30 units).
+         *
+         * <p>
+         * <strong>When:</strong> productService.getProductsAvailability() is called.
+         *
+         * <p>
+         * <strong>Then:</strong> A single findAllById query is issued, product 1 is
+         * reported once with 90 units requested and available, product 99 has no
+         * details and is unavailable.
+         *
+         * @see ProductServiceImpl#getProductsAvailability(List)
+         */
+        @Test
+        @DisplayName("Should resolve products and merge duplicate lines")
+        void shouldResolveProductsInBatch() {
+            given(productRepository.findAllById(any())).willReturn(List.of(testProduct));
+            given(productMapper.toResponse(testProduct)).willReturn(testProductResponse);
+
+            List<ProductAvailabilityResponse> result = productService.getProductsAvailability(List.of(
+                    new ProductQuantityRequest(1L, 60),
+                    new ProductQuantityRequest(99L, 1),
+                    new ProductQuantityRequest(1L, 30)));
+
+            assertThat(result).hasSize(2);
+            assertThat(result.get(0).productId()).isEqualTo(1L);
+            assertThat(result.get(0).requestedQuantity()).isEqualTo(90);
+            assertThat(result.get(0).available()).isTrue();
+            assertThat(result.get(1).productId()).isEqualTo(99L);
+            assertThat(result.get(1).product()).isNull();
+            assertThat(result.get(1).available()).isFalse();
+            verify(productRepository).findAllById(any());
+        }
+
+        /**
+         * Tests that inactive products and products with too little stock are
+         * reported as unavailable.
+         *
+         * @see ProductServiceImpl#getProductsAvailability(List)
+         */
+        @Test
+        @DisplayName("Should flag inactive or short products as unavailable")
+        void shouldFlagUnavailableProducts() {
+            Product inactive = Product.builder().id(2L).stockQuantity(500).active(false).build();
+            given(productRepository.findAllById(any())).willReturn(List.of(testProduct, inactive));
+
+            List<ProductAvailabilityResponse> result = productService.getProductsAvailability(List.of(
+                    new ProductQuantityRequest(1L, 101),
+                    new ProductQuantityRequest(2L, 1)));
+
+            assertThat(result).extracting(ProductAvailabilityResponse::available).containsExactly(false, false);
+        }
     }
 }
@@ -0,0 +1,250 @@
+package com.safezone.product.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+
+import com.safezone.common.exception.BusinessException;
+import com.safezone.common.exception.ResourceNotFoundException;
+import com.safezone.product.dto.CreateProductRequest;
+import com.safezone.product.dto.ProductQuantityRequest;
+import com.safezone.product.dto.ProductResponse;
+import com.safezone.product.dto.StockMovementResponse;
+import com.safezone.product.dto.StockReservationRequest;
+import com.safezone.product.dto.UpdateProductRequest;
+import com.safezone.product.entity.ProductCategory;
+import com.safezone.product.entity.ProductStockSlot;
+import com.safezone.product.entity.StockMovement;
+import com.safezone.product.entity.StockMovementType;
+import com.safezone.product.repository.ProductRepository;
+import com.safezone.product.repository.ProductStockSlotRepository;
+import com.safezone.product.repository.StockMovementRepository;
+import com.safezone.product.service.impl.StockLedgerCompactor;
+
+/**
+ * Integration tests for the stock ledger against the real database,
+ * covering the available stock, compaction, striped stock and concurrent
+ * reservations.
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-06
+ */
+@SpringBootTest
+@DisplayName("Stock Ledger Integration Tests")
+class StockLedgerIntegrationTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private StockLedgerService stockLedgerService;
+
+    @Autowired
+    private StockReservationService reservationService;
+
+    @Autowired
+    private StockLedgerCompactor compactor;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private StockMovementRepository movementRepository;
+
+    @Autowired
+    private ProductStockSlotRepository stockSlotRepository;
+
+    private Long createProduct(int stock) {
+        return productService.createProduct(new CreateProductRequest(
+                "Ledger Item",
+                null,
+                new BigDecimal("3.50"),
+                stock,
+                "LEDGER-" + UUID.randomUUID().toString().substring(0, 8),
+                ProductCategory.OTHER)).id();
+    }
+
+    private long availableStock(Long productId) {
+        return productRepository.findAvailableStock(productId);
+    }
+
+    private List<Integer> slotQuantities(Long productId) {
+        return stockSlotRepository.findAll().stream()
+                .filter(slot -> slot.getProductId().equals(productId))
+                .sorted(Comparator.comparing(ProductStockSlot::getSlot))
+                .map(ProductStockSlot::getQuantity)
+                .toList();
+    }
+
+    private List<StockMovementResponse> history(Long productId) {
+        return stockLedgerService.getMovements(productId, PageRequest.of(0, 50)).getContent();
+    }
+
+    @Test
+    @DisplayName("Should record every stock change as a movement and report the running total")
+    void shouldRecordMovements() {
+        Long productId = createProduct(10);
+
+        ProductResponse restocked = productService.updateStock(productId, 5, "PO-42");
+        productService.updateStock(productId, -3, "DAMAGED-1");
+        ProductResponse counted = productService.updateProduct(productId,
+                new UpdateProductRequest(null, null, null, 20, null, null));
+
+        assertThat(restocked.stockQuantity()).isEqualTo(15);
+        assertThat(counted.stockQuantity()).isEqualTo(20);
+        assertThat(availableStock(productId)).isEqualTo(20);
+        assertThat(productService.getProductById(productId).stockQuantity()).isEqualTo(20);
+        assertThat(history(productId))
+                .extracting(StockMovementResponse::quantity, StockMovementResponse::type,
+                        StockMovementResponse::referenceId)
+                .containsExactly(
+                        tuple(8, StockMovementType.ADJUSTMENT, null),
+                        tuple(-3, StockMovementType.ADJUSTMENT, "DAMAGED-1"),
+                        tuple(5, StockMovementType.ADJUSTMENT, "PO-42"),
+                        tuple(10, StockMovementType.INITIAL, null));
+        assertThatThrownBy(() -> stockLedgerService.getMovements(Long.MAX_VALUE, PageRequest.of(0, 1)))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("Should fold pending movements into the snapshot without changing the available stock")
+    void shouldCompactWithoutChangingStock() {
+        Long productId = createProduct(10);
+        String reservationId = reservationService.reserve(new StockReservationRequest("ORD-LEDGER",
+                List.of(new ProductQuantityRequest(productId, 4)), null)).reservationId();
+        productService.updateStock(productId, 7, null);
+
+        stockLedgerService.compact(productId);
+
+        assertThat(movementRepository.findByProductIdAndCompactedFalse(productId)).isEmpty();
+        assertThat(productRepository.findById(productId)).get()
+                .satisfies(product -> {
+                    assertThat(product.getStockQuantity()).isEqualTo(13);
+                    assertThat(product.getAvailableStock()).isEqualTo(13);
+                });
+
+        reservationService.release(reservationId);
+        assertThat(availableStock(productId)).isEqualTo(17);
+        assertThat(compactor.compactPending()).isPositive();
+        assertThat(movementRepository.findByProductIdAndCompactedFalse(productId)).isEmpty();
+        assertThat(productRepository.findById(productId).orElseThrow().getStockQuantity()).isEqualTo(17);
+        assertThat(history(productId)).hasSize(4)
+                .filteredOn(movement -> reservationId.equals(movement.referenceId()))
+                .extracting(StockMovementResponse::quantity).containsExactly(4, -4);
+    }
+
+    @Test
+    @DisplayName("Should take striped stock from any slot and merge the slots back")
+    void shouldTakeStripedStock() {
+        Long productId = createProduct(10);
+
+        ProductResponse striped = productService.setStockSlots(productId, 4);
+        assertThat(striped.stockQuantity()).isEqualTo(10);
+        assertThat(slotQuantities(productId)).containsExactly(3, 3, 2, 2);
+
+        for (int i = 0; i < 3; i++) {
+            productService.updateStock(productId, -3, "PICK-" + i);
+        }
+        assertThat(availableStock(productId)).isEqualTo(1);
+        assertThatThrownBy(() -> productService.updateStock(productId, -2, null))
+                .isInstanceOf(BusinessException.class);
+        assertThat(productService.updateStock(productId, 5, null).stockQuantity()).isEqualTo(6);
+        movementRepository.save(StockMovement.builder().productId(productId).quantity(2)
+                .type(StockMovementType.ADJUSTMENT).build());
+        assertThat(stockLedgerService.compact(productId)).isEqualTo(1);
+        assertThat(movementRepository.findByProductIdAndCompactedFalse(productId)).isEmpty();
+        assertThat(productService.isProductAvailable(productId, 8)).isTrue();
+        assertThat(productService.isProductAvailable(productId, 9)).isFalse();
+
+        productService.updateProduct(productId, new UpdateProductRequest(null, null, null, 12, null, null));
+        assertThat(slotQuantities(productId)).containsExactly(3, 3, 3, 3);
+
+        ProductResponse merged = productService.setStockSlots(productId, 0);
+        assertThat(merged.stockQuantity()).isEqualTo(12);
+        assertThat(slotQuantities(productId)).isEmpty();
+        assertThat(productRepository.findById(productId)).get()
+                .satisfies(product -> {
+                    assertThat(product.isStriped()).isFalse();
+                    assertThat(product.getStockQuantity()).isEqualTo(12);
+                });
+        assertThatThrownBy(() -> productService.setStockSlots(productId, StockLedgerService.MAX_STOCK_SLOTS + 1))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    @DisplayName("Should never oversell a striped product under concurrent reservations")
+    void shouldNotOversellStripedProductConcurrently() throws Exception {
+        Long productId = createProduct(10);
+        productService.setStockSlots(productId, 4);
+
+        assertThat(reserveConcurrently(productId, 20)).isEqualTo(10);
+        assertThat(availableStock(productId)).isZero();
+        assertThat(slotQuantities(productId)).containsOnly(0);
+    }
+
+    @Test
+    @DisplayName("Should never oversell under concurrent reservations and compaction")
+    void shouldNotOversellConcurrently() throws Exception {
+        Long productId = createProduct(10);
+
+        assertThat(reserveConcurrently(productId, 20)).isEqualTo(10);
+        assertThat(availableStock(productId)).isZero();
+    }
+
+    /**
+     * Reserves one unit per thread while the product is compacted, returning
+     * the successful reservations. Every failed reservation must be for
+     * insufficient stock.
+     */
+    private int reserveConcurrently(Long productId, int threads) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<Boolean>> futures = new ArrayList<>();
+        try {
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        reservationService.reserve(new StockReservationRequest(null,
+                                List.of(new ProductQuantityRequest(productId, 1)), null));
+                        return true;
+                    } catch (BusinessException e) {
+                        // Anything else, such as a lock failure, fails the test through the future.
+                        assertThat(e.getErrorCode()).isEqualTo("INSUFFICIENT_STOCK");
+                        return false;
+                    }
+                }));
+            }
+            futures.add(executor.submit(() -> {
+                start.await();
+                stockLedgerService.compact(productId);
+                return false;
+            }));
+            start.countDown();
+            int reserved = 0;
+            for (Future<Boolean> future : futures) {
+                reserved += future.get() ? 1 : 0;
+            }
+            return reserved;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
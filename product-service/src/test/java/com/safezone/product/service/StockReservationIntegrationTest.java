@@ -0,0 +1,92 @@
+package com.safezone.product.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.safezone.common.exception.BusinessException;
+import com.safezone.product.dto.ProductQuantityRequest;
+import com.safezone.product.dto.StockReservationRequest;
+import com.safezone.product.dto.StockReservationResponse;
+import com.safezone.product.entity.Product;
+import com.safezone.product.entity.ProductCategory;
+import com.safezone.product.entity.ReservationStatus;
+import com.safezone.product.repository.ProductRepository;
+
+/**
+ * Integration tests for stock reservations against the real database,
+ * verifying the all-or-nothing transactional behavior.
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-06
+ */
+@SpringBootTest
+@DisplayName("Stock Reservation Integration Tests")
+class StockReservationIntegrationTest {
+
+    @Autowired
+    private StockReservationService reservationService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    private Long createProduct(int stock) {
+        return productRepository.save(Product.builder()
+                .name("Reservable")
+                .price(new BigDecimal("5.00"))
+                .stockQuantity(stock)
+                .sku("RES-" + UUID.randomUUID().toString().substring(0, 8))
+                .category(ProductCategory.OTHER)
+                .active(true)
+                .build()).getId();
+    }
+
+    private int stockOf(Long productId) {
+        return productRepository.findById(productId).orElseThrow().getAvailableStock();
+    }
+
+    @Test
+    @DisplayName("Should reserve and release all lines")
+    void shouldReserveAndRelease() {
+        Long first = createProduct(10);
+        Long second = createProduct(5);
+
+        StockReservationResponse reservation = reservationService.reserve(new StockReservationRequest("ORD-IT",
+                List.of(new ProductQuantityRequest(first, 3), new ProductQuantityRequest(second, 5)), null));
+
+        assertThat(stockOf(first)).isEqualTo(7);
+        assertThat(stockOf(second)).isZero();
+
+        StockReservationResponse released = reservationService.release(reservation.reservationId());
+        reservationService.release(reservation.reservationId());
+
+        assertThat(released.status()).isEqualTo(ReservationStatus.RELEASED);
+        assertThat(released.releasedAt()).isNotNull();
+        assertThat(stockOf(first)).isEqualTo(10);
+        assertThat(stockOf(second)).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Should roll back earlier lines when a later line cannot be reserved")
+    void shouldRollBackPartialReservation() {
+        Long first = createProduct(10);
+        Long second = createProduct(1);
+
+        StockReservationRequest request = new StockReservationRequest(null,
+                List.of(new ProductQuantityRequest(second, 2), new ProductQuantityRequest(first, 4)), null);
+
+        assertThatThrownBy(() -> reservationService.reserve(request))
+                .isInstanceOf(BusinessException.class);
+        assertThat(stockOf(first)).isEqualTo(10);
+        assertThat(stockOf(second)).isEqualTo(1);
+    }
+}
@@ -0,0 +1,396 @@
+package com.safezone.product.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.safezone.common.exception.BusinessException;
+import com.safezone.common.exception.ResourceNotFoundException;
+import com.safezone.product.cache.ProductReadCache;
+import com.safezone.product.dto.ProductQuantityRequest;
+import com.safezone.product.dto.StockReleaseBatchRequest;
+import com.safezone.product.dto.StockReleaseBatchResponse;
+import com.safezone.product.dto.StockReservationRequest;
+import com.safezone.product.dto.StockReservationResponse;
+import com.safezone.product.entity.Product;
+import com.safezone.product.entity.ReservationStatus;
+import com.safezone.product.entity.StockMovementType;
+import com.safezone.product.entity.StockReservation;
+import com.safezone.product.entity.StockReservationLine;
+import com.safezone.product.hold.StockHoldWheel;
+import com.safezone.product.repository.ProductRepository;
+import com.safezone.product.repository.StockReservationRepository;
+import com.safezone.product.service.impl.StockReservationServiceImpl;
+
+/**
+ * Unit tests for {@link StockReservationServiceImpl}.
+ *
+ * @author SafeZone Team
+ * @version 1.0.0
+ * @since 2026-01-06
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Stock Reservation Service Tests")
+class StockReservationServiceTest {
+
+    private static final Set<ReservationStatus> RELEASABLE = Set.of(ReservationStatus.ACTIVE,
+            ReservationStatus.CONFIRMED);
+
+    @Mock
+    private StockReservationRepository reservationRepository;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ProductReadCache productReadCache;
+
+    @Mock
+    private StockLedgerService stockLedgerService;
+
+    @Mock
+    private StockHoldWheel stockHoldWheel;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private StockReservationServiceImpl reservationService;
+
+    @Nested
+    @DisplayName("Reserve Tests")
+    class ReserveTests {
+
+        @Test
+        @DisplayName("Should apply merged lines in ascending product ID order")
+        void shouldReserveLinesInProductOrder() {
+            given(stockLedgerService.take(anyLong(), anyInt(), eq(StockMovementType.RESERVATION), anyString()))
+                    .willReturn(true);
+            given(reservationRepository.save(any(StockReservation.class)))
+                    .willAnswer(invocation -> invocation.getArgument(0));
+
+            StockReservationResponse result = reservationService.reserve(new StockReservationRequest("ORD-1", List.of(
+                    new ProductQuantityRequest(3L, 1),
+                    new ProductQuantityRequest(1L, 2),
+                    new ProductQuantityRequest(3L, 4)), null));
+
+            InOrder order = inOrder(stockLedgerService);
+            order.verify(stockLedgerService).take(1L, 2, StockMovementType.RESERVATION, result.reservationId());
+            order.verify(stockLedgerService).take(3L, 5, StockMovementType.RESERVATION, result.reservationId());
+            verify(productReadCache).evict(1L);
+            verify(productReadCache).evict(3L);
+            assertThat(result.reservationId()).isNotBlank();
+            assertThat(result.reference()).isEqualTo("ORD-1");
+            assertThat(result.status()).isEqualTo(ReservationStatus.ACTIVE);
+            assertThat(result.items()).containsExactly(
+                    new ProductQuantityRequest(1L, 2),
+                    new ProductQuantityRequest(3L, 5));
+            assertThat(result.expiresAt()).isNull();
+            verify(stockHoldWheel, never()).schedule(anyString(), any());
+        }
+
+        @Test
+        @DisplayName("Should schedule the expiry of a hold")
+        void shouldScheduleHold() {
+            given(stockLedgerService.take(anyLong(), anyInt(), eq(StockMovementType.RESERVATION), anyString()))
+                    .willReturn(true);
+            given(reservationRepository.save(any(StockReservation.class)))
+                    .willAnswer(invocation -> invocation.getArgument(0));
+            LocalDateTime before = LocalDateTime.now();
+
+            StockReservationResponse result = reservationService.reserve(new StockReservationRequest("ORD-2",
+                    List.of(new ProductQuantityRequest(1L, 1)), 900));
+
+            assertThat(result.expiresAt()).isBetween(before.plusSeconds(900), LocalDateTime.now().plusSeconds(900));
+            verify(stockHoldWheel).schedule(result.reservationId(), result.expiresAt());
+        }
+
+        @Test
+        @DisplayName("Should fail with insufficient stock and not save the reservation")
+        void shouldFailOnInsufficientStock() {
+            given(stockLedgerService.take(eq(1L), eq(2), eq(StockMovementType.RESERVATION), anyString()))
+                    .willReturn(true);
+            given(stockLedgerService.take(eq(2L), eq(9), eq(StockMovementType.RESERVATION), anyString()))
+                    .willReturn(false);
+            given(productRepository.findById(2L))
+                    .willReturn(Optional.of(Product.builder().id(2L).stockQuantity(3).active(true).build()));
+
+            StockReservationRequest request = new StockReservationRequest(null, List.of(
+                    new ProductQuantityRequest(1L, 2),
+                    new ProductQuantityRequest(2L, 9)), null);
+
+            assertThatThrownBy(() -> reservationService.reserve(request))
+                    .isInstanceOf(BusinessException.class)
+                    .hasMessageContaining("Insufficient stock for product 2");
+            verify(reservationRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("Should retry a reservation that lost a lock conflict")
+        void shouldRetryOnLockConflict() {
+            given(stockLedgerService.take(eq(1L), eq(2), eq(StockMovementType.RESERVATION), anyString()))
+                    .willThrow(new CannotAcquireLockException("Deadlock detected"))
+                    .willReturn(true);
+            given(reservationRepository.save(any(StockReservation.class)))
+                    .willAnswer(invocation -> invocation.getArgument(0));
+
+            StockReservationResponse result = reservationService.reserve(new StockReservationRequest("ORD-3",
+                    List.of(new ProductQuantityRequest(1L, 2)), null));
+
+            assertThat(result.items()).containsExactly(new ProductQuantityRequest(1L, 2));
+            verify(stockLedgerService, times(2)).take(eq(1L), eq(2), eq(StockMovementType.RESERVATION),
+                    anyString());
+        }
+
+        @Test
+        @DisplayName("Should give up on a reservation that keeps losing lock conflicts")
+        void shouldGiveUpOnRepeatedLockConflicts() {
+            given(stockLedgerService.take(eq(1L), eq(2), eq(StockMovementType.RESERVATION), anyString()))
+                    .willThrow(new CannotAcquireLockException("Deadlock detected"));
+
+            StockReservationRequest request = new StockReservationRequest(null,
+                    List.of(new ProductQuantityRequest(1L, 2)), null);
+
+            assertThatThrownBy(() -> reservationService.reserve(request))
+                    .isInstanceOf(BusinessException.class)
+                    .hasMessageContaining("contended");
+            verify(stockLedgerService, times(3)).take(eq(1L), eq(2), eq(StockMovementType.RESERVATION),
+                    anyString());
+            verify(reservationRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("Should fail with not found for unknown product")
+        void shouldFailOnUnknownProduct() {
+            given(stockLedgerService.take(eq(7L), eq(1), eq(StockMovementType.RESERVATION), anyString()))
+                    .willReturn(false);
+            given(productRepository.findById(7L)).willReturn(Optional.empty());
+
+            StockReservationRequest request = new StockReservationRequest(null,
+                    List.of(new ProductQuantityRequest(7L, 1)), null);
+
+            assertThatThrownBy(() -> reservationService.reserve(request))
+                    .isInstanceOf(ResourceNotFoundException.class);
+        }
+
+        @Test
+        @DisplayName("Should fail for inactive product")
+        void shouldFailOnInactiveProduct() {
+            given(stockLedgerService.take(eq(4L), eq(1), eq(StockMovementType.RESERVATION), anyString()))
+                    .willReturn(false);
+            given(productRepository.findById(4L))
+                    .willReturn(Optional.of(Product.builder().id(4L).stockQuantity(50).active(false).build()));
+
+            StockReservationRequest request = new StockReservationRequest(null,
+                    List.of(new ProductQuantityRequest(4L, 1)), null);
+
+            assertThatThrownBy(() -> reservationService.reserve(request))
+                    .isInstanceOf(BusinessException.class)
+                    .hasMessageContaining("not available for sale");
+        }
+    }
+
+    @Nested
+    @DisplayName("Release Tests")
+    class ReleaseTests {
+
+        private StockReservation reservation(ReservationStatus status) {
+            return StockReservation.builder()
+                    .id("res-1")
+                    .status(status)
+                    .lines(List.of(new StockReservationLine(1L, 2), new StockReservationLine(3L, 5)))
+                    .build();
+        }
+
+        @Test
+        @DisplayName("Should return stock of every line when releasing an active reservation")
+        void shouldReleaseActiveReservation() {
+            given(reservationRepository.findById("res-1"))
+                    .willReturn(Optional.of(reservation(ReservationStatus.ACTIVE)))
+                    .willReturn(Optional.of(reservation(ReservationStatus.RELEASED)));
+            given(reservationRepository.transitionStatus(eq("res-1"), eq(RELEASABLE),
+                    eq(ReservationStatus.RELEASED), any(LocalDateTime.class))).willReturn(1);
+
+            StockReservationResponse result = reservationService.release("res-1");
+
+            verify(stockLedgerService).put(1L, 2, StockMovementType.RELEASE, "res-1");
+            verify(stockLedgerService).put(3L, 5, StockMovementType.RELEASE, "res-1");
+            assertThat(result.status()).isEqualTo(ReservationStatus.RELEASED);
+        }
+
+        @Test
+        @DisplayName("Should not return stock twice for an already released reservation")
+        void shouldIgnoreAlreadyReleasedReservation() {
+            given(reservationRepository.findById("res-1"))
+                    .willReturn(Optional.of(reservation(ReservationStatus.RELEASED)));
+            given(reservationRepository.transitionStatus(eq("res-1"), eq(RELEASABLE),
+                    eq(ReservationStatus.RELEASED), any(LocalDateTime.class))).willReturn(0);
+
+            StockReservationResponse result = reservationService.release("res-1");
+
+            verify(stockLedgerService, never()).put(anyLong(), anyInt(), any(), any());
+            assertThat(result.status()).isEqualTo(ReservationStatus.RELEASED);
+        }
+
+        @Test
+        @DisplayName("Should throw not found for unknown reservation")
+        void shouldThrowForUnknownReservation() {
+            given(reservationRepository.findById("missing")).willReturn(Optional.empty());
+
+            assertThatThrownBy(() -> reservationService.release("missing"))
+                    .isInstanceOf(ResourceNotFoundException.class);
+            assertThatThrownBy(() -> reservationService.getReservation("missing"))
+                    .isInstanceOf(ResourceNotFoundException.class);
+        }
+
+        @Test
+        @DisplayName("Should release a batch with one ledger movement per released line")
+        void shouldReleaseBatchPerLine() {
+            StockReservation first = reservation(ReservationStatus.ACTIVE);
+            StockReservation second = StockReservation.builder()
+                    .id("res-2")
+                    .status(ReservationStatus.ACTIVE)
+                    .lines(List.of(new StockReservationLine(3L, 1)))
+                    .build();
+            StockReservation released = StockReservation.builder()
+                    .id("res-3")
+                    .status(ReservationStatus.RELEASED)
+                    .lines(List.of(new StockReservationLine(1L, 4)))
+                    .build();
+            given(reservationRepository.findAllById(List.of("res-1", "res-2", "res-3", "missing")))
+                    .willReturn(List.of(first, second, released));
+            given(reservationRepository.transitionStatus(any(String.class), eq(RELEASABLE),
+                    eq(ReservationStatus.RELEASED), any(LocalDateTime.class)))
+                    .willAnswer(invocation -> "res-3".equals(invocation.getArgument(0)) ? 0 : 1);
+
+            StockReleaseBatchResponse result = reservationService.releaseAll(new StockReleaseBatchRequest(
+                    List.of("res-1", "res-2", "res-3", "missing", "res-1")));
+
+            assertThat(result.released()).containsExactly("res-1", "res-2");
+            assertThat(result.alreadyReleased()).containsExactly("res-3");
+            assertThat(result.notFound()).containsExactly("missing");
+            verify(stockHoldWheel).cancel("res-1");
+            verify(stockHoldWheel).cancel("res-2");
+            verify(stockHoldWheel, never()).cancel("res-3");
+            verify(stockLedgerService).put(1L, 2, StockMovementType.RELEASE, "res-1");
+            verify(stockLedgerService).put(3L, 5, StockMovementType.RELEASE, "res-1");
+            verify(stockLedgerService).put(3L, 1, StockMovementType.RELEASE, "res-2");
+            verifyNoMoreInteractions(stockLedgerService);
+            verify(productReadCache).evict(1L);
+            verify(productReadCache).evict(3L);
+        }
+    }
+
+    @Nested
+    @DisplayName("Hold Tests")
+    class HoldTests {
+
+        private StockReservation hold(String id, ReservationStatus status, LocalDateTime expiresAt) {
+            return StockReservation.builder()
+                    .id(id)
+                    .status(status)
+                    .expiresAt(expiresAt)
+                    .lines(List.of(new StockReservationLine(1L, 2), new StockReservationLine(3L, 5)))
+                    .build();
+        }
+
+        @Test
+        @DisplayName("Should confirm an active hold and stop its expiry")
+        void shouldConfirmHold() {
+            LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(5);
+            given(reservationRepository.confirmHold(eq("res-1"), any(LocalDateTime.class))).willReturn(1);
+            given(reservationRepository.findById("res-1"))
+                    .willReturn(Optional.of(hold("res-1", ReservationStatus.CONFIRMED, expiresAt)));
+
+            StockReservationResponse result = reservationService.confirm("res-1");
+
+            assertThat(result.status()).isEqualTo(ReservationStatus.CONFIRMED);
+            verify(stockHoldWheel).cancel("res-1");
+        }
+
+        @Test
+        @DisplayName("Should treat confirming a confirmed reservation as a no-op")
+        void shouldConfirmIdempotently() {
+            given(reservationRepository.findById("res-1"))
+                    .willReturn(Optional.of(hold("res-1", ReservationStatus.CONFIRMED, null)));
+
+            assertThat(reservationService.confirm("res-1").status()).isEqualTo(ReservationStatus.CONFIRMED);
+            verify(stockHoldWheel, never()).cancel(anyString());
+        }
+
+        @Test
+        @DisplayName("Should refuse to confirm an expired or released hold")
+        void shouldRefuseToConfirmEndedHold() {
+            LocalDateTime expiresAt = LocalDateTime.now().minusSeconds(1);
+            given(reservationRepository.findById("res-1"))
+                    .willReturn(Optional.of(hold("res-1", ReservationStatus.ACTIVE, expiresAt)));
+            given(reservationRepository.findById("res-2"))
+                    .willReturn(Optional.of(hold("res-2", ReservationStatus.EXPIRED, expiresAt)));
+            given(reservationRepository.findById("res-3"))
+                    .willReturn(Optional.of(hold("res-3", ReservationStatus.RELEASED, expiresAt)));
+
+            assertThatThrownBy(() -> reservationService.confirm("res-1"))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", "RESERVATION_EXPIRED");
+            assertThatThrownBy(() -> reservationService.confirm("res-2"))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", "RESERVATION_EXPIRED");
+            assertThatThrownBy(() -> reservationService.confirm("res-3"))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", "RESERVATION_RELEASED");
+            assertThatThrownBy(() -> reservationService.confirm("missing"))
+                    .isInstanceOf(ResourceNotFoundException.class);
+        }
+
+        @Test
+        @DisplayName("Should expire due holds, return their stock and reschedule holds not yet due")
+        void shouldExpireDueHolds() {
+            LocalDateTime later = LocalDateTime.now().plusMinutes(1);
+            given(reservationRepository.findActiveHolds(List.of("res-1", "res-2", "res-3")))
+                    .willReturn(List.of(
+                            hold("res-1", ReservationStatus.ACTIVE, LocalDateTime.now().minusSeconds(1)),
+                            hold("res-2", ReservationStatus.ACTIVE, LocalDateTime.now().minusSeconds(2)),
+                            hold("res-3", ReservationStatus.ACTIVE, later)));
+            given(reservationRepository.transitionStatus(any(String.class), eq(Set.of(ReservationStatus.ACTIVE)),
+                    eq(ReservationStatus.EXPIRED), any(LocalDateTime.class)))
+                    .willAnswer(invocation -> "res-2".equals(invocation.getArgument(0)) ? 0 : 1);
+
+            int expired = reservationService.expire(List.of("res-1", "res-2", "res-3"));
+
+            assertThat(expired).isEqualTo(1);
+            verify(stockLedgerService).put(1L, 2, StockMovementType.EXPIRY, "res-1");
+            verify(stockLedgerService).put(3L, 5, StockMovementType.EXPIRY, "res-1");
+            verifyNoMoreInteractions(stockLedgerService);
+            verify(stockHoldWheel).schedule("res-3", later);
+            verify(productReadCache).evict(1L);
+            verify(productReadCache).evict(3L);
+            assertThat(reservationService.expire(List.of())).isZero();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+#!/bin/bash
+
+# Builds the JMH benchmarks and writes the results as JSON to
+# benchmarks/results/<label>.json so runs can be diffed between releases.
+#
+# Usage: scripts/benchmarks.sh [label] [JMH options...]
+#   label        result file name, defaults to the current git revision
+#   JMH options  passed to the JMH runner, e.g. "Jwt" -f 2 -prof gc
+
+set -e
+
+SCRIPT_DIR="$(cd "$(dirname "${BASH_SOURCE[0]}")" && pwd)"
+PROJECT_ROOT="$(dirname "$SCRIPT_DIR")"
+
+GREEN='\033[0;32m'
+NC='\033[0m'
+
+log_info() {
+    echo -e "${GREEN}[INFO]${NC} $1"
+}
+
+LABEL="${1:-$(git -C "$PROJECT_ROOT" describe --tags --always --dirty 2>/dev/null || echo local)}"
+shift || true
+
+RESULTS_DIR="$PROJECT_ROOT/benchmarks/results"
+mkdir -p "$RESULTS_DIR"
+
+log_info "Building benchmarks..."
+(cd "$PROJECT_ROOT" && mvn -B -q -pl benchmarks -am package -DskipTests)
+
+log_info "Running benchmarks (results: $RESULTS_DIR/$LABEL.json)..."
+java -jar "$PROJECT_ROOT/benchmarks/target/benchmarks.jar" \
+    -rf json -rff "$RESULTS_DIR/$LABEL.json" "$@"
+
+log_info "Done."
@@ -0,0 +1,36 @@
+#!/bin/bash
+
+# Packages the services and the load generator, then runs an end-to-end load
+# test. Without --base-url the services are started locally on ports
+# 18080-18083; the report is written to load-tests/target/load-test-report.json.
+#
+# Usage: scripts/load-test.sh [options...]
+#   --users=N          concurrent virtual users (default 50)
+#   --duration=T       measured phase, e.g. 60s or 5m (default 60s)
+#   --warmup=T         warm-up phase excluded from the report (default 10s)
+#   --products=N       products seeded before the run (default 100)
+#   --mix=SPEC         weighted operations, e.g. browse:50,createOrder:50
+#   --base-port=N      first port of the local stack (default 18080)
+#   --base-url=URL     test a running gateway instead (requires --jwt-secret)
+#   --report=PATH      report file
+
+set -e
+
+SCRIPT_DIR="$(cd "$(dirname "${BASH_SOURCE[0]}")" && pwd)"
+PROJECT_ROOT="$(dirname "$SCRIPT_DIR")"
+
+GREEN='\033[0;32m'
+NC='\033[0m'
+
+log_info() {
+    echo -e "${GREEN}[INFO]${NC} $1"
+}
+
+log_info "Building services and load generator..."
+(cd "$PROJECT_ROOT" && mvn -B -q package -DskipTests)
+
+log_info "Running load test..."
+cd "$PROJECT_ROOT"
+java -jar "$PROJECT_ROOT/load-tests/target/load-tests.jar" --project-dir="$PROJECT_ROOT" "$@"
+
+log_info "Done."
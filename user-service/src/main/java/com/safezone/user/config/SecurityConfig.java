@@ -9,6 +9,7 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import com.safezone.common.security.GatewayIdentityVerifier;
 import com.safezone.common.security.JwtAuthenticationFilter;
 import com.safezone.common.security.JwtTokenProvider;
 
@@ -42,13 +43,19 @@ public class SecurityConfig {
     /** JWT token provider for authentication processing. */
     private final JwtTokenProvider jwtTokenProvider;
 
+    /** Verifier for identity headers signed by the API Gateway. */
+    private final GatewayIdentityVerifier gatewayIdentityVerifier;
+
     /**
      * Constructs the security configuration with required dependencies.
      *
-     * @param jwtTokenProvider the JWT token provider for token validation
+     * @param jwtTokenProvider        the JWT token provider for token validation
+     * @param gatewayIdentityVerifier the verifier for gateway identity headers
      */
-    public SecurityConfig(JwtTokenProvider jwtTokenProvider) {
+    public SecurityConfig(JwtTokenProvider jwtTokenProvider,
+            GatewayIdentityVerifier gatewayIdentityVerifier) {
         this.jwtTokenProvider = jwtTokenProvider;
+        this.gatewayIdentityVerifier = gatewayIdentityVerifier;
     }
 
     /**
@@ -93,7 +100,8 @@ public class SecurityConfig {
         http.exceptionHandling(ex -> ex
                 .authenticationEntryPoint((request, response, authException) -> response
                         .sendError(HttpServletResponse.SC_UNAUTHORIZED, "Unauthorized")));
-        http.addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider), UsernamePasswordAuthenticationFilter.class);
+        http.addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider, gatewayIdentityVerifier),
+                UsernamePasswordAuthenticationFilter.class);
         return http.build();
     }
 }
@@ -18,6 +18,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.safezone.common.dto.ApiResponse;
+import com.safezone.common.dto.CursorPageResponse;
 import com.safezone.common.dto.PageResponse;
 import com.safezone.user.dto.UpdateUserRequest;
 import com.safezone.user.dto.UserResponse;
@@ -91,6 +92,19 @@ public class UserController {
         return ResponseEntity.ok(ApiResponse.success(toPageResponse(users)));
     }
 
+    @GetMapping("/scroll")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Get all users with cursor pagination, newest first")
+    public ResponseEntity<ApiResponse<CursorPageResponse<UserResponse>>> scrollUsers(
+            @Parameter(description = "Cursor returned with the previous page")
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "Whether to count all users")
+            @RequestParam(defaultValue = "true") boolean includeTotal) {
+
+        return ResponseEntity.ok(ApiResponse.success(userService.getAllUsers(cursor, size, includeTotal)));
+    }
+
     @GetMapping("/search")
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "Search users")
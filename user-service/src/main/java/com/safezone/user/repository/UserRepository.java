@@ -2,8 +2,12 @@ package com.safezone.user.repository;
 
 import com.safezone.user.entity.User;
 import com.safezone.user.entity.UserRole;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -84,4 +88,14 @@ public interface UserRepository extends JpaRepository<User, Long> {
             "OR LOWER(u.firstName) LIKE LOWER(CONCAT('%', :search, '%')) " +
             "OR LOWER(u.lastName) LIKE LOWER(CONCAT('%', :search, '%'))")
     Page<User> searchUsers(@Param("search") String search, Pageable pageable);
+
+    /**
+     * Finds the users following a keyset position, without counting them.
+     *
+     * @param position the keyset position to start after
+     * @param sort     the sort, ending with a unique key
+     * @param limit    the maximum number of users
+     * @return the window of users
+     */
+    Window<User> findAllBy(ScrollPosition position, Sort sort, Limit limit);
 }
@@ -1,5 +1,6 @@
 package com.safezone.user.service;
 
+import com.safezone.common.dto.CursorPageResponse;
 import com.safezone.user.dto.AuthResponse;
 import com.safezone.user.dto.LoginRequest;
 import com.safezone.user.dto.RegisterRequest;
@@ -63,6 +64,17 @@ public interface UserService {
      */
     Page<UserResponse> getAllUsers(Pageable pageable);
 
+    /**
+     * Retrieves all users, newest first, one keyset page at a time.
+     *
+     * @param cursor       the cursor returned with the previous page, or null for the first page
+     * @param size         the page size
+     * @param includeTotal whether to count all users
+     * @return a page of user responses with the cursor of the next page
+     * @throws com.safezone.common.exception.BusinessException if the cursor or size is invalid
+     */
+    CursorPageResponse<UserResponse> getAllUsers(String cursor, int size, boolean includeTotal);
+
     /**
      * Searches users by username, email, or name.
      *
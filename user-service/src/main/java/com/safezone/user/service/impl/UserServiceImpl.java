@@ -7,12 +7,18 @@ import java.util.Objects;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.safezone.common.dto.CursorPageResponse;
+import com.safezone.common.dto.PageCursor;
 import com.safezone.common.exception.BusinessException;
 import com.safezone.common.exception.ResourceNotFoundException;
 import com.safezone.common.security.JwtTokenProvider;
@@ -46,6 +52,7 @@ public class UserServiceImpl implements UserService {
 
     private static final Logger logger = LoggerFactory.getLogger(UserServiceImpl.class);
     private static final String USER_RESOURCE = "User";
+    private static final Sort KEYSET_SORT = Sort.by(Sort.Direction.DESC, PageCursor.CREATED_AT, PageCursor.ID);
 
     private final UserRepository userRepository;
     private final UserMapper userMapper;
@@ -145,6 +152,22 @@ public class UserServiceImpl implements UserService {
                 .map(userMapper::toResponse);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<UserResponse> getAllUsers(String cursor, int size, boolean includeTotal) {
+        logger.debug("Fetching all users with cursor pagination");
+        PageCursor after = PageCursor.decode(cursor);
+        ScrollPosition position = after == null ? ScrollPosition.keyset() : ScrollPosition.forward(after.keys());
+        Window<User> window = userRepository.findAllBy(position, KEYSET_SORT,
+                Limit.of(PageCursor.requireValidSize(size)));
+        List<User> users = window.getContent();
+        String nextCursor = window.hasNext()
+                ? new PageCursor(users.getLast().getCreatedAt(), users.getLast().getId()).encode()
+                : null;
+        return CursorPageResponse.of(users.stream().map(userMapper::toResponse).toList(), size, nextCursor,
+                includeTotal ? userRepository.count() : null);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Page<UserResponse> searchUsers(String search, Pageable pageable) {
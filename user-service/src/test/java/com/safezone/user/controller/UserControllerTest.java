@@ -22,6 +22,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
 
 import com.safezone.common.dto.ApiResponse;
+import com.safezone.common.dto.CursorPageResponse;
 import com.safezone.common.dto.PageResponse;
 import com.safezone.user.dto.UpdateUserRequest;
 import com.safezone.user.dto.UserResponse;
@@ -113,6 +114,20 @@ class UserControllerTest {
             verify(userService).getAllUsers(any());
         }
 
+        @Test
+        void scrollUsers_returnsCursorPage() {
+            given(userService.getAllUsers("abc", 10, false))
+                    .willReturn(CursorPageResponse.of(List.of(testUserResponse), 10, "next", null));
+
+            ResponseEntity<ApiResponse<CursorPageResponse<UserResponse>>> response = userController.scrollUsers("abc",
+                    10, false);
+
+            ApiResponse<CursorPageResponse<UserResponse>> body = response.getBody();
+            org.junit.jupiter.api.Assertions.assertNotNull(body);
+            assertThat(body.data().content()).containsExactly(testUserResponse);
+            assertThat(body.data().nextCursor()).isEqualTo("next");
+        }
+
         @Test
         void searchUsers_returnsPagedResponse() {
             @SuppressWarnings("unchecked")
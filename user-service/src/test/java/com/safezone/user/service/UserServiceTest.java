@@ -21,12 +21,18 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import com.safezone.common.dto.CursorPageResponse;
+import com.safezone.common.dto.PageCursor;
 import com.safezone.common.exception.BusinessException;
 import com.safezone.common.exception.ResourceNotFoundException;
 import com.safezone.common.security.JwtTokenProvider;
@@ -927,6 +933,39 @@ class UserServiceDocumentedTest {
                     .isInstanceOf(NullPointerException.class)
                     .hasMessageContaining("Pageable must not be null");
         }
+
+        @Test
+        @DisplayName("Should page users by keyset and return the cursor of the next page")
+        void shouldScrollUsers() {
+            testUser.setCreatedAt(LocalDateTime.of(2026, 1, 6, 12, 0));
+            given(userRepository.findAllBy(ScrollPosition.keyset(),
+                    Sort.by(Sort.Direction.DESC, PageCursor.CREATED_AT, PageCursor.ID), Limit.of(1)))
+                    .willReturn(Window.from(List.of(testUser), ScrollPosition::offset, true));
+            given(userMapper.toResponse(testUser)).willReturn(testUserResponse);
+
+            CursorPageResponse<UserResponse> result = userService.getAllUsers(null, 1, false);
+
+            assertThat(result.content()).containsExactly(testUserResponse);
+            assertThat(PageCursor.decode(result.nextCursor()))
+                    .isEqualTo(new PageCursor(testUser.getCreatedAt(), testUser.getId()));
+            assertThat(result.totalElements()).isNull();
+        }
+
+        @Test
+        @DisplayName("Should resume after the cursor and count users on request")
+        void shouldScrollUsersAfterCursor() {
+            PageCursor after = new PageCursor(LocalDateTime.of(2026, 1, 6, 12, 0), 5L);
+            given(userRepository.findAllBy(ScrollPosition.forward(after.keys()),
+                    Sort.by(Sort.Direction.DESC, PageCursor.CREATED_AT, PageCursor.ID), Limit.of(20)))
+                    .willReturn(Window.from(List.of(), ScrollPosition::offset));
+            given(userRepository.count()).willReturn(5L);
+
+            CursorPageResponse<UserResponse> result = userService.getAllUsers(after.encode(), 20, true);
+
+            assertThat(result.content()).isEmpty();
+            assertThat(result.hasNext()).isFalse();
+            assertThat(result.totalElements()).isEqualTo(5L);
+        }
     }
 
     // ==================== USER SEARCH TESTS ====================